@@ -21,8 +21,24 @@ public class JobRunner implements CommandLineRunner {
     @Autowired
     private Job econDailyDigestJob;
     
+    @Autowired
+    private Job dataRetentionJob;
+    
+    @Autowired
+    private Job summaryDedupJob;
+    
     @Override
     public void run(String... args) throws Exception {
+        // --batch.retention=true: 보관 기간 정리 Job 실행 (오래된 월 파티션 삭제)
+        // --batch.summary-dedup=true: 새 요약 유사 중복 검사 Job 실행
+        for (String arg : args) {
+            if ("--batch.retention=true".equals(arg)) {
+                runMaintenanceJob(dataRetentionJob, "DATA_RETENTION");
+            } else if ("--batch.summary-dedup=true".equals(arg)) {
+                runMaintenanceJob(summaryDedupJob, "SUMMARY_DEDUP");
+            }
+        }
+        
         // 개발 환경에서만 자동 실행하도록 설정
         // 실제 운영에서는 스케줄러나 외부 트리거에 의해 실행
         boolean autoRun = false;
@@ -46,6 +62,7 @@ public class JobRunner implements CommandLineRunner {
             String useRealRss = extractParameter(args, "--useRealRss=", "false");
             String useRealExtraction = extractParameter(args, "--useRealExtraction=", "false");
             String templateName = extractParameter(args, "--templateName=", "default");
+            String pipelineMode = extractParameter(args, "--pipelineMode=", "false");
             
             // Job Parameters 설정
             JobParameters jobParameters = new JobParametersBuilder()
@@ -56,6 +73,7 @@ public class JobRunner implements CommandLineRunner {
                     .addString("useRealRss", useRealRss)
                     .addString("useRealExtraction", useRealExtraction)
                     .addString("templateName", templateName)
+                    .addString("pipelineMode", pipelineMode)
                     .addLong("timestamp", System.currentTimeMillis()) // 유니크한 실행을 위한 타임스탬프
                     .toJobParameters();
             
@@ -65,7 +83,8 @@ public class JobRunner implements CommandLineRunner {
                              ", useLLM=" + useLLM + 
                              ", useRealRss=" + useRealRss + 
                              ", useRealExtraction=" + useRealExtraction + 
-                             ", templateName=" + templateName);
+                             ", templateName=" + templateName + 
+                             ", pipelineMode=" + pipelineMode);
             
             try {
                 jobLauncher.run(econDailyDigestJob, jobParameters);
@@ -80,6 +99,22 @@ public class JobRunner implements CommandLineRunner {
         }
     }
     
+    /**
+     * 파라미터 없는 관리용 Job 실행 (DATA_RETENTION, SUMMARY_DEDUP)
+     */
+    private void runMaintenanceJob(Job job, String jobName) {
+        System.out.println("=== " + jobName + " Job 실행 시작 ===");
+        try {
+            jobLauncher.run(job, new JobParametersBuilder()
+                    .addLong("timestamp", System.currentTimeMillis())
+                    .toJobParameters());
+            System.out.println("=== " + jobName + " Job 실행 완료 ===");
+        } catch (Exception e) {
+            System.err.println("=== " + jobName + " Job 실행 실패 ===");
+            e.printStackTrace();
+        }
+    }
+    
     /**
      * 커맨드라인 인자에서 특정 파라미터 값 추출
      */
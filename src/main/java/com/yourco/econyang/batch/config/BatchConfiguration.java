@@ -1,18 +1,31 @@
 package com.yourco.econyang.batch.config;
 
+import com.yourco.econyang.batch.pipeline.ArticlePipeline;
+import com.yourco.econyang.batch.pipeline.PipelineModeDecider;
+import com.yourco.econyang.batch.step.ArticleExtractionProcessor;
+import com.yourco.econyang.batch.step.ArticleExtractionWriter;
+import com.yourco.econyang.batch.step.ArticleIdRangePartitioner;
+import com.yourco.econyang.batch.step.ArticleSummaryProcessor;
+import com.yourco.econyang.batch.step.PartitionCountAggregator;
+import com.yourco.econyang.batch.step.PendingArticleItemReader;
+import com.yourco.econyang.batch.step.SummaryItemWriter;
 import com.yourco.econyang.batch.util.ExecutionContextUtil;
 import com.yourco.econyang.config.RssSourcesConfig;
+import com.yourco.econyang.dto.ArticleBody;
 import com.yourco.econyang.dto.ArticleDto;
+import com.yourco.econyang.dto.ArticleHeader;
+import com.yourco.econyang.dto.DigestSummaryRow;
 import com.yourco.econyang.openai.service.OpenAiClient;
 import com.yourco.econyang.service.ArticleService;
 import com.yourco.econyang.service.ContentExtractionService;
+import com.yourco.econyang.service.DailyDigestService;
+import com.yourco.econyang.service.DataRetentionService;
 import com.yourco.econyang.service.DiscordService;
 import com.yourco.econyang.service.DigestTemplateService;
 import com.yourco.econyang.service.ImportanceRankingService;
 import com.yourco.econyang.service.SummaryService;
 import com.yourco.econyang.repository.SummaryRepository;
-import com.yourco.econyang.repository.DailyDigestRepository;
-import com.yourco.econyang.domain.DailyDigest;
+import com.yourco.econyang.repository.JobRunArticleRepository;
 import com.yourco.econyang.domain.Summary;
 import com.yourco.econyang.service.RssFeedService;
 
@@ -21,17 +34,33 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 import com.yourco.econyang.domain.Article;
+import org.springframework.batch.core.ExitStatus;
 import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
 import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.core.configuration.annotation.JobBuilderFactory;
 import org.springframework.batch.core.configuration.annotation.StepBuilderFactory;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.FlowBuilder;
+import org.springframework.batch.core.job.flow.Flow;
+import org.springframework.batch.core.job.flow.support.SimpleFlow;
+import org.springframework.batch.core.listener.JobExecutionListenerSupport;
+import org.springframework.batch.core.listener.StepExecutionListenerSupport;
+import org.springframework.batch.core.partition.support.TaskExecutorPartitionHandler;
 import org.springframework.batch.core.launch.support.RunIdIncrementer;
 import org.springframework.batch.repeat.RepeatStatus;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.dao.TransientDataAccessException;
 
 /**
  * Spring Batch Job 설정
@@ -40,6 +69,9 @@ import org.springframework.context.annotation.Configuration;
 @Configuration
 public class BatchConfiguration {
 
+    private static final String STEP2_WORKER = "S2_EXTRACT_WORKER";
+    private static final String STEP3_WORKER = "S3_SUMMARIZE_AI_WORKER";
+
     @Autowired
     private JobBuilderFactory jobBuilderFactory;
 
@@ -80,10 +112,43 @@ public class BatchConfiguration {
     private SummaryRepository summaryRepository;
     
     @Autowired
-    private DailyDigestRepository dailyDigestRepository;
+    private DailyDigestService dailyDigestService;
     
     @Autowired
     private SummaryService summaryService;
+    
+    @Autowired
+    private JobRunArticleRepository jobRunArticleRepository;
+    
+    @Autowired
+    private DataRetentionService dataRetentionService;
+    
+    @Value("${app.batch.workTable.retentionDays:7}")
+    private int workTableRetentionDays;
+    
+    @Value("${app.batch.extract.chunkSize:10}")
+    private int extractChunkSize;
+    
+    @Value("${app.batch.summarize.chunkSize:5}")
+    private int summarizeChunkSize;
+    
+    @Value("${app.batch.extract.gridSize:4}")
+    private int extractGridSize;
+    
+    @Value("${app.batch.summarize.gridSize:2}")
+    private int summarizeGridSize;
+    
+    @Value("${app.batch.pipeline.fetchThreads:4}")
+    private int pipelineFetchThreads;
+    
+    @Value("${app.batch.pipeline.queueCapacity:50}")
+    private int pipelineQueueCapacity;
+    
+    @Value("${app.batch.retryLimit:3}")
+    private int retryLimit;
+    
+    @Value("${app.batch.skipLimit:100}")
+    private int skipLimit;
 
     /**
      * ECON_DAILY_DIGEST Job 정의
@@ -91,14 +156,107 @@ public class BatchConfiguration {
      */
     @Bean
     public Job econDailyDigestJob() {
+        // pipelineMode=true: S1_PIPELINE → S4 → S5, 그 외: S1 → S2 → S3 → S4 → S5
+        Flow flow = new FlowBuilder<SimpleFlow>("ECON_DAILY_DIGEST_FLOW")
+                .start(pipelineModeDecider())
+                    .on(PipelineModeDecider.PIPELINE.getName()).to(step1Pipeline())
+                    .next(step4RankCompose())
+                .from(pipelineModeDecider())
+                    .on("*").to(step1Fetch())
+                    .next(step2Extract())
+                    .next(step3SummarizeAi())
+                    .next(step4RankCompose())
+                    .next(step5Dispatch())
+                .build();
+        
         return jobBuilderFactory.get("ECON_DAILY_DIGEST")
                 .incrementer(new RunIdIncrementer())
                 .validator(jobParametersValidator)
-                .start(step1Fetch())
-                .next(step2Extract())
-                .next(step3SummarizeAi())
-                .next(step4RankCompose())
-                .next(step5Dispatch())
+                .listener(new JobExecutionListenerSupport() {
+                    @Override
+                    public void beforeJob(JobExecution jobExecution) {
+                        // 기사/요약 저장 전에 이번 달 이후 파티션이 있는지 확인 (DATA_RETENTION Job이 돌지 않은 경우 대비)
+                        dataRetentionService.ensureUpcomingPartitions();
+                    }
+                })
+                .start(flow)
+                .end()
+                .build();
+    }
+    
+    /**
+     * 실행 모드 분기 (pipelineMode Job Parameter)
+     */
+    @Bean
+    public PipelineModeDecider pipelineModeDecider() {
+        return new PipelineModeDecider();
+    }
+    
+    /**
+     * S1_PIPELINE Step - 수집/중복 제거/본문 추출/AI 요약을 큐로 연결해 동시에 실행 (pipelineMode=true)
+     * 결과는 단계별 실행과 같은 키로 Job ExecutionContext에 남기므로 이후 S4, S5는 그대로 실행된다.
+     */
+    @Bean
+    public Step step1Pipeline() {
+        return stepBuilderFactory.get("S1_PIPELINE")
+                .tasklet((contribution, chunkContext) -> {
+                    System.out.println("=== S1_PIPELINE: 파이프라인 실행 시작 ===");
+                    StepExecution stepExecution = chunkContext.getStepContext().getStepExecution();
+                    org.springframework.batch.core.JobParameters jobParameters = stepExecution.getJobParameters();
+                    
+                    ExecutionContextUtil.putToJobContext(
+                            stepExecution, ExecutionContextUtil.PROCESSING_START_TIME, System.currentTimeMillis());
+                    
+                    boolean realRss = "true".equals(jobParameters.getString("useRealRss"));
+                    boolean realExtraction = "true".equals(jobParameters.getString("useRealExtraction")) && enableContentScan;
+                    boolean realSummary = isRealSummaryMode(jobParameters.getString("useLLM"));
+                    String maxArticlesParam = jobParameters.getString("maxArticles");
+                    int maxArticles = maxArticlesParam != null ? Integer.parseInt(maxArticlesParam) : 10;
+                    
+                    // 피드별 수집 작업 (더미 모드는 더미 기사 1묶음)
+                    List<Callable<List<ArticleDto>>> fetchTasks = new ArrayList<>();
+                    if (realRss) {
+                        for (RssSourcesConfig.RssSource source : rssSourcesConfig.getSources()) {
+                            if (!source.isEnabled()) {
+                                continue;
+                            }
+                            fetchTasks.add(() -> rssFeedService.applyFilters(
+                                    rssFeedService.keepRecentArticles(rssFeedService.fetchArticles(source)),
+                                    rssSourcesConfig.getFilters()));
+                        }
+                    } else {
+                        System.out.println("더미 데이터 모드");
+                        fetchTasks.add(this::createDummyArticleDtos);
+                    }
+                    
+                    ArticlePipeline pipeline = new ArticlePipeline(articleService, summaryRepository,
+                            new ArticleExtractionProcessor(contentExtractionService, realExtraction),
+                            realSummary ? new ArticleSummaryProcessor(summaryService) : null)
+                            .threads(pipelineFetchThreads, extractGridSize, summarizeGridSize)
+                            .queueCapacity(pipelineQueueCapacity);
+                    // 더미 기사는 단계별 모드와 마찬가지로 중복 제거 없이 그대로 사용
+                    Predicate<ArticleDto> deduplicator = realRss ? rssFeedService.newDeduplicator() : article -> true;
+                    ArticlePipeline.Result result = pipeline.run(fetchTasks, deduplicator, maxArticles);
+                    
+                    int summarizedCount = realSummary ? result.getSummarizedCount()
+                            : processDummyAiSummary(result.getExtractedCount());
+                    registerRunArticles(stepExecution, result.getArticleIds());
+                    ExecutionContextUtil.putToJobContext(
+                            stepExecution, ExecutionContextUtil.FETCHED_ARTICLES_COUNT, result.getArticleIds().size());
+                    ExecutionContextUtil.putToJobContext(
+                            stepExecution, ExecutionContextUtil.EXTRACTED_ARTICLES_COUNT, result.getExtractedCount());
+                    ExecutionContextUtil.putToJobContext(
+                            stepExecution, ExecutionContextUtil.SUMMARIZED_ARTICLES_COUNT, summarizedCount);
+                    ExecutionContextUtil.putToJobContext(
+                            stepExecution, ExecutionContextUtil.ERROR_COUNT, result.getErrorCount());
+                    if (realSummary) {
+                        summaryService.printApiUsageStats();
+                    }
+                    
+                    System.out.println("S1_PIPELINE 완료: " + result.getArticleIds().size() + "개 기사, " +
+                            (result.getElapsedMs() / 1000.0) + "초");
+                    return RepeatStatus.FINISHED;
+                })
                 .build();
     }
 
@@ -166,12 +324,8 @@ public class BatchConfiguration {
                         articleIds = createDummyArticles();
                     }
                     
-                    // ExecutionContext에 기사 ID 목록 저장 (직렬화 안전)
-                    ExecutionContextUtil.putToJobContext(
-                            chunkContext.getStepContext().getStepExecution(),
-                            "articleIds",
-                            articleIds
-                    );
+                    // 기사 ID 목록은 작업 테이블에 저장 (ExecutionContext에는 runId만)
+                    registerRunArticles(chunkContext.getStepContext().getStepExecution(), articleIds);
                     
                     ExecutionContextUtil.putToJobContext(
                             chunkContext.getStepContext().getStepExecution(),
@@ -185,10 +339,41 @@ public class BatchConfiguration {
                 .build();
     }
     
+    /**
+     * 이번 실행의 처리 대상 기사 등록 (job_run_articles), 보관 기간이 지난 실행 기록은 정리
+     */
+    private void registerRunArticles(StepExecution stepExecution, List<Long> articleIds) {
+        long runId = stepExecution.getJobExecutionId();
+        jobRunArticleRepository.register(runId, articleIds);
+        ExecutionContextUtil.putToJobContext(stepExecution, ExecutionContextUtil.ARTICLE_RUN_ID, runId);
+        
+        int purged = jobRunArticleRepository.deleteRunsBefore(LocalDateTime.now().minusDays(workTableRetentionDays));
+        if (purged > 0) {
+            System.out.println("지난 실행 작업 기록 정리: " + purged + "건");
+        }
+    }
+    
+    /**
+     * 이번 실행의 처리 대상 기사 ID (구간 정보가 있으면 파티션 구간만)
+     */
+    private List<Long> runArticleIds(Long runId, Integer fromIndex, Integer toIndex) {
+        if (runId == null) {
+            return new ArrayList<>();
+        }
+        if (fromIndex == null || toIndex == null) {
+            return jobRunArticleRepository.findArticleIds(runId);
+        }
+        return jobRunArticleRepository.findArticleIds(runId, fromIndex, toIndex);
+    }
+    
     /**
      * 더미 기사 데이터 생성 및 저장
      */
     private List<Long> createDummyArticles() {
+        return articleService.saveNewArticles(createDummyArticleDtos());
+    }
+    
+    private List<ArticleDto> createDummyArticleDtos() {
         List<ArticleDto> dummyArticles = new ArrayList<>();
         
         for (int i = 1; i <= 5; i++) {
@@ -201,142 +386,124 @@ public class BatchConfiguration {
             dummyArticles.add(article);
         }
         
-        return articleService.saveNewArticles(dummyArticles);
+        return dummyArticles;
     }
 
     /**
      * S2_EXTRACT Step - 본문 추출 및 정제
+     * 기사 ID 목록을 extractGridSize개 구간으로 나눠 S2_EXTRACT_WORKER를 병렬 실행한다.
      */
     @Bean
     public Step step2Extract() {
         return stepBuilderFactory.get("S2_EXTRACT")
-                .tasklet((contribution, chunkContext) -> {
-                    System.out.println("=== S2_EXTRACT: 본문 추출 및 정제 시작 ===");
-                    
-                    // 이전 Step에서 저장된 기사 ID 목록 조회
-                    @SuppressWarnings("unchecked")
-                    List<Long> articleIds = ExecutionContextUtil.getFromJobContext(
-                            chunkContext.getStepContext().getStepExecution(),
-                            "articleIds",
-                            List.class
-                    );
-                    
-                    if (articleIds == null || articleIds.isEmpty()) {
-                        System.out.println("S2_EXTRACT: 처리할 기사가 없습니다.");
-                        return RepeatStatus.FINISHED;
+                .partitioner(STEP2_WORKER, articleIdRangePartitioner(null))
+                .partitionHandler(partitionHandler(step2ExtractWorker(), extractGridSize, "s2-extract-"))
+                .aggregator(new PartitionCountAggregator(ExecutionContextUtil.EXTRACTED_ARTICLES_COUNT))
+                .listener(new StepExecutionListenerSupport() {
+                    @Override
+                    public void beforeStep(StepExecution stepExecution) {
+                        System.out.println("=== S2_EXTRACT: 본문 추출 및 정제 시작 ===");
                     }
                     
-                    // DB에서 기사들 조회
-                    List<Article> articles = articleService.findByIds(articleIds);
-                    System.out.println("DB에서 " + articles.size() + "개 기사 로드");
-                    
-                    // Job Parameter에서 실제 추출 여부 확인
-                    String useRealExtraction = chunkContext.getStepContext()
-                            .getJobParameters()
-                            .get("useRealExtraction") != null ? 
-                            chunkContext.getStepContext().getJobParameters().get("useRealExtraction").toString() : 
-                            "false";
-                    
-                    int extractedCount = 0;
-                    
-                    if ("true".equals(useRealExtraction) && enableContentScan) {
-                        // 실제 본문 추출
-                        System.out.println("실제 본문 추출 모드 시작");
+                    @Override
+                    public ExitStatus afterStep(StepExecution stepExecution) {
+                        // reader는 본문이 없는 기사만 읽으므로, 이미 본문이 있던 기사까지 포함한 수는 DB에서 센다
+                        int newlyExtracted = ExecutionContextUtil.getIntFromStepContext(
+                                stepExecution, ExecutionContextUtil.EXTRACTED_ARTICLES_COUNT, 0);
+                        Long runId = ExecutionContextUtil.getLongFromJobContext(
+                                stepExecution, ExecutionContextUtil.ARTICLE_RUN_ID, null);
+                        int extractedCount = runId != null ? jobRunArticleRepository.countWithContent(runId) : newlyExtracted;
+                        ExecutionContextUtil.putToJobContext(
+                                stepExecution, ExecutionContextUtil.EXTRACTED_ARTICLES_COUNT, extractedCount);
                         
-                        try {
-                            // Article → ArticleDto 변환
-                            List<ArticleDto> articleDtos = articles.stream()
-                                    .filter(article -> article.getContent() == null || article.getContent().trim().isEmpty())
-                                    .map(this::convertToDto)
-                                    .collect(java.util.stream.Collectors.toList());
-                            
-                            if (!articleDtos.isEmpty()) {
-                                System.out.println("본문 추출 대상: " + articleDtos.size() + "개 기사");
-                                
-                                // 병렬 본문 추출 실행
-                                List<ArticleDto> extractedDtos = contentExtractionService.extractContents(articleDtos);
-                                
-                                // 결과를 DB에 저장
-                                for (ArticleDto dto : extractedDtos) {
-                                    articleService.findByUrl(dto.getUrl()).ifPresent(article -> {
-                                        if (dto.isExtractSuccess()) {
-                                            article.setContent(dto.getContent());
-                                            article.setExtractedAt(dto.getExtractedAt());
-                                            article.setExtractError(null);
-                                        } else {
-                                            article.setExtractError(dto.getExtractError());
-                                            article.setExtractedAt(dto.getExtractedAt());
-                                        }
-                                        articleService.save(article);
-                                    });
-                                    
-                                    if (dto.isExtractSuccess()) {
-                                        extractedCount++;
-                                    }
-                                }
-                            } else {
-                                System.out.println("모든 기사가 이미 본문을 가지고 있습니다.");
-                                extractedCount = articles.size();
-                            }
-                            
-                        } catch (Exception e) {
-                            System.err.println("본문 추출 실패, 더미 모드로 폴백: " + e.getMessage());
-                            e.printStackTrace();
-                            extractedCount = processDummyExtraction(articles);
-                        }
-                    } else {
-                        // 더미 본문 설정
-                        if (!enableContentScan) {
-                            System.out.println("본문 추출 비활성화됨 (enableContentScan=false) - RSS 메타데이터만 사용");
-                        } else {
-                            System.out.println("더미 본문 추출 모드 (useRealExtraction=false)");
-                        }
-                        extractedCount = processDummyExtraction(articles);
+                        System.out.println("S2_EXTRACT 완료: " + extractedCount + "개 기사 본문 보유 (이번 추출 " +
+                                newlyExtracted + ", 읽기 " +
+                                stepExecution.getReadCount() + ", 커밋 " + stepExecution.getCommitCount() +
+                                ", 스킵 " + stepExecution.getSkipCount() + ")");
+                        return null;
                     }
-                    
-                    ExecutionContextUtil.putToJobContext(
-                            chunkContext.getStepContext().getStepExecution(),
-                            ExecutionContextUtil.EXTRACTED_ARTICLES_COUNT,
-                            extractedCount
-                    );
-                    
-                    System.out.println("S2_EXTRACT 완료: " + extractedCount + "개 기사 본문 추출 완료");
-                    return RepeatStatus.FINISHED;
                 })
                 .build();
     }
     
     /**
-     * Article → ArticleDto 변환
+     * S2_EXTRACT 파티션 Step (청크 단위: 기사 ID 페이지 읽기 → 기사별 추출 → 청크 일괄 저장)
+     * 파티션마다 읽은 위치와 카운터를 자기 Step ExecutionContext에 저장하므로 실패한 파티션만 재시작된다.
      */
-    private ArticleDto convertToDto(Article article) {
-        ArticleDto dto = new ArticleDto();
-        dto.setSource(article.getSource());
-        dto.setUrl(article.getUrl());
-        dto.setTitle(article.getTitle());
-        dto.setDescription(article.getRawExcerpt());
-        dto.setAuthor(article.getAuthor());
-        dto.setPublishedAt(article.getPublishedAt());
-        dto.setContent(article.getContent());
-        dto.setExtractedAt(article.getExtractedAt());
-        return dto;
+    @Bean
+    public Step step2ExtractWorker() {
+        return stepBuilderFactory.get(STEP2_WORKER)
+                .<ArticleHeader, Article>chunk(extractChunkSize)
+                .reader(extractArticleReader(null, null, null))
+                .processor(extractArticleProcessor(null))
+                .writer(new ArticleExtractionWriter(articleService, jobRunArticleRepository))
+                .faultTolerant()
+                // 재시도/스킵 시 이미 추출한 결과를 다시 만들지 않도록 처리 결과 재사용
+                .processorNonTransactional()
+                .retry(TransientDataAccessException.class)
+                .retryLimit(retryLimit)
+                .skip(Exception.class)
+                .skipLimit(skipLimit)
+                .build();
     }
     
     /**
-     * 더미 본문 추출 처리
+     * S2_EXTRACT reader - S1_FETCH에서 등록한 기사 ID 중 파티션 구간의 본문 없는 기사 헤더를 청크 크기만큼씩 조회
      */
-    private int processDummyExtraction(List<Article> articles) {
-        int extractedCount = 0;
-        for (Article article : articles) {
-            if (article.getContent() == null || article.getContent().trim().isEmpty()) {
-                article.setContent("더미 본문 내용: " + article.getTitle() + "에 대한 상세한 기사 내용입니다. 경제 동향과 관련된 중요한 정보가 포함되어 있습니다.");
-                article.setExtractedAt(java.time.LocalDateTime.now());
-                article.setExtractError(null);
-                articleService.save(article);
-                extractedCount++;
-            }
+    @Bean
+    @StepScope
+    public PendingArticleItemReader<ArticleHeader> extractArticleReader(
+            @Value("#{jobExecutionContext['articleRunId']}") Long runId,
+            @Value("#{stepExecutionContext['fromIndex']}") Integer fromIndex,
+            @Value("#{stepExecutionContext['toIndex']}") Integer toIndex) {
+        return PendingArticleItemReader.unextractedHeaders(
+                articleService, runArticleIds(runId, fromIndex, toIndex), extractChunkSize);
+    }
+    
+    /**
+     * S2_EXTRACT processor - 실제 추출 모드(useRealExtraction=true, enableContentScan=true)가 아니면 더미 본문
+     */
+    @Bean
+    @StepScope
+    public ArticleExtractionProcessor extractArticleProcessor(
+            @Value("#{jobParameters['useRealExtraction']}") String useRealExtraction) {
+        boolean realExtraction = "true".equals(useRealExtraction) && enableContentScan;
+        if (realExtraction) {
+            System.out.println("실제 본문 추출 모드 시작");
+        } else if (!enableContentScan) {
+            System.out.println("본문 추출 비활성화됨 (enableContentScan=false) - RSS 메타데이터만 사용");
+        } else {
+            System.out.println("더미 본문 추출 모드 (useRealExtraction=false)");
+        }
+        return new ArticleExtractionProcessor(contentExtractionService, realExtraction);
+    }
+    
+    /**
+     * 기사 ID 구간 Partitioner (S2, S3 공용)
+     */
+    @Bean
+    @StepScope
+    public ArticleIdRangePartitioner articleIdRangePartitioner(
+            @Value("#{jobExecutionContext['articleRunId']}") Long runId) {
+        int articleCount = runId != null ? jobRunArticleRepository.count(runId) : 0;
+        if (articleCount == 0) {
+            System.out.println("처리할 기사가 없습니다.");
         }
-        return extractedCount;
+        return new ArticleIdRangePartitioner(articleCount);
+    }
+    
+    /**
+     * 파티션 Step을 gridSize개 스레드에서 동시에 실행하는 핸들러
+     */
+    private TaskExecutorPartitionHandler partitionHandler(Step workerStep, int gridSize, String threadNamePrefix) {
+        SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        taskExecutor.setConcurrencyLimit(Math.max(1, gridSize));
+        
+        TaskExecutorPartitionHandler handler = new TaskExecutorPartitionHandler();
+        handler.setStep(workerStep);
+        handler.setGridSize(Math.max(1, gridSize));
+        handler.setTaskExecutor(taskExecutor);
+        return handler;
     }
     
     /**
@@ -386,94 +553,90 @@ public class BatchConfiguration {
 
     /**
      * S3_SUMMARIZE_AI Step - AI 요약 생성
+     * 기사 ID 목록을 summarizeGridSize개 구간으로 나눠 S3_SUMMARIZE_AI_WORKER를 병렬 실행한다 (API 동시 호출 수 = gridSize).
      */
     @Bean
     public Step step3SummarizeAi() {
         return stepBuilderFactory.get("S3_SUMMARIZE_AI")
-                .tasklet((contribution, chunkContext) -> {
-                    System.out.println("=== S3_SUMMARIZE_AI: AI 요약 생성 시작 ===");
-                    
-                    Integer extractedCount = ExecutionContextUtil.getFromJobContext(
-                            chunkContext.getStepContext().getStepExecution(),
-                            ExecutionContextUtil.EXTRACTED_ARTICLES_COUNT,
-                            Integer.class
-                    );
-                    
-                    // Job Parameter에서 AI 사용 여부 확인
-                    String useLLM = chunkContext.getStepContext()
-                            .getJobParameters()
-                            .get("useLLM") != null ? 
-                            chunkContext.getStepContext().getJobParameters().get("useLLM").toString() : 
-                            "false";
-                    
-                    @SuppressWarnings("unchecked")
-                    List<Long> articleIds = ExecutionContextUtil.getFromJobContext(
-                            chunkContext.getStepContext().getStepExecution(),
-                            "articleIds",
-                            List.class
-                    );
-                    
-                    int summarizedCount = 0;
+                .partitioner(STEP3_WORKER, articleIdRangePartitioner(null))
+                .partitionHandler(partitionHandler(step3SummarizeAiWorker(), summarizeGridSize, "s3-summarize-"))
+                .aggregator(new PartitionCountAggregator(ExecutionContextUtil.SUMMARIZED_ARTICLES_COUNT))
+                .listener(new StepExecutionListenerSupport() {
+                    @Override
+                    public void beforeStep(StepExecution stepExecution) {
+                        System.out.println("=== S3_SUMMARIZE_AI: AI 요약 생성 시작 ===");
+                        if (isRealSummaryMode(stepExecution.getJobParameters().getString("useLLM"))) {
+                            System.out.println("실제 AI 요약 생성 모드 (파티션 " + summarizeGridSize + "개)");
+                        } else {
+                            System.out.println("더미 AI 요약 모드 (useLLM=false 또는 API 미사용)");
+                        }
+                    }
                     
-                    if ("true".equals(useLLM) && summaryService.isAiSummaryAvailable()) {
-                        // 실제 AI 요약 생성
-                        System.out.println("실제 AI 요약 생성 모드");
-                        
-                        try {
-                            // DB에서 본문이 있는 기사들 조회
-                            List<Article> articles = articleService.findByIds(articleIds != null ? articleIds : new ArrayList<>());
-                            
-                            // 본문이 있는 기사만 필터링
-                            List<Article> articlesWithContent = articles.stream()
-                                    .filter(article -> article.getContent() != null && 
-                                           !article.getContent().trim().isEmpty())
-                                    .collect(java.util.stream.Collectors.toList());
-                            
-                            if (!articlesWithContent.isEmpty()) {
-                                System.out.println("AI 요약 생성 대상: " + articlesWithContent.size() + "개 기사");
-                                
-                                // 배치 AI 요약 생성
-                                List<Summary> summaries = summaryService.generateSummaries(articlesWithContent);
-                                summarizedCount = summaries.size();
-                                
-                                // 성공한 요약 개수 계산
-                                long successCount = summaries.stream()
-                                        .mapToLong(summary -> summary.getScore() != null && 
-                                            summary.getScore().compareTo(BigDecimal.valueOf(3)) > 0 ? 1 : 0)
-                                        .sum();
-                                
-                                System.out.println("AI 요약 생성 완료: " + successCount + "/" + summarizedCount + " 성공");
-                                
-                                // API 사용량 통계 출력
-                                summaryService.printApiUsageStats();
-                            } else {
-                                System.out.println("본문이 있는 기사가 없어서 AI 요약을 건너뜁니다.");
-                                summarizedCount = 0;
-                            }
-                            
-                        } catch (Exception e) {
-                            System.err.println("AI 요약 생성 실패, 더미 모드로 폴백: " + e.getMessage());
-                            e.printStackTrace();
+                    @Override
+                    public ExitStatus afterStep(StepExecution stepExecution) {
+                        int summarizedCount;
+                        if (isRealSummaryMode(stepExecution.getJobParameters().getString("useLLM"))) {
+                            summarizedCount = ExecutionContextUtil.getIntFromStepContext(
+                                    stepExecution, ExecutionContextUtil.SUMMARIZED_ARTICLES_COUNT, 0);
+                            summaryService.printApiUsageStats();
+                        } else {
+                            Integer extractedCount = ExecutionContextUtil.getFromJobContext(
+                                    stepExecution, ExecutionContextUtil.EXTRACTED_ARTICLES_COUNT, Integer.class);
                             summarizedCount = processDummyAiSummary(extractedCount != null ? extractedCount : 0);
                         }
+                        ExecutionContextUtil.putToJobContext(
+                                stepExecution, ExecutionContextUtil.SUMMARIZED_ARTICLES_COUNT, summarizedCount);
                         
-                    } else {
-                        // 더미 AI 요약 모드
-                        System.out.println("더미 AI 요약 모드 (useLLM=false 또는 API 미사용)");
-                        summarizedCount = processDummyAiSummary(extractedCount != null ? extractedCount : 0);
+                        System.out.println("S3_SUMMARIZE_AI 완료: " + summarizedCount + "개 기사 요약 완료 (스킵 " +
+                                stepExecution.getSkipCount() + ")");
+                        return null;
                     }
-                    
-                    ExecutionContextUtil.putToJobContext(
-                            chunkContext.getStepContext().getStepExecution(),
-                            ExecutionContextUtil.SUMMARIZED_ARTICLES_COUNT,
-                            summarizedCount
-                    );
-                    
-                    System.out.println("S3_SUMMARIZE_AI 완료: " + summarizedCount + "개 기사 요약 완료");
-                    return RepeatStatus.FINISHED;
                 })
                 .build();
     }
+    
+    /**
+     * S3_SUMMARIZE_AI 파티션 Step (청크 단위: 기사 ID 페이지 읽기 → 기사별 요약 → 청크 일괄 저장)
+     */
+    @Bean
+    public Step step3SummarizeAiWorker() {
+        return stepBuilderFactory.get(STEP3_WORKER)
+                .<ArticleBody, Summary>chunk(summarizeChunkSize)
+                .reader(summarizeArticleReader(null, null, null, null))
+                .processor(new ArticleSummaryProcessor(summaryService))
+                .writer(new SummaryItemWriter(summaryRepository, jobRunArticleRepository))
+                .faultTolerant()
+                // 재시도/스킵 시 AI를 다시 호출하지 않도록 처리 결과 재사용
+                .processorNonTransactional()
+                .retry(TransientDataAccessException.class)
+                .retryLimit(retryLimit)
+                .skip(Exception.class)
+                .skipLimit(skipLimit)
+                .build();
+    }
+    
+    /**
+     * S3_SUMMARIZE_AI reader - 파티션 구간 중 본문이 있는 기사만 본문과 함께 조회
+     * 더미 모드(useLLM=false 또는 API 미사용)면 읽을 기사 없음
+     */
+    @Bean
+    @StepScope
+    public PendingArticleItemReader<ArticleBody> summarizeArticleReader(
+            @Value("#{jobParameters['useLLM']}") String useLLM,
+            @Value("#{jobExecutionContext['articleRunId']}") Long runId,
+            @Value("#{stepExecutionContext['fromIndex']}") Integer fromIndex,
+            @Value("#{stepExecutionContext['toIndex']}") Integer toIndex) {
+        if (!isRealSummaryMode(useLLM)) {
+            return PendingArticleItemReader.bodiesWithContent(articleService, null, summarizeChunkSize);
+        }
+        return PendingArticleItemReader.bodiesWithContent(
+                articleService, runArticleIds(runId, fromIndex, toIndex), summarizeChunkSize);
+    }
+    
+    private boolean isRealSummaryMode(String useLLM) {
+        return "true".equals(useLLM) && summaryService.isAiSummaryAvailable();
+    }
+
 
     /**
      * S4_RANK_COMPOSE Step - 중요도 산정 및 다이제스트 조립
@@ -506,7 +669,7 @@ public class BatchConfiguration {
                     LocalDate digestDate = LocalDate.now();
                     int rankedCount = 0;
                     String digestTitle = "";
-                    String digestBody = "";
+                    List<Summary> digestSummaries = new ArrayList<>();
                     
                     if ("true".equals(useLLM)) {
                         // 실제 Summary 데이터로 다이제스트 생성
@@ -517,8 +680,12 @@ public class BatchConfiguration {
                             LocalDateTime startTime = digestDate.atStartOfDay();
                             LocalDateTime endTime = startTime.plusDays(1);
                             
-                            List<Summary> allSummaries = summaryRepository.findForDigest(
-                                    BigDecimal.valueOf(1.0), startTime, endTime);
+                            // 요약 + 기사 헤더를 한 번에 조회 (기사별 지연 로딩/본문 컬럼 없이)
+                            List<Summary> allSummaries = summaryRepository.findDigestRows(
+                                    BigDecimal.valueOf(1.0), startTime, endTime)
+                                    .stream()
+                                    .map(DigestSummaryRow::toSummary)
+                                    .collect(Collectors.toList());
                             
                             System.out.println("고급 랭킹 알고리즘 적용: " + allSummaries.size() + "개 Summary 대상");
                             
@@ -530,13 +697,12 @@ public class BatchConfiguration {
                             if (rankedCount > 0) {
                                 // DigestTemplateService로 다이제스트 생성
                                 digestTitle = digestTemplateService.getTemplateTitle(templateName);
-                                digestBody = digestTemplateService.generateDigest(summaries, templateName, "markdown");
+                                digestSummaries = summaries;
                                 
-                                System.out.println("다이제스트 생성 완료: " + rankedCount + "개 Summary 기반");
+                                System.out.println("다이제스트 대상 선별 완료: " + rankedCount + "개 Summary 기반");
                             } else {
                                 // Summary가 없으면 빈 다이제스트 생성
                                 digestTitle = "경제뉴스 다이제스트 - " + digestDate;
-                                digestBody = digestTemplateService.generateDigest(new ArrayList<>(), templateName, "markdown");
                                 
                                 System.out.println("Summary가 없어서 빈 다이제스트 생성");
                             }
@@ -546,36 +712,33 @@ public class BatchConfiguration {
                             e.printStackTrace();
                             rankedCount = processDummyDigest(digestDate, templateName);
                             digestTitle = digestTemplateService.getTemplateTitle(templateName);
-                            digestBody = digestTemplateService.generateDigest(new ArrayList<>(), templateName, "markdown");
+                            digestSummaries = new ArrayList<>();
                         }
                     } else {
                         // 더미 다이제스트 생성
                         System.out.println("더미 다이제스트 생성 모드");
                         rankedCount = processDummyDigest(digestDate, templateName);
                         digestTitle = digestTemplateService.getTemplateTitle(templateName);
-                        digestBody = digestTemplateService.generateDigest(new ArrayList<>(), templateName, "markdown");
                     }
                     
-                    // DailyDigest DB 저장
+                    // 통계/템플릿 변수는 한 번만 계산하고 설정된 모든 형식(markdown, html, json ...)을 함께 렌더링
+                    Map<String, String> renditions;
                     try {
-                        DailyDigest existingDigest = dailyDigestRepository.findByDigestDate(digestDate).orElse(null);
-                        
-                        if (existingDigest != null) {
-                            // 기존 다이제스트 업데이트
-                            existingDigest.setTitle(digestTitle);
-                            existingDigest.setBodyMarkdown(digestBody);
-                            existingDigest.updateCounts(rankedCount, rankedCount);
-                            dailyDigestRepository.save(existingDigest);
-                            
-                            System.out.println("기존 다이제스트 업데이트: " + digestDate);
-                        } else {
-                            // 새 다이제스트 생성
-                            DailyDigest newDigest = new DailyDigest(digestDate, digestTitle, digestBody);
-                            newDigest.updateCounts(rankedCount, rankedCount);
-                            dailyDigestRepository.save(newDigest);
-                            
-                            System.out.println("새 다이제스트 생성: " + digestDate);
-                        }
+                        DigestTemplateService.RenderContext renderContext =
+                                digestTemplateService.prepare(digestSummaries, templateName, digestDate);
+                        renditions = digestTemplateService.renderAll(renderContext, digestTitle);
+                        System.out.println("다이제스트 렌더링 완료: " + renditions.keySet());
+                    } catch (Exception e) {
+                        System.err.println("다이제스트 렌더링 실패, 빈 다이제스트로 폴백: " + e.getMessage());
+                        e.printStackTrace();
+                        renditions = digestTemplateService.renderAll(
+                                digestTemplateService.prepare(new ArrayList<>(), templateName, digestDate), digestTitle);
+                    }
+                    
+                    // DailyDigest DB 저장 (본문은 ExecutionContext가 아니라 여기에만 두고 S5에는 ID만 넘김)
+                    Long digestId = null;
+                    try {
+                        digestId = dailyDigestService.saveDigest(digestDate, digestTitle, renditions, rankedCount);
                     } catch (Exception e) {
                         System.err.println("다이제스트 DB 저장 실패: " + e.getMessage());
                         e.printStackTrace();
@@ -587,17 +750,13 @@ public class BatchConfiguration {
                             rankedCount
                     );
                     
-                    ExecutionContextUtil.putToJobContext(
-                            chunkContext.getStepContext().getStepExecution(),
-                            "digestTitle",
-                            digestTitle
-                    );
-                    
-                    ExecutionContextUtil.putToJobContext(
-                            chunkContext.getStepContext().getStepExecution(),
-                            "digestBody",
-                            digestBody
-                    );
+                    if (digestId != null) {
+                        ExecutionContextUtil.putToJobContext(
+                                chunkContext.getStepContext().getStepExecution(),
+                                ExecutionContextUtil.FINAL_DIGEST_ID,
+                                digestId
+                        );
+                    }
                     
                     System.out.println("S4_RANK_COMPOSE 완료: " + rankedCount + "개 기사 선별 및 다이제스트 조립 완료");
                     return RepeatStatus.FINISHED;
@@ -626,11 +785,10 @@ public class BatchConfiguration {
                             chunkContext.getStepContext().getJobParameters().get("dryRun").toString() : 
                             "true";
                     
-                    @SuppressWarnings("unchecked")
-                    List<Long> articleIds = ExecutionContextUtil.getFromJobContext(
+                    Long runId = ExecutionContextUtil.getFromJobContext(
                             chunkContext.getStepContext().getStepExecution(),
-                            "articleIds",
-                            List.class
+                            ExecutionContextUtil.ARTICLE_RUN_ID,
+                            Long.class
                     );
                     
                     int dispatchedCount = 0;
@@ -646,17 +804,21 @@ public class BatchConfiguration {
                         } else {
                             // 실제 Discord 발송
                             try {
-                                // S4_RANK_COMPOSE에서 생성된 실제 다이제스트 사용
-                                String digest = ExecutionContextUtil.getFromJobContext(
+                                // S4_RANK_COMPOSE에서 저장한 다이제스트 사용
+                                Long digestId = ExecutionContextUtil.getFromJobContext(
                                         chunkContext.getStepContext().getStepExecution(),
-                                        "digestBody",
-                                        String.class
+                                        ExecutionContextUtil.FINAL_DIGEST_ID,
+                                        Long.class
                                 );
+                                // 저장된 렌더링 결과만 읽음 (Discord는 마크다운)
+                                String digest = dailyDigestService
+                                        .findRendition(digestId, DigestTemplateService.FORMAT_MARKDOWN)
+                                        .orElse(null);
                                 
                                 // 다이제스트가 없으면 폴백으로 더미 생성
                                 if (digest == null || digest.trim().isEmpty()) {
                                     System.out.println("다이제스트가 없어서 폴백으로 더미 생성");
-                                    digest = createDummyDigest(articleIds, rankedCount);
+                                    digest = createDummyDigest(runArticleIds(runId, null, null), rankedCount);
                                 }
                                 
                                 // Discord 발송
@@ -721,9 +883,9 @@ public class BatchConfiguration {
         
         if (articleIds != null && !articleIds.isEmpty()) {
             // 실제 기사 정보 조회 및 표시 (간단한 형태)
-            List<Article> articles = articleService.findByIds(articleIds);
+            List<ArticleHeader> articles = articleService.findHeadersByIds(articleIds);
             int count = 1;
-            for (Article article : articles) {
+            for (ArticleHeader article : articles) {
                 if (count > (rankedCount != null ? rankedCount : 5)) break;
                 
                 digest.append("## ").append(count).append(". ").append(article.getTitle()).append("\n");
@@ -67,6 +67,13 @@ public class EconDigestJobParametersValidator implements JobParametersValidator
                 "forceRefresh must be 'true' or 'false'. Got: " + forceRefreshStr);
         }
         
+        // pipelineMode 검증
+        String pipelineModeStr = parameters.getString(JobParameters.PIPELINE_MODE);
+        if (pipelineModeStr != null && !pipelineModeStr.equals("true") && !pipelineModeStr.equals("false")) {
+            throw new JobParametersInvalidException(
+                "pipelineMode must be 'true' or 'false'. Got: " + pipelineModeStr);
+        }
+        
         // logLevel 검증
         String logLevel = parameters.getString(JobParameters.LOG_LEVEL);
         if (logLevel != null) {
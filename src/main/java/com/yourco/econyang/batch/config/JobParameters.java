@@ -12,6 +12,7 @@ public final class JobParameters {
     public static final String USE_LLM = "useLLM";
     public static final String FORCE_REFRESH = "forceRefresh";
     public static final String LOG_LEVEL = "logLevel";
+    public static final String PIPELINE_MODE = "pipelineMode";
     
     // 기본값 상수
     public static final String DEFAULT_TARGET_DATE = "yesterday";
@@ -20,6 +21,7 @@ public final class JobParameters {
     public static final boolean DEFAULT_USE_LLM = true;
     public static final boolean DEFAULT_FORCE_REFRESH = false;
     public static final String DEFAULT_LOG_LEVEL = "INFO";
+    public static final boolean DEFAULT_PIPELINE_MODE = false;
     
     // private constructor to prevent instantiation
     private JobParameters() {
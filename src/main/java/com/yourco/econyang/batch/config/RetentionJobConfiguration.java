@@ -0,0 +1,53 @@
+package com.yourco.econyang.batch.config;
+
+import com.yourco.econyang.service.DataRetentionService;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.JobBuilderFactory;
+import org.springframework.batch.core.configuration.annotation.StepBuilderFactory;
+import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.LocalDate;
+
+/**
+ * DATA_RETENTION Job 설정
+ * 보관 기간이 지난 기사/요약/날짜 캐시의 월 파티션을 삭제하고 다음 달 파티션을 미리 만든다.
+ */
+@Configuration
+public class RetentionJobConfiguration {
+
+    @Autowired
+    private JobBuilderFactory jobBuilderFactory;
+
+    @Autowired
+    private StepBuilderFactory stepBuilderFactory;
+
+    @Autowired
+    private DataRetentionService dataRetentionService;
+
+    @Bean
+    public Job dataRetentionJob() {
+        return jobBuilderFactory.get("DATA_RETENTION")
+                .incrementer(new RunIdIncrementer())
+                .start(retentionPurgeStep())
+                .build();
+    }
+
+    /**
+     * R1_PURGE Step - 보관 기간 정리
+     */
+    @Bean
+    public Step retentionPurgeStep() {
+        return stepBuilderFactory.get("R1_PURGE")
+                .tasklet((contribution, chunkContext) -> {
+                    DataRetentionService.Result result = dataRetentionService.purgeExpired(LocalDate.now());
+                    contribution.incrementWriteCount(result.getDroppedPartitions() + result.getDeletedRows());
+                    return RepeatStatus.FINISHED;
+                })
+                .build();
+    }
+}
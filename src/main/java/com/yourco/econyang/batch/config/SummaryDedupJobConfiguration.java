@@ -0,0 +1,53 @@
+package com.yourco.econyang.batch.config;
+
+import com.yourco.econyang.repository.SummaryDuplicateRepository;
+import com.yourco.econyang.service.SummaryDuplicateService;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.JobBuilderFactory;
+import org.springframework.batch.core.configuration.annotation.StepBuilderFactory;
+import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * SUMMARY_DEDUP Job 설정
+ * 마지막 실행 이후 저장된 요약만 골라 최근 기간의 요약과 유사 중복인지 검사한다.
+ */
+@Configuration
+public class SummaryDedupJobConfiguration {
+
+    @Autowired
+    private JobBuilderFactory jobBuilderFactory;
+
+    @Autowired
+    private StepBuilderFactory stepBuilderFactory;
+
+    @Autowired
+    private SummaryDuplicateService summaryDuplicateService;
+
+    @Bean
+    public Job summaryDedupJob() {
+        return jobBuilderFactory.get("SUMMARY_DEDUP")
+                .incrementer(new RunIdIncrementer())
+                .start(summaryDedupStep())
+                .build();
+    }
+
+    /**
+     * D1_DETECT Step - 새 요약 중복 검사
+     */
+    @Bean
+    public Step summaryDedupStep() {
+        return stepBuilderFactory.get("D1_DETECT")
+                .tasklet((contribution, chunkContext) -> {
+                    SummaryDuplicateRepository.BatchResult result = summaryDuplicateService.detectNewDuplicates();
+                    contribution.incrementReadCount();
+                    contribution.incrementWriteCount(result.getDuplicates());
+                    return RepeatStatus.FINISHED;
+                })
+                .build();
+    }
+}
@@ -0,0 +1,297 @@
+package com.yourco.econyang.batch.pipeline;
+
+import com.yourco.econyang.domain.Article;
+import com.yourco.econyang.domain.Summary;
+import com.yourco.econyang.batch.step.ArticleExtractionProcessor;
+import com.yourco.econyang.dto.ArticleBody;
+import com.yourco.econyang.dto.ArticleDto;
+import com.yourco.econyang.dto.ArticleHeader;
+import com.yourco.econyang.repository.SummaryRepository;
+import com.yourco.econyang.service.ArticleService;
+import org.springframework.batch.item.ItemProcessor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+/**
+ * 수집 → 중복 제거/저장 → 본문 추출 → AI 요약을 동시에 흘려보내는 파이프라인
+ *
+ * 단계 사이는 크기가 정해진 큐로 연결되어, 뒷단계가 밀리면 앞단계가 put()에서 기다린다 (backpressure).
+ * 피드 하나가 끝나는 대로 그 기사들이 다음 단계로 넘어가므로 전체 소요 시간은 단계 합이 아니라 가장 느린 단계에 가까워진다.
+ *
+ * 단계 모드와 달리 모든 피드를 모은 뒤 최신순으로 자르지 않고, 중복 제거를 통과한 순서대로 maxArticles건을 받는다.
+ */
+public class ArticlePipeline {
+
+    private final ArticleService articleService;
+    private final SummaryRepository summaryRepository;
+    private final ItemProcessor<ArticleHeader, Article> extractProcessor;
+    // null이면 요약 단계 생략 (더미 모드)
+    private final ItemProcessor<ArticleBody, Summary> summaryProcessor;
+
+    private int fetchThreads = 4;
+    private int extractThreads = 4;
+    private int summarizeThreads = 2;
+    private int queueCapacity = 50;
+
+    public ArticlePipeline(ArticleService articleService, SummaryRepository summaryRepository,
+                           ItemProcessor<ArticleHeader, Article> extractProcessor,
+                           ItemProcessor<ArticleBody, Summary> summaryProcessor) {
+        this.articleService = articleService;
+        this.summaryRepository = summaryRepository;
+        this.extractProcessor = extractProcessor;
+        this.summaryProcessor = summaryProcessor;
+    }
+
+    public ArticlePipeline threads(int fetchThreads, int extractThreads, int summarizeThreads) {
+        this.fetchThreads = Math.max(1, fetchThreads);
+        this.extractThreads = Math.max(1, extractThreads);
+        this.summarizeThreads = Math.max(1, summarizeThreads);
+        return this;
+    }
+
+    public ArticlePipeline queueCapacity(int queueCapacity) {
+        this.queueCapacity = Math.max(1, queueCapacity);
+        return this;
+    }
+
+    /**
+     * 파이프라인 실행 (모든 단계가 끝날 때까지 대기)
+     *
+     * @param fetchTasks 피드별 수집 작업 (필터링까지 끝난 기사 목록 반환)
+     * @param deduplicator 처음 보는 기사만 통과시키는 판정기 (한 스레드에서만 호출됨)
+     * @param maxArticles 저장할 최대 기사 수
+     */
+    public Result run(List<Callable<List<ArticleDto>>> fetchTasks, Predicate<ArticleDto> deduplicator,
+                      int maxArticles) throws InterruptedException {
+        long startTime = System.currentTimeMillis();
+        Channel<ArticleDto> fetched = new Channel<>(queueCapacity);
+        Channel<Article> saved = new Channel<>(queueCapacity);
+        Channel<Article> extracted = new Channel<>(queueCapacity);
+
+        Result result = new Result();
+        ExecutorService fetchPool = Executors.newFixedThreadPool(fetchThreads);
+        ExecutorService dedupPool = Executors.newSingleThreadExecutor();
+        ExecutorService extractPool = Executors.newFixedThreadPool(extractThreads);
+        ExecutorService summarizePool = Executors.newFixedThreadPool(summarizeThreads);
+
+        try {
+            // 1) 수집: 피드별 병렬, 끝난 피드부터 기사 단위로 흘려보냄
+            CountDownLatch fetchDone = new CountDownLatch(fetchTasks.size());
+            for (Callable<List<ArticleDto>> task : fetchTasks) {
+                fetchPool.execute(() -> {
+                    try {
+                        for (ArticleDto article : task.call()) {
+                            fetched.put(article);
+                            result.fetched.incrementAndGet();
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } catch (Exception e) {
+                        result.errors.incrementAndGet();
+                        System.err.println("파이프라인 수집 실패: " + e.getMessage());
+                    } finally {
+                        fetchDone.countDown();
+                    }
+                });
+            }
+            closeWhenDone(fetchDone, fetched);
+
+            // 2) 중복 제거 + 저장: 판정 상태를 공유하므로 단일 스레드
+            CountDownLatch dedupDone = new CountDownLatch(1);
+            dedupPool.execute(() -> {
+                try {
+                    ArticleDto dto;
+                    while ((dto = fetched.take()) != null) {
+                        // 최대 건수를 채운 뒤에도 수집 단계가 막히지 않도록 큐는 끝까지 비움
+                        if (result.articleIds.size() >= maxArticles || !deduplicator.test(dto)) {
+                            continue;
+                        }
+                        try {
+                            Article article = articleService.saveOrUpdate(dto);
+                            result.articleIds.add(article.getId());
+                            saved.put(article);
+                        } catch (InterruptedException e) {
+                            throw e;
+                        } catch (Exception e) {
+                            result.errors.incrementAndGet();
+                            System.err.println("파이프라인 저장 실패: " + dto.getUrl() + " - " + e.getMessage());
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    dedupDone.countDown();
+                }
+            });
+            closeWhenDone(dedupDone, saved);
+
+            // 3) 본문 추출 (이미 본문이 있는 기사는 그대로 통과)
+            CountDownLatch extractDone = startWorkers(extractPool, extractThreads, saved, article -> {
+                Article processed = article;
+                if (!ArticleExtractionProcessor.hasContent(article)) {
+                    processed = extractProcessor.process(ArticleHeader.of(article));
+                    articleService.updateExtractionResults(Collections.singletonList(processed));
+                }
+                if (ArticleExtractionProcessor.hasContent(processed)) {
+                    result.extracted.incrementAndGet();
+                }
+                extracted.put(processed);
+            }, result, "본문 추출");
+            closeWhenDone(extractDone, extracted);
+
+            // 4) AI 요약
+            CountDownLatch summarizeDone = startWorkers(summarizePool, summarizeThreads, extracted, article -> {
+                if (summaryProcessor == null) {
+                    return;
+                }
+                Summary summary = summaryProcessor.process(ArticleBody.of(article));
+                if (summary != null) {
+                    summaryRepository.save(summary);
+                    result.summarized.incrementAndGet();
+                }
+            }, result, "AI 요약");
+
+            summarizeDone.await();
+        } finally {
+            fetchPool.shutdownNow();
+            dedupPool.shutdownNow();
+            extractPool.shutdownNow();
+            summarizePool.shutdownNow();
+        }
+
+        result.elapsedMs = System.currentTimeMillis() - startTime;
+        System.out.println(String.format("파이프라인 완료: 수집 %d개 → 저장 %d개 → 본문 %d개 → 요약 %d개 (오류 %d), %dms",
+                result.fetched.get(), result.articleIds.size(), result.extracted.get(), result.summarized.get(),
+                result.errors.get(), result.elapsedMs));
+        return result;
+    }
+
+    /**
+     * 입력 채널이 닫힐 때까지 꺼내 처리하는 작업자 실행, 항목별 오류는 기록 후 건너뜀
+     */
+    private static <T> CountDownLatch startWorkers(ExecutorService pool, int count, Channel<T> input,
+                                                   ItemHandler<T> handler, Result result, String stageName) {
+        CountDownLatch done = new CountDownLatch(count);
+        for (int i = 0; i < count; i++) {
+            pool.execute(() -> {
+                try {
+                    T item;
+                    while ((item = input.take()) != null) {
+                        try {
+                            handler.handle(item);
+                        } catch (InterruptedException e) {
+                            throw e;
+                        } catch (Exception e) {
+                            result.errors.incrementAndGet();
+                            System.err.println("파이프라인 " + stageName + " 실패: " + e.getMessage());
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        return done;
+    }
+
+    /**
+     * 앞단계가 모두 끝나면 다음 채널을 닫는 감시 스레드
+     */
+    private static void closeWhenDone(CountDownLatch upstreamDone, Channel<?> channel) {
+        Thread closer = new Thread(() -> {
+            try {
+                upstreamDone.await();
+                channel.close();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, "pipeline-closer");
+        closer.setDaemon(true);
+        closer.start();
+    }
+
+    private interface ItemHandler<T> {
+        void handle(T item) throws Exception;
+    }
+
+    /**
+     * 크기 제한 큐 + 종료 표시 (종료 표시를 꺼낸 소비자는 다른 소비자를 위해 다시 넣는다)
+     */
+    static final class Channel<T> {
+        private static final Object END = new Object();
+        private final BlockingQueue<Object> queue;
+
+        Channel(int capacity) {
+            this.queue = new ArrayBlockingQueue<>(capacity);
+        }
+
+        void put(T item) throws InterruptedException {
+            queue.put(item);
+        }
+
+        void close() throws InterruptedException {
+            queue.put(END);
+        }
+
+        /**
+         * 다음 항목 (채널이 닫혔으면 null)
+         */
+        @SuppressWarnings("unchecked")
+        T take() throws InterruptedException {
+            Object item = queue.take();
+            if (item == END) {
+                queue.put(END);
+                return null;
+            }
+            return (T) item;
+        }
+    }
+
+    /**
+     * 실행 결과 (단계별 건수)
+     */
+    public static final class Result {
+        private final AtomicInteger fetched = new AtomicInteger();
+        private final AtomicInteger extracted = new AtomicInteger();
+        private final AtomicInteger summarized = new AtomicInteger();
+        private final AtomicInteger errors = new AtomicInteger();
+        private final List<Long> articleIds = Collections.synchronizedList(new ArrayList<>());
+        private long elapsedMs;
+
+        public int getFetchedCount() {
+            return fetched.get();
+        }
+
+        public int getExtractedCount() {
+            return extracted.get();
+        }
+
+        public int getSummarizedCount() {
+            return summarized.get();
+        }
+
+        public int getErrorCount() {
+            return errors.get();
+        }
+
+        public List<Long> getArticleIds() {
+            return new ArrayList<>(articleIds);
+        }
+
+        public long getElapsedMs() {
+            return elapsedMs;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.yourco.econyang.batch.pipeline;
+
+import com.yourco.econyang.batch.config.JobParameters;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.job.flow.FlowExecutionStatus;
+import org.springframework.batch.core.job.flow.JobExecutionDecider;
+
+/**
+ * 실행 모드 분기 - pipelineMode=true면 파이프라인, 아니면 기존 단계별 실행
+ */
+public class PipelineModeDecider implements JobExecutionDecider {
+
+    public static final FlowExecutionStatus PIPELINE = new FlowExecutionStatus("PIPELINE");
+    public static final FlowExecutionStatus STAGED = new FlowExecutionStatus("STAGED");
+
+    @Override
+    public FlowExecutionStatus decide(JobExecution jobExecution, StepExecution stepExecution) {
+        String pipelineMode = jobExecution.getJobParameters().getString(JobParameters.PIPELINE_MODE);
+        return "true".equals(pipelineMode) ? PIPELINE : STAGED;
+    }
+}
@@ -0,0 +1,62 @@
+package com.yourco.econyang.batch.step;
+
+import com.yourco.econyang.domain.Article;
+import com.yourco.econyang.dto.ArticleDto;
+import com.yourco.econyang.dto.ArticleHeader;
+import com.yourco.econyang.service.ContentExtractionService;
+import org.springframework.batch.item.ItemProcessor;
+
+import java.time.LocalDateTime;
+
+/**
+ * S2_EXTRACT 청크 처리기 - 기사 헤더 1건의 본문 추출
+ *
+ * 결과는 ID만 가진 Article 사본에 담아 writer로 넘긴다 (writer가 ID 기준으로 추출 결과 컬럼만 갱신).
+ * 더미 모드에서는 추출 없이 더미 본문을 채운다.
+ */
+public class ArticleExtractionProcessor implements ItemProcessor<ArticleHeader, Article> {
+
+    private final ContentExtractionService contentExtractionService;
+    private final boolean realExtraction;
+
+    public ArticleExtractionProcessor(ContentExtractionService contentExtractionService, boolean realExtraction) {
+        this.contentExtractionService = contentExtractionService;
+        this.realExtraction = realExtraction;
+    }
+
+    @Override
+    public Article process(ArticleHeader header) {
+        Article article = header.toArticle();
+        if (!realExtraction) {
+            article.setContent("더미 본문 내용: " + article.getTitle() + "에 대한 상세한 기사 내용입니다. 경제 동향과 관련된 중요한 정보가 포함되어 있습니다.");
+            article.setExtractedAt(LocalDateTime.now());
+            article.setExtractError(null);
+            return article;
+        }
+
+        ArticleDto result = contentExtractionService.extractContent(toDto(header));
+        if (result.isExtractSuccess()) {
+            article.setContent(result.getContent());
+            article.setExtractError(null);
+        } else {
+            article.setExtractError(result.getExtractError());
+        }
+        article.setExtractedAt(result.getExtractedAt());
+        return article;
+    }
+
+    public static boolean hasContent(Article article) {
+        return article.getContent() != null && !article.getContent().trim().isEmpty();
+    }
+
+    private static ArticleDto toDto(ArticleHeader header) {
+        ArticleDto dto = new ArticleDto();
+        dto.setSource(header.getSource());
+        dto.setUrl(header.getUrl());
+        dto.setTitle(header.getTitle());
+        dto.setDescription(header.getRawExcerpt());
+        dto.setAuthor(header.getAuthor());
+        dto.setPublishedAt(header.getPublishedAt());
+        return dto;
+    }
+}
@@ -0,0 +1,60 @@
+package com.yourco.econyang.batch.step;
+
+import com.yourco.econyang.batch.util.ExecutionContextUtil;
+import com.yourco.econyang.domain.Article;
+import com.yourco.econyang.repository.JobRunArticleRepository;
+import com.yourco.econyang.service.ArticleService;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.batch.item.ItemWriter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * S2_EXTRACT 청크 writer - 추출 결과(content, extracted_at, extract_error)를 청크 단위 JDBC 배치로 한 번에 갱신
+ *
+ * 본문이 있는 기사 수를 Step ExecutionContext에 누적하고 (EXTRACTED_ARTICLES_COUNT),
+ * job_run_articles의 기사별 단계 상태를 일괄 갱신한다 (본문 있음 DONE, 없음 SKIPPED).
+ */
+public class ArticleExtractionWriter implements ItemWriter<Article> {
+
+    private final ArticleService articleService;
+    private final JobRunArticleRepository jobRunArticleRepository;
+
+    public ArticleExtractionWriter(ArticleService articleService) {
+        this(articleService, null);
+    }
+
+    public ArticleExtractionWriter(ArticleService articleService, JobRunArticleRepository jobRunArticleRepository) {
+        this.articleService = articleService;
+        this.jobRunArticleRepository = jobRunArticleRepository;
+    }
+
+    @Override
+    public void write(List<? extends Article> articles) {
+        articleService.updateExtractionResults(new ArrayList<>(articles));
+
+        List<Long> extractedIds = new ArrayList<>();
+        List<Long> skippedIds = new ArrayList<>();
+        for (Article article : articles) {
+            (ArticleExtractionProcessor.hasContent(article) ? extractedIds : skippedIds).add(article.getId());
+        }
+
+        StepContext stepContext = StepSynchronizationManager.getContext();
+        if (stepContext != null) {
+            StepExecution stepExecution = stepContext.getStepExecution();
+            ExecutionContextUtil.incrementInStepContext(
+                    stepExecution, ExecutionContextUtil.EXTRACTED_ARTICLES_COUNT, extractedIds.size());
+
+            Long runId = ExecutionContextUtil.getLongFromJobContext(stepExecution, ExecutionContextUtil.ARTICLE_RUN_ID, null);
+            if (jobRunArticleRepository != null && runId != null) {
+                jobRunArticleRepository.markStage(runId, extractedIds,
+                        JobRunArticleRepository.Stage.EXTRACT, JobRunArticleRepository.Status.DONE);
+                jobRunArticleRepository.markStage(runId, skippedIds,
+                        JobRunArticleRepository.Stage.EXTRACT, JobRunArticleRepository.Status.SKIPPED);
+            }
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.yourco.econyang.batch.step;
+
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 기사 ID 목록을 연속 구간으로 나누는 Partitioner
+ *
+ * 파티션 ExecutionContext에는 ID 자체가 아니라 목록 내 위치 구간(fromIndex 이상, toIndex 미만)만 넣는다.
+ * 파티션 이름(partition0, partition1, ...)은 구간과 함께 고정되므로 재시작 시 같은 구간을 이어서 처리한다.
+ */
+public class ArticleIdRangePartitioner implements Partitioner {
+
+    public static final String FROM_INDEX = "fromIndex";
+    public static final String TO_INDEX = "toIndex";
+
+    private final int articleCount;
+
+    public ArticleIdRangePartitioner(int articleCount) {
+        this.articleCount = Math.max(0, articleCount);
+    }
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        Map<String, ExecutionContext> partitions = new LinkedHashMap<>();
+        if (articleCount == 0) {
+            return partitions;
+        }
+
+        int count = Math.min(Math.max(1, gridSize), articleCount);
+        int base = articleCount / count;
+        int remainder = articleCount % count;
+        int from = 0;
+        for (int i = 0; i < count; i++) {
+            int to = from + base + (i < remainder ? 1 : 0);
+            ExecutionContext context = new ExecutionContext();
+            context.putInt(FROM_INDEX, from);
+            context.putInt(TO_INDEX, to);
+            partitions.put("partition" + i, context);
+            from = to;
+        }
+        return partitions;
+    }
+}
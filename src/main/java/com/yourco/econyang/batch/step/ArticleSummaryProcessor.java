@@ -0,0 +1,30 @@
+package com.yourco.econyang.batch.step;
+
+import com.yourco.econyang.domain.Article;
+import com.yourco.econyang.domain.Summary;
+import com.yourco.econyang.dto.ArticleBody;
+import com.yourco.econyang.service.SummaryService;
+import org.springframework.batch.item.ItemProcessor;
+
+/**
+ * S3_SUMMARIZE_AI 청크 처리기 - 기사 1건의 AI 요약 생성 (저장은 writer에서)
+ *
+ * 본문이 없는 기사는 걸러낸다 (null 반환).
+ */
+public class ArticleSummaryProcessor implements ItemProcessor<ArticleBody, Summary> {
+
+    private final SummaryService summaryService;
+
+    public ArticleSummaryProcessor(SummaryService summaryService) {
+        this.summaryService = summaryService;
+    }
+
+    @Override
+    public Summary process(ArticleBody body) {
+        Article article = body.toArticle();
+        if (!ArticleExtractionProcessor.hasContent(article)) {
+            return null;
+        }
+        return summaryService.generateSummary(article, summaryService.getDefaultModel(), false);
+    }
+}
@@ -0,0 +1,31 @@
+package com.yourco.econyang.batch.step;
+
+import com.yourco.econyang.batch.util.ExecutionContextUtil;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.partition.support.DefaultStepExecutionAggregator;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 파티션 Step들의 카운터를 마스터 Step ExecutionContext에 합산
+ *
+ * 기본 집계(read/write/skip 수)에 더해 각 파티션이 Step ExecutionContext에 누적한 카운터를 합친다.
+ */
+public class PartitionCountAggregator extends DefaultStepExecutionAggregator {
+
+    private final List<String> counterKeys;
+
+    public PartitionCountAggregator(String... counterKeys) {
+        this.counterKeys = Arrays.asList(counterKeys);
+    }
+
+    @Override
+    public void aggregate(StepExecution result, Collection<StepExecution> executions) {
+        super.aggregate(result, executions);
+        for (String key : counterKeys) {
+            ExecutionContextUtil.aggregatePartitionCounts(result, executions, key);
+        }
+    }
+}
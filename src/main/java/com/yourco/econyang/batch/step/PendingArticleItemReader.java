@@ -0,0 +1,134 @@
+package com.yourco.econyang.batch.step;
+
+import com.yourco.econyang.dto.ArticleBody;
+import com.yourco.econyang.dto.ArticleHeader;
+import com.yourco.econyang.service.ArticleService;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.item.ItemStreamException;
+import org.springframework.batch.item.support.AbstractItemCountingItemStreamItemReader;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 처리 대상 기사 ID 목록을 페이지 단위로 읽는 ItemReader
+ *
+ * 한 번에 pageSize개의 기사만 메모리에 올리고, 읽은 목록 위치는 Step ExecutionContext에 저장되므로
+ * 재시작하면 마지막으로 커밋된 청크 다음 기사부터 다시 읽는다. 페이지 조회가 돌려주지 않은 기사
+ * (삭제됐거나 조회 조건에 맞지 않는 기사)는 건너뛴다.
+ *
+ * 단계마다 필요한 컬럼만 읽도록 조회 모델을 고른다: 본문 추출은 헤더, AI 요약은 본문 포함.
+ */
+public class PendingArticleItemReader<T extends ArticleHeader> extends AbstractItemCountingItemStreamItemReader<T> {
+
+    private final List<Long> articleIds;
+    private final int pageSize;
+    private final Function<List<Long>, List<T>> pageLoader;
+
+    private static final String POSITION_KEY = "position";
+
+    private List<T> page = Collections.emptyList();
+    private int pageStart;
+    private int next;
+    private int restoredPosition = -1;
+
+    public PendingArticleItemReader(List<Long> articleIds, int pageSize, Function<List<Long>, List<T>> pageLoader) {
+        this.articleIds = articleIds != null ? articleIds : Collections.<Long>emptyList();
+        this.pageSize = Math.max(1, pageSize);
+        this.pageLoader = pageLoader;
+        setName("pendingArticleReader");
+    }
+
+    /**
+     * 본문 추출 대상 reader (본문이 아직 없는 기사의 헤더)
+     */
+    public static PendingArticleItemReader<ArticleHeader> unextractedHeaders(
+            ArticleService articleService, List<Long> articleIds, int pageSize) {
+        return new PendingArticleItemReader<>(articleIds, pageSize, articleService::findUnextractedHeadersByIds);
+    }
+
+    /**
+     * AI 요약 대상 reader (본문이 있는 기사의 헤더 + 본문)
+     */
+    public static PendingArticleItemReader<ArticleBody> bodiesWithContent(
+            ArticleService articleService, List<Long> articleIds, int pageSize) {
+        return new PendingArticleItemReader<>(articleIds, pageSize, articleService::findBodiesWithContentByIds);
+    }
+
+    @Override
+    protected T doRead() {
+        while (next < articleIds.size()) {
+            if (next < pageStart || next >= pageStart + page.size()) {
+                loadPage(next);
+            }
+            T article = page.get(next - pageStart);
+            next++;
+            if (article != null) {
+                return article;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * from 위치부터 한 페이지 조회 (ID 순서 유지, 조회되지 않은 기사는 null)
+     */
+    private void loadPage(int from) {
+        List<Long> ids = articleIds.subList(from, Math.min(articleIds.size(), from + pageSize));
+        Map<Long, T> byId = new HashMap<>();
+        for (T article : pageLoader.apply(ids)) {
+            byId.put(article.getId(), article);
+        }
+
+        List<T> ordered = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            ordered.add(byId.get(id));
+        }
+        page = ordered;
+        pageStart = from;
+    }
+
+    /**
+     * 저장된 목록 위치로 이동 (건너뛴 기사가 있으면 읽은 개수와 목록 위치가 다르므로 위치를 따로 저장)
+     */
+    @Override
+    public void open(ExecutionContext executionContext) throws ItemStreamException {
+        String key = getExecutionContextKey(POSITION_KEY);
+        restoredPosition = executionContext.containsKey(key) ? executionContext.getInt(key) : -1;
+        super.open(executionContext);
+    }
+
+    @Override
+    public void update(ExecutionContext executionContext) throws ItemStreamException {
+        super.update(executionContext);
+        if (isSaveState()) {
+            executionContext.putInt(getExecutionContextKey(POSITION_KEY), next);
+        }
+    }
+
+    @Override
+    protected void jumpToItem(int itemIndex) throws Exception {
+        if (restoredPosition >= 0) {
+            next = restoredPosition;
+        } else {
+            // 위치가 저장되지 않은 실행 컨텍스트는 읽은 개수만큼 다시 읽어서 위치를 맞춤
+            super.jumpToItem(itemIndex);
+        }
+    }
+
+    @Override
+    protected void doOpen() {
+        page = Collections.emptyList();
+        pageStart = 0;
+        next = 0;
+    }
+
+    @Override
+    protected void doClose() {
+        page = Collections.emptyList();
+    }
+}
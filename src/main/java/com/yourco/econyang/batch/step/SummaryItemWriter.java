@@ -0,0 +1,56 @@
+package com.yourco.econyang.batch.step;
+
+import com.yourco.econyang.batch.util.ExecutionContextUtil;
+import com.yourco.econyang.domain.Summary;
+import com.yourco.econyang.repository.JobRunArticleRepository;
+import com.yourco.econyang.repository.SummaryRepository;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.scope.context.StepContext;
+import org.springframework.batch.core.scope.context.StepSynchronizationManager;
+import org.springframework.batch.item.ItemWriter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * S3_SUMMARIZE_AI 청크 writer - 요약을 청크 단위로 한 번에 저장
+ *
+ * 저장한 요약 수를 Step ExecutionContext에 누적하고 (SUMMARIZED_ARTICLES_COUNT),
+ * 요약된 기사의 job_run_articles 단계 상태를 일괄 갱신한다.
+ */
+public class SummaryItemWriter implements ItemWriter<Summary> {
+
+    private final SummaryRepository summaryRepository;
+    private final JobRunArticleRepository jobRunArticleRepository;
+
+    public SummaryItemWriter(SummaryRepository summaryRepository) {
+        this(summaryRepository, null);
+    }
+
+    public SummaryItemWriter(SummaryRepository summaryRepository, JobRunArticleRepository jobRunArticleRepository) {
+        this.summaryRepository = summaryRepository;
+        this.jobRunArticleRepository = jobRunArticleRepository;
+    }
+
+    @Override
+    public void write(List<? extends Summary> summaries) {
+        summaryRepository.saveAll(summaries);
+
+        StepContext stepContext = StepSynchronizationManager.getContext();
+        if (stepContext != null) {
+            StepExecution stepExecution = stepContext.getStepExecution();
+            ExecutionContextUtil.incrementInStepContext(
+                    stepExecution, ExecutionContextUtil.SUMMARIZED_ARTICLES_COUNT, summaries.size());
+
+            Long runId = ExecutionContextUtil.getLongFromJobContext(stepExecution, ExecutionContextUtil.ARTICLE_RUN_ID, null);
+            if (jobRunArticleRepository != null && runId != null) {
+                List<Long> articleIds = new ArrayList<>(summaries.size());
+                for (Summary summary : summaries) {
+                    articleIds.add(summary.getArticle().getId());
+                }
+                jobRunArticleRepository.markStage(runId, articleIds,
+                        JobRunArticleRepository.Stage.SUMMARIZE, JobRunArticleRepository.Status.DONE);
+            }
+        }
+    }
+}
@@ -3,6 +3,10 @@ package com.yourco.econyang.batch.util;
 import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.item.ExecutionContext;
 
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.Map;
+
 /**
  * Spring Batch ExecutionContext를 활용한 Step 간 데이터 전달 유틸리티
  */
@@ -21,11 +25,18 @@ public final class ExecutionContextUtil {
     public static final String PROCESSING_TIME = "processingTime";
     public static final String ERROR_COUNT = "errorCount";
     public static final String WARNING_COUNT = "warningCount";
+    // 처리 대상 기사 목록 포인터 (job_run_articles.run_id)
+    public static final String ARTICLE_RUN_ID = "articleRunId";
+    
+    // ExecutionContext는 커밋마다 통째로 직렬화되므로 카운터/포인터만 담는다 (목록, 본문은 DB 테이블에)
+    public static final int MAX_STRING_LENGTH = 1000;
+    public static final int MAX_COLLECTION_SIZE = 100;
     
     /**
      * Job ExecutionContext에 값 저장
      */
     public static void putToJobContext(StepExecution stepExecution, String key, Object value) {
+        checkSize(key, value);
         ExecutionContext jobContext = stepExecution.getJobExecution().getExecutionContext();
         jobContext.put(key, value);
     }
@@ -71,6 +82,7 @@ public final class ExecutionContextUtil {
      * Step ExecutionContext에 값 저장
      */
     public static void putToStepContext(StepExecution stepExecution, String key, Object value) {
+        checkSize(key, value);
         ExecutionContext stepContext = stepExecution.getExecutionContext();
         stepContext.put(key, value);
     }
@@ -88,6 +100,77 @@ public final class ExecutionContextUtil {
         return null;
     }
     
+    /**
+     * Step ExecutionContext의 정수 카운터 증가 (청크 커밋 시 함께 저장되므로 재시작해도 유지)
+     */
+    public static int incrementInStepContext(StepExecution stepExecution, String key, int delta) {
+        ExecutionContext stepContext = stepExecution.getExecutionContext();
+        int value = stepContext.getInt(key, 0) + delta;
+        stepContext.putInt(key, value);
+        return value;
+    }
+    
+    /**
+     * Step ExecutionContext에서 Integer 값 조회 (기본값 포함)
+     */
+    public static Integer getIntFromStepContext(StepExecution stepExecution, String key, Integer defaultValue) {
+        Integer value = getFromStepContext(stepExecution, key, Integer.class);
+        return value != null ? value : defaultValue;
+    }
+    
+    /**
+     * 파티션 Step들의 카운터를 마스터 Step ExecutionContext에 합산
+     *
+     * 파티션별 최신 값을 "key.파티션Step이름"으로 덮어쓴 뒤 전체 합계를 key에 저장한다.
+     * 재시작 시 다시 실행된 파티션만 넘어와도 완료된 파티션의 값이 남아 있어 합계가 중복되거나 빠지지 않는다.
+     *
+     * @return 전체 합계
+     */
+    public static int aggregatePartitionCounts(StepExecution masterExecution,
+                                               Collection<StepExecution> partitionExecutions, String key) {
+        ExecutionContext masterContext = masterExecution.getExecutionContext();
+        String prefix = key + ".";
+        for (StepExecution partition : partitionExecutions) {
+            masterContext.putInt(prefix + partition.getStepName(), partition.getExecutionContext().getInt(key, 0));
+        }
+
+        int total = 0;
+        for (Map.Entry<String, Object> entry : masterContext.entrySet()) {
+            if (entry.getKey().startsWith(prefix) && entry.getValue() instanceof Integer) {
+                total += (Integer) entry.getValue();
+            }
+        }
+        masterContext.putInt(key, total);
+        return total;
+    }
+    
+    /**
+     * 큰 값(긴 문자열, 큰 컬렉션/배열)이 ExecutionContext에 들어가지 않도록 막음
+     */
+    static void checkSize(String key, Object value) {
+        int size;
+        int limit;
+        if (value instanceof CharSequence) {
+            size = ((CharSequence) value).length();
+            limit = MAX_STRING_LENGTH;
+        } else if (value instanceof Collection) {
+            size = ((Collection<?>) value).size();
+            limit = MAX_COLLECTION_SIZE;
+        } else if (value instanceof Map) {
+            size = ((Map<?, ?>) value).size();
+            limit = MAX_COLLECTION_SIZE;
+        } else if (value != null && value.getClass().isArray()) {
+            size = Array.getLength(value);
+            limit = MAX_COLLECTION_SIZE;
+        } else {
+            return;
+        }
+        if (size > limit) {
+            throw new IllegalArgumentException("ExecutionContext에 넣기에는 값이 너무 큽니다: " + key +
+                    " (크기 " + size + ", 최대 " + limit + ") - DB 테이블에 저장하고 ID만 넣으세요");
+        }
+    }
+    
     // private constructor to prevent instantiation
     private ExecutionContextUtil() {
         throw new UnsupportedOperationException("Utility class");
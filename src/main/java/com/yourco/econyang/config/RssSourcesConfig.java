@@ -63,6 +63,8 @@ public class RssSourcesConfig {
         private String category;
         private int updateIntervalMinutes = 30;
         private int priority = 1;
+        private IdRuleConfig idRule;
+        private ExtractionConfig extraction;
 
         // Getters and Setters
         public String getName() {
@@ -120,6 +122,81 @@ public class RssSourcesConfig {
         public void setPriority(int priority) {
             this.priority = priority;
         }
+
+        public IdRuleConfig getIdRule() {
+            return idRule;
+        }
+
+        public void setIdRule(IdRuleConfig idRule) {
+            this.idRule = idRule;
+        }
+
+        public ExtractionConfig getExtraction() {
+            return extraction;
+        }
+
+        public void setExtraction(ExtractionConfig extraction) {
+            this.extraction = extraction;
+        }
+    }
+
+    /**
+     * 기사 고유 ID 추출 규칙 설정 (코드 변경 없이 소스별 규칙 선언)
+     */
+    public static class IdRuleConfig {
+        private String host;
+        private String pattern;
+        private String prefix;
+
+        // Getters and Setters
+        public String getHost() {
+            return host;
+        }
+
+        public void setHost(String host) {
+            this.host = host;
+        }
+
+        public String getPattern() {
+            return pattern;
+        }
+
+        public void setPattern(String pattern) {
+            this.pattern = pattern;
+        }
+
+        public String getPrefix() {
+            return prefix;
+        }
+
+        public void setPrefix(String prefix) {
+            this.prefix = prefix;
+        }
+    }
+
+    /**
+     * 본문 추출 재정의 설정 (기본은 텍스트/링크 밀도 기반 자동 추출)
+     */
+    public static class ExtractionConfig {
+        private String contentSelector;
+        private List<String> skipClasses = new ArrayList<>();
+
+        // Getters and Setters
+        public String getContentSelector() {
+            return contentSelector;
+        }
+
+        public void setContentSelector(String contentSelector) {
+            this.contentSelector = contentSelector;
+        }
+
+        public List<String> getSkipClasses() {
+            return skipClasses;
+        }
+
+        public void setSkipClasses(List<String> skipClasses) {
+            this.skipClasses = skipClasses;
+        }
     }
 
     /**
@@ -243,6 +320,10 @@ public class RssSourcesConfig {
         private boolean enableTitleDedup = true;
         private double titleSimilarityThreshold = 0.85;
         private boolean dedupWithinSourceOnly = false;
+        // 어휘 기반 임베딩이라 같은 어휘의 다른 사건(금리 인상/동결)이 묶일 수 있어 임계값 검증 전까지 기본 비활성
+        private boolean enableSemanticDedup = false;
+        private double semanticSimilarityThreshold = 0.45;
+        private String embeddingWeightsPath;
 
         // Getters and Setters
         public boolean isEnableUrlDedup() {
@@ -276,6 +357,30 @@ public class RssSourcesConfig {
         public void setDedupWithinSourceOnly(boolean dedupWithinSourceOnly) {
             this.dedupWithinSourceOnly = dedupWithinSourceOnly;
         }
+
+        public boolean isEnableSemanticDedup() {
+            return enableSemanticDedup;
+        }
+
+        public void setEnableSemanticDedup(boolean enableSemanticDedup) {
+            this.enableSemanticDedup = enableSemanticDedup;
+        }
+
+        public double getSemanticSimilarityThreshold() {
+            return semanticSimilarityThreshold;
+        }
+
+        public void setSemanticSimilarityThreshold(double semanticSimilarityThreshold) {
+            this.semanticSimilarityThreshold = semanticSimilarityThreshold;
+        }
+
+        public String getEmbeddingWeightsPath() {
+            return embeddingWeightsPath;
+        }
+
+        public void setEmbeddingWeightsPath(String embeddingWeightsPath) {
+            this.embeddingWeightsPath = embeddingWeightsPath;
+        }
     }
 
     /**
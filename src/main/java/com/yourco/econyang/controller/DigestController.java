@@ -0,0 +1,46 @@
+package com.yourco.econyang.controller;
+
+import com.yourco.econyang.service.DailyDigestService;
+import com.yourco.econyang.service.DigestTemplateService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+
+/**
+ * 저장된 다이제스트 조회 API (S4_RANK_COMPOSE가 렌더링해 둔 결과를 그대로 반환)
+ *
+ * GET /api/digests/2024-05-01                → 마크다운
+ * GET /api/digests/2024-05-01?format=html    → digest.formats에 설정된 형식 (html, json, text ...)
+ */
+@RestController
+@RequestMapping("/api/digests")
+public class DigestController {
+
+    private final DailyDigestService dailyDigestService;
+    private final DigestTemplateService digestTemplateService;
+
+    @Autowired
+    public DigestController(DailyDigestService dailyDigestService, DigestTemplateService digestTemplateService) {
+        this.dailyDigestService = dailyDigestService;
+        this.digestTemplateService = digestTemplateService;
+    }
+
+    @GetMapping("/{date}")
+    public ResponseEntity<String> getDigest(
+            @PathVariable("date") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @RequestParam(value = "format", defaultValue = DigestTemplateService.FORMAT_MARKDOWN) String format) {
+        return dailyDigestService.findRendition(date, format)
+                .map(body -> ResponseEntity.ok()
+                        .header(HttpHeaders.CONTENT_TYPE, digestTemplateService.getMimeType(format))
+                        .body(body))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
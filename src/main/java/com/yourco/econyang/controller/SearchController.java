@@ -0,0 +1,60 @@
+package com.yourco.econyang.controller;
+
+import com.yourco.econyang.dto.SearchHit;
+import com.yourco.econyang.dto.SearchPage;
+import com.yourco.econyang.service.SearchService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 기사/요약 검색 API
+ *
+ * GET /api/search/articles?q=금리 인상&from=2024-01-01&to=2024-12-31&page=0&size=20 (page 최대 200, size 최대 50)
+ * GET /api/search/summaries?q=환율
+ * GET /api/search/similar-titles?title=한은 기준금리 동결&limit=10
+ */
+@RestController
+@RequestMapping("/api/search")
+public class SearchController {
+
+    private final SearchService searchService;
+
+    @Autowired
+    public SearchController(SearchService searchService) {
+        this.searchService = searchService;
+    }
+
+    @GetMapping("/articles")
+    public SearchPage<SearchHit> searchArticles(
+            @RequestParam("q") String query,
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        return searchService.searchArticles(query, from, to, page, size);
+    }
+
+    @GetMapping("/summaries")
+    public SearchPage<SearchHit> searchSummaries(
+            @RequestParam("q") String query,
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        return searchService.searchSummaries(query, from, to, page, size);
+    }
+
+    @GetMapping("/similar-titles")
+    public List<SearchHit> findSimilarTitles(
+            @RequestParam("title") String title,
+            @RequestParam(value = "limit", defaultValue = "10") int limit) {
+        return searchService.findSimilarTitles(title, limit);
+    }
+}
@@ -60,6 +60,19 @@ public class Article {
         this.createdAt = LocalDateTime.now();
     }
 
+    /**
+     * 조회용 사본 (헤더 필드만 채움, 본문 없음, 영속 상태 아님)
+     */
+    public static Article view(Long id, String source, String url, String title,
+                               String author, LocalDateTime publishedAt) {
+        Article article = new Article(source, url, title);
+        article.id = id;
+        article.author = author;
+        article.publishedAt = publishedAt;
+        article.createdAt = null;
+        return article;
+    }
+
     @PrePersist
     protected void onCreate() {
         if (createdAt == null) {
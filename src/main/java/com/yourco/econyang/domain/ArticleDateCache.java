@@ -32,7 +32,7 @@ public class ArticleDateCache {
     private LocalDateTime extractedDate;
     
     @Column(name = "extraction_method", length = 50, nullable = false)
-    private String extractionMethod; // "url", "meta", "regex", "pattern"
+    private String extractionMethod; // "url", "meta", "json_ld", "regex", "pattern"
     
     @Column(name = "confidence_score", nullable = false)
     private Double confidenceScore; // 0.0 ~ 1.0
@@ -4,7 +4,9 @@ import javax.persistence.*;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -14,6 +16,8 @@ import java.util.Objects;
 @Table(name = "daily_digest")
 public class DailyDigest {
 
+    public static final String MARKDOWN_FORMAT = "markdown";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -42,6 +46,13 @@ public class DailyDigest {
     @OneToMany(mappedBy = "digest", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<DispatchLog> dispatchLogs = new ArrayList<>();
 
+    // 마크다운 외 형식별 렌더링 결과 (형식 → 본문), 마크다운은 bodyMarkdown
+    @ElementCollection
+    @CollectionTable(name = "daily_digest_renditions", joinColumns = @JoinColumn(name = "digest_id"))
+    @MapKeyColumn(name = "format", length = 20)
+    @Column(name = "body", nullable = false, columnDefinition = "TEXT")
+    private Map<String, String> renditions = new HashMap<>();
+
     protected DailyDigest() {
     }
 
@@ -104,6 +115,10 @@ public class DailyDigest {
         return dispatchLogs;
     }
 
+    public Map<String, String> getRenditions() {
+        return renditions;
+    }
+
     // Setters
     public void setDigestDate(LocalDate digestDate) {
         this.digestDate = digestDate;
@@ -144,6 +159,20 @@ public class DailyDigest {
         dispatchLog.setDigest(null);
     }
 
+    /**
+     * 렌더링 결과 교체 (markdown 키는 bodyMarkdown, 나머지는 형식별 결과로 저장)
+     */
+    public void updateRenditions(Map<String, String> rendered) {
+        renditions.clear();
+        for (Map.Entry<String, String> entry : rendered.entrySet()) {
+            if (MARKDOWN_FORMAT.equals(entry.getKey())) {
+                this.bodyMarkdown = entry.getValue();
+            } else if (entry.getValue() != null) {
+                renditions.put(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
     public void updateCounts(int articleCount, int summaryCount) {
         this.totalArticles = articleCount;
         this.totalSummaries = summaryCount;
@@ -3,6 +3,7 @@ package com.yourco.econyang.domain;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.yourco.econyang.util.SectorFeatureExtractor;
 import com.vladmihalcea.hibernate.type.array.IntArrayType;
 import com.vladmihalcea.hibernate.type.array.StringArrayType;
 import com.vladmihalcea.hibernate.type.json.JsonBinaryType;
@@ -67,6 +68,17 @@ public class Summary {
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
+    // 랭킹용 사전 계산 값 (저장 시 SectorFeatureExtractor로 계산, 이전에 저장된 요약은 null)
+    @Column(name = "sector", length = 40)
+    private String sector;
+
+    @Column(name = "keyword_weight")
+    private Double keywordWeight;
+
+    // SUMMARY_DEDUP Job이 기록 (엔티티에서는 읽기 전용)
+    @Column(name = "duplicate_of_id", insertable = false, updatable = false)
+    private Long duplicateOfId;
+
     protected Summary() {
     }
 
@@ -78,11 +90,45 @@ public class Summary {
         this.createdAt = LocalDateTime.now();
     }
 
+    /**
+     * 다이제스트 조회용 사본 (영속 상태 아님, 저장하지 않는다)
+     */
+    public static Summary digestView(Long id, Article article, String model, String summaryText,
+                                     String whyItMatters, String[] bullets, BigDecimal score,
+                                     LocalDateTime createdAt, String sector, Double keywordWeight,
+                                     Long duplicateOfId) {
+        Summary summary = new Summary(article, model, summaryText, whyItMatters);
+        summary.id = id;
+        summary.bullets = bullets;
+        summary.score = score;
+        summary.createdAt = createdAt;
+        summary.sector = sector;
+        summary.keywordWeight = keywordWeight;
+        summary.duplicateOfId = duplicateOfId;
+        return summary;
+    }
+
     @PrePersist
     protected void onCreate() {
         if (createdAt == null) {
             createdAt = LocalDateTime.now();
         }
+        computeRankingFeatures();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        computeRankingFeatures();
+    }
+
+    /**
+     * 섹터/키워드 가중치 계산 (제목, 요약, 왜 중요한가, 핵심 포인트 기준)
+     */
+    public void computeRankingFeatures() {
+        SectorFeatureExtractor.Features features = SectorFeatureExtractor.extract(
+                article != null ? article.getTitle() : null, summaryText, whyItMatters, getBulletsList());
+        this.sector = features.getSector();
+        this.keywordWeight = features.getKeywordWeight();
     }
 
     // Getters
@@ -126,6 +172,18 @@ public class Summary {
         return createdAt;
     }
 
+    public String getSector() {
+        return sector;
+    }
+
+    public Double getKeywordWeight() {
+        return keywordWeight;
+    }
+
+    public Long getDuplicateOfId() {
+        return duplicateOfId;
+    }
+
     // Setters
     public void setArticle(Article article) {
         this.article = article;
@@ -0,0 +1,35 @@
+package com.yourco.econyang.dto;
+
+import com.yourco.econyang.domain.Article;
+
+import java.time.LocalDateTime;
+
+/**
+ * 기사 헤더 + 본문 조회 모델 (AI 요약처럼 본문이 필요한 단계용)
+ */
+public class ArticleBody extends ArticleHeader {
+
+    private final String content;
+
+    public ArticleBody(Long id, String source, String url, String title,
+                       String author, LocalDateTime publishedAt, String rawExcerpt, String content) {
+        super(id, source, url, title, author, publishedAt, rawExcerpt);
+        this.content = content;
+    }
+
+    public static ArticleBody of(Article article) {
+        return new ArticleBody(article.getId(), article.getSource(), article.getUrl(), article.getTitle(),
+                article.getAuthor(), article.getPublishedAt(), article.getRawExcerpt(), article.getContent());
+    }
+
+    @Override
+    public Article toArticle() {
+        Article article = super.toArticle();
+        article.setContent(content);
+        return article;
+    }
+
+    public String getContent() {
+        return content;
+    }
+}
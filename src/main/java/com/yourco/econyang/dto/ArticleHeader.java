@@ -0,0 +1,74 @@
+package com.yourco.econyang.dto;
+
+import com.yourco.econyang.domain.Article;
+
+import java.time.LocalDateTime;
+
+/**
+ * 기사 헤더 조회 모델 (본문 없이 수집 메타데이터만)
+ *
+ * 본문 추출처럼 URL/제목만 있으면 되는 단계에서 content(TEXT) 컬럼을 읽지 않도록 쓴다.
+ */
+public class ArticleHeader {
+
+    private final Long id;
+    private final String source;
+    private final String url;
+    private final String title;
+    private final String author;
+    private final LocalDateTime publishedAt;
+    private final String rawExcerpt;
+
+    public ArticleHeader(Long id, String source, String url, String title,
+                         String author, LocalDateTime publishedAt, String rawExcerpt) {
+        this.id = id;
+        this.source = source;
+        this.url = url;
+        this.title = title;
+        this.author = author;
+        this.publishedAt = publishedAt;
+        this.rawExcerpt = rawExcerpt;
+    }
+
+    public static ArticleHeader of(Article article) {
+        return new ArticleHeader(article.getId(), article.getSource(), article.getUrl(), article.getTitle(),
+                article.getAuthor(), article.getPublishedAt(), article.getRawExcerpt());
+    }
+
+    /**
+     * 결과 저장/요약 생성용 Article 사본 (영속 상태 아님, ID로만 연결됨)
+     */
+    public Article toArticle() {
+        Article article = Article.view(id, source, url, title, author, publishedAt);
+        article.setRawExcerpt(rawExcerpt);
+        return article;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getAuthor() {
+        return author;
+    }
+
+    public LocalDateTime getPublishedAt() {
+        return publishedAt;
+    }
+
+    public String getRawExcerpt() {
+        return rawExcerpt;
+    }
+}
@@ -0,0 +1,130 @@
+package com.yourco.econyang.dto;
+
+import com.yourco.econyang.domain.Article;
+import com.yourco.econyang.domain.Summary;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 다이제스트 랭킹/렌더링용 요약 조회 결과 (요약 + 기사 헤더를 JOIN 한 번으로)
+ *
+ * 기사 본문(content) 등 다이제스트에 쓰지 않는 컬럼은 조회하지 않는다.
+ * 기존 랭킹/템플릿 코드는 Summary를 받으므로 toSummary()로 지연 로딩 없는 사본을 만들어 넘긴다.
+ */
+public class DigestSummaryRow {
+
+    private final Long summaryId;
+    private final String model;
+    private final String summaryText;
+    private final String whyItMatters;
+    private final String[] bullets;
+    private final BigDecimal score;
+    private final LocalDateTime createdAt;
+    private final String sector;
+    private final Double keywordWeight;
+    private final Long duplicateOfId;
+
+    private final Long articleId;
+    private final String source;
+    private final String url;
+    private final String title;
+    private final String author;
+    private final LocalDateTime publishedAt;
+
+    public DigestSummaryRow(Long summaryId, String model, String summaryText, String whyItMatters,
+                            String[] bullets, BigDecimal score, LocalDateTime createdAt,
+                            String sector, Double keywordWeight, Long duplicateOfId,
+                            Long articleId, String source, String url, String title,
+                            String author, LocalDateTime publishedAt) {
+        this.summaryId = summaryId;
+        this.model = model;
+        this.summaryText = summaryText;
+        this.whyItMatters = whyItMatters;
+        this.bullets = bullets;
+        this.score = score;
+        this.createdAt = createdAt;
+        this.sector = sector;
+        this.keywordWeight = keywordWeight;
+        this.duplicateOfId = duplicateOfId;
+        this.articleId = articleId;
+        this.source = source;
+        this.url = url;
+        this.title = title;
+        this.author = author;
+        this.publishedAt = publishedAt;
+    }
+
+    /**
+     * 랭킹/템플릿에 넘길 Summary 사본 (기사 포함, 본문 없음)
+     */
+    public Summary toSummary() {
+        Article article = Article.view(articleId, source, url, title, author, publishedAt);
+        return Summary.digestView(summaryId, article, model, summaryText, whyItMatters, bullets, score, createdAt,
+                sector, keywordWeight, duplicateOfId);
+    }
+
+    public Long getSummaryId() {
+        return summaryId;
+    }
+
+    public String getModel() {
+        return model;
+    }
+
+    public String getSummaryText() {
+        return summaryText;
+    }
+
+    public String getWhyItMatters() {
+        return whyItMatters;
+    }
+
+    public String[] getBullets() {
+        return bullets;
+    }
+
+    public BigDecimal getScore() {
+        return score;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public String getSector() {
+        return sector;
+    }
+
+    public Double getKeywordWeight() {
+        return keywordWeight;
+    }
+
+    public Long getDuplicateOfId() {
+        return duplicateOfId;
+    }
+
+    public Long getArticleId() {
+        return articleId;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getAuthor() {
+        return author;
+    }
+
+    public LocalDateTime getPublishedAt() {
+        return publishedAt;
+    }
+}
@@ -0,0 +1,74 @@
+package com.yourco.econyang.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 검색 결과 한 건 (기사 검색이면 summaryId/score가 null)
+ *
+ * snippet은 기사 검색이면 발췌(raw_excerpt), 요약 검색이면 요약 본문이다.
+ */
+public class SearchHit {
+
+    private final Long articleId;
+    private final Long summaryId;
+    private final String source;
+    private final String url;
+    private final String title;
+    private final String snippet;
+    private final LocalDateTime publishedAt;
+    private final BigDecimal score;
+    private final double rank;
+
+    public SearchHit(Long articleId, Long summaryId, String source, String url, String title, String snippet,
+                     LocalDateTime publishedAt, BigDecimal score, double rank) {
+        this.articleId = articleId;
+        this.summaryId = summaryId;
+        this.source = source;
+        this.url = url;
+        this.title = title;
+        this.snippet = snippet;
+        this.publishedAt = publishedAt;
+        this.score = score;
+        this.rank = rank;
+    }
+
+    public Long getArticleId() {
+        return articleId;
+    }
+
+    public Long getSummaryId() {
+        return summaryId;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getSnippet() {
+        return snippet;
+    }
+
+    public LocalDateTime getPublishedAt() {
+        return publishedAt;
+    }
+
+    public BigDecimal getScore() {
+        return score;
+    }
+
+    /**
+     * 검색 관련도 (전문 검색은 ts_rank_cd, 유사 제목 검색은 트라이그램 유사도)
+     */
+    public double getRank() {
+        return rank;
+    }
+}
@@ -0,0 +1,44 @@
+package com.yourco.econyang.dto;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 검색 결과 페이지
+ *
+ * 수년치 데이터에서 전체 건수를 세면 일치하는 행을 모두 훑어야 하므로 총 건수 대신 다음 페이지 존재 여부만 준다.
+ */
+public class SearchPage<T> {
+
+    private final List<T> items;
+    private final int page;
+    private final int size;
+    private final boolean hasNext;
+
+    public SearchPage(List<T> items, int page, int size, boolean hasNext) {
+        this.items = items;
+        this.page = page;
+        this.size = size;
+        this.hasNext = hasNext;
+    }
+
+    public static <T> SearchPage<T> empty(int page, int size) {
+        return new SearchPage<>(Collections.<T>emptyList(), page, size, false);
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public boolean isHasNext() {
+        return hasNext;
+    }
+}
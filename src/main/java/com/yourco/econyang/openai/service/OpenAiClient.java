@@ -133,6 +133,28 @@ public class OpenAiClient {
         }
     }
     
+    /**
+     * 지시문 그대로 단순 완성 요청 (분류/채점 등 요약 이외 용도)
+     *
+     * @return 응답 본문, API 키가 없으면 null (호출 실패 시 예외)
+     */
+    public String generateCompletion(String systemPrompt, String userPrompt, int maxTokens) {
+        if (isApiKeyMissing()) {
+            return null;
+        }
+        
+        List<ChatMessage> messages = Arrays.asList(
+            ChatMessage.system(systemPrompt),
+            ChatMessage.user(userPrompt)
+        );
+        
+        ChatCompletionRequest request = new ChatCompletionRequest(modelSmall, messages);
+        request.setTemperature(0.0);
+        request.setMaxTokens(maxTokens);
+        
+        return callChatCompletions(request).getFirstChoiceContent();
+    }
+    
     /**
      * API 키 확인
      */
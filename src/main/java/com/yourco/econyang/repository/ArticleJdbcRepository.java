@@ -0,0 +1,69 @@
+package com.yourco.econyang.repository;
+
+import com.yourco.econyang.domain.Article;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 기사 일괄 갱신용 JDBC 리포지토리
+ *
+ * JPA saveAll은 준영속 기사마다 SELECT(merge) + 전체 컬럼 UPDATE를 하므로,
+ * 이미 ID를 알고 있는 추출 결과는 필요한 컬럼만 JDBC 배치 한 번으로 갱신한다.
+ */
+@Repository
+public class ArticleJdbcRepository {
+
+    private static final String UPDATE_EXTRACTION_RESULT =
+            "UPDATE articles SET content = ?, extracted_at = ?, extract_error = ? WHERE id = ?";
+
+    // extract_error 컬럼 길이 (V7/V10 마이그레이션: VARCHAR(500))
+    static final int MAX_EXTRACT_ERROR_LENGTH = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ArticleJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 본문 추출 결과(content, extracted_at, extract_error)를 ID 기준으로 일괄 갱신
+     *
+     * @return 갱신된 행 수
+     */
+    public int updateExtractionResults(List<Article> articles) {
+        List<Object[]> rows = new ArrayList<>(articles.size());
+        for (Article article : articles) {
+            if (article.getId() == null) {
+                continue;
+            }
+            rows.add(new Object[]{
+                    article.getContent(),
+                    article.getExtractedAt() != null ? Timestamp.valueOf(article.getExtractedAt()) : null,
+                    truncate(article.getExtractError()),
+                    article.getId()
+            });
+        }
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        int updated = 0;
+        for (int count : jdbcTemplate.batchUpdate(UPDATE_EXTRACTION_RESULT, rows)) {
+            // 드라이버가 건수를 돌려주지 않으면 SUCCESS_NO_INFO(-2)
+            updated += count > 0 ? count : (count == Statement.SUCCESS_NO_INFO ? 1 : 0);
+        }
+        return updated;
+    }
+
+    private static String truncate(String value) {
+        if (value == null || value.length() <= MAX_EXTRACT_ERROR_LENGTH) {
+            return value;
+        }
+        return value.substring(0, MAX_EXTRACT_ERROR_LENGTH);
+    }
+}
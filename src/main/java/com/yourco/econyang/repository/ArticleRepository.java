@@ -1,6 +1,8 @@
 package com.yourco.econyang.repository;
 
 import com.yourco.econyang.domain.Article;
+import com.yourco.econyang.dto.ArticleBody;
+import com.yourco.econyang.dto.ArticleHeader;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -8,6 +10,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -100,4 +103,28 @@ public interface ArticleRepository extends JpaRepository<Article, Long> {
            "AND LENGTH(TRIM(a.rawExcerpt)) > 0 " +
            "ORDER BY COALESCE(a.publishedAt, a.createdAt) DESC")
     List<Article> findArticlesWithContent();
-}
\ No newline at end of file
+
+    /**
+     * ID 목록으로 기사 헤더 조회 (본문 컬럼 제외)
+     */
+    @Query("SELECT new com.yourco.econyang.dto.ArticleHeader(" +
+           "a.id, a.source, a.url, a.title, a.author, a.publishedAt, a.rawExcerpt) " +
+           "FROM Article a WHERE a.id IN :ids")
+    List<ArticleHeader> findHeadersByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * ID 목록 중 본문이 아직 없는 기사의 헤더 조회 (본문 추출 대상)
+     */
+    @Query("SELECT new com.yourco.econyang.dto.ArticleHeader(" +
+           "a.id, a.source, a.url, a.title, a.author, a.publishedAt, a.rawExcerpt) " +
+           "FROM Article a WHERE a.id IN :ids AND a.content IS NULL")
+    List<ArticleHeader> findUnextractedHeadersByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * ID 목록 중 본문이 있는 기사의 헤더 + 본문 조회 (AI 요약 대상)
+     */
+    @Query("SELECT new com.yourco.econyang.dto.ArticleBody(" +
+           "a.id, a.source, a.url, a.title, a.author, a.publishedAt, a.rawExcerpt, a.content) " +
+           "FROM Article a WHERE a.id IN :ids AND a.content IS NOT NULL")
+    List<ArticleBody> findBodiesWithContentByIdIn(@Param("ids") Collection<Long> ids);
+}
@@ -103,6 +103,25 @@ public interface DailyDigestRepository extends JpaRepository<DailyDigest, Long>
            "ORDER BY YEAR(d.digestDate) DESC, MONTH(d.digestDate) DESC")
     List<Object[]> getMonthlyStatistics();
 
+    /**
+     * 저장된 형식별 렌더링 결과 조회 (다이제스트 엔티티/다른 형식은 읽지 않음)
+     */
+    @Query("SELECT VALUE(r) FROM DailyDigest d JOIN d.renditions r " +
+           "WHERE d.id = :id AND KEY(r) = :format")
+    Optional<String> findRendition(@Param("id") Long id, @Param("format") String format);
+
+    /**
+     * 마크다운 본문만 조회
+     */
+    @Query("SELECT d.bodyMarkdown FROM DailyDigest d WHERE d.id = :id")
+    Optional<String> findBodyMarkdown(@Param("id") Long id);
+
+    /**
+     * 날짜로 다이제스트 ID 조회
+     */
+    @Query("SELECT d.id FROM DailyDigest d WHERE d.digestDate = :digestDate")
+    Optional<Long> findIdByDigestDate(@Param("digestDate") LocalDate digestDate);
+
     /**
      * 다이제스트 카운트 업데이트
      */
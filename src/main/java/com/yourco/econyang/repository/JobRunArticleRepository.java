@@ -0,0 +1,131 @@
+package com.yourco.econyang.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Job 실행별 처리 대상 기사 작업 테이블 (job_run_articles) 리포지토리
+ *
+ * 기사 ID 목록은 ExecutionContext에 넣으면 커밋마다 통째로 직렬화되므로 여기에 두고,
+ * ExecutionContext에는 runId(목록을 만든 Job 실행 ID)만 남긴다. 읽기/상태 갱신은 모두 JDBC 배치로 한 번에 처리한다.
+ */
+@Repository
+public class JobRunArticleRepository {
+
+    public enum Stage {
+        FETCH, EXTRACT, SUMMARIZE
+    }
+
+    public enum Status {
+        DONE, SKIPPED, FAILED
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    public JobRunArticleRepository() {
+    }
+
+    public JobRunArticleRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 실행의 기사 목록 등록 (순번은 목록 순서, 같은 runId로 다시 등록하면 기존 목록을 교체)
+     * 중복 ID는 처음 나온 위치만 남긴다 (PK가 (run_id, article_id)).
+     */
+    public int register(long runId, List<Long> articleIds) {
+        jdbcTemplate.update("DELETE FROM job_run_articles WHERE run_id = ?", runId);
+        if (articleIds.isEmpty()) {
+            return 0;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Set<Long> uniqueIds = new LinkedHashSet<>(articleIds);
+        List<Object[]> rows = new ArrayList<>(uniqueIds.size());
+        int seq = 0;
+        for (Long articleId : uniqueIds) {
+            rows.add(new Object[]{runId, articleId, seq++, Stage.FETCH.name(), Status.DONE.name(), now});
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO job_run_articles (run_id, article_id, seq, stage, status, updated_at) VALUES (?, ?, ?, ?, ?, ?)",
+                rows);
+        return rows.size();
+    }
+
+    /**
+     * 실행의 전체 기사 ID (등록 순서)
+     */
+    public List<Long> findArticleIds(long runId) {
+        return jdbcTemplate.queryForList(
+                "SELECT article_id FROM job_run_articles WHERE run_id = ? ORDER BY seq", Long.class, runId);
+    }
+
+    /**
+     * 순번 구간 [fromIndex, toIndex)의 기사 ID (파티션 처리용)
+     */
+    public List<Long> findArticleIds(long runId, int fromIndex, int toIndex) {
+        return jdbcTemplate.queryForList(
+                "SELECT article_id FROM job_run_articles WHERE run_id = ? AND seq >= ? AND seq < ? ORDER BY seq",
+                Long.class, runId, fromIndex, toIndex);
+    }
+
+    public int count(long runId) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM job_run_articles WHERE run_id = ?", Integer.class, runId);
+        return count != null ? count : 0;
+    }
+
+    /**
+     * 단계 처리 결과 일괄 갱신
+     */
+    public void markStage(long runId, List<Long> articleIds, Stage stage, Status status) {
+        if (articleIds.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(articleIds.size());
+        for (Long articleId : articleIds) {
+            rows.add(new Object[]{stage.name(), status.name(), now, runId, articleId});
+        }
+        jdbcTemplate.batchUpdate(
+                "UPDATE job_run_articles SET stage = ?, status = ?, updated_at = ? WHERE run_id = ? AND article_id = ?",
+                rows);
+    }
+
+    public int countByStage(long runId, Stage stage, Status status) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM job_run_articles WHERE run_id = ? AND stage = ? AND status = ?",
+                Integer.class, runId, stage.name(), status.name());
+        return count != null ? count : 0;
+    }
+
+    /**
+     * 실행 대상 중 본문이 있는 기사 수 (이번 실행에서 추출했거나 이전에 이미 추출된 기사)
+     */
+    public int countWithContent(long runId) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM job_run_articles r JOIN articles a ON a.id = r.article_id " +
+                        "WHERE r.run_id = ? AND a.content IS NOT NULL",
+                Integer.class, runId);
+        return count != null ? count : 0;
+    }
+
+    /**
+     * 마지막 갱신이 threshold 이전인 실행의 기록 삭제 (실행 단위로 통째로 지움)
+     */
+    public int deleteRunsBefore(LocalDateTime threshold) {
+        return jdbcTemplate.update(
+                "DELETE FROM job_run_articles WHERE run_id IN " +
+                        "(SELECT run_id FROM job_run_articles GROUP BY run_id HAVING MAX(updated_at) < ?)",
+                Timestamp.valueOf(threshold));
+    }
+}
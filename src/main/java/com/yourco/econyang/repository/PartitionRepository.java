@@ -0,0 +1,155 @@
+package com.yourco.econyang.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 월 단위 범위 파티션 테이블 (articles, summaries, article_date_cache) 관리 리포지토리
+ *
+ * 파티션 이름은 {부모 테이블}_p{YYYYMM} 규칙을 따른다 (V10 마이그레이션의 create_monthly_partition 함수).
+ * 자연 키 유일성은 파티션이 아닌 키 테이블(V15: article_urls 등)이 트리거로 보장한다.
+ * PostgreSQL 전용 기능이므로 다른 DB(테스트용 H2 등)에서는 isPartitioned()가 false를 반환한다.
+ */
+@Repository
+public class PartitionRepository {
+
+    private static final DateTimeFormatter SUFFIX_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Boolean postgres;
+
+    public PartitionRepository() {
+    }
+
+    public PartitionRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 월 파티션 하나
+     */
+    public static final class MonthlyPartition {
+        private final String name;
+        private final YearMonth month;
+
+        public MonthlyPartition(String name, YearMonth month) {
+            this.name = name;
+            this.month = month;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public YearMonth getMonth() {
+            return month;
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
+    /**
+     * 테이블이 파티션 테이블인지 여부
+     */
+    public boolean isPartitioned(String table) {
+        if (!isPostgres()) {
+            return false;
+        }
+        Boolean partitioned = jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM pg_partitioned_table pt JOIN pg_class c ON c.oid = pt.partrelid " +
+                        "WHERE c.relname = ? AND pg_table_is_visible(c.oid))",
+                Boolean.class, table);
+        return Boolean.TRUE.equals(partitioned);
+    }
+
+    /**
+     * 현재 월부터 monthsAhead개월 뒤까지 파티션 생성 (이미 있는 파티션은 그대로)
+     */
+    public void ensureMonthlyPartitions(String table, int monthsAhead) {
+        jdbcTemplate.queryForObject("SELECT ensure_monthly_partitions(?, ?, ?)", Integer.class,
+                table, Date.valueOf(LocalDate.now()), monthsAhead);
+    }
+
+    /**
+     * 테이블의 월 파티션 목록 (오래된 순, 이름 규칙에 맞지 않는 파티션은 제외)
+     */
+    public List<MonthlyPartition> findMonthlyPartitions(String table) {
+        List<String> names = jdbcTemplate.queryForList(
+                "SELECT c.relname FROM pg_inherits i " +
+                        "JOIN pg_class c ON c.oid = i.inhrelid " +
+                        "JOIN pg_class p ON p.oid = i.inhparent " +
+                        "WHERE p.relname = ? AND pg_table_is_visible(p.oid) ORDER BY c.relname",
+                String.class, table);
+
+        List<MonthlyPartition> partitions = new ArrayList<>();
+        for (String name : names) {
+            YearMonth month = parseMonth(table, name);
+            if (month != null) {
+                partitions.add(new MonthlyPartition(name, month));
+            }
+        }
+        return partitions;
+    }
+
+    /**
+     * 파티션 삭제 (부모 테이블에서 떼어낸 뒤 DROP, 행 단위 삭제 없이 메타데이터만 변경)
+     */
+    public void dropPartition(String table, MonthlyPartition partition) {
+        jdbcTemplate.execute("ALTER TABLE " + quote(table) + " DETACH PARTITION " + quote(partition.getName()));
+        jdbcTemplate.execute("DROP TABLE " + quote(partition.getName()));
+    }
+
+    /**
+     * 키 테이블에서 before 이전에 생성된 행 삭제 (파티션 DROP은 행 트리거가 돌지 않으므로 함께 정리)
+     */
+    public int deleteKeysCreatedBefore(String keyTable, LocalDateTime before) {
+        return jdbcTemplate.update("DELETE FROM " + quote(keyTable) + " WHERE created_at < ?",
+                Timestamp.valueOf(before));
+    }
+
+    /**
+     * 파티션 이름에서 월 추출 ({table}_pYYYYMM 형식이 아니면 null)
+     */
+    static YearMonth parseMonth(String table, String partitionName) {
+        Matcher matcher = Pattern.compile(Pattern.quote(table) + "_p(\\d{6})").matcher(partitionName);
+        if (!matcher.matches()) {
+            return null;
+        }
+        try {
+            return YearMonth.parse(matcher.group(1), SUFFIX_FORMAT);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private boolean isPostgres() {
+        if (postgres == null) {
+            String product = jdbcTemplate.execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            postgres = product != null && product.toLowerCase().contains("postgresql");
+        }
+        return postgres;
+    }
+
+    private static String quote(String identifier) {
+        return "\"" + identifier.replace("\"", "\"\"") + "\"";
+    }
+}
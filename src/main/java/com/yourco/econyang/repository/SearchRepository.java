@@ -0,0 +1,123 @@
+package com.yourco.econyang.repository;
+
+import com.yourco.econyang.dto.SearchHit;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 기사/요약 검색 리포지토리 (PostgreSQL 전용)
+ *
+ * 전문 검색은 search_vector 생성 컬럼의 GIN 인덱스(V11), 유사 제목 검색은 title 트라이그램 인덱스를 탄다.
+ * 기간(from/to)을 주면 created_at 조건이 붙어 해당 월 파티션만 읽는다.
+ * LIKE '%검색어%' 전체 스캔을 하던 리포지토리 메서드 대신 사용한다.
+ */
+@Repository
+public class SearchRepository {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    public SearchRepository() {
+    }
+
+    public SearchRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 기사 전문 검색 (관련도 → 최신순)
+     *
+     * @param tsQuery to_tsquery('simple', ...) 형식 검색식
+     */
+    public List<SearchHit> searchArticles(String tsQuery, LocalDateTime from, LocalDateTime to, int limit, int offset) {
+        List<Object> params = new ArrayList<>();
+        params.add(tsQuery);
+        StringBuilder sql = new StringBuilder(
+                "SELECT a.id, a.source, a.url, a.title, a.raw_excerpt, a.published_at, " +
+                        "ts_rank_cd(a.search_vector, q) AS rank " +
+                        "FROM articles a, to_tsquery('simple', ?) q " +
+                        "WHERE a.search_vector @@ q");
+        appendPeriod(sql, params, "a.created_at", from, to);
+        sql.append(" ORDER BY rank DESC, a.published_at DESC NULLS LAST LIMIT ? OFFSET ?");
+        params.add(limit);
+        params.add(offset);
+
+        return jdbcTemplate.query(sql.toString(), ARTICLE_HIT, params.toArray());
+    }
+
+    /**
+     * 요약 전문 검색 (요약 본문/핵심 포인트/왜 중요한가, 관련도 → 중요도 점수순)
+     */
+    public List<SearchHit> searchSummaries(String tsQuery, LocalDateTime from, LocalDateTime to, int limit, int offset) {
+        List<Object> params = new ArrayList<>();
+        params.add(tsQuery);
+        StringBuilder sql = new StringBuilder(
+                "SELECT s.id AS summary_id, s.summary_text, s.score, a.id, a.source, a.url, a.title, a.published_at, " +
+                        "ts_rank_cd(s.search_vector, q) AS rank " +
+                        "FROM summaries s JOIN articles a ON a.id = s.article_id, to_tsquery('simple', ?) q " +
+                        "WHERE s.search_vector @@ q");
+        appendPeriod(sql, params, "s.created_at", from, to);
+        sql.append(" ORDER BY rank DESC, s.score DESC NULLS LAST, s.created_at DESC LIMIT ? OFFSET ?");
+        params.add(limit);
+        params.add(offset);
+
+        return jdbcTemplate.query(sql.toString(), (rs, rowNum) -> new SearchHit(
+                rs.getLong("id"),
+                rs.getLong("summary_id"),
+                rs.getString("source"),
+                rs.getString("url"),
+                rs.getString("title"),
+                rs.getString("summary_text"),
+                toLocalDateTime(rs.getTimestamp("published_at")),
+                rs.getBigDecimal("score"),
+                rs.getDouble("rank")), params.toArray());
+    }
+
+    /**
+     * 트라이그램 유사도가 임계값 이상인 제목 (유사도 높은 순)
+     *
+     * 임계값 비교는 % 연산자(pg_trgm.similarity_threshold, 기본 0.3)로 인덱스를 타고, 정렬만 similarity()로 한다.
+     */
+    public List<SearchHit> findSimilarTitles(String title, int limit) {
+        return jdbcTemplate.query(
+                "SELECT a.id, a.source, a.url, a.title, a.raw_excerpt, a.published_at, " +
+                        "similarity(a.title, ?) AS rank " +
+                        "FROM articles a WHERE a.title % ? " +
+                        "ORDER BY rank DESC, a.published_at DESC NULLS LAST LIMIT ?",
+                ARTICLE_HIT, title, title, limit);
+    }
+
+    private static final RowMapper<SearchHit> ARTICLE_HIT = (rs, rowNum) -> new SearchHit(
+            rs.getLong("id"),
+            null,
+            rs.getString("source"),
+            rs.getString("url"),
+            rs.getString("title"),
+            rs.getString("raw_excerpt"),
+            toLocalDateTime(rs.getTimestamp("published_at")),
+            null,
+            rs.getDouble("rank"));
+
+    private static void appendPeriod(StringBuilder sql, List<Object> params, String column,
+                                     LocalDateTime from, LocalDateTime to) {
+        if (from != null) {
+            sql.append(" AND ").append(column).append(" >= ?");
+            params.add(Timestamp.valueOf(from));
+        }
+        if (to != null) {
+            sql.append(" AND ").append(column).append(" < ?");
+            params.add(Timestamp.valueOf(to));
+        }
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
@@ -0,0 +1,104 @@
+package com.yourco.econyang.repository;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 요약 유사 중복 탐지 리포지토리 (PostgreSQL 전용, V12 마이그레이션)
+ *
+ * 검사하지 않은 요약을 id 순으로 batchSize건씩 꺼내, 요약마다 기간 내 이전 요약 중 트라이그램 거리가 가장 가까운
+ * 1건을 GiST 인덱스 KNN(<->)으로 찾는다. 찾기/판정/기록을 UPDATE 한 문장으로 처리한다.
+ * duplicate_of_id에는 항상 클러스터의 원본(자신은 중복이 아닌 요약) ID를 기록한다. 같은 묶음 안에서 B가 A의,
+ * C가 B의 중복이면 C도 A를 가리키고 duplicate_similarity는 가장 가까운 요약(B)과의 유사도로 남긴다.
+ */
+@Repository
+public class SummaryDuplicateRepository {
+
+    private static final String DETECT_SQL =
+            "WITH RECURSIVE batch AS (" +
+            "    SELECT id, created_at, summary_text FROM summaries" +
+            "    WHERE NOT dedup_checked ORDER BY id LIMIT ?" +
+            "), matches AS (" +
+            "    SELECT b.id, m.id AS match_id, similarity(b.summary_text, m.summary_text) AS sim" +
+            "    FROM batch b" +
+            "    CROSS JOIN LATERAL (" +
+            "        SELECT o.id, o.summary_text FROM summaries o" +
+            "        WHERE o.id < b.id" +
+            "          AND o.created_at >= b.created_at - make_interval(days => ?)" +
+            "          AND o.created_at <= b.created_at" +
+            "          AND o.duplicate_of_id IS NULL" +
+            "        ORDER BY o.summary_text <-> b.summary_text" +
+            "        LIMIT 1" +
+            "    ) m" +
+            "), links AS (" +
+            "    SELECT id, match_id, sim FROM matches WHERE sim >= ?" +
+            "), roots AS (" +
+            // 같은 묶음의 미검사 요약은 아직 duplicate_of_id가 비어 있어 후보가 되므로 C → B → A 연결을 A까지 따라감
+            "    SELECT id, match_id AS root_id, sim FROM links" +
+            "    UNION ALL" +
+            "    SELECT r.id, l.match_id, r.sim FROM roots r JOIN links l ON l.id = r.root_id" +
+            "), resolved AS (" +
+            "    SELECT r.id, r.root_id, r.sim FROM roots r" +
+            "    WHERE NOT EXISTS (SELECT 1 FROM links l WHERE l.id = r.root_id)" +
+            ") " +
+            "UPDATE summaries s SET dedup_checked = true," +
+            "    duplicate_of_id = rs.root_id," +
+            "    duplicate_similarity = rs.sim " +
+            "FROM batch b LEFT JOIN resolved rs ON rs.id = b.id " +
+            "WHERE s.id = b.id AND s.created_at = b.created_at " +
+            "RETURNING s.duplicate_of_id";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    public SummaryDuplicateRepository() {
+    }
+
+    public SummaryDuplicateRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 한 묶음 검사 결과
+     */
+    public static final class BatchResult {
+        private final int checked;
+        private final int duplicates;
+
+        public BatchResult(int checked, int duplicates) {
+            this.checked = checked;
+            this.duplicates = duplicates;
+        }
+
+        public int getChecked() {
+            return checked;
+        }
+
+        public int getDuplicates() {
+            return duplicates;
+        }
+    }
+
+    /**
+     * 검사하지 않은 요약 최대 batchSize건 검사
+     *
+     * @param windowDays 비교 대상 기간 (요약 생성 시각 기준 이전 N일)
+     * @param threshold 중복으로 볼 트라이그램 유사도 (0~1)
+     */
+    public BatchResult detectNextBatch(int batchSize, int windowDays, double threshold) {
+        List<Long> duplicateOf = jdbcTemplate.query(DETECT_SQL,
+                (rs, rowNum) -> rs.getObject(1, Long.class),
+                batchSize, windowDays, threshold);
+
+        int duplicates = 0;
+        for (Long id : duplicateOf) {
+            if (id != null) {
+                duplicates++;
+            }
+        }
+        return new BatchResult(duplicateOf.size(), duplicates);
+    }
+}
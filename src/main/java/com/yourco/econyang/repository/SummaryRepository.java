@@ -2,6 +2,7 @@ package com.yourco.econyang.repository;
 
 import com.yourco.econyang.domain.Article;
 import com.yourco.econyang.domain.Summary;
+import com.yourco.econyang.dto.DigestSummaryRow;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -85,6 +86,20 @@ public interface SummaryRepository extends JpaRepository<Summary, Long> {
                                @Param("startTime") LocalDateTime startTime,
                                @Param("endTime") LocalDateTime endTime);
 
+    /**
+     * 다이제스트 후보 조회 (findForDigest와 같은 조건, 요약 + 기사 헤더를 JOIN 한 번으로 읽고 기사 본문은 제외)
+     */
+    @Query("SELECT new com.yourco.econyang.dto.DigestSummaryRow(" +
+           "s.id, s.model, s.summaryText, s.whyItMatters, s.bullets, s.score, s.createdAt, s.sector, s.keywordWeight, s.duplicateOfId, " +
+           "a.id, a.source, a.url, a.title, a.author, a.publishedAt) " +
+           "FROM Summary s JOIN s.article a " +
+           "WHERE s.score >= :minScore " +
+           "AND s.createdAt BETWEEN :startTime AND :endTime " +
+           "ORDER BY s.score DESC, s.createdAt DESC")
+    List<DigestSummaryRow> findDigestRows(@Param("minScore") BigDecimal minScore,
+                                          @Param("startTime") LocalDateTime startTime,
+                                          @Param("endTime") LocalDateTime endTime);
+
     /**
      * 특정 기사의 최고 점수 요약 조회
      */
@@ -107,6 +122,14 @@ public interface SummaryRepository extends JpaRepository<Summary, Long> {
     @Query("DELETE FROM Summary s WHERE s.createdAt < :cutoffTime")
     int deleteOlderThan(@Param("cutoffTime") LocalDateTime cutoffTime);
 
+    /**
+     * endTime 이전에 생성된 요약 중 기사가 삭제된 요약 정리 (기사 파티션 삭제 후, 남아 있는 모든 이전 월 대상)
+     */
+    @Modifying
+    @Query("DELETE FROM Summary s WHERE s.createdAt < :endTime " +
+           "AND NOT EXISTS (SELECT a.id FROM Article a WHERE a.id = s.article.id)")
+    int deleteOrphansCreatedBefore(@Param("endTime") LocalDateTime endTime);
+
     /**
      * 키워드가 포함된 요약 검색
      */
@@ -117,10 +140,10 @@ public interface SummaryRepository extends JpaRepository<Summary, Long> {
     List<Summary> findByKeyword(@Param("keyword") String keyword);
 
     /**
-     * 중복 요약 조회 (같은 기사, 같은 모델)
+     * 중복 요약 조회 (같은 기사, 같은 모델로 더 나중에 만든 요약이 있는 요약)
+     * 전체 자기 조인 대신 (article_id, model) 인덱스를 타는 EXISTS로 조회, 내용 기반 유사 중복은 SummaryDuplicateService
      */
-    @Query("SELECT s1 FROM Summary s1, Summary s2 " +
-           "WHERE s1.article = s2.article AND s1.model = s2.model " +
-           "AND s1.id < s2.id")
+    @Query("SELECT s1 FROM Summary s1 WHERE EXISTS (" +
+           "SELECT s2.id FROM Summary s2 WHERE s2.article = s1.article AND s2.model = s1.model AND s2.id > s1.id)")
     List<Summary> findDuplicates();
 }
\ No newline at end of file
@@ -1,7 +1,10 @@
 package com.yourco.econyang.service;
 
 import com.yourco.econyang.domain.Article;
+import com.yourco.econyang.dto.ArticleBody;
 import com.yourco.econyang.dto.ArticleDto;
+import com.yourco.econyang.dto.ArticleHeader;
+import com.yourco.econyang.repository.ArticleJdbcRepository;
 import com.yourco.econyang.repository.ArticleRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -19,9 +22,11 @@ import java.util.stream.Collectors;
 public class ArticleService {
 
     private final ArticleRepository articleRepository;
+    private final ArticleJdbcRepository articleJdbcRepository;
 
-    public ArticleService(ArticleRepository articleRepository) {
+    public ArticleService(ArticleRepository articleRepository, ArticleJdbcRepository articleJdbcRepository) {
         this.articleRepository = articleRepository;
+        this.articleJdbcRepository = articleJdbcRepository;
     }
 
     /**
@@ -85,6 +90,27 @@ public class ArticleService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * ID 목록으로 기사 헤더 조회 (본문 제외)
+     */
+    public List<ArticleHeader> findHeadersByIds(List<Long> articleIds) {
+        return articleRepository.findHeadersByIdIn(articleIds);
+    }
+
+    /**
+     * 본문 추출 대상 (본문이 아직 없는 기사) 헤더 조회
+     */
+    public List<ArticleHeader> findUnextractedHeadersByIds(List<Long> articleIds) {
+        return articleRepository.findUnextractedHeadersByIdIn(articleIds);
+    }
+
+    /**
+     * AI 요약 대상 (본문이 있는 기사) 헤더 + 본문 조회
+     */
+    public List<ArticleBody> findBodiesWithContentByIds(List<Long> articleIds) {
+        return articleRepository.findBodiesWithContentByIdIn(articleIds);
+    }
+
     /**
      * 단일 기사 저장
      * @param article 저장할 기사
@@ -95,6 +121,16 @@ public class ArticleService {
         return articleRepository.save(article);
     }
 
+    /**
+     * 본문 추출 결과만 ID 기준 일괄 갱신 (JDBC 배치 1회, 엔티티 조회/변경 감지 없음)
+     *
+     * @return 갱신된 기사 수
+     */
+    @Transactional
+    public int updateExtractionResults(List<Article> articles) {
+        return articleJdbcRepository.updateExtractionResults(articles);
+    }
+
     /**
      * URL로 기사 조회
      */
@@ -1,13 +1,13 @@
 package com.yourco.econyang.service;
 
+import com.yourco.econyang.util.DateScanner;
+import com.yourco.econyang.util.StructuredDateExtractor;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -19,88 +19,31 @@ import java.util.regex.Pattern;
 @Service
 public class ContentDateExtractor {
     
-    // 다양한 날짜 패턴들
-    private static final List<DatePattern> DATE_PATTERNS = new ArrayList<>();
+    // Investing.com 특화 패턴
+    private static final Pattern INVESTING_DATA_DATE_PATTERN = Pattern.compile("(?i)data-date[=\"']([^\"']+)[\"']");
+    private static final DateTimeFormatter INVESTING_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
     
-    static {
-        // 영어 패턴들
-        DATE_PATTERNS.add(new DatePattern(
-            Pattern.compile("(?i)(?:published|posted|updated|created)\\s*(?:on|at)?\\s*[:\\-]?\\s*(\\w+\\s+\\d{1,2},?\\s+\\d{4})", Pattern.CASE_INSENSITIVE),
-            "MMM d, yyyy", "en"
-        ));
-        
-        DATE_PATTERNS.add(new DatePattern(
-            Pattern.compile("(?i)(?:published|posted|updated|created)\\s*(?:on|at)?\\s*[:\\-]?\\s*(\\d{1,2}[/-]\\d{1,2}[/-]\\d{4})", Pattern.CASE_INSENSITIVE),
-            "M/d/yyyy", "en"
-        ));
-        
-        DATE_PATTERNS.add(new DatePattern(
-            Pattern.compile("(?i)(?:published|posted|updated|created)\\s*(?:on|at)?\\s*[:\\-]?\\s*(\\d{4}-\\d{1,2}-\\d{1,2})", Pattern.CASE_INSENSITIVE),
-            "yyyy-M-d", "en"
-        ));
-        
-        // 한국어 패턴들
-        DATE_PATTERNS.add(new DatePattern(
-            Pattern.compile("(?:작성일|발행일|등록일|업데이트)\\s*[:\\-]?\\s*(\\d{4})[년.-](\\d{1,2})[월.-](\\d{1,2})[일]?", Pattern.CASE_INSENSITIVE),
-            "yyyy년M월d일", "ko"
-        ));
-        
-        DATE_PATTERNS.add(new DatePattern(
-            Pattern.compile("(?:작성일|발행일|등록일|업데이트)\\s*[:\\-]?\\s*(\\d{4})[.-](\\d{1,2})[.-](\\d{1,2})", Pattern.CASE_INSENSITIVE),
-            "yyyy.M.d", "ko"
-        ));
-        
-        // ISO 형식
-        DATE_PATTERNS.add(new DatePattern(
-            Pattern.compile("(?i)(?:published|updated|created)\\s*[:\\-]?\\s*(\\d{4}-\\d{2}-\\d{2}T\\d{2}:\\d{2})", Pattern.CASE_INSENSITIVE),
-            "yyyy-MM-dd'T'HH:mm", "iso"
-        ));
-        
-        // 상대 날짜 패턴들 (추후 확장 가능)
-        DATE_PATTERNS.add(new DatePattern(
-            Pattern.compile("(?i)(\\d+)\\s+hours?\\s+ago", Pattern.CASE_INSENSITIVE),
-            "relative_hours", "relative"
-        ));
-        
-        DATE_PATTERNS.add(new DatePattern(
-            Pattern.compile("(?i)(\\d+)\\s+days?\\s+ago", Pattern.CASE_INSENSITIVE),
-            "relative_days", "relative"
-        ));
-    }
+    // KOTRA 특화 패턴
+    private static final Pattern KOTRA_DATE_PATTERN = Pattern.compile("(?i)작성일\\s*[:\\-]?\\s*(\\d{4}-\\d{2}-\\d{2})");
     
     /**
      * HTML 본문에서 날짜를 추출
+     * 문서 앞부분을 한 번만 스캔하며, 라벨이 붙은 날짜를 찾으면 즉시 종료
+     * 헤더의 오늘 날짜 등을 피하기 위해 라벨 없는 날짜는 사용하지 않음 (상대 시간은 폴백으로 사용)
      */
     public Optional<LocalDateTime> extractDateFromContent(String htmlContent) {
         if (htmlContent == null || htmlContent.trim().isEmpty()) {
             return Optional.empty();
         }
         
-        // HTML 태그 제거 (간단한 정리)
-        String cleanText = htmlContent.replaceAll("<[^>]+>", " ")
-                                     .replaceAll("\\s+", " ")
-                                     .trim();
-        
-        // 각 패턴을 시도
-        for (DatePattern datePattern : DATE_PATTERNS) {
-            Matcher matcher = datePattern.pattern.matcher(cleanText);
+        Optional<DateScanner.ScannedDate> scanned = DateScanner.scanHtml(htmlContent, DateScanner.DEFAULT_SCAN_LIMIT, true);
+        if (scanned.isPresent()) {
+            LocalDateTime dateTime = scanned.get().toDateTime(LocalTime.MIDNIGHT);
             
-            while (matcher.find()) {
-                try {
-                    Optional<LocalDateTime> extracted = parseWithPattern(matcher, datePattern);
-                    if (extracted.isPresent()) {
-                        LocalDateTime dateTime = extracted.get();
-                        
-                        // 합리적인 날짜 범위 검증 (2020-2030년)
-                        if (isReasonableDate(dateTime)) {
-                            System.out.println("본문에서 날짜 추출 성공: " + dateTime + " (패턴: " + datePattern.type + ")");
-                            return Optional.of(dateTime);
-                        }
-                    }
-                } catch (Exception e) {
-                    // 파싱 실패는 무시하고 다음 패턴 시도
-                    continue;
-                }
+            // 합리적인 날짜 범위 검증 (2020-2030년)
+            if (isReasonableDate(dateTime)) {
+                System.out.println("본문에서 날짜 추출 성공: " + dateTime + " (패턴: " + scanned.get().getGrammar() + ")");
+                return Optional.of(dateTime);
             }
         }
         
@@ -108,68 +51,12 @@ public class ContentDateExtractor {
     }
     
     /**
-     * 매칭된 패턴을 실제 날짜로 변환
+     * JSON-LD와 메타태그(article:published_time, og: 등)에서 발행일 추출
+     * DOM 없이 토크나이저로 훑으므로 HeadSniffer가 읽은 {@code <head>} 앞부분에 바로 사용
      */
-    private Optional<LocalDateTime> parseWithPattern(Matcher matcher, DatePattern datePattern) {
-        try {
-            if ("relative".equals(datePattern.type)) {
-                return parseRelativeDate(matcher, datePattern.format);
-            } else if ("ko".equals(datePattern.type)) {
-                return parseKoreanDate(matcher);
-            } else {
-                String dateStr = matcher.group(1);
-                DateTimeFormatter formatter = DateTimeFormatter.ofPattern(datePattern.format);
-                
-                if (datePattern.format.contains("HH:mm")) {
-                    return Optional.of(LocalDateTime.parse(dateStr, formatter));
-                } else {
-                    LocalDate date = LocalDate.parse(dateStr, formatter);
-                    return Optional.of(date.atStartOfDay());
-                }
-            }
-        } catch (DateTimeParseException e) {
-            return Optional.empty();
-        }
-    }
-    
-    /**
-     * 상대 날짜 처리 ("2 hours ago", "3 days ago")
-     */
-    private Optional<LocalDateTime> parseRelativeDate(Matcher matcher, String format) {
-        try {
-            int amount = Integer.parseInt(matcher.group(1));
-            LocalDateTime now = LocalDateTime.now();
-            
-            if ("relative_hours".equals(format)) {
-                return Optional.of(now.minusHours(amount));
-            } else if ("relative_days".equals(format)) {
-                return Optional.of(now.minusDays(amount));
-            }
-        } catch (NumberFormatException e) {
-            // 무시
-        }
-        
-        return Optional.empty();
-    }
-    
-    /**
-     * 한국어 날짜 처리
-     */
-    private Optional<LocalDateTime> parseKoreanDate(Matcher matcher) {
-        try {
-            if (matcher.groupCount() >= 3) {
-                int year = Integer.parseInt(matcher.group(1));
-                int month = Integer.parseInt(matcher.group(2));
-                int day = Integer.parseInt(matcher.group(3));
-                
-                LocalDate date = LocalDate.of(year, month, day);
-                return Optional.of(date.atStartOfDay());
-            }
-        } catch (Exception e) {
-            // 무시
-        }
-        
-        return Optional.empty();
+    public Optional<StructuredDateExtractor.StructuredDate> extractDateFromHead(String headHtml) {
+        return StructuredDateExtractor.extract(headHtml)
+                .filter(structured -> isReasonableDate(structured.getDateTime()));
     }
     
     /**
@@ -209,15 +96,13 @@ public class ContentDateExtractor {
      * Investing.com 특화 날짜 추출
      */
     private Optional<LocalDateTime> extractInvestingComDate(String content) {
-        // Investing.com 특화 패턴들
-        Pattern investingPattern = Pattern.compile("(?i)data-date[=\"']([^\"']+)[\"']");
-        Matcher matcher = investingPattern.matcher(content);
+        Matcher matcher = INVESTING_DATA_DATE_PATTERN.matcher(content);
         
         if (matcher.find()) {
             try {
                 String dateStr = matcher.group(1);
                 // Investing.com의 특정 날짜 형식 처리
-                LocalDateTime dateTime = LocalDateTime.parse(dateStr, DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"));
+                LocalDateTime dateTime = LocalDateTime.parse(dateStr, INVESTING_DATE_FORMAT);
                 if (isReasonableDate(dateTime)) {
                     return Optional.of(dateTime);
                 }
@@ -233,9 +118,7 @@ public class ContentDateExtractor {
      * KOTRA 특화 날짜 추출
      */
     private Optional<LocalDateTime> extractKotraDate(String content) {
-        // KOTRA 특화 패턴들
-        Pattern kotraPattern = Pattern.compile("(?i)작성일\\s*[:\\-]?\\s*(\\d{4}-\\d{2}-\\d{2})");
-        Matcher matcher = kotraPattern.matcher(content);
+        Matcher matcher = KOTRA_DATE_PATTERN.matcher(content);
         
         if (matcher.find()) {
             try {
@@ -252,19 +135,4 @@ public class ContentDateExtractor {
         
         return Optional.empty();
     }
-    
-    /**
-     * 날짜 패턴 정보를 담는 내부 클래스
-     */
-    private static class DatePattern {
-        final Pattern pattern;
-        final String format;
-        final String type;
-        
-        DatePattern(Pattern pattern, String format, String type) {
-            this.pattern = pattern;
-            this.format = format;
-            this.type = type;
-        }
-    }
 }
\ No newline at end of file
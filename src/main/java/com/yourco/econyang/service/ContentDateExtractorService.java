@@ -1,5 +1,11 @@
 package com.yourco.econyang.service;
 
+import com.yourco.econyang.util.DateScanner;
+import com.yourco.econyang.util.HeadSniffer;
+import com.yourco.econyang.util.StructuredDateExtractor;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
@@ -7,14 +13,14 @@ import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
 import org.jsoup.select.Elements;
+import reactor.core.publisher.Flux;
 
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.*;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 /**
  * 웹 콘텐츠에서 발행일자를 추출하는 서비스
@@ -25,40 +31,29 @@ public class ContentDateExtractorService {
     
     private final WebClient webClient;
     
+    // 시각 정보가 없는 날짜의 기본 시각
+    private static final LocalTime DEFAULT_TIME = LocalTime.NOON;
+    
     // 언론사별 날짜 선택자 매핑
     private static final Map<String, List<String>> SOURCE_DATE_SELECTORS = new HashMap<>();
     
-    // 일반적인 날짜 메타태그 선택자들
+    // 일반적인 날짜 요소 선택자들 (메타태그는 StructuredDateExtractor가 먼저 처리)
     private static final List<String> COMMON_DATE_SELECTORS = Arrays.asList(
-        "meta[property='article:published_time']",
-        "meta[name='pubdate']", 
-        "meta[name='publishdate']",
-        "meta[name='date']",
-        "meta[property='og:updated_time']",
         "time[datetime]",
         ".date", ".publish-date", ".published", ".timestamp",
         ".article-date", ".post-date", ".entry-date"
     );
     
-    // 날짜 정규식 패턴들 (한국어/영어)
-    private static final List<Pattern> DATE_PATTERNS = Arrays.asList(
-        // ISO 8601 형식
-        Pattern.compile("(\\d{4}-\\d{2}-\\d{2}[T\\s]\\d{2}:\\d{2}:\\d{2})"),
-        // 한국어 형식: 2025년 8월 25일
-        Pattern.compile("(\\d{4})년\\s*(\\d{1,2})월\\s*(\\d{1,2})일"),
-        // 한국어 형식: 2025.08.25
-        Pattern.compile("(\\d{4})\\.(\\d{1,2})\\.(\\d{1,2})"),
-        // 영어 형식: August 25, 2025
-        Pattern.compile("([A-Za-z]+)\\s+(\\d{1,2}),\\s+(\\d{4})"),
-        // 영어 형식: 25 Aug 2025
-        Pattern.compile("(\\d{1,2})\\s+([A-Za-z]+)\\s+(\\d{4})"),
-        // 슬래시 형식: 2025/08/25
-        Pattern.compile("(\\d{4})/(\\d{1,2})/(\\d{1,2})")
+    // 속성값(datetime, content) 파싱용 형식들
+    private static final List<DateTimeFormatter> DATE_TIME_FORMATTERS = Arrays.asList(
+        DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss"),
+        DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"),
+        DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ssXXX"), // 타임존 포함
+        DateTimeFormatter.ofPattern("yyyy-MM-dd"),
+        DateTimeFormatter.ISO_ZONED_DATE_TIME,
+        DateTimeFormatter.ISO_INSTANT
     );
     
-    // 월 이름 매핑 (영어 -> 숫자)
-    private static final Map<String, Integer> MONTH_NAMES = new HashMap<>();
-    
     static {
         // 언론사별 특화 선택자 설정
         SOURCE_DATE_SELECTORS.put("Financial Times", Arrays.asList(
@@ -80,20 +75,6 @@ public class ContentDateExtractorService {
         SOURCE_DATE_SELECTORS.put("Investing.com", Arrays.asList(
             ".articleHeader span", ".date", "time"
         ));
-        
-        // 월 이름 매핑 초기화
-        MONTH_NAMES.put("january", 1); MONTH_NAMES.put("jan", 1);
-        MONTH_NAMES.put("february", 2); MONTH_NAMES.put("feb", 2);
-        MONTH_NAMES.put("march", 3); MONTH_NAMES.put("mar", 3);
-        MONTH_NAMES.put("april", 4); MONTH_NAMES.put("apr", 4);
-        MONTH_NAMES.put("may", 5);
-        MONTH_NAMES.put("june", 6); MONTH_NAMES.put("jun", 6);
-        MONTH_NAMES.put("july", 7); MONTH_NAMES.put("jul", 7);
-        MONTH_NAMES.put("august", 8); MONTH_NAMES.put("aug", 8);
-        MONTH_NAMES.put("september", 9); MONTH_NAMES.put("sep", 9); MONTH_NAMES.put("sept", 9);
-        MONTH_NAMES.put("october", 10); MONTH_NAMES.put("oct", 10);
-        MONTH_NAMES.put("november", 11); MONTH_NAMES.put("nov", 11);
-        MONTH_NAMES.put("december", 12); MONTH_NAMES.put("dec", 12);
     }
     
     public ContentDateExtractorService(WebClient.Builder webClientBuilder) {
@@ -111,21 +92,27 @@ public class ContentDateExtractorService {
                 return Optional.empty();
             }
             
+            // 1. 구조화 메타데이터(JSON-LD, article:published_time, og:)에서 시도 - DOM 없이 토크나이저로 처리
+            Optional<StructuredDateExtractor.StructuredDate> structured = StructuredDateExtractor.extract(htmlContent);
+            if (structured.isPresent()) {
+                return Optional.of(structured.get().getDateTime());
+            }
+            
             Document doc = Jsoup.parse(htmlContent);
             
-            // 1. 언론사별 특화 선택자로 시도
+            // 2. 언론사별 특화 선택자로 시도
             Optional<LocalDateTime> dateFromSource = extractDateBySource(doc, sourceName);
             if (dateFromSource.isPresent()) {
                 return dateFromSource;
             }
             
-            // 2. 공통 메타태그에서 추출 시도
-            Optional<LocalDateTime> dateFromMeta = extractDateFromMetaTags(doc);
-            if (dateFromMeta.isPresent()) {
-                return dateFromMeta;
+            // 3. 공통 날짜 요소에서 추출 시도
+            Optional<LocalDateTime> dateFromCommon = extractDateFromCommonSelectors(doc);
+            if (dateFromCommon.isPresent()) {
+                return dateFromCommon;
             }
             
-            // 3. 텍스트 콘텐츠에서 정규식으로 추출 시도
+            // 4. 텍스트 콘텐츠에서 정규식으로 추출 시도
             return extractDateFromText(doc.text());
             
         } catch (Exception e) {
@@ -135,16 +122,30 @@ public class ContentDateExtractorService {
     }
     
     /**
-     * HTML 콘텐츠를 웹에서 가져오기
+     * HTML 콘텐츠 앞부분을 웹에서 가져오기
+     * {@code <head>} 구조화 메타데이터에 날짜가 있으면 거기서 구독을 취소하고, 없으면 본문 상한까지만 읽음
      */
     private String fetchHtmlContent(String url) {
+        HeadSniffer sniffer = new HeadSniffer(HeadSniffer.DEFAULT_HEAD_MAX_BYTES, HeadSniffer.DEFAULT_BODY_MAX_BYTES,
+                head -> StructuredDateExtractor.extract(head).isPresent());
         try {
-            return webClient.get()
+            webClient.get()
                     .uri(url)
                     .header("User-Agent", "Mozilla/5.0 (Macintosh; Intel Mac OS X 10_15_7)")
-                    .retrieve()
-                    .bodyToMono(String.class)
-                    .block();
+                    .exchangeToFlux(response -> {
+                        if (!response.statusCode().is2xxSuccessful()) {
+                            return response.createException().flatMapMany(Flux::error);
+                        }
+                        response.headers().contentType()
+                                .map(MediaType::getCharset)
+                                .ifPresent(sniffer::setCharset);
+                        return response.bodyToFlux(DataBuffer.class);
+                    })
+                    .map(buffer -> appendAndRelease(sniffer, buffer))
+                    .takeUntil(done -> done)
+                    .blockLast();
+            
+            return sniffer.getBytesRead() > 0 ? sniffer.toHtml() : null;
                     
         } catch (WebClientResponseException e) {
             System.err.println("HTTP 요청 실패: " + url + " - " + e.getStatusCode());
@@ -155,6 +156,16 @@ public class ContentDateExtractorService {
         }
     }
     
+    private static boolean appendAndRelease(HeadSniffer sniffer, DataBuffer buffer) {
+        try {
+            byte[] bytes = new byte[buffer.readableByteCount()];
+            buffer.read(bytes);
+            return sniffer.append(bytes, 0, bytes.length);
+        } finally {
+            DataBufferUtils.release(buffer);
+        }
+    }
+    
     /**
      * 언론사별 특화 선택자로 날짜 추출
      */
@@ -178,9 +189,9 @@ public class ContentDateExtractorService {
     }
     
     /**
-     * 메타태그에서 날짜 추출
+     * 공통 날짜 요소(time, .date 등)에서 날짜 추출
      */
-    private Optional<LocalDateTime> extractDateFromMetaTags(Document doc) {
+    private Optional<LocalDateTime> extractDateFromCommonSelectors(Document doc) {
         for (String selector : COMMON_DATE_SELECTORS) {
             Elements elements = doc.select(selector);
             for (Element element : elements) {
@@ -221,76 +232,11 @@ public class ContentDateExtractorService {
     }
     
     /**
-     * 텍스트에서 정규식으로 날짜 추출
+     * 텍스트 앞부분을 한 번 스캔하여 날짜 추출 (ISO, 한국어, 점/슬래시, 영어 월 이름)
      */
     private Optional<LocalDateTime> extractDateFromText(String text) {
-        for (Pattern pattern : DATE_PATTERNS) {
-            Matcher matcher = pattern.matcher(text);
-            if (matcher.find()) {
-                Optional<LocalDateTime> date = parseDateFromGroups(pattern, matcher);
-                if (date.isPresent()) {
-                    return date;
-                }
-            }
-        }
-        
-        return Optional.empty();
-    }
-    
-    /**
-     * 정규식 그룹에서 날짜 파싱
-     */
-    private Optional<LocalDateTime> parseDateFromGroups(Pattern pattern, Matcher matcher) {
-        try {
-            String patternStr = pattern.pattern();
-            
-            if (patternStr.contains("년.*월.*일")) {
-                // 한국어 형식: 2025년 8월 25일
-                int year = Integer.parseInt(matcher.group(1));
-                int month = Integer.parseInt(matcher.group(2));
-                int day = Integer.parseInt(matcher.group(3));
-                return Optional.of(LocalDateTime.of(year, month, day, 12, 0)); // 기본 시간 12:00
-                
-            } else if (patternStr.contains("\\\\.[^/]")) {
-                // 점 형식: 2025.08.25
-                int year = Integer.parseInt(matcher.group(1));
-                int month = Integer.parseInt(matcher.group(2));
-                int day = Integer.parseInt(matcher.group(3));
-                return Optional.of(LocalDateTime.of(year, month, day, 12, 0));
-                
-            } else if (patternStr.contains("[A-Za-z]+.*\\\\d{1,2}.*\\\\d{4}")) {
-                // 영어 형식: August 25, 2025
-                String monthName = matcher.group(1).toLowerCase();
-                int day = Integer.parseInt(matcher.group(2));
-                int year = Integer.parseInt(matcher.group(3));
-                Integer month = MONTH_NAMES.get(monthName);
-                if (month != null) {
-                    return Optional.of(LocalDateTime.of(year, month, day, 12, 0));
-                }
-                
-            } else if (patternStr.contains("\\\\d{1,2}.*[A-Za-z]+.*\\\\d{4}")) {
-                // 영어 형식: 25 Aug 2025
-                int day = Integer.parseInt(matcher.group(1));
-                String monthName = matcher.group(2).toLowerCase();
-                int year = Integer.parseInt(matcher.group(3));
-                Integer month = MONTH_NAMES.get(monthName);
-                if (month != null) {
-                    return Optional.of(LocalDateTime.of(year, month, day, 12, 0));
-                }
-                
-            } else if (patternStr.contains("/")) {
-                // 슬래시 형식: 2025/08/25
-                int year = Integer.parseInt(matcher.group(1));
-                int month = Integer.parseInt(matcher.group(2));
-                int day = Integer.parseInt(matcher.group(3));
-                return Optional.of(LocalDateTime.of(year, month, day, 12, 0));
-            }
-            
-        } catch (Exception e) {
-            System.err.println("날짜 파싱 실패: " + matcher.group(0) + " - " + e.getMessage());
-        }
-        
-        return Optional.empty();
+        return DateScanner.scanText(text)
+                .map(scanned -> scanned.toDateTime(DEFAULT_TIME));
     }
     
     /**
@@ -302,16 +248,7 @@ public class ContentDateExtractorService {
         }
         
         // ISO 8601 형식 시도
-        List<DateTimeFormatter> formatters = Arrays.asList(
-            DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss"),
-            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss"),
-            DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ssXXX"), // 타임존 포함
-            DateTimeFormatter.ofPattern("yyyy-MM-dd"),
-            DateTimeFormatter.ISO_ZONED_DATE_TIME,
-            DateTimeFormatter.ISO_INSTANT
-        );
-        
-        for (DateTimeFormatter formatter : formatters) {
+        for (DateTimeFormatter formatter : DATE_TIME_FORMATTERS) {
             try {
                 if (formatter == DateTimeFormatter.ISO_ZONED_DATE_TIME) {
                     return Optional.of(ZonedDateTime.parse(dateStr, formatter).toLocalDateTime());
@@ -328,7 +265,7 @@ public class ContentDateExtractorService {
             }
         }
         
-        // 정규식으로 텍스트에서 추출 시도
+        // 텍스트 스캔으로 추출 시도
         return extractDateFromText(dateStr);
     }
 }
\ No newline at end of file
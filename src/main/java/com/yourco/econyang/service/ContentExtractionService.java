@@ -1,18 +1,32 @@
 package com.yourco.econyang.service;
 
+import com.yourco.econyang.config.RssSourcesConfig;
 import com.yourco.econyang.dto.ArticleDto;
+import com.yourco.econyang.util.HeadSniffer;
+import com.yourco.econyang.util.ReadabilityExtractor;
+import com.yourco.econyang.util.StreamingContentExtractor;
+import org.jsoup.Connection;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
-import org.jsoup.select.Elements;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import javax.annotation.PostConstruct;
+import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -24,6 +38,9 @@ public class ContentExtractionService {
     @Autowired
     private ContentQualityFilterService qualityFilterService;
     
+    @Autowired(required = false)
+    private RssSourcesConfig rssSourcesConfig;
+    
     private static final int DEFAULT_TIMEOUT = 10000; // 10초
     private static final int MAX_RETRIES = 2;
     private static final long RETRY_DELAY_MS = 1000;
@@ -39,32 +56,36 @@ public class ContentExtractionService {
     
     private int currentUserAgentIndex = 0;
     
-    // 한국 언론사별 본문 선택자 매핑
-    private static final String[][] CONTENT_SELECTORS = {
-        // 한국경제
-        {"hankyung", "div.article-body, div.news-text, div.article-contents"},
-        // 매일경제  
-        {"maeil", "div.news_cnt_detail, div.article_txt"},
-        // 연합뉴스
-        {"yonhap", "div.story-news-article, div.article-story"},
-        // 조선일보
-        {"chosun", "div.par, div.article-body"},
-        // 중앙일보
-        {"joongang", "div.article_body, div#article_body"},
-        // 동아일보
-        {"donga", "div.article_txt, div.news_view"},
-        // 일반적인 선택자 (마지막 fallback)
-        {"default", "article, div.content, div.article, div.entry-content, div.post-content, " +
-                   "div.article-content, div.story-body, div.article-body, " +
-                   "div#content, div#article, div.text, p"}
-    };
+    private static final int MIN_CONTENT_LENGTH = 100;
+    private static final int CHARSET_SNIFF_BYTES = 4 * 1024;
+    // 응답 본문 최대 바이트 수 (Jsoup maxBodySize), 문자 수 한도는 StreamingContentExtractor.DEFAULT_MAX_CHARS
+    private static final int DEFAULT_MAX_BODY_BYTES = 2 * 1024 * 1024;
     
-    // 제거할 요소들
-    private static final String[] REMOVE_SELECTORS = {
-        "script", "style", "nav", "header", "footer", "aside", ".advertisement", 
-        ".ads", ".related", ".comment", ".social", ".share", ".tags",
-        ".author-info", ".article-footer", ".sidebar"
-    };
+    // DOM 없이 스트리밍 토크나이저로 본문 추출 (false면 Jsoup DOM 파싱)
+    @Value("${app.extraction.streaming:true}")
+    private boolean streamingExtraction = true;
+    
+    @Value("${app.extraction.maxBodyBytes:2097152}")
+    private int maxBodyBytes = DEFAULT_MAX_BODY_BYTES;
+    
+    // 소스 이름별 본문 추출 재정의 (rss-sources.yml의 extraction)
+    private Map<String, ExtractionRule> extractionRules = Collections.emptyMap();
+    
+    @PostConstruct
+    public void loadExtractionRules() {
+        if (rssSourcesConfig == null) {
+            return;
+        }
+        
+        Map<String, ExtractionRule> rules = new HashMap<>();
+        for (RssSourcesConfig.RssSource source : rssSourcesConfig.getSources()) {
+            RssSourcesConfig.ExtractionConfig config = source.getExtraction();
+            if (config != null && source.getName() != null) {
+                rules.put(source.getName(), new ExtractionRule(config));
+            }
+        }
+        this.extractionRules = rules;
+    }
     
     /**
      * 단일 기사의 본문을 추출
@@ -185,108 +206,81 @@ public class ContentExtractionService {
      */
     private String fetchAndExtractContent(String url, String source) throws IOException {
         // User-Agent 순환 사용
-        String userAgent = getNextUserAgent();
-        
-        // Jsoup으로 웹 페이지 가져오기
-        Document doc = Jsoup.connect(url)
-                .userAgent(userAgent)
+        Connection connection = Jsoup.connect(url)
+                .userAgent(getNextUserAgent())
                 .timeout(DEFAULT_TIMEOUT)
                 .followRedirects(true)
+                .maxBodySize(maxBodyBytes)
                 .header("Accept", "text/html,application/xhtml+xml,application/xml;q=0.9,image/webp,*/*;q=0.8")
                 .header("Accept-Language", "ko-KR,ko;q=0.9,en;q=0.8")
                 .header("Accept-Encoding", "gzip, deflate")
                 .header("DNT", "1")
                 .header("Connection", "keep-alive")
-                .header("Upgrade-Insecure-Requests", "1")
-                .get();
-        
-        // 불필요한 요소들 제거
-        removeUnwantedElements(doc);
+                .header("Upgrade-Insecure-Requests", "1");
         
         // 소스별 본문 추출
-        String content = extractContentBySource(doc, source);
+        String content = streamingExtraction
+                ? streamContentBySource(connection.execute(), source)
+                : extractContentBySource(connection.get(), source);
         
         // 본문 정제
         return cleanContent(content);
     }
     
     /**
-     * 불필요한 HTML 요소들 제거
-     */
-    private void removeUnwantedElements(Document doc) {
-        for (String selector : REMOVE_SELECTORS) {
-            doc.select(selector).remove();
-        }
-    }
-    
-    /**
-     * 소스별 본문 선택자를 사용하여 본문 추출
+     * 응답 스트림을 토크나이저로 바로 처리 (DOM 미생성, 본문 영역이 끝나면 나머지는 읽지 않음)
      */
-    private String extractContentBySource(Document doc, String source) {
-        // 소스별 선택자 찾기
-        String selectors = getSelectorsForSource(source);
-        
-        // 선택자로 본문 추출 시도
-        for (String selector : selectors.split(",")) {
-            selector = selector.trim();
-            Elements elements = doc.select(selector);
-            
-            if (!elements.isEmpty()) {
-                StringBuilder content = new StringBuilder();
-                for (Element element : elements) {
-                    String text = element.text();
-                    if (text.length() > 50) { // 의미있는 길이의 텍스트만
-                        content.append(text).append("\n\n");
-                    }
-                }
-                
-                String result = content.toString().trim();
-                if (result.length() > 100) { // 최소 길이 체크
-                    return result;
-                }
-            }
-        }
+    String streamContentBySource(Connection.Response response, String source) throws IOException {
+        ExtractionRule rule = source != null ? extractionRules.get(source) : null;
         
-        // fallback: 전체 body에서 p 태그 텍스트 추출
-        Elements paragraphs = doc.select("p");
-        StringBuilder fallbackContent = new StringBuilder();
-        for (Element p : paragraphs) {
-            String text = p.text();
-            if (text.length() > 20) {
-                fallbackContent.append(text).append("\n\n");
+        try (BufferedInputStream in = response.bodyStream()) {
+            // 헤더 charset이 없거나 지원하지 않는 이름이면 meta charset(없으면 UTF-8)으로 대체
+            Charset charset = HeadSniffer.charsetOf(response.contentType());
+            if (charset == null) {
+                charset = sniffCharset(in);
             }
+            Reader reader = new InputStreamReader(in, charset);
+            return StreamingContentExtractor.extract(reader,
+                    rule != null ? rule.contentSelector : null,
+                    rule != null ? rule.skipClasses : Collections.<String>emptySet(),
+                    StreamingContentExtractor.DEFAULT_MAX_CHARS);
         }
-        
-        return fallbackContent.toString().trim();
     }
     
     /**
-     * 소스별 본문 선택자 반환
+     * Content-Type에 charset이 없으면 문서 앞부분의 meta charset 확인 (스트림 위치는 되돌림)
      */
-    private String getSelectorsForSource(String source) {
-        if (source == null) {
-            return getDefaultSelectors();
+    private static Charset sniffCharset(BufferedInputStream in) throws IOException {
+        in.mark(CHARSET_SNIFF_BYTES);
+        byte[] head = new byte[CHARSET_SNIFF_BYTES];
+        int length = 0;
+        int read;
+        while (length < head.length && (read = in.read(head, length, head.length - length)) != -1) {
+            length += read;
         }
-        
-        for (String[] mapping : CONTENT_SELECTORS) {
-            if (mapping[0].equals(source)) {
-                return mapping[1];
-            }
-        }
-        
-        return getDefaultSelectors();
+        in.reset();
+        return HeadSniffer.detectMetaCharset(head, length);
     }
     
     /**
-     * 기본 선택자 반환
+     * 텍스트/링크 밀도 기반으로 본문 추출 (DOM 1회 순회)
+     * 소스별 contentSelector가 있으면 탐색 범위를 그 요소로 한정하고, 결과가 짧으면 body 전체로 재시도
      */
-    private String getDefaultSelectors() {
-        for (String[] mapping : CONTENT_SELECTORS) {
-            if ("default".equals(mapping[0])) {
-                return mapping[1];
+    String extractContentBySource(Document doc, String source) {
+        ExtractionRule rule = source != null ? extractionRules.get(source) : null;
+        Element body = doc.body();
+        
+        if (rule != null && rule.contentSelector != null) {
+            Element scoped = doc.selectFirst(rule.contentSelector);
+            if (scoped != null) {
+                String content = ReadabilityExtractor.extract(scoped, rule.skipClasses);
+                if (content.length() >= MIN_CONTENT_LENGTH) {
+                    return content;
+                }
             }
         }
-        return "article, div.content, p";
+        
+        return ReadabilityExtractor.extract(body, rule != null ? rule.skipClasses : Collections.<String>emptySet());
     }
     
     /**
@@ -327,6 +321,24 @@ public class ContentExtractionService {
         return (double) successCount / articles.size();
     }
     
+    /**
+     * 소스별 본문 추출 재정의
+     */
+    private static class ExtractionRule {
+        private final String contentSelector;
+        private final Set<String> skipClasses = new HashSet<>();
+        
+        ExtractionRule(RssSourcesConfig.ExtractionConfig config) {
+            String selector = config.getContentSelector();
+            this.contentSelector = selector == null || selector.trim().isEmpty() ? null : selector.trim();
+            if (config.getSkipClasses() != null) {
+                for (String skipClass : config.getSkipClasses()) {
+                    skipClasses.add(skipClass.trim().toLowerCase());
+                }
+            }
+        }
+    }
+    
     /**
      * 다음 User-Agent 반환 (순환)
      */
@@ -1,8 +1,11 @@
 package com.yourco.econyang.service;
 
+import com.yourco.econyang.util.KeywordMatcher;
 import org.springframework.stereotype.Service;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.regex.Pattern;
 
@@ -35,23 +38,23 @@ public class ContentQualityFilterService {
         "공유하기", "twitter", "instagram"
     ));
     
-    // 구독/가입 요구 패턴 (정규식)
+    // 구독/가입 요구 패턴 (정규식, find()로 부분 일치 검사, 한 줄짜리 본문에만 적용)
     private static final Pattern[] SUBSCRIPTION_PATTERNS = {
-        Pattern.compile(".*무료.*구독.*", Pattern.CASE_INSENSITIVE),
-        Pattern.compile(".*free.*subscription.*", Pattern.CASE_INSENSITIVE), 
-        Pattern.compile(".*join.*today.*", Pattern.CASE_INSENSITIVE),
-        Pattern.compile(".*지금.*가입.*", Pattern.CASE_INSENSITIVE),
-        Pattern.compile(".*sign.*up.*now.*", Pattern.CASE_INSENSITIVE),
-        Pattern.compile(".*이메일.*받아보세요.*", Pattern.CASE_INSENSITIVE)
+        Pattern.compile("무료.*?구독", Pattern.CASE_INSENSITIVE),
+        Pattern.compile("free.*?subscription", Pattern.CASE_INSENSITIVE), 
+        Pattern.compile("join.*?today", Pattern.CASE_INSENSITIVE),
+        Pattern.compile("지금.*?가입", Pattern.CASE_INSENSITIVE),
+        Pattern.compile("sign.*?up.*?now", Pattern.CASE_INSENSITIVE),
+        Pattern.compile("이메일.*?받아보세요", Pattern.CASE_INSENSITIVE)
     };
     
     // 광고성 문구 패턴
     private static final Pattern[] PROMOTIONAL_PATTERNS = {
-        Pattern.compile(".*\\d+%.*할인.*", Pattern.CASE_INSENSITIVE),
-        Pattern.compile(".*\\d+%.*off.*", Pattern.CASE_INSENSITIVE),
-        Pattern.compile(".*특가.*행사.*", Pattern.CASE_INSENSITIVE),
-        Pattern.compile(".*limited.*time.*offer.*", Pattern.CASE_INSENSITIVE),
-        Pattern.compile(".*제한.*시간.*", Pattern.CASE_INSENSITIVE)
+        Pattern.compile("\\d+%.*?할인", Pattern.CASE_INSENSITIVE),
+        Pattern.compile("\\d+%.*?off", Pattern.CASE_INSENSITIVE),
+        Pattern.compile("특가.*?행사", Pattern.CASE_INSENSITIVE),
+        Pattern.compile("limited.*?time.*?offer", Pattern.CASE_INSENSITIVE),
+        Pattern.compile("제한.*?시간", Pattern.CASE_INSENSITIVE)
     };
     
     // 뉴스와 관련 없는 콘텐츠 키워드
@@ -63,6 +66,9 @@ public class ContentQualityFilterService {
         "sports", "스포츠", "축구", "야구" // 경제뉴스에서 제외할 스포츠
     ));
     
+    // 홍보성 + 뉴스 외 키워드를 한 번에 찾는 매처 (본문 1회 스캔)
+    private static final KeywordMatcher KEYWORD_MATCHER = new KeywordMatcher(combine(PROMOTIONAL_KEYWORDS, NON_NEWS_KEYWORDS));
+    
     /**
      * 본문 콘텐츠의 품질을 검사하여 사용 가능한지 판단
      */
@@ -75,47 +81,54 @@ public class ContentQualityFilterService {
             return new ContentQualityResult(false, "제목이 없음");
         }
         
-        String normalizedContent = content.toLowerCase().trim();
+        String trimmedContent = content.trim();
         String normalizedTitle = title.toLowerCase().trim();
         
         // 1. 본문이 너무 짧은지 검사 (50자 미만)
-        if (content.trim().length() < 50) {
-            return new ContentQualityResult(false, "본문이 너무 짧음 (" + content.trim().length() + "자)");
+        if (trimmedContent.length() < 50) {
+            return new ContentQualityResult(false, "본문이 너무 짧음 (" + trimmedContent.length() + "자)");
         }
         
-        // 2. 홍보성 키워드 검사
-        for (String keyword : PROMOTIONAL_KEYWORDS) {
-            if (normalizedContent.contains(keyword.toLowerCase())) {
+        // 홍보성/뉴스 외 키워드 출현 횟수를 한 번에 계산 (대소문자 무시)
+        KeywordMatcher.Hits hits = KEYWORD_MATCHER.scan(trimmedContent);
+        
+        // 2. 홍보성 키워드 검사 (본문에서 먼저 나온 키워드 기준)
+        for (String keyword : hits.getCounts().keySet()) {
+            if (PROMOTIONAL_KEYWORDS.contains(keyword)) {
                 return new ContentQualityResult(false, "홍보성 키워드 감지: " + keyword);
             }
         }
         
-        // 3. 구독/가입 요구 패턴 검사
-        for (Pattern pattern : SUBSCRIPTION_PATTERNS) {
-            if (pattern.matcher(normalizedContent).matches()) {
-                return new ContentQualityResult(false, "구독 요구 패턴 감지: " + pattern.pattern());
+        // 3~4. 구독/가입, 광고성 패턴 검사
+        // 기존 ".*a.*b.*" + matches()는 '.'이 줄바꿈을 넘지 못해 여러 줄 본문에서는 일치하지 않았으므로
+        // 같은 판정을 유지하도록 줄바꿈이 없는 본문에만 적용
+        if (!containsLineTerminator(trimmedContent)) {
+            for (Pattern pattern : SUBSCRIPTION_PATTERNS) {
+                if (pattern.matcher(trimmedContent).find()) {
+                    return new ContentQualityResult(false, "구독 요구 패턴 감지: " + pattern.pattern());
+                }
             }
-        }
-        
-        // 4. 광고성 패턴 검사
-        for (Pattern pattern : PROMOTIONAL_PATTERNS) {
-            if (pattern.matcher(normalizedContent).matches()) {
-                return new ContentQualityResult(false, "광고성 패턴 감지: " + pattern.pattern());
+            
+            for (Pattern pattern : PROMOTIONAL_PATTERNS) {
+                if (pattern.matcher(trimmedContent).find()) {
+                    return new ContentQualityResult(false, "광고성 패턴 감지: " + pattern.pattern());
+                }
             }
         }
         
         // 5. 뉴스와 관련 없는 콘텐츠 검사
-        for (String keyword : NON_NEWS_KEYWORDS) {
-            if (normalizedContent.contains(keyword.toLowerCase())) {
+        if (!hits.isEmpty()) {
+            KeywordMatcher.Hits titleHits = KEYWORD_MATCHER.scan(normalizedTitle);
+            for (String keyword : hits.getCounts().keySet()) {
                 // 단, 제목에도 해당 키워드가 있으면 의도된 뉴스일 수 있으므로 허용
-                if (!normalizedTitle.contains(keyword.toLowerCase())) {
+                if (NON_NEWS_KEYWORDS.contains(keyword) && !titleHits.contains(keyword)) {
                     return new ContentQualityResult(false, "뉴스 외 콘텐츠 감지: " + keyword);
                 }
             }
         }
         
         // 6. 제목과 본문의 관련성 검사
-        double relevanceScore = calculateTitleContentRelevance(normalizedTitle, normalizedContent);
+        double relevanceScore = calculateTitleContentRelevance(normalizedTitle, trimmedContent);
         if (relevanceScore < 0.1) { // 관련성이 10% 미만
             return new ContentQualityResult(false, "제목-본문 관련성 부족 (" + String.format("%.1f", relevanceScore * 100) + "%)");
         }
@@ -147,17 +160,31 @@ public class ContentQualityFilterService {
             return 0.0;
         }
         
-        // 본문에서 제목 키워드가 언급되는 비율 계산
-        int matches = 0;
-        for (String titleWord : meaningfulTitleWords) {
-            if (content.contains(titleWord)) {
-                matches++;
-            }
-        }
+        // 본문에서 제목 키워드가 언급되는 비율 계산 (제목 단어로 매처를 만들어 본문 1회 스캔)
+        int matches = new KeywordMatcher(meaningfulTitleWords).scan(content).distinctCount();
         
         return (double) matches / meaningfulTitleWords.size();
     }
     
+    /**
+     * 정규식 '.'이 넘지 못하는 줄 구분 문자(\n, \r, \u0085, \u2028, \u2029) 포함 여부
+     */
+    private static boolean containsLineTerminator(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029') {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private static List<String> combine(Set<String> first, Set<String> second) {
+        List<String> combined = new ArrayList<>(first);
+        combined.addAll(second);
+        return combined;
+    }
+    
     /**
      * 본문 품질 검사 결과를 담는 클래스
      */
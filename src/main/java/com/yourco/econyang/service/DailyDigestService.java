@@ -0,0 +1,73 @@
+package com.yourco.econyang.service;
+
+import com.yourco.econyang.domain.DailyDigest;
+import com.yourco.econyang.repository.DailyDigestRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 일일 다이제스트 저장/조회 서비스
+ *
+ * S4_RANK_COMPOSE가 렌더링한 모든 형식을 다이제스트 행에 함께 저장하고,
+ * 발송/조회는 저장된 결과만 읽는다 (랭킹/렌더링을 다시 하지 않음).
+ */
+@Service
+@Transactional(readOnly = true)
+public class DailyDigestService {
+
+    private final DailyDigestRepository dailyDigestRepository;
+
+    public DailyDigestService(DailyDigestRepository dailyDigestRepository) {
+        this.dailyDigestRepository = dailyDigestRepository;
+    }
+
+    /**
+     * 날짜별 다이제스트 저장 (있으면 갱신)
+     *
+     * @param renditions 형식 → 본문 (markdown 필수)
+     * @return 다이제스트 ID
+     */
+    @Transactional
+    public Long saveDigest(LocalDate digestDate, String title, Map<String, String> renditions, int rankedCount) {
+        DailyDigest digest = dailyDigestRepository.findByDigestDate(digestDate).orElse(null);
+
+        if (digest != null) {
+            // 기존 다이제스트 업데이트
+            digest.setTitle(title);
+            System.out.println("기존 다이제스트 업데이트: " + digestDate);
+        } else {
+            // 새 다이제스트 생성
+            digest = new DailyDigest(digestDate, title, renditions.get(DailyDigest.MARKDOWN_FORMAT));
+            System.out.println("새 다이제스트 생성: " + digestDate);
+        }
+        digest.updateRenditions(renditions);
+        digest.updateCounts(rankedCount, rankedCount);
+
+        return dailyDigestRepository.save(digest).getId();
+    }
+
+    /**
+     * 저장된 형식별 본문 조회 (markdown은 body_markdown)
+     */
+    public Optional<String> findRendition(Long digestId, String format) {
+        if (digestId == null) {
+            return Optional.empty();
+        }
+        if (format == null || DailyDigest.MARKDOWN_FORMAT.equals(format)) {
+            return dailyDigestRepository.findBodyMarkdown(digestId);
+        }
+        return dailyDigestRepository.findRendition(digestId, format);
+    }
+
+    /**
+     * 날짜의 다이제스트에서 형식별 본문 조회
+     */
+    public Optional<String> findRendition(LocalDate digestDate, String format) {
+        return dailyDigestRepository.findIdByDigestDate(digestDate)
+                .flatMap(digestId -> findRendition(digestId, format));
+    }
+}
@@ -0,0 +1,153 @@
+package com.yourco.econyang.service;
+
+import com.yourco.econyang.repository.ArticleDateCacheRepository;
+import com.yourco.econyang.repository.PartitionRepository;
+import com.yourco.econyang.repository.SummaryRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 보관 기간이 지난 기사/요약/날짜 캐시 정리
+ *
+ * 파티션 테이블(PostgreSQL, V10 마이그레이션)이면 보관 기간보다 오래된 월 파티션을 통째로 삭제하고,
+ * 파티션이 아니면(H2 등) 기존처럼 created_at 기준 행 삭제로 처리한다.
+ * 보관 기간은 월 단위이며, 기준 월(오늘 - N개월)보다 이전 월의 데이터가 삭제된다.
+ */
+@Service
+public class DataRetentionService {
+
+    static final String ARTICLES = "articles";
+    static final String SUMMARIES = "summaries";
+    static final String ARTICLE_DATE_CACHE = "article_date_cache";
+
+    // 파티션 테이블별 자연 키 테이블 (V15)
+    private static final Map<String, String> KEY_TABLES = new HashMap<>();
+
+    static {
+        KEY_TABLES.put(ARTICLES, "article_urls");
+        KEY_TABLES.put(SUMMARIES, "summary_keys");
+        KEY_TABLES.put(ARTICLE_DATE_CACHE, "article_date_cache_keys");
+    }
+
+    private final PartitionRepository partitionRepository;
+    private final ArticleService articleService;
+    private final SummaryRepository summaryRepository;
+    private final ArticleDateCacheRepository articleDateCacheRepository;
+
+    @Value("${app.batch.retention.articleMonths:12}")
+    private int articleMonths = 12;
+
+    @Value("${app.batch.retention.summaryMonths:12}")
+    private int summaryMonths = 12;
+
+    @Value("${app.batch.retention.dateCacheMonths:1}")
+    private int dateCacheMonths = 1;
+
+    @Value("${app.batch.retention.premakeMonths:3}")
+    private int premakeMonths = 3;
+
+    @Autowired
+    public DataRetentionService(PartitionRepository partitionRepository, ArticleService articleService,
+                                SummaryRepository summaryRepository,
+                                ArticleDateCacheRepository articleDateCacheRepository) {
+        this.partitionRepository = partitionRepository;
+        this.articleService = articleService;
+        this.summaryRepository = summaryRepository;
+        this.articleDateCacheRepository = articleDateCacheRepository;
+    }
+
+    /**
+     * 정리 결과
+     */
+    public static final class Result {
+        private int droppedPartitions;
+        private int deletedRows;
+
+        public int getDroppedPartitions() {
+            return droppedPartitions;
+        }
+
+        public int getDeletedRows() {
+            return deletedRows;
+        }
+    }
+
+    /**
+     * 앞으로 쓸 월 파티션 미리 생성 (파티션 테이블이 아니면 아무것도 하지 않음)
+     */
+    public void ensureUpcomingPartitions() {
+        for (String table : new String[]{ARTICLES, SUMMARIES, ARTICLE_DATE_CACHE}) {
+            if (partitionRepository.isPartitioned(table)) {
+                partitionRepository.ensureMonthlyPartitions(table, premakeMonths);
+            }
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 데이터 정리 (요약 → 기사 → 날짜 캐시 순)
+     */
+    @Transactional
+    public Result purgeExpired(LocalDate today) {
+        Result result = new Result();
+        ensureUpcomingPartitions();
+
+        YearMonth summaryCutoff = YearMonth.from(today).minusMonths(summaryMonths);
+        if (!dropPartitionsBefore(SUMMARIES, summaryCutoff, result)) {
+            result.deletedRows += summaryRepository.deleteOlderThan(startOf(summaryCutoff));
+        }
+
+        YearMonth articleCutoff = YearMonth.from(today).minusMonths(articleMonths);
+        if (dropPartitionsBefore(ARTICLES, articleCutoff, result)) {
+            // FK가 없으므로 삭제된 기사의 요약 정리
+            // (요약 보관 기간이 더 길거나 정리가 몇 달 밀린 경우에도 남도록 기준 월까지의 모든 요약 파티션 확인)
+            result.deletedRows += summaryRepository.deleteOrphansCreatedBefore(
+                    startOf(articleCutoff.plusMonths(1)));
+        } else {
+            result.deletedRows += articleService.cleanupOldArticles(startOf(articleCutoff));
+        }
+
+        YearMonth cacheCutoff = YearMonth.from(today).minusMonths(dateCacheMonths);
+        if (!dropPartitionsBefore(ARTICLE_DATE_CACHE, cacheCutoff, result)) {
+            result.deletedRows += articleDateCacheRepository.deleteOldCacheEntries(startOf(cacheCutoff));
+        }
+
+        System.out.println(String.format("보관 기간 정리 완료: 파티션 %d개 삭제, 행 %d건 삭제",
+                result.droppedPartitions, result.deletedRows));
+        return result;
+    }
+
+    /**
+     * cutoff 이전 월의 파티션과 그 키 테이블 행 삭제 (파티션 테이블이 아니면 false)
+     */
+    private boolean dropPartitionsBefore(String table, YearMonth cutoff, Result result) {
+        if (!partitionRepository.isPartitioned(table)) {
+            return false;
+        }
+        boolean dropped = false;
+        for (PartitionRepository.MonthlyPartition partition : partitionRepository.findMonthlyPartitions(table)) {
+            if (partition.getMonth().isBefore(cutoff)) {
+                partitionRepository.dropPartition(table, partition);
+                result.droppedPartitions++;
+                dropped = true;
+                System.out.println("파티션 삭제: " + partition.getName());
+            }
+        }
+        if (dropped) {
+            // 키 행의 created_at은 원본 행과 같으므로 기준 월 이전 키 = 삭제된 파티션의 키
+            partitionRepository.deleteKeysCreatedBefore(KEY_TABLES.get(table), startOf(cutoff));
+        }
+        return true;
+    }
+
+    private static LocalDateTime startOf(YearMonth month) {
+        return month.atDay(1).atStartOfDay();
+    }
+}
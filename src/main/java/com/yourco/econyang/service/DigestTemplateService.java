@@ -1,17 +1,24 @@
 package com.yourco.econyang.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.yourco.econyang.config.DigestTemplateConfig;
 import com.yourco.econyang.domain.Article;
 import com.yourco.econyang.domain.Summary;
+import com.yourco.econyang.util.CompiledTemplate;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.web.util.HtmlUtils;
 
+import javax.annotation.PostConstruct;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 /**
@@ -24,23 +31,77 @@ public class DigestTemplateService {
     @Autowired
     private DigestTemplateConfig templateConfig;
     
+    // 템플릿 원문 → 파싱 결과 (설정 템플릿은 기동 시 미리 파싱)
+    private final Map<String, CompiledTemplate> compiledTemplates = new ConcurrentHashMap<>();
+    
     private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy년 M월 d일");
     private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm");
     private static final DateTimeFormatter DATETIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
     
+    public static final String FORMAT_MARKDOWN = "markdown";
+    public static final String FORMAT_HTML = "html";
+    public static final String FORMAT_JSON = "json";
+    public static final String FORMAT_TEXT = "text";
+    
+    private static final ObjectMapper JSON = new ObjectMapper();
+    private static final Pattern MD_HEADING = Pattern.compile("(?m)^#{1,6}\\s+");
+    private static final Pattern MD_LINK = Pattern.compile("\\[([^\\]]+)\\]\\(([^)]+)\\)");
+    private static final Pattern MD_EMPHASIS = Pattern.compile("\\*\\*|`");
+    
+    /**
+     * 설정된 템플릿을 기동 시 한 번 파싱
+     */
+    @PostConstruct
+    public void compileTemplates() {
+        if (templateConfig == null || templateConfig.getTemplates() == null) {
+            return;
+        }
+        for (DigestTemplateConfig.Template template : templateConfig.getTemplates().values()) {
+            compiled(template.getHeader());
+            compiled(template.getArticleItem());
+            compiled(template.getFooter());
+        }
+        if (templateConfig.getFormats() != null) {
+            for (DigestTemplateConfig.Format format : templateConfig.getFormats().values()) {
+                compiled(format.getWrapperTemplate());
+            }
+        }
+        System.out.println("다이제스트 템플릿 파싱 완료: " + compiledTemplates.size() + "개");
+    }
+    
     /**
      * 기본 템플릿을 사용하여 다이제스트 생성
      */
     public String generateDigest(List<Summary> summaries) {
-        return generateDigest(summaries, "friendly", "markdown");
+        return generateDigest(summaries, "friendly", FORMAT_MARKDOWN);
     }
     
     /**
-     * 지정된 템플릿으로 다이제스트 생성
+     * 지정된 템플릿/형식으로 다이제스트 생성 (지원하지 않는 형식이면 마크다운)
      */
     public String generateDigest(List<Summary> summaries, String templateName, String formatName) {
+        RenderContext context = prepare(summaries, templateName, LocalDate.now());
+        String markdown = renderMarkdown(context);
+        if (formatName == null || FORMAT_MARKDOWN.equals(formatName)) {
+            return markdown;
+        }
+        String rendered = renderFormat(context, formatName, getTemplateTitle(templateName), markdown);
+        return rendered != null ? rendered : markdown;
+    }
+    
+    /**
+     * 다이제스트 한 건의 렌더링 입력 계산 (정렬, 통계, 템플릿 변수, 기사별 변수)
+     * 한 번 만든 컨텍스트로 모든 형식을 렌더링하므로 통계/변수 계산은 다이제스트당 한 번이다.
+     *
+     * @param digestDate 다이제스트 날짜 (본문/JSON의 날짜 표기)
+     */
+    public RenderContext prepare(List<Summary> summaries, String templateName, LocalDate digestDate) {
+        if (digestDate == null) {
+            digestDate = LocalDate.now();
+        }
         if (summaries == null || summaries.isEmpty()) {
-            return generateEmptyDigest(templateName);
+            return new RenderContext(templateName, null, Collections.emptyList(), null,
+                    Collections.emptyList(), new DigestStats(), digestDate);
         }
         
         // 템플릿 설정 조회
@@ -66,7 +127,7 @@ public class DigestTemplateService {
                 .collect(Collectors.toList());
         
         // 템플릿 변수 맵 생성
-        Map<String, Object> variables = buildTemplateVariables(summaries, stats);
+        Map<String, Object> variables = buildTemplateVariables(summaries, stats, digestDate);
         
         // 헤드라인 및 링크 목록 구성 (템플릿에서 루프 처리 가능하도록)
         List<String> headlineList = new ArrayList<>();
@@ -87,39 +148,245 @@ public class DigestTemplateService {
         variables.put("headlines", headlineList);
         variables.put("links", linkList);
         
-        // 마크다운 생성
-        StringBuilder digest = new StringBuilder();
+        // 기사별 변수 맵 생성
+        List<Map<String, Object>> articleVariables = new ArrayList<>();
+        if (template.getArticleItem() != null) {
+            for (int i = 0; i < sortedSummaries.size(); i++) {
+                articleVariables.add(buildArticleVariables(sortedSummaries.get(i), i + 1));
+            }
+        }
+        
+        return new RenderContext(templateName, template, sortedSummaries, variables, articleVariables, stats,
+                digestDate);
+    }
+    
+    /**
+     * 마크다운 및 설정된 모든 형식(digest.formats)을 한 컨텍스트로 렌더링
+     *
+     * @return 형식 → 본문 (markdown이 항상 첫 번째, 지원하지 않는 형식은 제외)
+     */
+    public Map<String, String> renderAll(RenderContext context, String title) {
+        String markdown = renderMarkdown(context);
+        
+        Map<String, String> rendered = new LinkedHashMap<>();
+        rendered.put(FORMAT_MARKDOWN, markdown);
+        
+        Map<String, DigestTemplateConfig.Format> formats = templateConfig.getFormats();
+        if (formats != null) {
+            for (String formatName : formats.keySet()) {
+                if (FORMAT_MARKDOWN.equals(formatName)) {
+                    continue;
+                }
+                String body = renderFormat(context, formatName, title, markdown);
+                if (body != null) {
+                    rendered.put(formatName, body);
+                } else {
+                    System.out.println("지원하지 않는 다이제스트 형식 건너뜀: " + formatName);
+                }
+            }
+        }
+        return rendered;
+    }
+    
+    /**
+     * 마크다운 렌더링
+     */
+    private String renderMarkdown(RenderContext context) {
+        if (context.isEmpty()) {
+            return generateEmptyDigest(context.templateName, context.date);
+        }
+        
+        DigestTemplateConfig.Template template = context.template;
+        Map<String, Object> variables = context.variables;
+        
+        // 미리 파싱된 템플릿 (header/articleItem/footer)
+        CompiledTemplate header = compiled(template.getHeader());
+        CompiledTemplate articleItem = compiled(template.getArticleItem());
+        CompiledTemplate footer = compiled(template.getFooter());
+        
+        // 마크다운 생성 (예상 길이로 한 번에 할당, 모든 노드가 같은 버퍼에 이어 붙임)
+        int capacity = (header != null ? header.getSizeHint() + 1 : 0)
+                + (articleItem != null ? (articleItem.getSizeHint() + 1) * context.articleVariables.size() : 0)
+                + (footer != null ? footer.getSizeHint() : 0);
+        StringBuilder digest = new StringBuilder(capacity);
         
         // 헤더 추가
-        if (template.getHeader() != null) {
-            digest.append(replaceVariables(template.getHeader(), variables));
+        if (header != null) {
+            header.renderTo(digest, variables);
             digest.append("\n");
         }
-        for (int i = 0; i < sortedSummaries.size(); i++) {
-            Summary summary = sortedSummaries.get(i);
-            
-            // 기사별 변수 맵 생성
-            Map<String, Object> articleVars = buildArticleVariables(summary, i + 1);
-            
-            // 기사 항목 템플릿 적용
-            if (template.getArticleItem() != null) {
-                digest.append(replaceVariables(template.getArticleItem(), articleVars));
+        
+        // 기사 항목 템플릿 적용
+        if (articleItem != null) {
+            for (Map<String, Object> articleVars : context.articleVariables) {
+                articleItem.renderTo(digest, articleVars);
                 digest.append("\n");
             }
         }
         
         // 푸터 추가
-        if (template.getFooter() != null) {
-            digest.append(replaceVariables(template.getFooter(), variables));
+        if (footer != null) {
+            footer.renderTo(digest, variables);
         }
         
         return digest.toString();
     }
     
+    /**
+     * 마크다운 외 형식 렌더링 (지원하지 않는 형식이면 null)
+     */
+    private String renderFormat(RenderContext context, String formatName, String title, String markdown) {
+        switch (formatName) {
+            case FORMAT_HTML:
+                return renderHtml(context, title);
+            case FORMAT_JSON:
+                return renderJson(context, title);
+            case FORMAT_TEXT:
+                return renderText(markdown);
+            default:
+                return null;
+        }
+    }
+    
+    /**
+     * HTML: 렌더링 컨텍스트의 통계/기사 목록을 마크업으로 만들어 html 형식의 wrapperTemplate({{title}}, {{content}})에 넣음
+     * (wrapperTemplate 스타일의 .stats, .article, .meta, .summary, .analysis, .importance-* 클래스 사용)
+     */
+    private String renderHtml(RenderContext context, String title) {
+        String content = renderHtmlContent(context, title);
+        
+        Map<String, DigestTemplateConfig.Format> formats = templateConfig.getFormats();
+        DigestTemplateConfig.Format format = formats != null ? formats.get(FORMAT_HTML) : null;
+        if (format == null || format.getWrapperTemplate() == null) {
+            return content;
+        }
+        
+        Map<String, Object> vars = new HashMap<>();
+        vars.put("title", escapeHtml(title));
+        vars.put("content", content);
+        return compiled(format.getWrapperTemplate()).render(vars);
+    }
+    
+    private String renderHtmlContent(RenderContext context, String title) {
+        StringBuilder html = new StringBuilder(1024 + context.summaries.size() * 1024);
+        html.append("<h1>").append(escapeHtml(title)).append("</h1>\n");
+        html.append("<p class=\"meta\">").append(context.date.format(DATE_FORMAT)).append("</p>\n");
+        
+        if (context.isEmpty()) {
+            html.append("<p>오늘은 수집된 경제 뉴스가 없습니다.</p>\n");
+            return html.toString();
+        }
+        
+        html.append("<div class=\"stats\">총 ").append(context.stats.totalArticles)
+                .append("개 기사 · 평균 중요도 ").append(context.stats.avgImportance).append("/10</div>\n");
+        
+        for (int i = 0; i < context.summaries.size(); i++) {
+            Summary summary = context.summaries.get(i);
+            Article article = summary.getArticle();
+            int score = summary.getScore() != null ? summary.getScore().intValue() : 0;
+            String importance = score >= 7 ? "high" : score >= 5 ? "medium" : "low";
+            String articleTitle = article != null && article.getTitle() != null ? article.getTitle() : "제목 없음";
+            String url = article != null ? article.getUrl() : null;
+            
+            html.append("<div class=\"article importance-").append(importance).append("\">\n");
+            html.append("<h2>").append(i + 1).append(". ");
+            if (url != null && (url.startsWith("http://") || url.startsWith("https://"))) {
+                html.append("<a href=\"").append(escapeHtml(url)).append("\">")
+                        .append(escapeHtml(articleTitle)).append("</a>");
+            } else {
+                html.append(escapeHtml(articleTitle));
+            }
+            html.append("</h2>\n");
+            
+            html.append("<p class=\"meta\">").append(escapeHtml(article != null ? article.getSource() : null));
+            if (article != null && article.getPublishedAt() != null) {
+                html.append(" · ").append(article.getPublishedAt().format(TIME_FORMAT));
+            }
+            html.append(" · 중요도 ").append(score).append("/10</p>\n");
+            
+            if (summary.getSummaryText() != null) {
+                html.append("<div class=\"summary\">").append(escapeHtml(summary.getSummaryText())).append("</div>\n");
+            }
+            if (summary.getWhyItMatters() != null) {
+                html.append("<div class=\"analysis\">").append(escapeHtml(summary.getWhyItMatters())).append("</div>\n");
+            }
+            List<String> bullets = summary.getBulletsList();
+            if (!bullets.isEmpty()) {
+                html.append("<ul>\n");
+                for (String bullet : bullets) {
+                    html.append("<li>").append(escapeHtml(bullet)).append("</li>\n");
+                }
+                html.append("</ul>\n");
+            }
+            html.append("</div>\n");
+        }
+        return html.toString();
+    }
+    
+    private static String escapeHtml(String text) {
+        return text != null ? HtmlUtils.htmlEscape(text, "UTF-8") : "";
+    }
+    
+    /**
+     * JSON: 렌더링 컨텍스트의 기사 목록/통계를 구조화해서 출력
+     */
+    private String renderJson(RenderContext context, String title) {
+        Map<String, Object> root = new LinkedHashMap<>();
+        root.put("title", title);
+        root.put("date", context.date.toString());
+        root.put("template", context.templateName);
+        root.put("totalArticles", context.stats.totalArticles);
+        root.put("avgImportance", context.stats.avgImportance);
+        
+        List<Map<String, Object>> articles = new ArrayList<>();
+        for (int i = 0; i < context.summaries.size(); i++) {
+            Summary summary = context.summaries.get(i);
+            Article article = summary.getArticle();
+            
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("rank", i + 1);
+            item.put("title", article != null ? article.getTitle() : null);
+            item.put("url", article != null ? article.getUrl() : null);
+            item.put("source", article != null ? article.getSource() : null);
+            item.put("publishedAt", article != null && article.getPublishedAt() != null
+                    ? article.getPublishedAt().toString() : null);
+            item.put("score", summary.getScore());
+            item.put("summary", summary.getSummaryText());
+            item.put("whyItMatters", summary.getWhyItMatters());
+            item.put("bullets", summary.getBulletsList());
+            articles.add(item);
+        }
+        root.put("articles", articles);
+        
+        try {
+            return JSON.writeValueAsString(root);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("다이제스트 JSON 렌더링 실패", e);
+        }
+    }
+    
+    /**
+     * 일반 텍스트: 마크다운 기호(제목 #, 굵게 **, 코드 `)를 지우고 링크는 "제목 (URL)"로
+     */
+    private String renderText(String markdown) {
+        String text = MD_HEADING.matcher(markdown).replaceAll("");
+        text = MD_LINK.matcher(text).replaceAll("$1 ($2)");
+        return MD_EMPHASIS.matcher(text).replaceAll("");
+    }
+    
+    /**
+     * 형식별 MIME 타입 (digest.formats 설정, 없으면 text/plain)
+     */
+    public String getMimeType(String formatName) {
+        Map<String, DigestTemplateConfig.Format> formats = templateConfig.getFormats();
+        DigestTemplateConfig.Format format = formats != null ? formats.get(formatName) : null;
+        return format != null && format.getMimeType() != null ? format.getMimeType() : "text/plain; charset=utf-8";
+    }
+    
     /**
      * 빈 다이제스트 생성 (기사가 없을 때)
      */
-    private String generateEmptyDigest(String templateName) {
+    private String generateEmptyDigest(String templateName, LocalDate digestDate) {
         DigestTemplateConfig.Template template = templateConfig.getTemplates().get(templateName);
         if (template == null) {
             template = templateConfig.getTemplates().get("friendly");
@@ -128,10 +395,8 @@ public class DigestTemplateService {
             template = templateConfig.getTemplates().get("default");
         }
         
-        LocalDate today = LocalDate.now();
-        
         StringBuilder digest = new StringBuilder();
-        digest.append("# 📈 ").append(today.format(DATE_FORMAT)).append(" 경제뉴스 다이제스트\n\n");
+        digest.append("# 📈 ").append(digestDate.format(DATE_FORMAT)).append(" 경제뉴스 다이제스트\n\n");
         digest.append("오늘은 수집된 경제 뉴스가 없습니다.\n\n");
         digest.append("---\n\n");
         digest.append("🤖 EconDigest AI | ").append(LocalDateTime.now().format(DATETIME_FORMAT));
@@ -198,14 +463,13 @@ public class DigestTemplateService {
     /**
      * 전체 템플릿 변수 맵 생성
      */
-    private Map<String, Object> buildTemplateVariables(List<Summary> summaries, DigestStats stats) {
+    private Map<String, Object> buildTemplateVariables(List<Summary> summaries, DigestStats stats, LocalDate digestDate) {
         Map<String, Object> vars = new HashMap<>();
         
-        LocalDate today = LocalDate.now();
         LocalDateTime now = LocalDateTime.now();
         
         // 날짜/시간 변수
-        vars.put("date", today.format(DATE_FORMAT));
+        vars.put("date", digestDate.format(DATE_FORMAT));
         vars.put("time", now.format(TIME_FORMAT));
         vars.put("currentDateTime", now.format(DATETIME_FORMAT));
         vars.put("nextDigestTime", "내일 아침 7시");
@@ -399,139 +663,53 @@ public class DigestTemplateService {
     }
     
     /**
-     * 템플릿 변수 치환 (Handlebars 스타일 지원)
+     * 템플릿 문자열 → 파싱된 템플릿 (같은 문자열은 한 번만 파싱)
      */
-    private String replaceVariables(String template, Map<String, Object> variables) {
-        String result = template;
-        
-        // 1. 먼저 반복문 처리 ({{#variableName}}...{{/variableName}})
-        result = processLoopTemplates(result, variables);
-        
-        // 2. 조건문 처리 ({{#if condition}}...{{/if}})
-        result = processConditionalTemplates(result, variables);
-        
-        // 3. 일반 변수 치환 ({{variableName}})
-        for (Map.Entry<String, Object> entry : variables.entrySet()) {
-            String placeholder = "{{" + entry.getKey() + "}}";
-            String value = entry.getValue() != null ? entry.getValue().toString() : "";
-            result = result.replace(placeholder, value);
+    private CompiledTemplate compiled(String source) {
+        if (source == null) {
+            return null;
         }
-        
-        return result;
+        return compiledTemplates.computeIfAbsent(source, CompiledTemplate::compile);
     }
     
     /**
-     * 반복문 템플릿 처리 ({{#listVariable}}...{{/listVariable}})
+     * 다이제스트 한 건의 렌더링 입력 (prepare()로 생성, 모든 형식이 공유)
      */
-    private String processLoopTemplates(String template, Map<String, Object> variables) {
-        String result = template;
-        
-        // 여러 개의 반복문을 처리하기 위해 while 루프 사용
-        while (true) {
-            boolean processed = false;
-            
-            for (Map.Entry<String, Object> entry : variables.entrySet()) {
-                String varName = entry.getKey();
-                Object varValue = entry.getValue();
-                
-                // List 타입인 경우만 처리
-                if (varValue instanceof List) {
-                    List<?> list = (List<?>) varValue;
-                    
-                    String startTag = "{{#" + varName + "}}";
-                    String endTag = "{{/" + varName + "}}";
-                    
-                    int startIndex = result.indexOf(startTag);
-                    if (startIndex != -1) {
-                        int endIndex = result.indexOf(endTag, startIndex);
-                        if (endIndex != -1) {
-                            String beforeLoop = result.substring(0, startIndex);
-                            String loopTemplate = result.substring(startIndex + startTag.length(), endIndex);
-                            String afterLoop = result.substring(endIndex + endTag.length());
-                            
-                            StringBuilder loopResult = new StringBuilder();
-                            for (Object item : list) {
-                                String itemContent = loopTemplate;
-                                
-                                if (item instanceof String) {
-                                    // 문자열 리스트의 경우
-                                    itemContent = itemContent.replace("{{this}}", (String) item);
-                                } else if (item instanceof Map) {
-                                    // Map 리스트의 경우 (예: glossary)
-                                    @SuppressWarnings("unchecked")
-                                    Map<String, String> itemMap = (Map<String, String>) item;
-                                    for (Map.Entry<String, String> mapEntry : itemMap.entrySet()) {
-                                        String placeholder = "{{" + mapEntry.getKey() + "}}";
-                                        itemContent = itemContent.replace(placeholder, mapEntry.getValue());
-                                    }
-                                }
-                                
-                                loopResult.append(itemContent);
-                            }
-                            
-                            result = beforeLoop + loopResult.toString() + afterLoop;
-                            processed = true;
-                            break; // 한 번에 하나씩 처리
-                        }
-                    }
-                }
-            }
-            
-            // 더 이상 처리할 반복문이 없으면 종료
-            if (!processed) {
-                break;
-            }
+    public static final class RenderContext {
+        private final String templateName;
+        private final DigestTemplateConfig.Template template;
+        private final List<Summary> summaries;
+        private final Map<String, Object> variables;
+        private final List<Map<String, Object>> articleVariables;
+        private final DigestStats stats;
+        private final LocalDate date;
+        
+        private RenderContext(String templateName, DigestTemplateConfig.Template template, List<Summary> summaries,
+                              Map<String, Object> variables, List<Map<String, Object>> articleVariables,
+                              DigestStats stats, LocalDate date) {
+            this.templateName = templateName;
+            this.template = template;
+            this.summaries = summaries;
+            this.variables = variables;
+            this.articleVariables = articleVariables;
+            this.stats = stats;
+            this.date = date;
         }
         
-        return result;
-    }
-    
-    /**
-     * 조건문 템플릿 처리 ({{#if variable}}...{{/if}})
-     */
-    private String processConditionalTemplates(String template, Map<String, Object> variables) {
-        String result = template;
+        public boolean isEmpty() {
+            return summaries.isEmpty();
+        }
         
-        // 모든 가능한 {{#if ...}} 패턴을 찾아서 처리
-        while (true) {
-            int startIndex = result.indexOf("{{#if ");
-            if (startIndex == -1) break;
-            
-            int tagEndIndex = result.indexOf("}}", startIndex);
-            if (tagEndIndex == -1) break;
-            
-            String fullStartTag = result.substring(startIndex, tagEndIndex + 2);
-            String varName = fullStartTag.substring(6, fullStartTag.length() - 2).trim(); // "{{#if " 제거하고 "}}" 제거
-            
-            String endTag = "{{/if}}";
-            int endIndex = result.indexOf(endTag, tagEndIndex);
-            if (endIndex == -1) break;
-            
-            String beforeCondition = result.substring(0, startIndex);
-            String conditionTemplate = result.substring(tagEndIndex + 2, endIndex);
-            String afterCondition = result.substring(endIndex + endTag.length());
-            
-            // 조건 평가
-            Object varValue = variables.get(varName);
-            boolean condition = evaluateCondition(varValue);
-            String conditionResult = condition ? conditionTemplate : "";
-            
-            result = beforeCondition + conditionResult + afterCondition;
+        public String getTemplateName() {
+            return templateName;
         }
         
-        return result;
-    }
-    
-    /**
-     * 조건 평가
-     */
-    private boolean evaluateCondition(Object value) {
-        if (value == null) return false;
-        if (value instanceof Boolean) return (Boolean) value;
-        if (value instanceof Number) return ((Number) value).doubleValue() > 0;
-        if (value instanceof String) return !((String) value).isEmpty();
-        if (value instanceof List) return !((List<?>) value).isEmpty();
-        return true;
+        /**
+         * 중요도순 정렬된 요약 목록
+         */
+        public List<Summary> getSummaries() {
+            return summaries;
+        }
     }
     
     /**
@@ -2,13 +2,18 @@ package com.yourco.econyang.service;
 
 import com.yourco.econyang.dto.ArticleDto;
 import com.yourco.econyang.openai.service.OpenAiClient;
+import com.yourco.econyang.util.KeywordMatcher;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import java.util.HashSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * 경제 뉴스 분류 및 필터링 서비스
@@ -69,14 +74,28 @@ public class EconomicNewsClassifier {
         "사건", "사고", "살인", "화재", "지진", "날씨"
     );
 
+    // 배치 AI 응답 한 줄: "번호|점수|이유"
+    private static final Pattern BATCH_LINE = Pattern.compile("^\\s*\\[?(\\d+)\\]?\\s*\\|\\s*(\\d+)\\s*\\|\\s*(.*)$");
+    private static final int BATCH_DESCRIPTION_MAX_LENGTH = 300;
+
+    // 키워드 집합별 사전 컴파일 결과 (영어 단어는 단어 빈도표 조회, 나머지는 공용 매처)
+    private static final KeywordGroup HIGH_PRIORITY_GROUP = new KeywordGroup(HIGH_PRIORITY_KEYWORDS);
+    private static final KeywordGroup INVESTMENT_GROUP = new KeywordGroup(ALLOWED_INVESTMENT_KEYWORDS);
+    private static final KeywordGroup CORPORATE_GROUP = new KeywordGroup(CORPORATE_KEYWORDS);
+    private static final KeywordGroup STRONG_EXCLUDE_GROUP = new KeywordGroup(STRONG_EXCLUDE_KEYWORDS);
+
+    // 한글/구문 키워드 전체를 한 번에 찾는 매처
+    private static final KeywordMatcher SUBSTRING_MATCHER = new KeywordMatcher(KeywordGroup.substringKeywordsOf(
+        HIGH_PRIORITY_GROUP, INVESTMENT_GROUP, CORPORATE_GROUP, STRONG_EXCLUDE_GROUP));
+
     /**
      * 기사의 경제 관련성과 품질을 평가합니다.
      */
     public NewsQualityScore evaluateNewsQuality(ArticleDto article) {
-        String content = getFullContent(article).toLowerCase();
+        ArticleTerms terms = new ArticleTerms(getFullContent(article));
         
         // 강력 제외 키워드 체크 (우선순위 1)
-        if (containsStrongExcludeKeywords(content)) {
+        if (terms.containsAny(STRONG_EXCLUDE_GROUP)) {
             return new NewsQualityScore(0, "강력 제외 키워드 포함", NewsCategory.EXCLUDED);
         }
         
@@ -91,7 +110,70 @@ public class EconomicNewsClassifier {
         }
         
         // 키워드 기반 폴백 분석 (우선순위 3)
-        return evaluateWithKeywords(content);
+        return evaluateWithKeywords(terms);
+    }
+    
+    /**
+     * 키워드만으로 평가 (AI 호출 없음, 병렬 실행 가능)
+     * 강력 제외 키워드가 있으면 EXCLUDED
+     */
+    public NewsQualityScore evaluateWithKeywords(ArticleDto article) {
+        ArticleTerms terms = new ArticleTerms(getFullContent(article));
+        if (terms.containsAny(STRONG_EXCLUDE_GROUP)) {
+            return new NewsQualityScore(0, "강력 제외 키워드 포함", NewsCategory.EXCLUDED);
+        }
+        return evaluateWithKeywords(terms);
+    }
+    
+    /**
+     * 여러 기사를 한 번의 AI 호출로 평가
+     *
+     * @return 입력과 같은 순서의 결과, 응답에서 찾지 못한 기사는 null (API 키가 없으면 모두 null)
+     */
+    public List<NewsQualityScore> evaluateWithAIBatch(List<ArticleDto> articles) {
+        NewsQualityScore[] scores = new NewsQualityScore[articles.size()];
+        if (articles.isEmpty()) {
+            return Arrays.asList(scores);
+        }
+        
+        StringBuilder prompt = new StringBuilder(
+            "다음 뉴스 기사들의 경제/금융/투자 관련성을 각각 0-10점으로 평가하고 이유를 설명해주세요.\n\n" +
+            "평가 기준:\n" +
+            "- 8-10점: 핵심 경제뉴스 (주식시장, 거시경제, 중앙은행 정책, GDP, 인플레이션 등)\n" +
+            "- 5-7점: 일반 경제뉴스 (기업 실적, M&A, IPO, 투자 분석 등)\n" +
+            "- 3-4점: 투자 관련 (부동산, REIT, 원자재, 투자 의견 등)\n" +
+            "- 1-2점: 경제 관련성 낮음\n" +
+            "- 0점: 비경제 뉴스 (연예, 스포츠, 정치, 사건사고 등)\n\n" +
+            "응답 형식: 기사마다 한 줄씩 번호|점수|이유\n" +
+            "예시: 1|7|기업 SWOT 분석으로 투자자에게 유용한 경제 정보\n\n");
+        for (int i = 0; i < articles.size(); i++) {
+            ArticleDto article = articles.get(i);
+            prompt.append("[").append(i + 1).append("] 제목: ").append(article.getTitle()).append("\n")
+                  .append("내용: ").append(article.getDescription() != null
+                          ? truncate(article.getDescription(), BATCH_DESCRIPTION_MAX_LENGTH) : "내용 없음").append("\n")
+                  .append("출처: ").append(article.getSource()).append("\n\n");
+        }
+        
+        String response = openAiClient.generateCompletion(
+            "당신은 경제 뉴스 분류 전문가입니다. 지정된 형식의 줄만 출력하세요.",
+            prompt.toString(), 40 * articles.size() + 50);
+        if (response == null) {
+            return Arrays.asList(scores);
+        }
+        
+        for (String line : response.split("\\r?\\n")) {
+            Matcher matcher = BATCH_LINE.matcher(line);
+            if (!matcher.matches()) {
+                continue;
+            }
+            int index = Integer.parseInt(matcher.group(1)) - 1;
+            if (index < 0 || index >= scores.length) {
+                continue;
+            }
+            int score = Math.min(10, Integer.parseInt(matcher.group(2)));
+            scores[index] = new NewsQualityScore(score, "AI분석: " + matcher.group(3).trim(), determineAICategory(score));
+        }
+        return Arrays.asList(scores);
     }
     
     /**
@@ -162,15 +244,15 @@ public class EconomicNewsClassifier {
     /**
      * 키워드 기반 폴백 분석
      */
-    private NewsQualityScore evaluateWithKeywords(String content) {
+    private NewsQualityScore evaluateWithKeywords(ArticleTerms terms) {
         // 핵심 경제 키워드 점수 (우선순위 2)
-        int highPriorityScore = countKeywords(content, HIGH_PRIORITY_KEYWORDS) * 3;
+        int highPriorityScore = terms.count(HIGH_PRIORITY_GROUP) * 3;
         
         // 투자 자산 키워드 점수 (우선순위 3) 
-        int investmentScore = countKeywords(content, ALLOWED_INVESTMENT_KEYWORDS) * 2;
+        int investmentScore = terms.count(INVESTMENT_GROUP) * 2;
         
         // 기업 키워드 점수 (우선순위 4)
-        int corporateScore = countKeywords(content, CORPORATE_KEYWORDS) * 1;
+        int corporateScore = terms.count(CORPORATE_GROUP) * 1;
         
         int totalScore = highPriorityScore + investmentScore + corporateScore;
         
@@ -185,7 +267,13 @@ public class EconomicNewsClassifier {
      * 뉴스 품질 점수가 임계값을 넘는지 확인
      */
     public boolean shouldIncludeNews(ArticleDto article, int minScore) {
-        NewsQualityScore score = evaluateNewsQuality(article);
+        return isIncluded(article, evaluateNewsQuality(article), minScore);
+    }
+
+    /**
+     * 이미 계산된 점수로 포함 여부 판단 (분류 단계 결과 사용)
+     */
+    public boolean isIncluded(ArticleDto article, NewsQualityScore score, int minScore) {
         boolean include = score.getScore() >= minScore && score.getCategory() != NewsCategory.EXCLUDED;
         
         // 로깅
@@ -211,62 +299,93 @@ public class EconomicNewsClassifier {
         return content.toString();
     }
 
-    private boolean containsStrongExcludeKeywords(String content) {
-        return STRONG_EXCLUDE_KEYWORDS.stream()
-                .anyMatch(keyword -> containsKeyword(content, keyword.toLowerCase()));
-    }
+    /**
+     * 키워드 집합 (영어 단어 / 한글·구문 키워드로 나눠 소문자로 보관)
+     * 영어 단어는 단어 경계 기준으로, 한글과 구문("interest rate", "m&a")은 부분 문자열로 센다.
+     */
+    private static final class KeywordGroup {
+        private final List<String> words = new ArrayList<>();
+        private final List<String> substrings = new ArrayList<>();
 
-    private int countKeywords(String content, Set<String> keywords) {
-        return (int) keywords.stream()
-                .mapToLong(keyword -> countKeywordOccurrences(content, keyword.toLowerCase()))
-                .sum();
-    }
+        KeywordGroup(Set<String> keywords) {
+            for (String keyword : keywords) {
+                String lower = keyword.toLowerCase();
+                if (isWordToken(lower)) {
+                    words.add(lower);
+                } else {
+                    substrings.add(lower);
+                }
+            }
+        }
 
-    private boolean containsKeyword(String text, String keyword) {
-        // 단어 경계를 고려한 키워드 매칭
-        if (keyword.contains(" ")) {
-            // 구문 키워드의 경우 직접 포함 여부 확인
-            return text.contains(keyword);
-        } else {
-            // 한글의 경우 단어 경계가 달라서 단순 포함으로 체크
-            if (keyword.matches(".*[ㄱ-ㅎㅏ-ㅣ가-힣].*")) {
-                return text.contains(keyword);
-            } else {
-                // 영어의 경우 단어 경계 확인
-                String pattern = "\\b" + keyword.toLowerCase() + "\\b";
-                return text.toLowerCase().matches(".*" + pattern + ".*");
+        static List<String> substringKeywordsOf(KeywordGroup... groups) {
+            List<String> all = new ArrayList<>();
+            for (KeywordGroup group : groups) {
+                all.addAll(group.substrings);
+            }
+            return all;
+        }
+
+        private static boolean isWordToken(String keyword) {
+            for (int i = 0; i < keyword.length(); i++) {
+                if (!isWordChar(keyword.charAt(i))) {
+                    return false;
+                }
             }
+            return true;
         }
     }
 
-    private long countKeywordOccurrences(String text, String keyword) {
-        if (!containsKeyword(text, keyword)) {
-            return 0;
+    /**
+     * 기사 1건의 색인 (영어 단어 빈도표 + 한글/구문 키워드 출현 횟수), 텍스트를 한 번씩만 훑는다.
+     */
+    private static final class ArticleTerms {
+        private final Map<String, Integer> wordCounts = new HashMap<>();
+        private final KeywordMatcher.Hits substringHits;
+
+        ArticleTerms(String text) {
+            StringBuilder word = new StringBuilder();
+            for (int i = 0; i <= text.length(); i++) {
+                char c = i < text.length() ? text.charAt(i) : ' ';
+                if (isWordChar(c)) {
+                    word.append(Character.toLowerCase(c));
+                } else if (word.length() > 0) {
+                    wordCounts.merge(word.toString(), 1, Integer::sum);
+                    word.setLength(0);
+                }
+            }
+            this.substringHits = SUBSTRING_MATCHER.scan(text);
         }
-        
-        // 간단한 카운트 (더 정확한 구현 가능)
-        if (keyword.contains(" ")) {
-            return countOccurrences(text, keyword);
-        } else if (keyword.matches(".*[ㄱ-ㅎㅏ-ㅣ가-힣].*")) {
-            // 한글 키워드의 경우 단순 횟수 계산
-            return countOccurrences(text, keyword);
-        } else {
-            // 영어의 경우 단어 경계 고려한 카운트
-            String[] words = text.toLowerCase().split("\\W+");
-            return java.util.Arrays.stream(words)
-                    .mapToLong(word -> word.equals(keyword) ? 1 : 0)
-                    .sum();
+
+        int count(KeywordGroup group) {
+            int count = 0;
+            for (String word : group.words) {
+                count += wordCounts.getOrDefault(word, 0);
+            }
+            for (String keyword : group.substrings) {
+                count += substringHits.count(keyword);
+            }
+            return count;
         }
-    }
 
-    private long countOccurrences(String text, String keyword) {
-        int count = 0;
-        int index = 0;
-        while ((index = text.indexOf(keyword, index)) != -1) {
-            count++;
-            index += keyword.length();
+        boolean containsAny(KeywordGroup group) {
+            for (String word : group.words) {
+                if (wordCounts.containsKey(word)) {
+                    return true;
+                }
+            }
+            for (String keyword : group.substrings) {
+                if (substringHits.contains(keyword)) {
+                    return true;
+                }
+            }
+            return false;
         }
-        return count;
+    }
+
+    // 영어 단어 경계 기준 (\w와 동일: ASCII 영문/숫자/밑줄)
+    private static boolean isWordChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
     }
 
     private NewsCategory determineCategory(int totalScore, int highPriorityScore, int investmentScore) {
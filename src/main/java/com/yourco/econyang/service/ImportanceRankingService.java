@@ -1,11 +1,11 @@
 package com.yourco.econyang.service;
 
 import com.yourco.econyang.domain.Summary;
+import com.yourco.econyang.util.DiversitySelector;
+import com.yourco.econyang.util.SectorFeatureExtractor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
@@ -27,6 +27,17 @@ public class ImportanceRankingService {
     @Value("${app.ranking.timeDecayHours:24}")
     private int timeDecayHours;
     
+    // 다양성 제약 (섹터/소스당 최대 개수, 0이면 섹터는 자동 배분 / 소스는 제한 없음)
+    @Value("${app.ranking.diversity.maxPerSector:0}")
+    private int maxPerSector;
+    
+    @Value("${app.ranking.diversity.maxPerSource:0}")
+    private int maxPerSource;
+    
+    // 같은 사건 요약을 하나 고를 때마다 나머지 요약 점수를 깎는 비율 (0~1)
+    @Value("${app.ranking.diversity.clusterPenalty:0.5}")
+    private double clusterPenalty;
+    
     // 뉴스 소스별 신뢰도 가중치
     private static final Map<String, Double> SOURCE_RELIABILITY = Map.of(
         // 해외 주요 언론사 (높은 신뢰도)
@@ -46,20 +57,12 @@ public class ImportanceRankingService {
         "maeil_securities", 1.1
     );
     
-    // 경제 섹터별 키워드 가중치
-    private static final Map<String, SectorWeight> SECTOR_KEYWORDS = Map.of(
-        "monetary_policy", new SectorWeight("통화정책", 1.5, Arrays.asList("금리", "central bank", "federal reserve", "통화", "monetary")),
-        "market_trend", new SectorWeight("시장동향", 1.3, Arrays.asList("market", "trading", "주식", "증시", "stock")),
-        "economic_indicator", new SectorWeight("경제지표", 1.4, Arrays.asList("GDP", "inflation", "employment", "인플레이션", "고용")),
-        "corporate_finance", new SectorWeight("기업재무", 1.2, Arrays.asList("earnings", "revenue", "profit", "기업", "실적")),
-        "international_trade", new SectorWeight("국제무역", 1.3, Arrays.asList("trade", "export", "import", "수출", "수입", "무역")),
-        "real_estate", new SectorWeight("부동산", 1.1, Arrays.asList("부동산", "real estate", "housing", "property")),
-        "commodities", new SectorWeight("원자재", 1.2, Arrays.asList("commodities", "oil", "gold", "원자재", "석유")),
-        "currency", new SectorWeight("환율", 1.3, Arrays.asList("currency", "exchange rate", "환율", "달러", "원화"))
-    );
-    
     /**
      * 종합 중요도 점수 계산 및 랭킹
+     *
+     * 종합 점수를 매긴 뒤 DiversitySelector로 섹터/소스별 최대 개수와 같은 사건(중복 요약 클러스터) 감점을 적용해
+     * 상위 maxArticles개를 고른다. 후보 전체를 정렬하지 않고 힙에서 필요한 만큼만 꺼낸다.
+     * 섹터/키워드 가중치는 요약 저장 시 계산해 둔 값을 쓰고, 값이 없는 이전 요약만 그 자리에서 계산한다.
      */
     public List<Summary> calculateImportanceRanking(List<Summary> summaries) {
         if (summaries == null || summaries.isEmpty()) {
@@ -69,39 +72,74 @@ public class ImportanceRankingService {
         System.out.println("=== 고급 중요도 산정 알고리즘 시작 ===");
         System.out.println("대상 Summary 개수: " + summaries.size());
         
-        // 1. 각 Summary의 종합 점수 계산
-        List<SummaryWithScore> scoredSummaries = summaries.stream()
-                .map(this::calculateCompositeScore)
-                .filter(scored -> scored.compositeScore >= minImportanceScore)
-                .collect(Collectors.toList());
-        
-        // 2. 점수별 정렬 (내림차순)
-        scoredSummaries.sort((a, b) -> Double.compare(b.compositeScore, a.compositeScore));
-        
-        // 3. 섹터 균형 적용
-        List<SummaryWithScore> balancedSummaries = applySecterBalance(scoredSummaries);
-        
-        // 4. 최대 개수 제한
-        if (balancedSummaries.size() > maxArticles) {
-            balancedSummaries = balancedSummaries.subList(0, maxArticles);
+        // 1. 종합 점수 계산 및 최소 점수 필터링
+        LocalDateTime now = LocalDateTime.now();
+        List<DiversitySelector.Candidate<SummaryWithScore>> candidates = new ArrayList<>();
+        Set<String> sectors = new HashSet<>();
+        Map<Long, Long> duplicateLinks = duplicateLinks(summaries);
+        for (int i = 0; i < summaries.size(); i++) {
+            Summary summary = summaries.get(i);
+            SummaryWithScore scored = calculateCompositeScore(summary, now);
+            if (scored.compositeScore < minImportanceScore) {
+                continue;
+            }
+            candidates.add(new DiversitySelector.Candidate<>(scored, scored.compositeScore, scored.sector,
+                    summary.getArticle().getSource(), clusterKey(summary, duplicateLinks), i));
+            sectors.add(scored.sector);
         }
         
-        // 5. 최종 Summary 리스트 반환
-        List<Summary> rankedSummaries = balancedSummaries.stream()
-                .map(scored -> scored.summary)
+        // 2. 다양성 제약 하에서 상위 maxArticles개 선택
+        List<DiversitySelector.Selected<SummaryWithScore>> selected =
+                createSelector(sectors.size()).select(candidates, maxArticles);
+        
+        List<Summary> rankedSummaries = selected.stream()
+                .map(entry -> entry.getItem().summary)
                 .collect(Collectors.toList());
         
         // 디버깅 정보 출력
-        printRankingDetails(balancedSummaries);
+        printRankingDetails(selected);
         
         System.out.println("고급 중요도 산정 완료: " + rankedSummaries.size() + "개 선별");
         return rankedSummaries;
     }
     
+    /**
+     * 다양성 선택기 생성 (섹터당 개수 미설정 시 maxArticles / 섹터 수, 최소 2개)
+     */
+    private DiversitySelector createSelector(int sectorCount) {
+        int sectorCap = maxPerSector > 0 ? maxPerSector : Math.max(2, maxArticles / Math.max(sectorCount, 1));
+        return new DiversitySelector(sectorCap, maxPerSource, clusterPenalty);
+    }
+    
+    /**
+     * 같은 사건으로 묶을 키 (SUMMARY_DEDUP이 기록한 원본 요약 ID, 없으면 자기 ID)
+     * C → B → A처럼 원본이 다시 중복으로 기록된 경우 후보 안에서 연결을 따라가 맨 앞 요약 ID로 묶는다.
+     */
+    private static Long clusterKey(Summary summary, Map<Long, Long> duplicateLinks) {
+        Long key = summary.getDuplicateOfId() != null ? summary.getDuplicateOfId() : summary.getId();
+        for (int steps = 0; key != null && duplicateLinks.containsKey(key) && steps < duplicateLinks.size(); steps++) {
+            key = duplicateLinks.get(key);
+        }
+        return key;
+    }
+    
+    /**
+     * 후보 요약의 중복 연결 (요약 ID → 원본 요약 ID)
+     */
+    private static Map<Long, Long> duplicateLinks(List<Summary> summaries) {
+        Map<Long, Long> links = new HashMap<>();
+        for (Summary summary : summaries) {
+            if (summary.getId() != null && summary.getDuplicateOfId() != null) {
+                links.put(summary.getId(), summary.getDuplicateOfId());
+            }
+        }
+        return links;
+    }
+    
     /**
      * 개별 Summary의 종합 점수 계산
      */
-    private SummaryWithScore calculateCompositeScore(Summary summary) {
+    private SummaryWithScore calculateCompositeScore(Summary summary, LocalDateTime now) {
         // 1. AI 점수 (기본 점수)
         double aiScore = summary.getScore() != null ? 
             summary.getScore().doubleValue() : 5.0;
@@ -110,67 +148,36 @@ public class ImportanceRankingService {
         String sourceCode = summary.getArticle().getSource();
         double sourceWeight = SOURCE_RELIABILITY.getOrDefault(sourceCode, 1.0);
         
-        // 3. 키워드 가중치 (섹터별)
-        double keywordWeight = calculateKeywordWeight(summary);
+        // 3. 키워드 가중치 / 섹터 (저장된 값 우선)
+        String sector = summary.getSector();
+        Double keywordWeight = summary.getKeywordWeight();
+        if (sector == null || keywordWeight == null) {
+            SectorFeatureExtractor.Features features = SectorFeatureExtractor.extract(
+                    summary.getArticle().getTitle(), summary.getSummaryText(), summary.getWhyItMatters(),
+                    summary.getBulletsList());
+            sector = features.getSector();
+            keywordWeight = features.getKeywordWeight();
+        }
         
         // 4. 시간 가중치 (최신성)
-        double timeWeight = calculateTimeWeight(summary);
+        double timeWeight = calculateTimeWeight(summary, now);
         
         // 5. 종합 점수 계산
         double compositeScore = aiScore * sourceWeight * keywordWeight * timeWeight;
         
-        return new SummaryWithScore(summary, compositeScore, aiScore, sourceWeight, keywordWeight, timeWeight);
-    }
-    
-    /**
-     * 키워드 기반 가중치 계산
-     */
-    private double calculateKeywordWeight(Summary summary) {
-        if (summary.getBulletsList() == null || summary.getBulletsList().isEmpty()) {
-            return 1.0; // 기본값
-        }
-        
-        List<String> keywords = summary.getBulletsList();
-        String title = summary.getArticle().getTitle();
-        String content = summary.getSummaryText() + " " + summary.getWhyItMatters();
-        String allText = (title + " " + content + " " + String.join(" ", keywords)).toLowerCase();
-        
-        double maxWeight = 1.0;
-        String matchedSector = "";
-        
-        // 각 섹터별로 키워드 매칭 검사
-        for (Map.Entry<String, SectorWeight> entry : SECTOR_KEYWORDS.entrySet()) {
-            SectorWeight sectorWeight = entry.getValue();
-            int matchCount = 0;
-            
-            for (String keyword : sectorWeight.keywords) {
-                if (allText.contains(keyword.toLowerCase())) {
-                    matchCount++;
-                }
-            }
-            
-            if (matchCount > 0) {
-                double weight = sectorWeight.weight + (matchCount * 0.1); // 매칭 개수만큼 추가 가중치
-                if (weight > maxWeight) {
-                    maxWeight = weight;
-                    matchedSector = sectorWeight.name;
-                }
-            }
-        }
-        
-        return maxWeight;
+        return new SummaryWithScore(summary, sector, compositeScore, aiScore, sourceWeight, keywordWeight, timeWeight);
     }
     
     /**
      * 시간 기반 가중치 계산 (최신성)
      */
-    private double calculateTimeWeight(Summary summary) {
+    private double calculateTimeWeight(Summary summary, LocalDateTime now) {
         LocalDateTime createdAt = summary.getCreatedAt();
         if (createdAt == null) {
             return 1.0; // 기본값
         }
         
-        long hoursAgo = ChronoUnit.HOURS.between(createdAt, LocalDateTime.now());
+        long hoursAgo = ChronoUnit.HOURS.between(createdAt, now);
         
         if (hoursAgo <= 1) {
             return 1.3; // 1시간 이내: 높은 가중치
@@ -187,66 +194,14 @@ public class ImportanceRankingService {
         }
     }
     
-    /**
-     * 섹터 균형 적용 (다양성 확보)
-     */
-    private List<SummaryWithScore> applySecterBalance(List<SummaryWithScore> sortedSummaries) {
-        Map<String, List<SummaryWithScore>> sectorGroups = new HashMap<>();
-        List<SummaryWithScore> balancedList = new ArrayList<>();
-        
-        // 섹터별로 그룹화
-        for (SummaryWithScore scored : sortedSummaries) {
-            String sector = identifySector(scored.summary);
-            sectorGroups.computeIfAbsent(sector, k -> new ArrayList<>()).add(scored);
-        }
-        
-        // 각 섹터에서 최대 3개씩 선택 (다양성 확보)
-        int maxPerSector = Math.max(2, maxArticles / Math.max(sectorGroups.size(), 1));
-        
-        for (Map.Entry<String, List<SummaryWithScore>> entry : sectorGroups.entrySet()) {
-            List<SummaryWithScore> sectorSummaries = entry.getValue();
-            int count = Math.min(maxPerSector, sectorSummaries.size());
-            balancedList.addAll(sectorSummaries.subList(0, count));
-        }
-        
-        // 종합 점수로 재정렬
-        balancedList.sort((a, b) -> Double.compare(b.compositeScore, a.compositeScore));
-        
-        return balancedList;
-    }
-    
-    /**
-     * Summary의 주요 섹터 식별
-     */
-    private String identifySector(Summary summary) {
-        if (summary.getBulletsList() == null) {
-            return "general";
-        }
-        
-        String allText = (summary.getArticle().getTitle() + " " + 
-                         summary.getSummaryText() + " " + 
-                         String.join(" ", summary.getBulletsList())).toLowerCase();
-        
-        for (Map.Entry<String, SectorWeight> entry : SECTOR_KEYWORDS.entrySet()) {
-            SectorWeight sectorWeight = entry.getValue();
-            for (String keyword : sectorWeight.keywords) {
-                if (allText.contains(keyword.toLowerCase())) {
-                    return entry.getKey();
-                }
-            }
-        }
-        
-        return "general";
-    }
-    
     /**
      * 랭킹 세부정보 출력
      */
-    private void printRankingDetails(List<SummaryWithScore> scoredSummaries) {
+    private void printRankingDetails(List<DiversitySelector.Selected<SummaryWithScore>> selected) {
         System.out.println("\n=== 중요도 산정 결과 ===");
         
-        for (int i = 0; i < scoredSummaries.size(); i++) {
-            SummaryWithScore scored = scoredSummaries.get(i);
+        for (int i = 0; i < selected.size(); i++) {
+            SummaryWithScore scored = selected.get(i).getItem();
             Summary summary = scored.summary;
             
             System.out.println(String.format(
@@ -264,12 +219,18 @@ public class ImportanceRankingService {
                 scored.aiScore, scored.sourceWeight, scored.keywordWeight, 
                 scored.timeWeight, scored.compositeScore
             ));
+            
+            double adjustedScore = selected.get(i).getAdjustedScore();
+            if (adjustedScore < scored.compositeScore) {
+                System.out.println(String.format("   └ 같은 사건 감점 후: %.2f", adjustedScore));
+            }
         }
         
         // 섹터 분포 출력
-        Map<String, Long> sectorDistribution = scoredSummaries.stream()
+        Map<String, Long> sectorDistribution = selected.stream()
                 .collect(Collectors.groupingBy(
-                    scored -> identifySector(scored.summary),
+                    entry -> entry.getItem().sector,
+                    LinkedHashMap::new,
                     Collectors.counting()));
         
         System.out.println("\n섹터 분포:");
@@ -284,15 +245,17 @@ public class ImportanceRankingService {
      */
     private static class SummaryWithScore {
         final Summary summary;
+        final String sector;
         final double compositeScore;
         final double aiScore;
         final double sourceWeight;
         final double keywordWeight;
         final double timeWeight;
         
-        SummaryWithScore(Summary summary, double compositeScore, double aiScore, 
+        SummaryWithScore(Summary summary, String sector, double compositeScore, double aiScore, 
                         double sourceWeight, double keywordWeight, double timeWeight) {
             this.summary = summary;
+            this.sector = sector;
             this.compositeScore = compositeScore;
             this.aiScore = aiScore;
             this.sourceWeight = sourceWeight;
@@ -300,19 +263,5 @@ public class ImportanceRankingService {
             this.timeWeight = timeWeight;
         }
     }
-    
-    /**
-     * 섹터별 가중치 정보
-     */
-    private static class SectorWeight {
-        final String name;
-        final double weight;
-        final List<String> keywords;
-        
-        SectorWeight(String name, double weight, List<String> keywords) {
-            this.name = name;
-            this.weight = weight;
-            this.keywords = keywords;
-        }
-    }
+
 }
\ No newline at end of file
@@ -0,0 +1,168 @@
+package com.yourco.econyang.service;
+
+import com.yourco.econyang.dto.ArticleDto;
+import com.yourco.econyang.service.EconomicNewsClassifier.NewsCategory;
+import com.yourco.econyang.service.EconomicNewsClassifier.NewsQualityScore;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+/**
+ * 수집 파이프라인의 경제 뉴스 분류 단계
+ *
+ * 1) uniqueId별 캐시 확인 (같은 기사를 다시 수집해도 재분류하지 않음)
+ * 2) 키워드 채점을 병렬 실행 (CPU 작업)
+ * 3) 제외되지 않은 기사만 여러 건씩 묶어 AI 채점 (배치당 API 1회), 실패하거나 응답에 없으면 키워드 점수 사용
+ *
+ * 캐시에는 확정된 결과(키워드 단계 제외, AI 채점 성공, AI 미사용 시 키워드 점수)만 넣는다.
+ * AI 실패로 키워드 점수를 대신 쓴 기사는 다음 수집 때 AI 채점을 다시 시도한다.
+ */
+@Service
+public class NewsClassificationService {
+
+    @Autowired
+    private EconomicNewsClassifier economicNewsClassifier;
+
+    @Value("${app.classification.aiEnabled:true}")
+    private boolean aiEnabled = true;
+
+    @Value("${app.classification.aiBatchSize:20}")
+    private int aiBatchSize = 20;
+
+    @Value("${app.classification.cacheMaxEntries:10000}")
+    private int cacheMaxEntries = 10000;
+
+    private final ExecutorService executorService =
+            Executors.newFixedThreadPool(Math.max(2, Runtime.getRuntime().availableProcessors()));
+
+    // uniqueId(없으면 URL) → 분류 결과, 오래된 항목부터 제거
+    private final Map<String, NewsQualityScore> cache = Collections.synchronizedMap(
+            new LinkedHashMap<String, NewsQualityScore>(256, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, NewsQualityScore> eldest) {
+                    return size() > cacheMaxEntries;
+                }
+            });
+
+    /**
+     * 기사 목록 분류
+     *
+     * @return 입력과 같은 순서의 분류 결과
+     */
+    public List<NewsQualityScore> classifyAll(List<ArticleDto> articles) {
+        NewsQualityScore[] results = new NewsQualityScore[articles.size()];
+        List<Integer> misses = new ArrayList<>();
+
+        for (int i = 0; i < articles.size(); i++) {
+            String key = cacheKey(articles.get(i));
+            NewsQualityScore cached = key != null ? cache.get(key) : null;
+            if (cached != null) {
+                results[i] = cached;
+            } else {
+                misses.add(i);
+            }
+        }
+
+        if (!misses.isEmpty()) {
+            long startTime = System.currentTimeMillis();
+            List<NewsQualityScore> keywordScores = scoreKeywordsInParallel(articles, misses);
+            boolean[] cacheable = new boolean[articles.size()];
+
+            // 키워드 단계에서 제외되지 않은 기사만 AI 채점 대상
+            List<Integer> aiTargets = new ArrayList<>();
+            for (int i = 0; i < misses.size(); i++) {
+                int index = misses.get(i);
+                results[index] = keywordScores.get(i);
+                if (results[index].getCategory() != NewsCategory.EXCLUDED) {
+                    aiTargets.add(index);
+                    cacheable[index] = !aiEnabled;
+                } else {
+                    cacheable[index] = true;
+                }
+            }
+            if (aiEnabled) {
+                scoreWithAIInBatches(articles, aiTargets, results, cacheable);
+            }
+
+            for (int index : misses) {
+                String key = cacheKey(articles.get(index));
+                if (key != null && cacheable[index]) {
+                    cache.put(key, results[index]);
+                }
+            }
+            System.out.println(String.format("📊 분류 단계: %d개 중 캐시 %d개, 신규 %d개 (AI 대상 %d개), %dms",
+                    articles.size(), articles.size() - misses.size(), misses.size(), aiTargets.size(),
+                    System.currentTimeMillis() - startTime));
+        }
+
+        List<NewsQualityScore> list = new ArrayList<>(results.length);
+        Collections.addAll(list, results);
+        return list;
+    }
+
+    private List<NewsQualityScore> scoreKeywordsInParallel(List<ArticleDto> articles, List<Integer> indexes) {
+        List<CompletableFuture<NewsQualityScore>> futures = indexes.stream()
+                .map(index -> CompletableFuture.supplyAsync(
+                        () -> economicNewsClassifier.evaluateWithKeywords(articles.get(index)), executorService))
+                .collect(Collectors.toList());
+
+        return futures.stream()
+                .map(CompletableFuture::join)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * AI 배치 채점, 성공한 항목만 결과를 덮어쓰고 캐시 대상으로 표시한다
+     */
+    private void scoreWithAIInBatches(List<ArticleDto> articles, List<Integer> indexes, NewsQualityScore[] results,
+                                      boolean[] cacheable) {
+        int batchSize = Math.max(1, aiBatchSize);
+        for (int from = 0; from < indexes.size(); from += batchSize) {
+            List<Integer> batch = indexes.subList(from, Math.min(indexes.size(), from + batchSize));
+            List<ArticleDto> batchArticles = batch.stream().map(articles::get).collect(Collectors.toList());
+
+            try {
+                List<NewsQualityScore> aiScores = economicNewsClassifier.evaluateWithAIBatch(batchArticles);
+                for (int i = 0; i < batch.size(); i++) {
+                    if (aiScores.get(i) != null) {
+                        results[batch.get(i)] = aiScores.get(i);
+                        cacheable[batch.get(i)] = true;
+                    }
+                }
+            } catch (Exception e) {
+                System.out.println("AI 배치 분류 실패, 키워드 점수 사용 (" + batch.size() + "개): " + e.getMessage());
+            }
+        }
+    }
+
+    private static String cacheKey(ArticleDto article) {
+        if (article.getUniqueId() != null) {
+            return article.getUniqueId();
+        }
+        return article.getUrl();
+    }
+
+    public int getCacheSize() {
+        return cache.size();
+    }
+
+    public void clearCache() {
+        cache.clear();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executorService.shutdown();
+    }
+}
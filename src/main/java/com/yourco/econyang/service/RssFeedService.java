@@ -25,6 +25,7 @@ import java.time.format.DateTimeFormatter;
 import java.util.Date;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.zip.GZIPInputStream;
 
@@ -42,9 +43,15 @@ public class RssFeedService {
     @Autowired
     private EconomicNewsClassifier economicNewsClassifier;
     
+    @Autowired
+    private NewsClassificationService newsClassificationService;
+    
     @Autowired
     private SmartDateFilterService smartDateFilterService;
     
+    @Autowired
+    private SemanticDedupService semanticDedupService;
+    
     private static final String DEBUG_DIR = "debug/rss";
     private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd_HH-mm-ss");
     
@@ -121,15 +128,44 @@ public class RssFeedService {
         }
         
         // 중복 제거 (config 기반)
-        List<ArticleDto> result = removeDuplicates(allArticles, rssSourcesConfig.getCollection().getDeduplication());
+        RssSourcesConfig.DeduplicationConfig dedupConfig = rssSourcesConfig.getCollection().getDeduplication();
+        List<ArticleDto> result = removeDuplicates(allArticles, dedupConfig);
+        
+        // 의미 중복 제거 (다른 매체의 같은 기사는 대표 1건만)
+        if (semanticDedupService != null && dedupConfig.isEnableSemanticDedup()) {
+            result = semanticDedupService.clusterAndSelect(result, dedupConfig);
+        }
         
         System.out.println("중복 제거 후 총 " + result.size() + "개 기사");
         
+        List<ArticleDto> articlesWithDate = keepRecentArticles(result);
+        
+        // 발행 시간 기준 내림차순 정렬 (최신순)
+        articlesWithDate.sort((a, b) -> {
+            if (a.getPublishedAt() == null && b.getPublishedAt() == null) return 0;
+            if (a.getPublishedAt() == null) return 1;
+            if (b.getPublishedAt() == null) return -1;
+            return b.getPublishedAt().compareTo(a.getPublishedAt());
+        });
+        
+        // 최대 기사 수 제한
+        if (articlesWithDate.size() > maxArticles) {
+            articlesWithDate = articlesWithDate.subList(0, maxArticles);
+        }
+        
+        System.out.println("최종 수집 완료: " + articlesWithDate.size() + "개 기사");
+        return articlesWithDate;
+    }
+    
+    /**
+     * 발행일자가 있는 기사는 그대로, 없는 기사는 스마트 전략으로 24시간 이내인 것만 남김
+     */
+    public List<ArticleDto> keepRecentArticles(List<ArticleDto> articles) {
         // 발행일자가 있는 기사와 없는 기사로 분리
         List<ArticleDto> articlesWithDate = new ArrayList<>();
         List<ArticleDto> articlesWithoutDate = new ArrayList<>();
         
-        for (ArticleDto article : result) {
+        for (ArticleDto article : articles) {
             if (article.getPublishedAt() != null) {
                 articlesWithDate.add(article);
             } else {
@@ -149,21 +185,6 @@ public class RssFeedService {
             System.out.println("스마트 필터링으로 유효 확인된 기사: " + validArticlesFromSmartFilter.size() + "개");
             articlesWithDate.addAll(validArticlesFromSmartFilter);
         }
-        
-        // 발행 시간 기준 내림차순 정렬 (최신순)
-        articlesWithDate.sort((a, b) -> {
-            if (a.getPublishedAt() == null && b.getPublishedAt() == null) return 0;
-            if (a.getPublishedAt() == null) return 1;
-            if (b.getPublishedAt() == null) return -1;
-            return b.getPublishedAt().compareTo(a.getPublishedAt());
-        });
-        
-        // 최대 기사 수 제한
-        if (articlesWithDate.size() > maxArticles) {
-            articlesWithDate = articlesWithDate.subList(0, maxArticles);
-        }
-        
-        System.out.println("최종 수집 완료: " + articlesWithDate.size() + "개 기사");
         return articlesWithDate;
     }
     
@@ -476,6 +497,16 @@ public class RssFeedService {
         List<ArticleDto> result = new ArrayList<>();
         int titleLengthFiltered = 0, includeKeywordFiltered = 0, excludeKeywordFiltered = 0, economicQualityFiltered = 0;
         
+        // 제목 길이를 통과한 기사만 분류 단계에서 한 번에 채점 (병렬 키워드 + 배치 AI)
+        List<ArticleDto> classifiable = articles.stream()
+                .filter(article -> passesTitleLengthFilter(article, filters))
+                .collect(Collectors.toList());
+        Map<ArticleDto, EconomicNewsClassifier.NewsQualityScore> qualityScores = new IdentityHashMap<>();
+        List<EconomicNewsClassifier.NewsQualityScore> classified = newsClassificationService.classifyAll(classifiable);
+        for (int i = 0; i < classifiable.size(); i++) {
+            qualityScores.put(classifiable.get(i), classified.get(i));
+        }
+        
         for (ArticleDto article : articles) {
             boolean passed = true;
             String reason = null;
@@ -489,7 +520,7 @@ public class RssFeedService {
                 titleLengthFiltered++;
             }
             // 2. 고급 경제 뉴스 분류 필터 (새로 추가)
-            else if (!economicNewsClassifier.shouldIncludeNews(article, 2)) { // 최소 점수 2점
+            else if (!economicNewsClassifier.isIncluded(article, qualityScores.get(article), 2)) { // 최소 점수 2점
                 passed = false;
                 reason = "경제 관련성 부족 (고급 분류)";
                 economicQualityFiltered++;
@@ -572,50 +603,70 @@ public class RssFeedService {
             return articles;
         }
         
-        List<ArticleDto> result = new ArrayList<>();
-        Set<String> seenUniqueIds = new HashSet<>();
-        Set<String> seenUrls = new HashSet<>();
+        DuplicateFilter filter = new DuplicateFilter(dedupConfig, null);
+        return articles.stream()
+                .filter(filter)
+                .collect(Collectors.toList());
+    }
+    
+    /**
+     * 기사를 한 건씩 받아 처음 보는 기사만 통과시키는 중복 판정기 (스트리밍 수집용, 의미 중복 제거 포함)
+     * 스레드 안전하지 않으므로 한 스레드에서만 사용한다.
+     */
+    public Predicate<ArticleDto> newDeduplicator() {
+        RssSourcesConfig.DeduplicationConfig dedupConfig = rssSourcesConfig.getCollection().getDeduplication();
+        SemanticDedupService.Session session = semanticDedupService != null && dedupConfig.isEnableSemanticDedup()
+                ? semanticDedupService.openSession(dedupConfig) : null;
+        return new DuplicateFilter(dedupConfig, session);
+    }
+    
+    /**
+     * 고유 ID → URL → 제목 유사도 → (선택) 의미 유사도 순으로 판정
+     */
+    private class DuplicateFilter implements Predicate<ArticleDto> {
+        private final RssSourcesConfig.DeduplicationConfig dedupConfig;
+        private final SemanticDedupService.Session semanticSession;
+        private final Set<String> seenUniqueIds = new HashSet<>();
+        private final Set<String> seenUrls = new HashSet<>();
+        private final List<String> acceptedTitles = new ArrayList<>();
         
-        for (ArticleDto article : articles) {
-            boolean isDuplicate = false;
-            
+        DuplicateFilter(RssSourcesConfig.DeduplicationConfig dedupConfig, SemanticDedupService.Session semanticSession) {
+            this.dedupConfig = dedupConfig;
+            this.semanticSession = semanticSession;
+        }
+        
+        @Override
+        public boolean test(ArticleDto article) {
             // 고유 ID 기반 중복 제거 (우선순위 1)
-            if (article.getUniqueId() != null) {
-                if (seenUniqueIds.contains(article.getUniqueId())) {
-                    isDuplicate = true;
-                    System.out.println("중복 제거 (고유ID): " + article.getUniqueId() + " -> " + article.getTitle());
-                } else {
-                    seenUniqueIds.add(article.getUniqueId());
-                }
+            if (article.getUniqueId() != null && !seenUniqueIds.add(article.getUniqueId())) {
+                System.out.println("중복 제거 (고유ID): " + article.getUniqueId() + " -> " + article.getTitle());
+                return false;
             }
             
             // URL 기반 중복 제거 (우선순위 2)
-            if (!isDuplicate && dedupConfig.isEnableUrlDedup()) {
-                if (seenUrls.contains(article.getUrl())) {
-                    isDuplicate = true;
-                    System.out.println("중복 제거 (URL): " + article.getUrl());
-                } else {
-                    seenUrls.add(article.getUrl());
-                }
+            if (dedupConfig.isEnableUrlDedup() && !seenUrls.add(article.getUrl())) {
+                System.out.println("중복 제거 (URL): " + article.getUrl());
+                return false;
             }
             
             // 제목 유사도 기반 중복 제거 (우선순위 3)
-            if (!isDuplicate && dedupConfig.isEnableTitleDedup()) {
-                for (ArticleDto existing : result) {
-                    if (calculateTitleSimilarity(article.getTitle(), existing.getTitle()) >= dedupConfig.getTitleSimilarityThreshold()) {
-                        isDuplicate = true;
+            if (dedupConfig.isEnableTitleDedup()) {
+                for (String existing : acceptedTitles) {
+                    if (calculateTitleSimilarity(article.getTitle(), existing) >= dedupConfig.getTitleSimilarityThreshold()) {
                         System.out.println("중복 제거 (제목 유사도): " + article.getTitle());
-                        break;
+                        return false;
                     }
                 }
             }
             
-            if (!isDuplicate) {
-                result.add(article);
+            // 의미 유사도 기반 중복 제거 (우선순위 4, 세션이 있을 때만)
+            if (semanticSession != null && semanticSession.match(article) != null) {
+                return false;
             }
+            
+            acceptedTitles.add(article.getTitle());
+            return true;
         }
-        
-        return result;
     }
     
     /**
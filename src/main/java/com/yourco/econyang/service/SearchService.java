@@ -0,0 +1,125 @@
+package com.yourco.econyang.service;
+
+import com.yourco.econyang.dto.SearchHit;
+import com.yourco.econyang.dto.SearchPage;
+import com.yourco.econyang.repository.SearchRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 기사/요약 검색 서비스
+ *
+ * 사용자 검색어를 단어별 접두 일치 tsquery(금리 인상 → 금리:* & 인상:*)로 바꿔 전문 검색하고,
+ * 결과는 size+1건을 조회해 다음 페이지 여부만 판단한다 (전체 건수 COUNT 없음).
+ */
+@Service
+public class SearchService {
+
+    static final int MAX_PAGE_SIZE = 50;
+    // 깊은 페이지는 OFFSET 비용이 크고 page * size가 int 범위를 넘을 수 있어 이 이후는 빈 페이지로 응답
+    static final int MAX_PAGE_INDEX = 200;
+    private static final int MAX_TERMS = 8;
+    private static final int MIN_SIMILAR_TITLE_LENGTH = 3;
+
+    private final SearchRepository searchRepository;
+
+    @Autowired
+    public SearchService(SearchRepository searchRepository) {
+        this.searchRepository = searchRepository;
+    }
+
+    /**
+     * 기사 검색 (제목 + 발췌)
+     */
+    public SearchPage<SearchHit> searchArticles(String query, LocalDate from, LocalDate to, int page, int size) {
+        String tsQuery = toTsQuery(query);
+        int pageSize = clampSize(size);
+        int pageIndex = Math.max(0, page);
+        if (tsQuery == null || pageIndex > MAX_PAGE_INDEX) {
+            return SearchPage.empty(pageIndex, pageSize);
+        }
+        List<SearchHit> hits = searchRepository.searchArticles(tsQuery, startOf(from), endOf(to),
+                pageSize + 1, pageIndex * pageSize);
+        return toPage(hits, pageIndex, pageSize);
+    }
+
+    /**
+     * 요약 검색 (요약 본문 + 핵심 포인트 + 왜 중요한가)
+     */
+    public SearchPage<SearchHit> searchSummaries(String query, LocalDate from, LocalDate to, int page, int size) {
+        String tsQuery = toTsQuery(query);
+        int pageSize = clampSize(size);
+        int pageIndex = Math.max(0, page);
+        if (tsQuery == null || pageIndex > MAX_PAGE_INDEX) {
+            return SearchPage.empty(pageIndex, pageSize);
+        }
+        List<SearchHit> hits = searchRepository.searchSummaries(tsQuery, startOf(from), endOf(to),
+                pageSize + 1, pageIndex * pageSize);
+        return toPage(hits, pageIndex, pageSize);
+    }
+
+    /**
+     * 제목이 비슷한 기사 (트라이그램 유사도, 오타/어순 차이 허용)
+     */
+    public List<SearchHit> findSimilarTitles(String title, int limit) {
+        if (title == null || title.trim().length() < MIN_SIMILAR_TITLE_LENGTH) {
+            return new ArrayList<>();
+        }
+        return searchRepository.findSimilarTitles(title.trim(), clampSize(limit));
+    }
+
+    /**
+     * 검색어 → tsquery 식 변환 (글자/숫자 외 문자는 구분자로 취급, 검색할 단어가 없으면 null)
+     *
+     * tsquery 연산자(&, |, !, :, 괄호)가 입력에 섞여도 구문 오류가 나지 않도록 단어만 남긴다.
+     */
+    static String toTsQuery(String query) {
+        if (query == null) {
+            return null;
+        }
+        List<String> terms = new ArrayList<>();
+        for (String token : query.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!token.isEmpty() && !terms.contains(token)) {
+                terms.add(token);
+                if (terms.size() == MAX_TERMS) {
+                    break;
+                }
+            }
+        }
+        if (terms.isEmpty()) {
+            return null;
+        }
+
+        StringBuilder tsQuery = new StringBuilder();
+        for (String term : terms) {
+            if (tsQuery.length() > 0) {
+                tsQuery.append(" & ");
+            }
+            tsQuery.append(term).append(":*");
+        }
+        return tsQuery.toString();
+    }
+
+    private static SearchPage<SearchHit> toPage(List<SearchHit> hits, int page, int size) {
+        boolean hasNext = hits.size() > size;
+        return new SearchPage<>(hasNext ? new ArrayList<>(hits.subList(0, size)) : hits, page, size, hasNext);
+    }
+
+    private static int clampSize(int size) {
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+
+    private static LocalDateTime startOf(LocalDate date) {
+        return date != null ? date.atStartOfDay() : null;
+    }
+
+    private static LocalDateTime endOf(LocalDate date) {
+        return date != null ? date.plusDays(1).atStartOfDay() : null;
+    }
+}
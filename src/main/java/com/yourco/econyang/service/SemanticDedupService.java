@@ -0,0 +1,167 @@
+package com.yourco.econyang.service;
+
+import com.yourco.econyang.config.RssSourcesConfig;
+import com.yourco.econyang.dto.ArticleDto;
+import com.yourco.econyang.util.HashingTextEmbedder;
+import com.yourco.econyang.util.VectorIndex;
+import org.jsoup.Jsoup;
+import org.springframework.stereotype.Service;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 임베딩 기반 의미 중복 제거
+ *
+ * 제목+요약을 로컬 임베딩으로 바꿔 메모리 색인에 넣고, 이미 선택된 기사와 코사인 유사도가 임계값 이상이면
+ * 같은 클러스터로 묶는다. 클러스터마다 대표 1건만 본문 추출/요약 단계로 넘긴다.
+ * (여러 매체가 같은 사건을 다른 제목으로 보도하는 경우 - 단어 Jaccard로는 잡히지 않음)
+ */
+@Service
+public class SemanticDedupService {
+
+    private HashingTextEmbedder embedder;
+    private String loadedWeightsPath;
+
+    /**
+     * 클러스터 대표만 남긴 목록 (입력 순서 유지)
+     */
+    public List<ArticleDto> clusterAndSelect(List<ArticleDto> articles, RssSourcesConfig.DeduplicationConfig dedupConfig) {
+        if (articles.size() < 2) {
+            return articles;
+        }
+
+        long startTime = System.currentTimeMillis();
+        Session session = openSession(dedupConfig);
+        for (ArticleDto article : articles) {
+            ArticleDto representative = session.match(article);
+            // 대표에 발행일이 없으면 발행일이 있는 기사로 교체 (이후 날짜 필터/정렬에 필요)
+            if (representative != null && representative.getPublishedAt() == null && article.getPublishedAt() != null) {
+                session.replaceRepresentative(representative, article);
+            }
+        }
+
+        List<ArticleDto> representatives = session.getRepresentatives();
+        System.out.println(String.format("의미 중복 제거: %d개 → %d개 클러스터 (%d개 병합), %dms",
+                articles.size(), representatives.size(), session.getMergedCount(), System.currentTimeMillis() - startTime));
+        return representatives;
+    }
+
+    /**
+     * 기사를 한 건씩 넣으며 판정하는 세션 (스트리밍 수집용)
+     */
+    public Session openSession(RssSourcesConfig.DeduplicationConfig dedupConfig) {
+        return new Session(getEmbedder(dedupConfig.getEmbeddingWeightsPath()),
+                dedupConfig.getSemanticSimilarityThreshold(), dedupConfig.isDedupWithinSourceOnly());
+    }
+
+    /**
+     * 클러스터링 세션 (색인 payload는 대표 목록의 위치), 스레드 안전하지 않다
+     */
+    public static final class Session {
+        private final HashingTextEmbedder embedder;
+        private final double threshold;
+        private final boolean withinSourceOnly;
+        private final VectorIndex<Integer> index;
+        private final List<ArticleDto> representatives = new ArrayList<>();
+        private int merged;
+
+        private Session(HashingTextEmbedder embedder, double threshold, boolean withinSourceOnly) {
+            this.embedder = embedder;
+            this.threshold = threshold;
+            this.withinSourceOnly = withinSourceOnly;
+            this.index = new VectorIndex<>(embedder.getDimension());
+        }
+
+        /**
+         * 같은 클러스터의 대표 기사 (없으면 새 대표로 등록하고 null)
+         */
+        public ArticleDto match(ArticleDto article) {
+            float[] vector = embedder.embed(embeddingText(article));
+            // 같은 소스만 묶을 때는 같은 소스 대표 중에서 찾음 (더 가까운 다른 소스 대표에 가려지지 않도록)
+            VectorIndex.Match<Integer> match = withinSourceOnly
+                    ? index.nearest(vector, position ->
+                            Objects.equals(representatives.get(position).getSource(), article.getSource()))
+                    : index.nearest(vector);
+
+            if (match != null && match.getSimilarity() >= threshold) {
+                ArticleDto representative = representatives.get(match.getPayload());
+                merged++;
+                System.out.println(String.format("중복 제거 (의미 유사도 %.2f): %s ≈ %s",
+                        match.getSimilarity(), article.getTitle(), representative.getTitle()));
+                return representative;
+            }
+
+            index.add(vector, representatives.size());
+            representatives.add(article);
+            return null;
+        }
+
+        /**
+         * 클러스터 대표 교체 (색인 벡터는 기존 대표 것을 유지)
+         */
+        public void replaceRepresentative(ArticleDto current, ArticleDto replacement) {
+            for (int i = 0; i < representatives.size(); i++) {
+                if (representatives.get(i) == current) {
+                    representatives.set(i, replacement);
+                    return;
+                }
+            }
+        }
+
+        public List<ArticleDto> getRepresentatives() {
+            return representatives;
+        }
+
+        public int getMergedCount() {
+            return merged;
+        }
+    }
+
+    private static String embeddingText(ArticleDto article) {
+        StringBuilder text = new StringBuilder();
+        if (article.getTitle() != null) {
+            text.append(article.getTitle());
+        }
+        String description = article.getDescription();
+        if (description != null && !description.isEmpty()) {
+            if (description.indexOf('<') >= 0) {
+                description = Jsoup.parse(description).text();
+            }
+            text.append(' ').append(description);
+        }
+        return text.toString();
+    }
+
+    /**
+     * 임베딩 모델 지연 로드 (가중치 파일이 없거나 읽지 못하면 기본 가중치)
+     */
+    private synchronized HashingTextEmbedder getEmbedder(String weightsPath) {
+        if (embedder != null && Objects.equals(loadedWeightsPath, weightsPath)) {
+            return embedder;
+        }
+
+        HashingTextEmbedder loaded = null;
+        if (weightsPath != null && !weightsPath.trim().isEmpty()) {
+            Path path = Paths.get(weightsPath.trim());
+            if (Files.isReadable(path)) {
+                try {
+                    loaded = HashingTextEmbedder.load(path, HashingTextEmbedder.DEFAULT_DIMENSION);
+                    System.out.println("임베딩 가중치 로드: " + path);
+                } catch (Exception e) {
+                    System.out.println("임베딩 가중치 로드 실패, 기본값 사용: " + e.getMessage());
+                }
+            } else {
+                System.out.println("임베딩 가중치 파일 없음, 기본값 사용: " + path);
+            }
+        }
+
+        embedder = loaded != null ? loaded : new HashingTextEmbedder();
+        loadedWeightsPath = weightsPath;
+        return embedder;
+    }
+}
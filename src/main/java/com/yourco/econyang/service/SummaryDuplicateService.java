@@ -0,0 +1,61 @@
+package com.yourco.econyang.service;
+
+import com.yourco.econyang.repository.SummaryDuplicateRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 요약 유사 중복 탐지 서비스
+ *
+ * 마지막 실행 이후 저장된 요약만 묶음 단위로 검사한다 (묶음마다 한 트랜잭션).
+ * 검사한 요약은 dedup_checked로 표시되므로 중간에 멈춰도 다음 실행이 이어서 처리한다.
+ */
+@Service
+public class SummaryDuplicateService {
+
+    private final SummaryDuplicateRepository summaryDuplicateRepository;
+
+    @Value("${app.batch.summaryDedup.batchSize:200}")
+    private int batchSize = 200;
+
+    @Value("${app.batch.summaryDedup.windowDays:7}")
+    private int windowDays = 7;
+
+    @Value("${app.batch.summaryDedup.similarityThreshold:0.6}")
+    private double similarityThreshold = 0.6;
+
+    // 한 번 실행에서 처리할 최대 묶음 수 (밀린 요약이 많아도 실행 시간이 끝없이 늘지 않도록)
+    @Value("${app.batch.summaryDedup.maxBatches:50}")
+    private int maxBatches = 50;
+
+    @Autowired
+    public SummaryDuplicateService(SummaryDuplicateRepository summaryDuplicateRepository) {
+        this.summaryDuplicateRepository = summaryDuplicateRepository;
+    }
+
+    /**
+     * 새 요약 중복 검사
+     *
+     * @return 전체 검사 건수와 중복으로 표시한 건수
+     */
+    public SummaryDuplicateRepository.BatchResult detectNewDuplicates() {
+        long startTime = System.currentTimeMillis();
+        int checked = 0;
+        int duplicates = 0;
+
+        for (int batch = 0; batch < maxBatches; batch++) {
+            SummaryDuplicateRepository.BatchResult result =
+                    summaryDuplicateRepository.detectNextBatch(batchSize, windowDays, similarityThreshold);
+            checked += result.getChecked();
+            duplicates += result.getDuplicates();
+            if (result.getChecked() < batchSize) {
+                break;
+            }
+        }
+
+        System.out.println(String.format("요약 중복 검사: %d개 검사, %d개 중복 표시 (최근 %d일, 유사도 %.2f 이상), %dms",
+                checked, duplicates, windowDays, similarityThreshold, System.currentTimeMillis() - startTime));
+        return new SummaryDuplicateRepository.BatchResult(checked, duplicates);
+    }
+}
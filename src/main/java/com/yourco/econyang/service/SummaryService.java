@@ -146,6 +146,13 @@ public class SummaryService {
         return summary;
     }
     
+    /**
+     * 기본 요약 모델명
+     */
+    public String getDefaultModel() {
+        return defaultModel;
+    }
+    
     /**
      * 여러 기사에 대한 배치 요약 생성
      */
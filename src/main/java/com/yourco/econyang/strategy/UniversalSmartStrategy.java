@@ -4,6 +4,7 @@ import com.yourco.econyang.domain.Article;
 import com.yourco.econyang.dto.ArticleDto;
 import com.yourco.econyang.service.ArticleDateCacheService;
 import com.yourco.econyang.service.ContentDateExtractor;
+import com.yourco.econyang.util.HeadSniffer;
 import com.yourco.econyang.util.PerformanceMonitor;
 import com.yourco.econyang.util.UrlDateExtractor;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -11,6 +12,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.CookieManager;
 import java.net.CookiePolicy;
 import java.net.URI;
@@ -48,6 +50,12 @@ public class UniversalSmartStrategy implements SmartDateFilterStrategy {
     @Value("${app.rss.universalMaxAgeHours:72}")
     private int universalMaxAgeHours;
     
+    @Value("${app.rss.headSniffMaxBytes:65536}")
+    private int headSniffMaxBytes = HeadSniffer.DEFAULT_HEAD_MAX_BYTES;
+    
+    @Value("${app.rss.contentScanMaxBytes:262144}")
+    private int contentScanMaxBytes = HeadSniffer.DEFAULT_BODY_MAX_BYTES;
+    
     private final HttpClient httpClient;
     private final ConcurrentHashMap<String, String> contentCache = new ConcurrentHashMap<>();
     private final Random random = new Random();
@@ -159,12 +167,11 @@ public class UniversalSmartStrategy implements SmartDateFilterStrategy {
             return result;
         }
         
-        // 2. 본문 스캔 시도 (활성화된 경우만)
+        // 2. 본문 스캔 시도 (활성화된 경우만) - 구조화 메타데이터(json_ld/meta) → 본문 정규식(content_scan)
         if (enableContentScan && currentAttempt < maxAttempts) {
-            Optional<LocalDateTime> contentDate = extractDateFromContent(url, article.getSource());
-            if (contentDate.isPresent()) {
-                LocalDateTime dateTime = contentDate.get();
-                DateEstimationResult result = new DateEstimationResult(Optional.of(dateTime), 0.8, "content_scan", "Universal content scan extraction: " + url);
+            Optional<DateEstimationResult> contentResult = extractDateFromContent(url, article.getSource());
+            if (contentResult.isPresent()) {
+                DateEstimationResult result = contentResult.get();
                 if (cacheService != null) {
                     cacheService.saveDateExtractionResult(url, "Universal", result);
                 }
@@ -187,8 +194,9 @@ public class UniversalSmartStrategy implements SmartDateFilterStrategy {
     
     /**
      * URL에서 본문을 가져와서 날짜 추출
+     * 구조화 메타데이터 단계가 실패한 경우에만 본문 정규식 단계를 실행
      */
-    private Optional<LocalDateTime> extractDateFromContent(String url, String sourceName) {
+    private Optional<DateEstimationResult> extractDateFromContent(String url, String sourceName) {
         if (!enableContentScan || url == null) {
             return Optional.empty();
         }
@@ -220,7 +228,15 @@ public class UniversalSmartStrategy implements SmartDateFilterStrategy {
             
             if (content != null) {
                 long extractStart = performanceMonitor.startTiming("content_date_extract");
-                Optional<LocalDateTime> result = contentDateExtractor.extractDateForSource(content, sourceName);
+                Optional<DateEstimationResult> result = contentDateExtractor.extractDateFromHead(content)
+                        .map(structured -> new DateEstimationResult(Optional.of(structured.getDateTime()), 0.85,
+                                structured.getExtractionMethod(),
+                                "Universal structured metadata (" + structured.getKey() + "): " + url));
+                if (!result.isPresent()) {
+                    result = contentDateExtractor.extractDateForSource(content, sourceName)
+                            .map(dateTime -> new DateEstimationResult(Optional.of(dateTime), 0.8, "content_scan",
+                                    "Universal content scan extraction: " + url));
+                }
                 performanceMonitor.endTiming("content_date_extract", extractStart);
                 
                 if (result.isPresent()) {
@@ -241,7 +257,8 @@ public class UniversalSmartStrategy implements SmartDateFilterStrategy {
     }
     
     /**
-     * HTTP로 본문 내용 가져오기
+     * HTTP로 페이지 앞부분 가져오기
+     * {@code <head>}에서 발행일을 찾으면 그 지점에서 연결을 끊고, 못 찾으면 본문 상한까지만 읽음
      */
     private String fetchContent(String url) {
         try {
@@ -260,7 +277,7 @@ public class UniversalSmartStrategy implements SmartDateFilterStrategy {
                 requestBuilder.header("User-Agent", "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36")
                             .header("Accept", "text/html,application/xhtml+xml,application/xml;q=0.9,image/webp,*/*;q=0.8")
                             .header("Accept-Language", "ko-KR,ko;q=0.9,en-US;q=0.8,en;q=0.7")
-                            .header("Accept-Encoding", "gzip, deflate, br")
+                            .header("Accept-Encoding", "gzip, deflate")
                             .header("Upgrade-Insecure-Requests", "1")
                             .header("Sec-Fetch-Dest", "document")
                             .header("Sec-Fetch-Mode", "navigate")
@@ -272,11 +289,12 @@ public class UniversalSmartStrategy implements SmartDateFilterStrategy {
             }
             
             HttpRequest request = requestBuilder.build();
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            HttpResponse<InputStream> response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
             
             if (response.statusCode() == 200) {
-                return response.body();
+                return sniffContent(response);
             } else {
+                response.body().close();
                 System.out.println("본문 가져오기 실패 - HTTP " + response.statusCode() + ": " + url);
                 return null;
             }
@@ -289,6 +307,24 @@ public class UniversalSmartStrategy implements SmartDateFilterStrategy {
         }
     }
     
+    /**
+     * 응답 스트림을 종료 조건까지 읽고 닫음 (닫는 시점에 남은 전송이 중단됨)
+     */
+    private String sniffContent(HttpResponse<InputStream> response) throws IOException {
+        HeadSniffer sniffer = new HeadSniffer(headSniffMaxBytes, contentScanMaxBytes,
+                head -> contentDateExtractor.extractDateFromHead(head).isPresent());
+        sniffer.setCharset(HeadSniffer.charsetOf(response.headers().firstValue("Content-Type").orElse(null)));
+        
+        try (InputStream body = HeadSniffer.decode(response.body(),
+                response.headers().firstValue("Content-Encoding").orElse(null))) {
+            sniffer.readFrom(body);
+        }
+        
+        performanceMonitor.recordBytes(sniffer.isBodyRead() ? "content_fetch_body" : "content_fetch_head",
+                sniffer.getBytesRead());
+        return sniffer.toHtml();
+    }
+    
     /**
      * 모든 날짜 추정 실패 시 일부 기사 허용 여부 결정
      * 소스별로 다른 정책 적용 가능
@@ -335,6 +371,10 @@ public class UniversalSmartStrategy implements SmartDateFilterStrategy {
             case "content_scan":
                 baseScore = 0.8;
                 break;
+            case "json_ld":
+            case "meta":
+                baseScore = 0.85;
+                break;
             case "cache":
                 baseScore = 0.9;
                 break;
@@ -412,7 +452,7 @@ public class UniversalSmartStrategy implements SmartDateFilterStrategy {
                     .header("User-Agent", "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/131.0.0.0 Safari/537.36")
                     .header("Accept", "text/html,application/xhtml+xml,application/xml;q=0.9,image/avif,image/webp,image/apng,*/*;q=0.8")
                     .header("Accept-Language", "ko-KR,ko;q=0.9,en-US;q=0.8,en;q=0.7")
-                    .header("Accept-Encoding", "gzip, deflate, br, zstd")
+                    .header("Accept-Encoding", "gzip, deflate")
                     .header("DNT", "1")
                     .header("Upgrade-Insecure-Requests", "1")
                     .header("Sec-CH-UA", "\"Google Chrome\";v=\"131\", \"Chromium\";v=\"131\", \"Not_A Brand\";v=\"24\"")
@@ -425,7 +465,8 @@ public class UniversalSmartStrategy implements SmartDateFilterStrategy {
                     .GET()
                     .build();
             
-            HttpResponse<String> mainResponse = httpClient.send(mainRequest, HttpResponse.BodyHandlers.ofString());
+            // 세션 쿠키만 필요하므로 본문은 버림
+            HttpResponse<Void> mainResponse = httpClient.send(mainRequest, HttpResponse.BodyHandlers.discarding());
             if (mainResponse.statusCode() != 200) {
                 System.out.println("메인 페이지 접근 실패: " + mainResponse.statusCode());
             }
@@ -440,7 +481,7 @@ public class UniversalSmartStrategy implements SmartDateFilterStrategy {
                     .header("User-Agent", "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/131.0.0.0 Safari/537.36")
                     .header("Accept", "text/html,application/xhtml+xml,application/xml;q=0.9,image/avif,image/webp,image/apng,*/*;q=0.8,application/signed-exchange;v=b3;q=0.7")
                     .header("Accept-Language", "ko-KR,ko;q=0.9,en-US;q=0.8,en;q=0.7")
-                    .header("Accept-Encoding", "gzip, deflate, br, zstd")
+                    .header("Accept-Encoding", "gzip, deflate")
                     .header("Referer", mainPageUrl)  // 메인 페이지에서 온 것처럼
                     .header("DNT", "1")
                     .header("Upgrade-Insecure-Requests", "1")
@@ -454,11 +495,12 @@ public class UniversalSmartStrategy implements SmartDateFilterStrategy {
                     .GET();
             
             HttpRequest articleRequest = articleRequestBuilder.build();
-            HttpResponse<String> articleResponse = httpClient.send(articleRequest, HttpResponse.BodyHandlers.ofString());
+            HttpResponse<InputStream> articleResponse = httpClient.send(articleRequest, HttpResponse.BodyHandlers.ofInputStream());
             
             if (articleResponse.statusCode() == 200) {
-                return articleResponse.body();
+                return sniffContent(articleResponse);
             } else {
+                articleResponse.body().close();
                 System.out.println("Investing.com 2단계 접근 실패 - HTTP " + articleResponse.statusCode() + ": " + articleUrl);
                 return null;
             }
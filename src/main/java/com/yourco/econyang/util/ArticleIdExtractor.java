@@ -2,25 +2,40 @@ package com.yourco.econyang.util;
 
 import java.security.MessageDigest;
 import java.nio.charset.StandardCharsets;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * RSS별 기사 고유 식별자 추출 유틸리티
+ *
+ * 기사 URL의 호스트로 추출 규칙을 찾고, 없으면 RSS 소스 코드로 등록된 규칙을 사용한다.
+ * 기본 규칙은 정규식 없이 indexOf/문자 스캔으로 숫자 ID를 찾으며,
+ * 정규식은 설정 파일로 선언된 {@link PatternArticleIdRule}에서만 사용된다.
  */
 public class ArticleIdExtractor {
     
-    // 매일경제: URL에서 숫자 ID 추출 (예: /economy/10987654, /english/11400481)
-    private static final Pattern MAEIL_ECONOMY_PATTERN = Pattern.compile("/([0-9]{8,})(?:[/?]|$)");
+    // 매일경제 기사 ID 최소 자릿수 (예: /economy/10987654, /english/11400481)
+    private static final int MAEIL_MIN_ID_LENGTH = 8;
     
-    // KOTRA: dataIdx 쿼리 파라미터 (예: ?dataIdx=233281)
-    private static final Pattern KOTRA_PATTERN = Pattern.compile("dataIdx=(\\d+)");
+    // Investing.com 기사 ID 최소 자릿수 (예: israel-strikes-yemeni-capital-sanaa-4207948)
+    private static final int INVESTING_MIN_ID_LENGTH = 6;
     
-    // Investing.com: 마지막 하이픈 뒤 숫자 (예: israel-strikes-yemeni-capital-sanaa-4207948)
-    private static final Pattern INVESTING_NEWS_PATTERN = Pattern.compile("([^/]+)-(\\d+)(?:/|\\?|#|$)");
+    private static final String KOTRA_ID_PARAM = "dataIdx=";
+    private static final String INVESTING_ANALYSIS_PATH = "/analysis/";
     
-    // Investing.com Analysis: analysis 경로에서 하이픈 뒤 숫자 (예: analysis/jackson-hole-200665775)
-    private static final Pattern INVESTING_ANALYSIS_PATTERN = Pattern.compile("/analysis/[^/]+-([0-9]+)(?:/|\\?|#|$)");
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+    
+    // 호스트 기반 규칙 (등록 순서대로 검사, 조회 시 복사 없이 배열 순회)
+    private static volatile ArticleIdRule[] hostRules = {
+        new MaeilIdRule(),
+        new KotraIdRule(),
+        new InvestingIdRule()
+    };
+    
+    // 소스 코드 기반 규칙 (호스트 규칙이 없는 소스용)
+    private static final Map<String, ArticleIdRule> sourceRules = new ConcurrentHashMap<>();
     
     /**
      * RSS 소스별로 기사의 고유 식별자를 추출
@@ -34,83 +49,200 @@ public class ArticleIdExtractor {
             return generateHashId(url);
         }
         
-        switch (sourceCode.toLowerCase()) {
-            case "maeil_securities":
-                return extractMaeilEconomyId(url);
-                
-            case "kotra_overseas":
-                return extractKotraId(url);
-                
-            case "investing_news":
-            case "investing_market":
-            case "investing_commodities":
-                return extractInvestingId(url);
-                
-            default:
-                // 기본: URL 전체 해시값 사용
-                return generateHashId(url);
+        int hostStart = url.indexOf("://");
+        hostStart = hostStart < 0 ? 0 : hostStart + 3;
+        int hostEnd = findHostEnd(url, hostStart);
+        
+        for (ArticleIdRule rule : hostRules) {
+            if (hostMatches(url, hostStart, hostEnd, rule.getHost())) {
+                String id = rule.extractId(url, hostEnd);
+                return id != null ? id : generateHashId(url);
+            }
+        }
+        
+        ArticleIdRule sourceRule = sourceRules.get(sourceCode.trim().toLowerCase());
+        if (sourceRule != null) {
+            String id = sourceRule.extractId(url, hostEnd);
+            if (id != null) {
+                return id;
+            }
         }
+        
+        // 기본: URL 전체 해시값 사용
+        return generateHashId(url);
     }
     
     /**
-     * 매일경제: URL 끝 숫자 ID 추출
-     * 예: https://www.mk.co.kr/news/english/11400481 → maeil_11400481
+     * 추출 규칙 등록
+     * 호스트가 있는 규칙은 호스트 기준으로, 없으면 주어진 소스 코드 기준으로 등록된다.
+     * 같은 호스트에 대해 나중에 등록된 규칙이 기존 규칙을 대체한다.
      */
-    private static String extractMaeilEconomyId(String url) {
-        Matcher matcher = MAEIL_ECONOMY_PATTERN.matcher(url);
-        
-        if (matcher.find()) {
-            String articleId = matcher.group(1);
-            // 8자리 이상의 숫자만 유효한 기사 ID로 간주
-            if (articleId.length() >= 8) {
-                return "maeil_" + articleId;
+    public static synchronized void registerRule(String sourceCode, ArticleIdRule rule) {
+        if (rule.getHost() == null) {
+            if (sourceCode == null || sourceCode.trim().isEmpty()) {
+                throw new IllegalArgumentException("호스트가 없는 규칙은 소스 코드가 필요합니다: " + rule.getRuleName());
+            }
+            sourceRules.put(sourceCode.trim().toLowerCase(), rule);
+            return;
+        }
+        
+        String host = rule.getHost().toLowerCase();
+        List<ArticleIdRule> updated = new ArrayList<>();
+        updated.add(rule);
+        for (ArticleIdRule existing : hostRules) {
+            if (!host.equals(existing.getHost())) {
+                updated.add(existing);
+            }
+        }
+        hostRules = updated.toArray(new ArticleIdRule[0]);
+    }
+    
+    private static int findHostEnd(String url, int hostStart) {
+        for (int i = hostStart; i < url.length(); i++) {
+            char c = url.charAt(i);
+            if (c == '/' || c == '?' || c == '#' || c == ':') {
+                return i;
             }
         }
+        return url.length();
+    }
+    
+    /**
+     * URL의 호스트 구간이 규칙 호스트와 같거나 그 서브도메인인지 확인 (할당 없음)
+     */
+    private static boolean hostMatches(String url, int hostStart, int hostEnd, String ruleHost) {
+        int length = ruleHost.length();
+        int offset = hostEnd - length;
+        if (offset < hostStart || !url.regionMatches(true, offset, ruleHost, 0, length)) {
+            return false;
+        }
+        return offset == hostStart || url.charAt(offset - 1) == '.';
+    }
+    
+    /**
+     * from 위치부터 연속된 숫자의 끝 인덱스
+     */
+    private static int scanDigits(String url, int from) {
+        int i = from;
+        while (i < url.length() && url.charAt(i) >= '0' && url.charAt(i) <= '9') {
+            i++;
+        }
+        return i;
+    }
+    
+    private static boolean isSegmentEnd(String url, int index, boolean allowFragment) {
+        if (index == url.length()) {
+            return true;
+        }
+        char c = url.charAt(index);
+        return c == '/' || c == '?' || (allowFragment && c == '#');
+    }
+    
+    /**
+     * 매일경제: URL 경로의 8자리 이상 숫자 세그먼트
+     * 예: https://www.mk.co.kr/news/english/11400481 → maeil_11400481
+     */
+    private static final class MaeilIdRule implements ArticleIdRule {
+        
+        @Override
+        public String getHost() {
+            return "mk.co.kr";
+        }
         
+        @Override
+        public String extractId(String url, int pathStart) {
+            int slash = url.indexOf('/', pathStart);
+            while (slash >= 0) {
+                int digitsEnd = scanDigits(url, slash + 1);
+                if (digitsEnd - (slash + 1) >= MAEIL_MIN_ID_LENGTH && isSegmentEnd(url, digitsEnd, false)) {
+                    return "maeil_" + url.substring(slash + 1, digitsEnd);
+                }
+                slash = url.indexOf('/', slash + 1);
+            }
+            return null;
+        }
         
-        // 패턴에 맞지 않으면 해시 사용
-        return generateHashId(url);
+        @Override
+        public String getRuleName() {
+            return "MaeilNumericPath";
+        }
     }
     
     /**
-     * KOTRA: dataIdx 파라미터 추출
-     * 예: https://dream.kotra.or.kr/kotra/view.do?dataIdx=123456
+     * KOTRA: dataIdx 파라미터
+     * 예: https://dream.kotra.or.kr/kotra/view.do?dataIdx=123456 → kotra_123456
      */
-    private static String extractKotraId(String url) {
-        Matcher matcher = KOTRA_PATTERN.matcher(url);
+    private static final class KotraIdRule implements ArticleIdRule {
         
-        if (matcher.find()) {
-            return "kotra_" + matcher.group(1);
+        @Override
+        public String getHost() {
+            return "kotra.or.kr";
         }
         
-        return generateHashId(url);
+        @Override
+        public String extractId(String url, int pathStart) {
+            int param = url.indexOf(KOTRA_ID_PARAM, pathStart);
+            if (param < 0) {
+                return null;
+            }
+            int idStart = param + KOTRA_ID_PARAM.length();
+            int idEnd = scanDigits(url, idStart);
+            return idEnd > idStart ? "kotra_" + url.substring(idStart, idEnd) : null;
+        }
+        
+        @Override
+        public String getRuleName() {
+            return "KotraDataIdx";
+        }
     }
     
     /**
-     * Investing.com: 마지막 하이픈 뒤 숫자 ID 추출
+     * Investing.com: 슬러그 마지막 하이픈 뒤 숫자
      * 예1: https://www.investing.com/news/economy/israel-strikes-yemeni-capital-sanaa-4207948 → investing_4207948
      * 예2: https://www.investing.com/analysis/jackson-hole-1982-volcker-200665775 → investing_200665775
      */
-    private static String extractInvestingId(String url) {
-        // Analysis 경로 우선 체크 (더 구체적인 패턴)
-        if (url.contains("/analysis/")) {
-            Matcher analysisMatcher = INVESTING_ANALYSIS_PATTERN.matcher(url);
-            if (analysisMatcher.find()) {
-                return "investing_" + analysisMatcher.group(1);
+    private static final class InvestingIdRule implements ArticleIdRule {
+        
+        @Override
+        public String getHost() {
+            return "investing.com";
+        }
+        
+        @Override
+        public String extractId(String url, int pathStart) {
+            // Analysis 경로 우선 체크 (자릿수 제한 없음)
+            int analysis = url.indexOf(INVESTING_ANALYSIS_PATH, pathStart);
+            if (analysis >= 0) {
+                int slugStart = analysis + INVESTING_ANALYSIS_PATH.length();
+                int slugEnd = url.indexOf('/', slugStart);
+                String id = findHyphenId(url, slugStart, slugEnd < 0 ? url.length() : slugEnd, 1);
+                if (id != null) {
+                    return id;
+                }
             }
+            
+            // 일반 뉴스: 첫 번째 "-숫자" 세그먼트 끝
+            return findHyphenId(url, pathStart, url.length(), INVESTING_MIN_ID_LENGTH);
         }
         
-        // 일반 뉴스 패턴 체크
-        Matcher newsMatcher = INVESTING_NEWS_PATTERN.matcher(url);
-        if (newsMatcher.find()) {
-            String articleId = newsMatcher.group(2);
-            // 숫자 ID가 충분히 길어야 유효한 기사 ID로 간주
-            if (articleId.length() >= 6) {
-                return "investing_" + articleId;
+        private String findHyphenId(String url, int from, int to, int minLength) {
+            int hyphen = url.indexOf('-', from + 1);
+            while (hyphen >= 0 && hyphen < to) {
+                int digitsEnd = scanDigits(url, hyphen + 1);
+                if (digitsEnd > hyphen + 1 && url.charAt(hyphen - 1) != '/' && isSegmentEnd(url, digitsEnd, true)) {
+                    return digitsEnd - (hyphen + 1) >= minLength
+                            ? "investing_" + url.substring(hyphen + 1, digitsEnd)
+                            : null;
+                }
+                hyphen = url.indexOf('-', hyphen + 1);
             }
+            return null;
         }
         
-        return generateHashId(url);
+        @Override
+        public String getRuleName() {
+            return "InvestingHyphenId";
+        }
     }
     
     /**
@@ -125,16 +257,14 @@ public class ArticleIdExtractor {
             MessageDigest digest = MessageDigest.getInstance("SHA-256");
             byte[] hash = digest.digest(url.getBytes(StandardCharsets.UTF_8));
             
-            StringBuilder hexString = new StringBuilder();
-            for (byte b : hash) {
-                String hex = Integer.toHexString(0xff & b);
-                if (hex.length() == 1) {
-                    hexString.append('0');
-                }
-                hexString.append(hex);
+            // 앞 6바이트(12자리 16진수)만 사용
+            char[] hex = new char[12];
+            for (int i = 0; i < 6; i++) {
+                hex[i * 2] = HEX_DIGITS[(hash[i] >> 4) & 0x0f];
+                hex[i * 2 + 1] = HEX_DIGITS[hash[i] & 0x0f];
             }
             
-            return "hash_" + hexString.toString().substring(0, 12);
+            return "hash_" + new String(hex);
             
         } catch (Exception e) {
             // 해시 생성 실패 시 URL 길이와 해시코드 조합 사용
@@ -0,0 +1,30 @@
+package com.yourco.econyang.util;
+
+/**
+ * 기사 고유 ID 추출 규칙 (SPI)
+ *
+ * Spring Bean으로 등록하거나 rss-sources.yml의 {@code idRule}로 선언하면
+ * {@link ArticleIdRuleRegistrar}가 시작 시 {@link ArticleIdExtractor}에 등록한다.
+ */
+public interface ArticleIdRule {
+
+    /**
+     * 규칙을 적용할 기사 호스트 (예: "mk.co.kr", 서브도메인 포함 매칭)
+     * null이면 호스트가 아닌 RSS 소스 코드로만 적용된다.
+     */
+    String getHost();
+
+    /**
+     * URL에서 고유 ID 추출
+     *
+     * @param url 기사 URL
+     * @param pathStart 호스트 뒤 경로가 시작되는 인덱스
+     * @return 접두어를 포함한 고유 ID (예: "maeil_11400481"), 추출 실패 시 null
+     */
+    String extractId(String url, int pathStart);
+
+    /**
+     * 규칙 이름 (로깅용)
+     */
+    String getRuleName();
+}
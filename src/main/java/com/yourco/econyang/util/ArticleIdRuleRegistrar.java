@@ -0,0 +1,49 @@
+package com.yourco.econyang.util;
+
+import com.yourco.econyang.config.RssSourcesConfig;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 기사 ID 추출 규칙 등록기
+ * 애플리케이션 시작 시 Bean으로 등록된 규칙과 rss-sources.yml의 idRule 선언을 ArticleIdExtractor에 등록
+ */
+@Component
+public class ArticleIdRuleRegistrar {
+
+    @Autowired
+    private RssSourcesConfig rssSourcesConfig;
+
+    @Autowired(required = false)
+    private List<ArticleIdRule> customRules = Collections.emptyList();
+
+    @PostConstruct
+    public void registerRules() {
+        System.out.println("=== 기사 ID 추출 규칙 초기화 ===");
+
+        for (ArticleIdRule rule : customRules) {
+            ArticleIdExtractor.registerRule(null, rule);
+            System.out.println("규칙 등록: " + rule.getRuleName() + " (host: " + rule.getHost() + ")");
+        }
+
+        for (RssSourcesConfig.RssSource source : rssSourcesConfig.getSources()) {
+            RssSourcesConfig.IdRuleConfig config = source.getIdRule();
+            if (config == null) {
+                continue;
+            }
+
+            try {
+                ArticleIdRule rule = new PatternArticleIdRule(config.getHost(), config.getPattern(), config.getPrefix());
+                ArticleIdExtractor.registerRule(source.getCode(), rule);
+                System.out.println("규칙 등록: " + rule.getRuleName() + " (source: " + source.getCode() + ")");
+            } catch (IllegalArgumentException e) {
+                throw new IllegalStateException("RSS 소스 [" + source.getCode() + "]의 idRule 설정이 잘못되었습니다: "
+                        + e.getMessage(), e);
+            }
+        }
+    }
+}
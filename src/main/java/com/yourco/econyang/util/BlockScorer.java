@@ -0,0 +1,410 @@
+package com.yourco.econyang.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Readability 방식 블록 채점기 (DOM/스트리밍 추출기 공용)
+ *
+ * 블록 열기/텍스트/블록 닫기 이벤트만 받으므로 Jsoup DOM 순회와 SAX 방식 토크나이저 양쪽에서 사용한다.
+ * 블록별 고유 텍스트 길이·쉼표 수로 부모 블록(1배)과 조부모 블록(1/2배)에 점수를 누적하고,
+ * 링크 밀도로 보정한 최고 점수 블록과 점수가 충분한 형제 블록의 문단만 문서 순서대로 이어 붙인다.
+ */
+final class BlockScorer {
+
+    // 하위 트리 전체를 건너뛰는 태그
+    private static final Set<String> SKIP_TAGS = new HashSet<>(Arrays.asList(
+        "script", "style", "noscript", "iframe", "form", "nav", "header", "footer", "aside",
+        "button", "select", "textarea", "svg", "template", "figure"
+    ));
+
+    // 텍스트를 모으는 블록 태그 (그 외 태그의 텍스트는 가장 가까운 블록에 합산)
+    private static final Set<String> BLOCK_TAGS = new HashSet<>(Arrays.asList(
+        "body", "article", "section", "main", "div", "p", "pre", "blockquote", "td", "th", "li",
+        "ul", "ol", "dl", "dd", "dt", "table", "tbody", "tr", "h1", "h2", "h3", "h4", "h5", "h6", "address"
+    ));
+
+    // 문단으로 채점하지 않는 블록 (제목 등)
+    private static final Set<String> NON_PARAGRAPH_TAGS = new HashSet<>(Arrays.asList(
+        "h1", "h2", "h3", "h4", "h5", "h6", "th", "ul", "ol", "dl", "table", "tbody", "tr"
+    ));
+
+    // class/id 토큰이 일치하면 건너뛰는 보일러플레이트
+    private static final Set<String> NOISE_TOKENS = new HashSet<>(Arrays.asList(
+        "advertisement", "ad", "ads", "related", "comment", "comments", "social", "share", "tags",
+        "author-info", "article-footer", "sidebar", "promo", "sponsor", "newsletter", "popup",
+        "banner", "breadcrumb", "recommend", "subscribe", "copyright"
+    ));
+
+    private static final String[] POSITIVE_HINTS = {
+        "article", "body", "content", "entry", "main", "post", "story", "text", "news", "view"
+    };
+
+    private static final int MIN_PARAGRAPH_LENGTH = 25;
+    private static final double MAX_PARAGRAPH_LINK_DENSITY = 0.5;
+
+    private final Collection<String> extraNoiseTokens;
+
+    // 블록 id별 부모 id/태그 (id는 여는 순서 = 문서 순서)
+    private final List<Integer> parents = new ArrayList<>();
+    private final List<String> tags = new ArrayList<>();
+
+    private final Map<Integer, Candidate> candidates = new HashMap<>();
+    private final List<Paragraph> paragraphs = new ArrayList<>();
+    private final List<Frame> open = new ArrayList<>();
+    private int paragraphChars;
+
+    BlockScorer(Collection<String> extraNoiseTokens) {
+        this.extraNoiseTokens = extraNoiseTokens;
+    }
+
+    static boolean isBlock(String tag) {
+        return BLOCK_TAGS.contains(tag);
+    }
+
+    /**
+     * 하위 트리 전체를 건너뛸 요소인지 (태그 또는 class/id 토큰)
+     */
+    boolean shouldSkip(String tag, String id, Iterable<String> classNames) {
+        if (SKIP_TAGS.contains(tag)) {
+            return true;
+        }
+        if (id != null && !id.isEmpty() && isNoiseToken(id.toLowerCase())) {
+            return true;
+        }
+        for (String className : classNames) {
+            if (isNoiseToken(className.toLowerCase())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isNoiseToken(String token) {
+        if (NOISE_TOKENS.contains(token) || extraNoiseTokens.contains(token)) {
+            return true;
+        }
+        // "ad-banner", "comment_area", "article-share" 형태
+        for (String noise : NOISE_TOKENS) {
+            if (noise.length() > 2 && (token.startsWith(noise + "-") || token.startsWith(noise + "_")
+                    || token.endsWith("-" + noise) || token.endsWith("_" + noise))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 블록 열기
+     *
+     * @param hints class와 id를 이어 붙인 문자열 (가중치 계산용)
+     */
+    void openBlock(String tag, String hints) {
+        int id = tags.size();
+        Frame parent = current();
+        parents.add(parent == null ? -1 : parent.id);
+        tags.add(tag);
+        open.add(new Frame(id, tag, hints));
+    }
+
+    void text(CharSequence text, boolean inLink) {
+        Frame frame = current();
+        if (frame == null) {
+            return;
+        }
+        frame.ownText.append(text);
+        if (inLink) {
+            frame.ownLink += countNonWhitespace(text);
+        }
+    }
+
+    void lineBreak() {
+        Frame frame = current();
+        if (frame != null) {
+            frame.ownText.append(' ');
+        }
+    }
+
+    int depth() {
+        return open.size();
+    }
+
+    /**
+     * 지금까지 채점된 문단 글자 수 (스트리밍 조기 종료 판단용)
+     */
+    int getParagraphChars() {
+        return paragraphChars;
+    }
+
+    /**
+     * 가장 안쪽 블록 닫기
+     */
+    void closeBlock() {
+        if (open.isEmpty()) {
+            return;
+        }
+        Frame frame = open.remove(open.size() - 1);
+        String text = normalizeWhitespace(frame.ownText);
+        frame.totalText += text.length();
+        frame.totalLink += frame.ownLink;
+
+        if (!NON_PARAGRAPH_TAGS.contains(frame.tag) && text.length() >= MIN_PARAGRAPH_LENGTH
+                && (double) frame.ownLink / text.length() < MAX_PARAGRAPH_LINK_DENSITY) {
+            scoreParagraph(frame.id, text);
+        }
+
+        Candidate candidate = candidates.get(frame.id);
+        if (candidate != null) {
+            candidate.initialScore = initialScore(frame.tag, frame.hints);
+            candidate.totalText = frame.totalText;
+            candidate.totalLink = frame.totalLink;
+        }
+
+        Frame parent = current();
+        if (parent != null) {
+            parent.totalText += frame.totalText;
+            parent.totalLink += frame.totalLink;
+        }
+    }
+
+    private Frame current() {
+        return open.isEmpty() ? null : open.get(open.size() - 1);
+    }
+
+    private void scoreParagraph(int id, String text) {
+        paragraphs.add(new Paragraph(id, text));
+        paragraphChars += text.length();
+
+        double score = 1 + countCommas(text) + Math.min(text.length() / 100, 3);
+        int parent = parents.get(id);
+        if (parent < 0) {
+            return;
+        }
+        candidateOf(parent).score += score;
+
+        int grandParent = parents.get(parent);
+        if (grandParent >= 0) {
+            candidateOf(grandParent).score += score / 2;
+        }
+    }
+
+    private Candidate candidateOf(int id) {
+        Candidate candidate = candidates.get(id);
+        if (candidate == null) {
+            candidate = new Candidate(id);
+            candidates.put(id, candidate);
+        }
+        return candidate;
+    }
+
+    /**
+     * 남은 블록을 모두 닫고 본문 조립
+     * 최고 후보와 점수가 충분한 형제 후보 아래의 문단을 문서 순서대로 결합
+     */
+    String assemble() {
+        while (!open.isEmpty()) {
+            closeBlock();
+        }
+        if (paragraphs.isEmpty()) {
+            return "";
+        }
+
+        Candidate top = null;
+        for (Candidate candidate : candidates.values()) {
+            if (top == null || candidate.finalScore() > top.finalScore()) {
+                top = candidate;
+            }
+        }
+
+        Set<Integer> accepted = new HashSet<>();
+        if (top != null) {
+            accepted.add(top.id);
+            double threshold = Math.max(10, top.finalScore() * 0.2);
+            int topParent = parents.get(top.id);
+            if (topParent >= 0) {
+                for (Candidate candidate : candidates.values()) {
+                    if (parents.get(candidate.id) == topParent && candidate.finalScore() >= threshold) {
+                        accepted.add(candidate.id);
+                    }
+                }
+            }
+        }
+
+        List<Paragraph> selected = new ArrayList<>();
+        for (Paragraph paragraph : paragraphs) {
+            if (top == null || isUnder(paragraph.id, accepted)) {
+                selected.add(paragraph);
+            }
+        }
+        selected.sort((a, b) -> Integer.compare(a.id, b.id));
+
+        StringBuilder content = new StringBuilder();
+        for (Paragraph paragraph : selected) {
+            if (content.length() > 0) {
+                content.append("\n\n");
+            }
+            content.append(paragraph.text);
+        }
+        return content.toString();
+    }
+
+    private boolean isUnder(int id, Set<Integer> roots) {
+        for (int current = id; current >= 0; current = parents.get(current)) {
+            if (roots.contains(current)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static double initialScore(String tag, String hints) {
+        double score;
+        switch (tag) {
+            case "div":
+            case "article":
+                score = 5;
+                break;
+            case "pre":
+            case "td":
+            case "blockquote":
+                score = 3;
+                break;
+            case "address":
+            case "ol":
+            case "ul":
+            case "dl":
+            case "dd":
+            case "dt":
+            case "li":
+                score = -3;
+                break;
+            case "h1":
+            case "h2":
+            case "h3":
+            case "h4":
+            case "h5":
+            case "h6":
+            case "th":
+                score = -5;
+                break;
+            default:
+                score = 0;
+                break;
+        }
+        return score + classWeight(hints);
+    }
+
+    private static int classWeight(String hints) {
+        if (hints == null || hints.trim().isEmpty()) {
+            return 0;
+        }
+        String lower = hints.toLowerCase();
+        for (String hint : POSITIVE_HINTS) {
+            if (lower.contains(hint)) {
+                return 25;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * 연속 공백(nbsp 포함)을 한 칸으로 줄이고 앞뒤 공백 제거
+     */
+    private static String normalizeWhitespace(CharSequence text) {
+        StringBuilder normalized = new StringBuilder(text.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c) || c == '\u00a0') {
+                pendingSpace = normalized.length() > 0;
+            } else {
+                if (pendingSpace) {
+                    normalized.append(' ');
+                    pendingSpace = false;
+                }
+                normalized.append(c);
+            }
+        }
+        return normalized.toString();
+    }
+
+    private static int countNonWhitespace(CharSequence text) {
+        int count = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (!Character.isWhitespace(c) && c != '\u00a0') {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static int countCommas(String text) {
+        int commas = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == ',' || c == '，' || c == '、') {
+                commas++;
+            }
+        }
+        return commas;
+    }
+
+    /**
+     * 채점 결과 문단
+     */
+    private static final class Paragraph {
+        final int id;
+        final String text;
+
+        Paragraph(int id, String text) {
+            this.id = id;
+            this.text = text;
+        }
+    }
+
+    /**
+     * 후보 블록 (문단의 부모/조부모)
+     */
+    private static final class Candidate {
+        final int id;
+        double initialScore;
+        double score;
+        int totalText;
+        int totalLink;
+
+        Candidate(int id) {
+            this.id = id;
+        }
+
+        double finalScore() {
+            double linkDensity = totalText == 0 ? 0 : (double) totalLink / totalText;
+            return (initialScore + score) * (1 - Math.min(1.0, linkDensity));
+        }
+    }
+
+    /**
+     * 열려 있는 블록
+     */
+    private static final class Frame {
+        final int id;
+        final String tag;
+        final String hints;
+        final StringBuilder ownText = new StringBuilder();
+        int ownLink;
+        int totalText;
+        int totalLink;
+
+        Frame(int id, String tag, String hints) {
+            this.id = id;
+            this.tag = tag;
+            this.hints = hints;
+        }
+    }
+}
@@ -0,0 +1,322 @@
+package com.yourco.econyang.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 미리 파싱해 둔 다이제스트 템플릿 (Handlebars 스타일 일부)
+ *
+ * 지원 문법: {{name}} 변수, {{#list}}...{{/list}} 반복 (항목이 문자열이면 {{this}}, Map이면 {{key}}),
+ * {{#if name}}...{{/if}} 조건. 템플릿 문자열은 한 번만 텍스트/변수/반복/조건 노드로 파싱하고,
+ * 렌더링은 노드를 따라가며 StringBuilder 하나에 이어 붙인다 (문자열 치환/재조립 없음).
+ * 모르는 변수, 짝이 맞지 않는 태그, 리스트가 아닌 값의 반복 태그는 원문 그대로 출력한다.
+ * 파싱 결과는 불변이라 여러 스레드에서 공유해도 된다.
+ */
+public final class CompiledTemplate {
+
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+    private static final String IF_PREFIX = "#if ";
+    private static final String IF_NAME = "if";
+
+    // 렌더링 결과 크기 추정용 (변수 1개 ≈ 32자, 반복 본문 ≈ 4회)
+    private static final int VARIABLE_SIZE_HINT = 32;
+    private static final int LOOP_SIZE_HINT = 4;
+
+    private final List<Node> nodes;
+    private final int sizeHint;
+
+    private CompiledTemplate(List<Node> nodes) {
+        this.nodes = nodes;
+        int hint = 0;
+        for (Node node : nodes) {
+            hint += node.sizeHint();
+        }
+        this.sizeHint = hint;
+    }
+
+    /**
+     * 템플릿 파싱
+     */
+    public static CompiledTemplate compile(String template) {
+        if (template == null || template.isEmpty()) {
+            return new CompiledTemplate(Collections.<Node>emptyList());
+        }
+
+        Deque<Frame> stack = new ArrayDeque<>();
+        Frame root = new Frame(null, null, false);
+        stack.push(root);
+
+        int pos = 0;
+        while (pos < template.length()) {
+            int start = template.indexOf(OPEN, pos);
+            if (start < 0) {
+                stack.peek().addText(template.substring(pos));
+                break;
+            }
+            int end = template.indexOf(CLOSE, start + OPEN.length());
+            if (end < 0) {
+                stack.peek().addText(template.substring(pos));
+                break;
+            }
+            if (start > pos) {
+                stack.peek().addText(template.substring(pos, start));
+            }
+
+            String tag = template.substring(start, end + CLOSE.length());
+            String content = template.substring(start + OPEN.length(), end);
+            if (content.startsWith(IF_PREFIX)) {
+                stack.push(new Frame(content.substring(IF_PREFIX.length()).trim(), tag, true));
+            } else if (content.startsWith("#")) {
+                stack.push(new Frame(content.substring(1), tag, false));
+            } else if (content.startsWith("/")) {
+                close(stack, content.substring(1), tag);
+            } else {
+                stack.peek().children.add(new Variable(content, tag));
+            }
+            pos = end + CLOSE.length();
+        }
+
+        // 닫히지 않은 블록은 여는 태그를 원문으로 두고 본문만 펼침
+        while (stack.size() > 1) {
+            Frame unclosed = stack.pop();
+            unclosed.flattenInto(stack.peek());
+        }
+        return new CompiledTemplate(Collections.unmodifiableList(root.children));
+    }
+
+    private static void close(Deque<Frame> stack, String name, String tag) {
+        Frame match = null;
+        for (Frame frame : stack) {
+            if (frame.openTag != null && (frame.conditional ? IF_NAME.equals(name) : frame.name.equals(name))) {
+                match = frame;
+                break;
+            }
+        }
+        if (match == null) {
+            stack.peek().addText(tag);
+            return;
+        }
+        while (stack.peek() != match) {
+            Frame unclosed = stack.pop();
+            unclosed.flattenInto(stack.peek());
+        }
+        stack.pop();
+        List<Node> body = Collections.unmodifiableList(match.children);
+        stack.peek().children.add(match.conditional
+                ? new Conditional(match.name, body)
+                : new Loop(match.name, match.openTag, tag, body));
+    }
+
+    /**
+     * 변수 맵으로 렌더링해 out에 이어 붙임
+     */
+    public void renderTo(StringBuilder out, Map<String, ?> variables) {
+        renderNodes(nodes, out, variables, null);
+    }
+
+    /**
+     * 변수 맵으로 렌더링
+     */
+    public String render(Map<String, ?> variables) {
+        StringBuilder out = new StringBuilder(sizeHint);
+        renderTo(out, variables);
+        return out.toString();
+    }
+
+    /**
+     * 렌더링 결과 예상 길이 (StringBuilder 초기 용량용)
+     */
+    public int getSizeHint() {
+        return sizeHint;
+    }
+
+    private static void renderNodes(List<Node> nodes, StringBuilder out, Map<String, ?> variables, Object item) {
+        for (Node node : nodes) {
+            node.render(out, variables, item);
+        }
+    }
+
+    /**
+     * 반복 항목(Map)의 키를 먼저 찾고, 없으면 전체 변수에서 찾음
+     */
+    private static boolean has(Map<String, ?> variables, Object item, String name) {
+        return (item instanceof Map && ((Map<?, ?>) item).containsKey(name)) || variables.containsKey(name);
+    }
+
+    private static Object lookup(Map<String, ?> variables, Object item, String name) {
+        if (item instanceof Map && ((Map<?, ?>) item).containsKey(name)) {
+            return ((Map<?, ?>) item).get(name);
+        }
+        return variables.get(name);
+    }
+
+    private static boolean isTruthy(Object value) {
+        if (value == null) return false;
+        if (value instanceof Boolean) return (Boolean) value;
+        if (value instanceof Number) return ((Number) value).doubleValue() > 0;
+        if (value instanceof String) return !((String) value).isEmpty();
+        if (value instanceof List) return !((List<?>) value).isEmpty();
+        return true;
+    }
+
+    // === 노드 ===
+
+    private interface Node {
+        void render(StringBuilder out, Map<String, ?> variables, Object item);
+
+        int sizeHint();
+    }
+
+    private static final class Text implements Node {
+        private final String text;
+
+        Text(String text) {
+            this.text = text;
+        }
+
+        @Override
+        public void render(StringBuilder out, Map<String, ?> variables, Object item) {
+            out.append(text);
+        }
+
+        @Override
+        public int sizeHint() {
+            return text.length();
+        }
+    }
+
+    private static final class Variable implements Node {
+        private final String name;
+        private final String tag;
+
+        Variable(String name, String tag) {
+            this.name = name;
+            this.tag = tag;
+        }
+
+        @Override
+        public void render(StringBuilder out, Map<String, ?> variables, Object item) {
+            if ("this".equals(name) && item != null && !(item instanceof Map)) {
+                out.append(item);
+            } else if (has(variables, item, name)) {
+                Object value = lookup(variables, item, name);
+                if (value != null) {
+                    out.append(value);
+                }
+            } else {
+                out.append(tag);
+            }
+        }
+
+        @Override
+        public int sizeHint() {
+            return VARIABLE_SIZE_HINT;
+        }
+    }
+
+    private static final class Loop implements Node {
+        private final String name;
+        private final String openTag;
+        private final String closeTag;
+        private final List<Node> body;
+
+        Loop(String name, String openTag, String closeTag, List<Node> body) {
+            this.name = name;
+            this.openTag = openTag;
+            this.closeTag = closeTag;
+            this.body = body;
+        }
+
+        @Override
+        public void render(StringBuilder out, Map<String, ?> variables, Object item) {
+            Object value = lookup(variables, item, name);
+            if (value instanceof List) {
+                for (Object element : (List<?>) value) {
+                    renderNodes(body, out, variables, element);
+                }
+            } else {
+                // 리스트가 아니면 태그는 원문 그대로, 본문만 렌더링
+                out.append(openTag);
+                renderNodes(body, out, variables, item);
+                out.append(closeTag);
+            }
+        }
+
+        @Override
+        public int sizeHint() {
+            int hint = 0;
+            for (Node node : body) {
+                hint += node.sizeHint();
+            }
+            return hint * LOOP_SIZE_HINT;
+        }
+    }
+
+    private static final class Conditional implements Node {
+        private final String name;
+        private final List<Node> body;
+
+        Conditional(String name, List<Node> body) {
+            this.name = name;
+            this.body = body;
+        }
+
+        @Override
+        public void render(StringBuilder out, Map<String, ?> variables, Object item) {
+            if (isTruthy(lookup(variables, item, name))) {
+                renderNodes(body, out, variables, item);
+            }
+        }
+
+        @Override
+        public int sizeHint() {
+            int hint = 0;
+            for (Node node : body) {
+                hint += node.sizeHint();
+            }
+            return hint;
+        }
+    }
+
+    /**
+     * 파싱 중인 블록 (루트는 openTag가 null)
+     */
+    private static final class Frame {
+        final String name;
+        final String openTag;
+        final boolean conditional;
+        final List<Node> children = new ArrayList<>();
+
+        Frame(String name, String openTag, boolean conditional) {
+            this.name = name;
+            this.openTag = openTag;
+            this.conditional = conditional;
+        }
+
+        void addText(String text) {
+            // 이어지는 텍스트는 한 노드로 합침
+            int last = children.size() - 1;
+            if (last >= 0 && children.get(last) instanceof Text) {
+                children.set(last, new Text(((Text) children.get(last)).text + text));
+            } else {
+                children.add(new Text(text));
+            }
+        }
+
+        void flattenInto(Frame parent) {
+            parent.addText(openTag);
+            for (Node child : children) {
+                if (child instanceof Text) {
+                    parent.addText(((Text) child).text);
+                } else {
+                    parent.children.add(child);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,585 @@
+package com.yourco.econyang.util;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 본문 날짜 스캐너
+ *
+ * 지원하는 날짜 문법(ISO, 한국어 년월일, 점/슬래시 구분, 영어 월 이름, 상대 시간)을
+ * 정규식 목록을 차례로 돌리는 대신 문자열 한 번 순회로 모두 인식한다.
+ * "발행일", "Published" 같은 라벨 직후의 날짜나 시각까지 포함된 ISO 날짜는 높은 신뢰도로 보고
+ * 즉시 반환하며, 스캔은 문서 앞부분(기본 64K 문자)으로 제한된다.
+ */
+public final class DateScanner {
+
+    /** 기본 스캔 범위 (문서 앞부분, 문자 수) */
+    public static final int DEFAULT_SCAN_LIMIT = 64 * 1024;
+
+    // 라벨 끝에서 날짜 시작까지 허용 거리 (예: "Published on: ")
+    private static final int LABEL_WINDOW = 20;
+
+    private static final LocalDate MIN_DATE = LocalDate.of(2000, 1, 1);
+
+    private static final String[] EN_LABELS = {"published", "posted", "updated", "created"};
+    private static final String[] KO_LABELS = {"작성일", "발행일", "등록일", "업데이트", "기사입력", "입력"};
+
+    private static final Map<String, Integer> MONTH_NAMES = new HashMap<>();
+
+    static {
+        MONTH_NAMES.put("january", 1); MONTH_NAMES.put("jan", 1);
+        MONTH_NAMES.put("february", 2); MONTH_NAMES.put("feb", 2);
+        MONTH_NAMES.put("march", 3); MONTH_NAMES.put("mar", 3);
+        MONTH_NAMES.put("april", 4); MONTH_NAMES.put("apr", 4);
+        MONTH_NAMES.put("may", 5);
+        MONTH_NAMES.put("june", 6); MONTH_NAMES.put("jun", 6);
+        MONTH_NAMES.put("july", 7); MONTH_NAMES.put("jul", 7);
+        MONTH_NAMES.put("august", 8); MONTH_NAMES.put("aug", 8);
+        MONTH_NAMES.put("september", 9); MONTH_NAMES.put("sep", 9); MONTH_NAMES.put("sept", 9);
+        MONTH_NAMES.put("october", 10); MONTH_NAMES.put("oct", 10);
+        MONTH_NAMES.put("november", 11); MONTH_NAMES.put("nov", 11);
+        MONTH_NAMES.put("december", 12); MONTH_NAMES.put("dec", 12);
+    }
+
+    /**
+     * 추출 신뢰도
+     */
+    public enum Confidence {
+        /** 상대 시간 ("3 hours ago") */
+        LOW,
+        /** 라벨 없는 날짜 */
+        MEDIUM,
+        /** 라벨 직후의 날짜 또는 시각 포함 ISO 날짜 */
+        HIGH
+    }
+
+    private DateScanner() {
+    }
+
+    /**
+     * HTML 문서 앞부분에서 날짜 스캔 (태그, script/style 본문 제외)
+     */
+    public static Optional<ScannedDate> scanHtml(String html) {
+        return scanHtml(html, DEFAULT_SCAN_LIMIT, false);
+    }
+
+    /**
+     * @param labeledOnly true면 라벨 없는 날짜(MEDIUM)는 무시하고 HIGH 또는 상대 시간만 반환
+     */
+    public static Optional<ScannedDate> scanHtml(String html, int limit, boolean labeledOnly) {
+        if (html == null || html.isEmpty()) {
+            return Optional.empty();
+        }
+        return scanText(stripTags(html, limit), limit, labeledOnly);
+    }
+
+    /**
+     * 일반 텍스트 앞부분에서 날짜 스캔
+     */
+    public static Optional<ScannedDate> scanText(String text) {
+        return scanText(text, DEFAULT_SCAN_LIMIT, false);
+    }
+
+    public static Optional<ScannedDate> scanText(String text, int limit, boolean labeledOnly) {
+        if (text == null || text.isEmpty()) {
+            return Optional.empty();
+        }
+
+        int end = Math.min(text.length(), limit);
+        LocalDateTime now = LocalDateTime.now();
+        LocalDate maxDate = now.toLocalDate().plusDays(1);
+        int labelEnd = Integer.MIN_VALUE / 2;
+        ScannedDate best = null;
+
+        int i = 0;
+        while (i < end) {
+            char c = text.charAt(i);
+            char prev = i > 0 ? text.charAt(i - 1) : ' ';
+            // 숫자는 숫자 연속 중간, 단어는 단어 중간에서 시작하지 않음
+            if (isDigit(prev) || (!isDigit(c) && Character.isLetter(prev))) {
+                i++;
+                continue;
+            }
+
+            ScannedDate hit = null;
+            int next = i + 1;
+
+            if (isDigit(c)) {
+                hit = matchNumeric(text, i, end, now, maxDate);
+                next = hit != null ? hit.end : scanDigits(text, i, end);
+            } else if (Character.isLetter(c)) {
+                int label = matchLabel(text, i, end);
+                if (label > 0) {
+                    labelEnd = label;
+                    next = label;
+                } else {
+                    hit = matchMonthFirst(text, i, end, maxDate);
+                    if (hit != null) {
+                        next = hit.end;
+                    }
+                }
+            }
+
+            if (hit != null) {
+                if (i - labelEnd <= LABEL_WINDOW && hit.confidence != Confidence.LOW) {
+                    hit = hit.withConfidence(Confidence.HIGH);
+                }
+                if (hit.confidence == Confidence.HIGH) {
+                    return Optional.of(hit);
+                }
+                boolean ignored = labeledOnly && hit.confidence == Confidence.MEDIUM;
+                if (!ignored && (best == null || hit.confidence.compareTo(best.confidence) > 0)) {
+                    best = hit;
+                }
+            }
+
+            i = Math.max(next, i + 1);
+        }
+
+        return Optional.ofNullable(best);
+    }
+
+    /**
+     * 숫자로 시작하는 문법: yyyy-M-d[T]HH:mm, yyyy.M.d, yyyy/M/d, yyyy년 M월 d일, M/d/yyyy, d Month yyyy, N hours ago
+     */
+    private static ScannedDate matchNumeric(String text, int start, int end, LocalDateTime now, LocalDate maxDate) {
+        int numEnd = scanDigits(text, start, end);
+        int length = numEnd - start;
+
+        if (length == 4) {
+            int year = parseInt(text, start, numEnd);
+            char sep = numEnd < end ? text.charAt(numEnd) : 0;
+
+            if (sep == '-' || sep == '.' || sep == '/') {
+                int monthEnd = scanDigits(text, numEnd + 1, end);
+                if (isShortNumber(numEnd + 1, monthEnd) && monthEnd < end && text.charAt(monthEnd) == sep) {
+                    int dayEnd = scanDigits(text, monthEnd + 1, end);
+                    if (isShortNumber(monthEnd + 1, dayEnd)) {
+                        LocalDate date = toDate(year, parseInt(text, numEnd + 1, monthEnd),
+                                parseInt(text, monthEnd + 1, dayEnd), maxDate);
+                        if (date != null) {
+                            String grammar = sep == '-' ? "iso" : sep == '.' ? "dot" : "slash";
+                            return withOptionalTime(text, dayEnd, end, date, grammar);
+                        }
+                    }
+                }
+                return null;
+            }
+
+            int k = skipSpaces(text, numEnd, end);
+            if (k < end && text.charAt(k) == '년') {
+                return matchKorean(text, year, k + 1, end, maxDate);
+            }
+        }
+
+        if (length >= 1 && length <= 2 && numEnd < end) {
+            char sep = text.charAt(numEnd);
+            if (sep == '/' || sep == '-') {
+                ScannedDate us = matchMonthDayYear(text, start, numEnd, sep, end, maxDate);
+                if (us != null) {
+                    return us;
+                }
+            }
+
+            ScannedDate dayFirst = matchDayFirst(text, start, numEnd, end, maxDate);
+            if (dayFirst != null) {
+                return dayFirst;
+            }
+        }
+
+        if (length >= 1 && length <= 4) {
+            return matchRelative(text, parseInt(text, start, numEnd), numEnd, end, now);
+        }
+
+        return null;
+    }
+
+    /**
+     * 한국어 형식: 2025년 8월 25일 [14:30]
+     */
+    private static ScannedDate matchKorean(String text, int year, int from, int end, LocalDate maxDate) {
+        int monthStart = skipSpaces(text, from, end);
+        int monthEnd = scanDigits(text, monthStart, end);
+        int k = skipSpaces(text, monthEnd, end);
+        if (!isShortNumber(monthStart, monthEnd) || k >= end || text.charAt(k) != '월') {
+            return null;
+        }
+
+        int dayStart = skipSpaces(text, k + 1, end);
+        int dayEnd = scanDigits(text, dayStart, end);
+        if (!isShortNumber(dayStart, dayEnd)) {
+            return null;
+        }
+
+        LocalDate date = toDate(year, parseInt(text, monthStart, monthEnd), parseInt(text, dayStart, dayEnd), maxDate);
+        if (date == null) {
+            return null;
+        }
+
+        int after = dayEnd < end && text.charAt(dayEnd) == '일' ? dayEnd + 1 : dayEnd;
+        return withOptionalTime(text, after, end, date, "ko");
+    }
+
+    /**
+     * 미국식 형식: 8/25/2025, 8-25-2025
+     */
+    private static ScannedDate matchMonthDayYear(String text, int start, int monthEnd, char sep, int end,
+                                                 LocalDate maxDate) {
+        int dayEnd = scanDigits(text, monthEnd + 1, end);
+        if (!isShortNumber(monthEnd + 1, dayEnd) || dayEnd >= end || text.charAt(dayEnd) != sep) {
+            return null;
+        }
+
+        int yearEnd = scanDigits(text, dayEnd + 1, end);
+        if (yearEnd - (dayEnd + 1) != 4) {
+            return null;
+        }
+
+        LocalDate date = toDate(parseInt(text, dayEnd + 1, yearEnd), parseInt(text, start, monthEnd),
+                parseInt(text, monthEnd + 1, dayEnd), maxDate);
+        return date == null ? null : new ScannedDate(date.atStartOfDay(), false, Confidence.MEDIUM, "us", yearEnd);
+    }
+
+    /**
+     * 일-월-년 영어 형식: 25 Aug 2025
+     */
+    private static ScannedDate matchDayFirst(String text, int start, int dayEnd, int end, LocalDate maxDate) {
+        int monthStart = skipSpaces(text, dayEnd, end);
+        if (monthStart == dayEnd) {
+            return null;
+        }
+
+        int monthEnd = scanLetters(text, monthStart, end);
+        Integer month = lookupMonth(text, monthStart, monthEnd);
+        if (month == null) {
+            return null;
+        }
+
+        int yearStart = skipSpaces(text, skipChar(text, monthEnd, end, '.'), end);
+        int yearEnd = scanDigits(text, yearStart, end);
+        if (yearEnd - yearStart != 4) {
+            return null;
+        }
+
+        LocalDate date = toDate(parseInt(text, yearStart, yearEnd), month, parseInt(text, start, dayEnd), maxDate);
+        return date == null ? null : new ScannedDate(date.atStartOfDay(), false, Confidence.MEDIUM, "en", yearEnd);
+    }
+
+    /**
+     * 월-일-년 영어 형식: August 25, 2025 / Aug. 25 2025
+     */
+    private static ScannedDate matchMonthFirst(String text, int start, int end, LocalDate maxDate) {
+        int monthEnd = scanLetters(text, start, end);
+        Integer month = lookupMonth(text, start, monthEnd);
+        if (month == null) {
+            return null;
+        }
+
+        int dayStart = skipSpaces(text, skipChar(text, monthEnd, end, '.'), end);
+        int dayEnd = scanDigits(text, dayStart, end);
+        if (dayStart == monthEnd || !isShortNumber(dayStart, dayEnd)) {
+            return null;
+        }
+
+        int yearStart = skipSpaces(text, skipChar(text, dayEnd, end, ','), end);
+        int yearEnd = scanDigits(text, yearStart, end);
+        if (yearStart == dayEnd || yearEnd - yearStart != 4) {
+            return null;
+        }
+
+        LocalDate date = toDate(parseInt(text, yearStart, yearEnd), month, parseInt(text, dayStart, dayEnd), maxDate);
+        return date == null ? null : new ScannedDate(date.atStartOfDay(), false, Confidence.MEDIUM, "en", yearEnd);
+    }
+
+    /**
+     * 상대 시간: 3 hours ago, 2 days ago, 3시간 전, 2일 전
+     */
+    private static ScannedDate matchRelative(String text, int amount, int from, int end, LocalDateTime now) {
+        int unitStart = skipSpaces(text, from, end);
+        if (unitStart >= end) {
+            return null;
+        }
+
+        char first = text.charAt(unitStart);
+        if (first == '시' || first == '분' || first == '일') {
+            int unitEnd = text.startsWith("시간", unitStart) ? unitStart + 2 : unitStart + 1;
+            int agoStart = skipSpaces(text, unitEnd, end);
+            if (agoStart >= end || text.charAt(agoStart) != '전') {
+                return null;
+            }
+            return relative(now, amount, first == '시' ? "hour" : first == '분' ? "minute" : "day", agoStart + 1);
+        }
+
+        int unitEnd = scanLetters(text, unitStart, end);
+        String unit = normalizeRelativeUnit(text, unitStart, unitEnd);
+        if (unit == null) {
+            return null;
+        }
+
+        int agoStart = skipSpaces(text, unitEnd, end);
+        if (agoStart == unitEnd || !text.regionMatches(true, agoStart, "ago", 0, 3)) {
+            return null;
+        }
+        return relative(now, amount, unit, agoStart + 3);
+    }
+
+    private static ScannedDate relative(LocalDateTime now, int amount, String unit, int endIndex) {
+        LocalDateTime dateTime;
+        switch (unit) {
+            case "minute":
+                dateTime = now.minusMinutes(amount);
+                break;
+            case "hour":
+                dateTime = now.minusHours(amount);
+                break;
+            default:
+                dateTime = now.minusDays(amount);
+        }
+        return new ScannedDate(dateTime, true, Confidence.LOW, "relative", endIndex);
+    }
+
+    private static String normalizeRelativeUnit(String text, int start, int end) {
+        int length = end - start;
+        if (length < 3 || length > 7) {
+            return null;
+        }
+        String word = text.substring(start, end).toLowerCase();
+        switch (word) {
+            case "min": case "mins": case "minute": case "minutes":
+                return "minute";
+            case "hr": case "hrs": case "hour": case "hours":
+                return "hour";
+            case "day": case "days":
+                return "day";
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * 날짜 뒤의 시각 (T14:30[:00], 14:30) 처리
+     * ISO 형식에 시각이 붙으면 높은 신뢰도로 간주
+     */
+    private static ScannedDate withOptionalTime(String text, int from, int end, LocalDate date, String grammar) {
+        if (from < end && (text.charAt(from) == 'T' || text.charAt(from) == ' ')) {
+            int hourStart = text.charAt(from) == 'T' ? from + 1 : skipSpaces(text, from, end);
+            int hourEnd = scanDigits(text, hourStart, end);
+            if (isShortNumber(hourStart, hourEnd) && hourEnd < end && text.charAt(hourEnd) == ':') {
+                int minuteEnd = scanDigits(text, hourEnd + 1, end);
+                if (minuteEnd - (hourEnd + 1) == 2) {
+                    int hour = parseInt(text, hourStart, hourEnd);
+                    int minute = parseInt(text, hourEnd + 1, minuteEnd);
+                    int second = 0;
+                    int timeEnd = minuteEnd;
+                    if (minuteEnd < end && text.charAt(minuteEnd) == ':') {
+                        int secondEnd = scanDigits(text, minuteEnd + 1, end);
+                        if (secondEnd - (minuteEnd + 1) == 2) {
+                            second = parseInt(text, minuteEnd + 1, secondEnd);
+                            timeEnd = secondEnd;
+                        }
+                    }
+                    if (hour < 24 && minute < 60 && second < 60) {
+                        Confidence confidence = "iso".equals(grammar) ? Confidence.HIGH : Confidence.MEDIUM;
+                        return new ScannedDate(date.atTime(hour, minute, second), true, confidence, grammar, timeEnd);
+                    }
+                }
+            }
+        }
+
+        return new ScannedDate(date.atStartOfDay(), false, Confidence.MEDIUM, grammar, from);
+    }
+
+    /**
+     * 날짜 라벨 인식 ("Published", "작성일" 등), 라벨 끝 인덱스 반환
+     */
+    private static int matchLabel(String text, int start, int end) {
+        char c = text.charAt(start);
+        if (c < 0x80) {
+            for (String label : EN_LABELS) {
+                if (start + label.length() <= end && text.regionMatches(true, start, label, 0, label.length())) {
+                    return start + label.length();
+                }
+            }
+            return -1;
+        }
+
+        for (String label : KO_LABELS) {
+            if (label.charAt(0) == c && text.startsWith(label, start)) {
+                return start + label.length();
+            }
+        }
+        return -1;
+    }
+
+    private static Integer lookupMonth(String text, int start, int end) {
+        int length = end - start;
+        if (length < 3 || length > 9) {
+            return null;
+        }
+        return MONTH_NAMES.get(text.substring(start, end).toLowerCase());
+    }
+
+    private static LocalDate toDate(int year, int month, int day, LocalDate maxDate) {
+        try {
+            LocalDate date = LocalDate.of(year, month, day);
+            return date.isBefore(MIN_DATE) || date.isAfter(maxDate) ? null : date;
+        } catch (DateTimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * HTML 태그와 script/style 본문을 제거하고 공백을 정리 (limit 문자까지)
+     */
+    static String stripTags(String html, int limit) {
+        StringBuilder out = new StringBuilder(Math.min(html.length(), limit));
+        int length = html.length();
+        boolean pendingSpace = false;
+        int i = 0;
+
+        while (i < length && out.length() < limit) {
+            char c = html.charAt(i);
+
+            if (c == '<') {
+                int close;
+                if (html.startsWith("<!--", i)) {
+                    close = html.indexOf("-->", i + 4);
+                    close = close < 0 ? length : close + 2;
+                } else {
+                    close = html.indexOf('>', i + 1);
+                    close = close < 0 ? length : close;
+                    String closing = startsWithTag(html, i + 1, "script") ? "</script"
+                            : startsWithTag(html, i + 1, "style") ? "</style" : null;
+                    if (closing != null) {
+                        int bodyEnd = indexOfIgnoreCase(html, closing, close);
+                        close = bodyEnd < 0 ? length : html.indexOf('>', bodyEnd);
+                        close = close < 0 ? length : close;
+                    }
+                }
+                pendingSpace = true;
+                i = close + 1;
+                continue;
+            }
+
+            if (Character.isWhitespace(c) || c == '\u00a0') {
+                pendingSpace = true;
+            } else {
+                if (pendingSpace && out.length() > 0) {
+                    out.append(' ');
+                }
+                pendingSpace = false;
+                out.append(c);
+            }
+            i++;
+        }
+
+        return out.toString();
+    }
+
+    private static boolean startsWithTag(String html, int from, String tag) {
+        int after = from + tag.length();
+        return html.regionMatches(true, from, tag, 0, tag.length())
+                && after < html.length()
+                && (html.charAt(after) == '>' || Character.isWhitespace(html.charAt(after)));
+    }
+
+    private static int indexOfIgnoreCase(String text, String needle, int from) {
+        for (int i = Math.max(from, 0); i <= text.length() - needle.length(); i++) {
+            if (text.charAt(i) == '<' && text.regionMatches(true, i, needle, 0, needle.length())) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isShortNumber(int start, int end) {
+        int length = end - start;
+        return length >= 1 && length <= 2;
+    }
+
+    private static int scanDigits(String text, int from, int end) {
+        int i = from;
+        while (i < end && isDigit(text.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private static int scanLetters(String text, int from, int end) {
+        int i = from;
+        while (i < end && Character.isLetter(text.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private static int skipSpaces(String text, int from, int end) {
+        int i = from;
+        while (i < end && text.charAt(i) == ' ') {
+            i++;
+        }
+        return i;
+    }
+
+    private static int skipChar(String text, int from, int end, char c) {
+        return from < end && text.charAt(from) == c ? from + 1 : from;
+    }
+
+    private static int parseInt(String text, int start, int end) {
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            value = value * 10 + (text.charAt(i) - '0');
+        }
+        return value;
+    }
+
+    /**
+     * 스캔 결과
+     */
+    public static final class ScannedDate {
+        private final LocalDateTime dateTime;
+        private final boolean hasTime;
+        private final Confidence confidence;
+        private final String grammar;
+        private final int end;
+
+        private ScannedDate(LocalDateTime dateTime, boolean hasTime, Confidence confidence, String grammar, int end) {
+            this.dateTime = dateTime;
+            this.hasTime = hasTime;
+            this.confidence = confidence;
+            this.grammar = grammar;
+            this.end = end;
+        }
+
+        private ScannedDate withConfidence(Confidence newConfidence) {
+            return new ScannedDate(dateTime, hasTime, newConfidence, grammar, end);
+        }
+
+        /**
+         * 시각 정보가 없으면 기본 시각을 붙여 반환
+         */
+        public LocalDateTime toDateTime(LocalTime defaultTime) {
+            return hasTime ? dateTime : dateTime.toLocalDate().atTime(defaultTime);
+        }
+
+        public Confidence getConfidence() {
+            return confidence;
+        }
+
+        /**
+         * 인식된 문법 (iso, ko, dot, slash, us, en, relative)
+         */
+        public String getGrammar() {
+            return grammar;
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.yourco.econyang.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * 다양성 제약이 있는 Top-K 선택기 (탐욕 선택, MMR 방식)
+ *
+ * 점수 순으로 하나씩 고르되 섹터별/소스별 최대 개수를 넘는 후보는 건너뛰고, 이미 고른 후보와 같은 클러스터(같은 사건)의
+ * 후보는 고른 개수만큼 점수를 깎는다 (score × (1 - clusterPenalty)^n).
+ * 후보 전체를 한 번에 힙으로 만들고(O(n)) K개를 고를 때까지만 꺼내므로 전체 정렬 없이 O(n + (K + 건너뛴 후보) log n)이다.
+ * 클러스터 감점은 점수를 낮추기만 하므로, 꺼낸 후보의 감점이 바뀌었으면 다시 넣는 지연 평가로도 탐욕 선택 결과가 같다.
+ * 설정값만 가지는 불변 객체라 여러 스레드에서 공유해도 된다.
+ */
+public final class DiversitySelector {
+
+    /**
+     * 선택 후보 (같은 점수면 order가 작은 쪽 우선)
+     */
+    public static final class Candidate<T> {
+        private final T item;
+        private final double score;
+        private final String sector;
+        private final String source;
+        private final Object cluster;
+        private final int order;
+
+        /**
+         * @param cluster 같은 사건으로 볼 후보끼리 같은 키 (null이면 클러스터 없음)
+         */
+        public Candidate(T item, double score, String sector, String source, Object cluster, int order) {
+            this.item = item;
+            this.score = score;
+            this.sector = sector;
+            this.source = source;
+            this.cluster = cluster;
+            this.order = order;
+        }
+
+        public T getItem() {
+            return item;
+        }
+
+        public double getScore() {
+            return score;
+        }
+
+        public String getSector() {
+            return sector;
+        }
+
+        public String getSource() {
+            return source;
+        }
+
+        public Object getCluster() {
+            return cluster;
+        }
+
+        public int getOrder() {
+            return order;
+        }
+    }
+
+    /**
+     * 선택 결과 (선택 순서 = 감점 반영 점수 내림차순)
+     */
+    public static final class Selected<T> {
+        private final Candidate<T> candidate;
+        private final double adjustedScore;
+
+        Selected(Candidate<T> candidate, double adjustedScore) {
+            this.candidate = candidate;
+            this.adjustedScore = adjustedScore;
+        }
+
+        public Candidate<T> getCandidate() {
+            return candidate;
+        }
+
+        public T getItem() {
+            return candidate.item;
+        }
+
+        public double getAdjustedScore() {
+            return adjustedScore;
+        }
+    }
+
+    private final int maxPerSector;
+    private final int maxPerSource;
+    private final double clusterPenalty;
+
+    /**
+     * @param maxPerSector 섹터당 최대 개수 (0 이하면 제한 없음)
+     * @param maxPerSource 소스당 최대 개수 (0 이하면 제한 없음)
+     * @param clusterPenalty 같은 클러스터 후보를 하나 고를 때마다 깎는 비율 (0 = 감점 없음, 1 = 클러스터당 1개)
+     */
+    public DiversitySelector(int maxPerSector, int maxPerSource, double clusterPenalty) {
+        if (clusterPenalty < 0.0 || clusterPenalty > 1.0) {
+            throw new IllegalArgumentException("clusterPenalty는 0~1 사이여야 합니다: " + clusterPenalty);
+        }
+        this.maxPerSector = maxPerSector;
+        this.maxPerSource = maxPerSource;
+        this.clusterPenalty = clusterPenalty;
+    }
+
+    public int getMaxPerSector() {
+        return maxPerSector;
+    }
+
+    public int getMaxPerSource() {
+        return maxPerSource;
+    }
+
+    public double getClusterPenalty() {
+        return clusterPenalty;
+    }
+
+    /**
+     * 후보 중 최대 k개 선택
+     */
+    public <T> List<Selected<T>> select(List<Candidate<T>> candidates, int k) {
+        List<Selected<T>> selected = new ArrayList<>();
+        if (candidates == null || candidates.isEmpty() || k <= 0) {
+            return selected;
+        }
+
+        List<Entry<T>> entries = new ArrayList<>(candidates.size());
+        for (Candidate<T> candidate : candidates) {
+            entries.add(new Entry<>(candidate));
+        }
+        // 컬렉션 생성자는 한 번에 heapify (O(n)), Entry의 자연 순서 = 점수 높은 순
+        PriorityQueue<Entry<T>> heap = new PriorityQueue<>(entries);
+
+        Map<String, Integer> sectorCounts = new HashMap<>();
+        Map<String, Integer> sourceCounts = new HashMap<>();
+        Map<Object, Integer> clusterCounts = new HashMap<>();
+
+        while (selected.size() < k && !heap.isEmpty()) {
+            Entry<T> entry = heap.poll();
+            Candidate<T> candidate = entry.candidate;
+
+            // 개수 제한은 늘어나기만 하므로 한 번 넘은 후보는 다시 볼 필요 없음
+            if (reached(sectorCounts, candidate.sector, maxPerSector)
+                    || reached(sourceCounts, candidate.source, maxPerSource)) {
+                continue;
+            }
+
+            int clusterSeen = candidate.cluster == null ? 0 : clusterCounts.getOrDefault(candidate.cluster, 0);
+            if (clusterSeen != entry.clusterSeen) {
+                if (clusterPenalty >= 1.0) {
+                    continue;
+                }
+                entry.clusterSeen = clusterSeen;
+                entry.adjustedScore = candidate.score * Math.pow(1.0 - clusterPenalty, clusterSeen);
+                heap.offer(entry);
+                continue;
+            }
+
+            selected.add(new Selected<>(candidate, entry.adjustedScore));
+            increment(sectorCounts, candidate.sector);
+            increment(sourceCounts, candidate.source);
+            if (candidate.cluster != null) {
+                increment(clusterCounts, candidate.cluster);
+            }
+        }
+        return selected;
+    }
+
+    private static boolean reached(Map<String, Integer> counts, String key, int max) {
+        return max > 0 && counts.getOrDefault(key, 0) >= max;
+    }
+
+    private static <K> void increment(Map<K, Integer> counts, K key) {
+        counts.merge(key, 1, Integer::sum);
+    }
+
+    private static final class Entry<T> implements Comparable<Entry<T>> {
+        final Candidate<T> candidate;
+        double adjustedScore;
+        int clusterSeen;
+
+        Entry(Candidate<T> candidate) {
+            this.candidate = candidate;
+            this.adjustedScore = candidate.score;
+        }
+
+        @Override
+        public int compareTo(Entry<T> other) {
+            int byScore = Double.compare(other.adjustedScore, adjustedScore);
+            return byScore != 0 ? byScore : Integer.compare(candidate.order, other.candidate.order);
+        }
+    }
+}
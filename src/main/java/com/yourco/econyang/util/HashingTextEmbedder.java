@@ -0,0 +1,161 @@
+package com.yourco.econyang.util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * CPU에서 바로 도는 로컬 문장 임베딩 (feature hashing)
+ *
+ * 단어와 단어 내부 문자 n-gram(영어 3-gram, 한글 2-gram)을 고정 차원 벡터에 해싱해 누적하고 L2 정규화한다.
+ * 어형 변화("rate"/"rates")나 조사("금리가"/"금리를")가 달라도 겹치는 n-gram이 많아 같은 기사를 가깝게 본다.
+ * 토큰 가중치(IDF 등)는 "토큰\t가중치" 형식 파일로 덮어쓸 수 있고, 없는 토큰은 1.0, 불용어는 0으로 본다.
+ * 인스턴스는 불변이라 여러 스레드에서 공유해도 된다.
+ */
+public final class HashingTextEmbedder {
+
+    public static final int DEFAULT_DIMENSION = 1024;
+
+    private static final Set<String> STOPWORDS = new HashSet<>(Arrays.asList(
+        "a", "an", "the", "of", "to", "in", "on", "for", "and", "or", "is", "are", "was", "were", "be",
+        "as", "at", "by", "with", "from", "that", "this", "it", "its", "after", "over", "into", "amid",
+        "says", "said", "will", "has", "have", "new", "more",
+        "및", "등", "더", "또", "이", "그", "것", "수"
+    ));
+
+    private final int dimension;
+    private final Map<String, Float> weights;
+
+    public HashingTextEmbedder() {
+        this(DEFAULT_DIMENSION, Collections.<String, Float>emptyMap());
+    }
+
+    /**
+     * @param weights 토큰(소문자 단어)별 가중치, 없는 토큰은 1.0
+     */
+    public HashingTextEmbedder(int dimension, Map<String, Float> weights) {
+        if (dimension <= 0) {
+            throw new IllegalArgumentException("임베딩 차원은 0보다 커야 합니다: " + dimension);
+        }
+        this.dimension = dimension;
+        this.weights = weights;
+    }
+
+    /**
+     * 가중치 파일로 생성 ("토큰\t가중치", '#'으로 시작하는 줄은 주석)
+     */
+    public static HashingTextEmbedder load(Path weightsFile, int dimension) throws IOException {
+        Map<String, Float> weights = new HashMap<>();
+        try (BufferedReader reader = Files.newBufferedReader(weightsFile, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                int tab = line.indexOf('\t');
+                if (tab <= 0) {
+                    continue;
+                }
+                try {
+                    weights.put(line.substring(0, tab).toLowerCase(), Float.parseFloat(line.substring(tab + 1).trim()));
+                } catch (NumberFormatException e) {
+                    System.out.println("임베딩 가중치 형식 오류 (무시): " + line);
+                }
+            }
+        }
+        return new HashingTextEmbedder(dimension, weights);
+    }
+
+    public int getDimension() {
+        return dimension;
+    }
+
+    /**
+     * 텍스트 임베딩 (L2 정규화, 토큰이 없으면 영벡터)
+     */
+    public float[] embed(String text) {
+        float[] vector = new float[dimension];
+        if (text == null || text.isEmpty()) {
+            return vector;
+        }
+
+        StringBuilder word = new StringBuilder();
+        for (int i = 0; i <= text.length(); i++) {
+            char c = i < text.length() ? text.charAt(i) : ' ';
+            if (Character.isLetterOrDigit(c)) {
+                word.append(Character.toLowerCase(c));
+            } else if (word.length() > 0) {
+                addWord(vector, word.toString());
+                word.setLength(0);
+            }
+        }
+        normalize(vector);
+        return vector;
+    }
+
+    private void addWord(float[] vector, String word) {
+        Float configured = weights.get(word);
+        float weight = configured != null ? configured : STOPWORDS.contains(word) ? 0f : 1f;
+        if (weight == 0f) {
+            return;
+        }
+
+        add(vector, "w:" + word, weight);
+
+        // 단어 내부 n-gram (경계 표시 포함), 한글은 음절 단위가 길어 2-gram 사용
+        int n = isHangul(word.charAt(0)) ? 2 : 3;
+        String padded = "<" + word + ">";
+        if (padded.length() <= n) {
+            return;
+        }
+        float gramWeight = weight / (padded.length() - n + 1);
+        for (int i = 0; i + n <= padded.length(); i++) {
+            add(vector, padded.substring(i, i + n), gramWeight);
+        }
+    }
+
+    private void add(float[] vector, String feature, float weight) {
+        int hash = feature.hashCode() * 0x9E3779B1;
+        int index = (hash >>> 1) % dimension;
+        // 부호 해시로 충돌 편향 상쇄
+        vector[index] += (hash & 1) == 0 ? weight : -weight;
+    }
+
+    private static boolean isHangul(char c) {
+        return c >= '가' && c <= '힣';
+    }
+
+    private static void normalize(float[] vector) {
+        double norm = 0;
+        for (float value : vector) {
+            norm += value * value;
+        }
+        if (norm == 0) {
+            return;
+        }
+        float scale = (float) (1.0 / Math.sqrt(norm));
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] *= scale;
+        }
+    }
+
+    /**
+     * 코사인 유사도 (정규화된 벡터 기준 내적)
+     */
+    public static double cosine(float[] a, float[] b) {
+        double dot = 0;
+        for (int i = 0; i < a.length; i++) {
+            dot += a[i] * b[i];
+        }
+        return dot;
+    }
+}
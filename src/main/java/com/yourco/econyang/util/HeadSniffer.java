@@ -0,0 +1,260 @@
+package com.yourco.econyang.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.function.Predicate;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * 기사 페이지 앞부분만 읽는 스트리밍 수집기
+ *
+ * 발행일 메타태그는 대부분 {@code <head>}에 있으므로 {@code </head>}(또는 {@code <body>})를 만나거나
+ * 바이트 상한에 도달하면 읽기를 멈춘다. 호출자는 그 시점에 스트림/구독을 닫아 나머지 본문 전송을 끊는다.
+ *
+ * 본문 상한과 조건을 함께 주면, head만으로 날짜를 찾지 못한 경우에 한해 본문 상한까지 이어서 읽는다.
+ * InputStream(HttpClient)과 DataBuffer(WebClient) 양쪽에서 청크 단위로 {@link #append}를 호출해 사용한다.
+ */
+public final class HeadSniffer {
+
+    public static final int DEFAULT_HEAD_MAX_BYTES = 64 * 1024;
+    public static final int DEFAULT_BODY_MAX_BYTES = 256 * 1024;
+
+    private static final byte[] HEAD_CLOSE = "</head".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] BODY_OPEN = "<body".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] CHARSET_KEY = "charset=".getBytes(StandardCharsets.US_ASCII);
+    private static final int READ_CHUNK = 8 * 1024;
+
+    private final int headMaxBytes;
+    private final int bodyMaxBytes;
+    private final Predicate<String> headSatisfied;
+
+    private byte[] buffer;
+    private int length;
+    private int headEnd = -1;
+    private boolean readingBody;
+    private boolean done;
+    private Charset charset;
+
+    /**
+     * head만 읽는 수집기
+     */
+    public HeadSniffer(int headMaxBytes) {
+        this(headMaxBytes, headMaxBytes, null);
+    }
+
+    /**
+     * @param headMaxBytes head를 찾는 동안 읽을 최대 바이트
+     * @param bodyMaxBytes head로 부족할 때 이어서 읽을 전체 최대 바이트
+     * @param headSatisfied head 문자열로 충분한지 판단 (true면 즉시 종료, null이면 항상 종료)
+     */
+    public HeadSniffer(int headMaxBytes, int bodyMaxBytes, Predicate<String> headSatisfied) {
+        if (headMaxBytes <= 0) {
+            throw new IllegalArgumentException("head 최대 바이트는 0보다 커야 합니다: " + headMaxBytes);
+        }
+        this.headMaxBytes = headMaxBytes;
+        this.bodyMaxBytes = Math.max(headMaxBytes, bodyMaxBytes);
+        this.headSatisfied = headSatisfied;
+        this.buffer = new byte[Math.min(headMaxBytes, 16 * 1024)];
+    }
+
+    /**
+     * 응답 헤더의 charset (없으면 문서의 meta charset, 그것도 없으면 UTF-8 사용)
+     */
+    public void setCharset(Charset charset) {
+        this.charset = charset;
+    }
+
+    /**
+     * 청크 추가
+     *
+     * @return 더 읽을 필요가 없으면 true (호출자는 연결을 닫는다)
+     */
+    public boolean append(byte[] chunk, int offset, int count) {
+        if (done) {
+            return true;
+        }
+
+        int accepted = copy(chunk, offset, count, readingBody ? bodyMaxBytes : headMaxBytes);
+
+        if (readingBody) {
+            done = length >= bodyMaxBytes;
+        } else if (headEnd >= 0 || length >= headMaxBytes) {
+            if (bodyMaxBytes > headMaxBytes && headSatisfied != null && !headSatisfied.test(toHtml())) {
+                readingBody = true;
+                // head 상한에서 잘린 이 청크의 나머지도 이어서 담아야 본문이 끊기지 않음
+                copy(chunk, offset + accepted, count - accepted, bodyMaxBytes);
+                done = length >= bodyMaxBytes;
+            } else {
+                done = true;
+            }
+        }
+        return done;
+    }
+
+    /**
+     * 청크를 limit까지 버퍼에 복사
+     *
+     * @return 복사한 바이트 수
+     */
+    private int copy(byte[] chunk, int offset, int count, int limit) {
+        int accepted = Math.min(count, limit - length);
+        if (accepted <= 0) {
+            return 0;
+        }
+        ensureCapacity(length + accepted);
+        System.arraycopy(chunk, offset, buffer, length, accepted);
+        int searchFrom = Math.max(0, length - BODY_OPEN.length);
+        length += accepted;
+
+        if (headEnd < 0) {
+            headEnd = findHeadEnd(searchFrom);
+        }
+        return accepted;
+    }
+
+    /**
+     * 스트림에서 종료 조건까지 읽기 (스트림은 호출자가 닫는다)
+     */
+    public HeadSniffer readFrom(InputStream in) throws IOException {
+        byte[] chunk = new byte[READ_CHUNK];
+        int read;
+        while (!done && (read = in.read(chunk)) != -1) {
+            append(chunk, 0, read);
+        }
+        return this;
+    }
+
+    /**
+     * 지금까지 읽은 앞부분을 문자열로 변환
+     */
+    public String toHtml() {
+        Charset resolved = charset != null ? charset : detectMetaCharset(buffer, headEnd >= 0 ? headEnd : length);
+        return new String(buffer, 0, length, resolved);
+    }
+
+    public int getBytesRead() {
+        return length;
+    }
+
+    /**
+     * {@code </head>} 또는 {@code <body>}를 만났는지
+     */
+    public boolean isHeadComplete() {
+        return headEnd >= 0;
+    }
+
+    /**
+     * head로 부족해 본문까지 읽었는지
+     */
+    public boolean isBodyRead() {
+        return readingBody;
+    }
+
+    /**
+     * Content-Encoding에 맞게 응답 스트림 래핑 (HttpClient는 자동 해제하지 않음)
+     * gzip/deflate만 지원하므로 요청 시 br, zstd는 보내지 않는다.
+     */
+    public static InputStream decode(InputStream body, String contentEncoding) throws IOException {
+        if (contentEncoding == null) {
+            return body;
+        }
+        String encoding = contentEncoding.trim().toLowerCase();
+        if (encoding.equals("gzip") || encoding.equals("x-gzip")) {
+            return new GZIPInputStream(body);
+        }
+        if (encoding.equals("deflate")) {
+            return new InflaterInputStream(body);
+        }
+        return body;
+    }
+
+    /**
+     * Content-Type 헤더에서 charset 추출 (없거나 지원하지 않으면 null)
+     */
+    public static Charset charsetOf(String contentType) {
+        if (contentType == null) {
+            return null;
+        }
+        int index = contentType.toLowerCase().indexOf("charset=");
+        if (index < 0) {
+            return null;
+        }
+        return toCharset(contentType, index + "charset=".length(), contentType.length());
+    }
+
+    private void ensureCapacity(int required) {
+        if (required > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(required, Math.min(buffer.length * 2, bodyMaxBytes)));
+        }
+    }
+
+    private int findHeadEnd(int from) {
+        for (int i = from; i < length; i++) {
+            if (buffer[i] == '<' && (matchesIgnoreCase(buffer, length, i, HEAD_CLOSE)
+                    || matchesIgnoreCase(buffer, length, i, BODY_OPEN))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean matchesIgnoreCase(byte[] bytes, int length, int start, byte[] token) {
+        if (start + token.length > length) {
+            return false;
+        }
+        for (int i = 0; i < token.length; i++) {
+            int b = bytes[start + i];
+            if (b >= 'A' && b <= 'Z') {
+                b += 'a' - 'A';
+            }
+            if (b != token[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * {@code <meta charset="...">} 또는 http-equiv의 charset= 검색 (없으면 UTF-8)
+     *
+     * @param end 검색할 바이트 수 (보통 head 범위)
+     */
+    public static Charset detectMetaCharset(byte[] bytes, int end) {
+        for (int i = 0; i + CHARSET_KEY.length <= end; i++) {
+            if ((bytes[i] == 'c' || bytes[i] == 'C') && matchesIgnoreCase(bytes, end, i, CHARSET_KEY)) {
+                String head = new String(bytes, i, Math.min(64, end - i), StandardCharsets.US_ASCII);
+                Charset detected = toCharset(head, CHARSET_KEY.length, head.length());
+                if (detected != null) {
+                    return detected;
+                }
+            }
+        }
+        return StandardCharsets.UTF_8;
+    }
+
+    private static Charset toCharset(String text, int start, int end) {
+        while (start < end && (text.charAt(start) == '"' || text.charAt(start) == '\'' || text.charAt(start) == ' ')) {
+            start++;
+        }
+        int stop = start;
+        while (stop < end) {
+            char c = text.charAt(stop);
+            if (!Character.isLetterOrDigit(c) && c != '-' && c != '_') {
+                break;
+            }
+            stop++;
+        }
+        if (stop == start) {
+            return null;
+        }
+        try {
+            return Charset.forName(text.substring(start, stop));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package com.yourco.econyang.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Aho–Corasick 다중 키워드 매처
+ *
+ * 키워드 집합을 한 번 컴파일해 두고, 본문을 한 번만 훑어 모든 키워드의 출현 횟수를 구한다.
+ * 대소문자는 문자 단위로 접어서 비교하므로 본문 전체를 toLowerCase()로 복사할 필요가 없다 (한글은 그대로).
+ * 컴파일된 매처는 불변이라 여러 스레드에서 공유해도 된다.
+ */
+public final class KeywordMatcher {
+
+    private final String[] keywords;
+
+    // 노드별 전이 (문자 오름차순 정렬, 이진 탐색)
+    private final char[][] edgeChars;
+    private final int[][] edgeTargets;
+    private final int[] fail;
+    // 이 노드에서 끝나는 키워드 (없으면 -1)
+    private final int[] keywordAt;
+    // 실패 링크를 따라가며 만나는 가장 가까운 키워드 노드 (없으면 -1)
+    private final int[] outputLink;
+
+    /**
+     * @param keywords 검색할 키워드 (빈 문자열, 중복은 무시)
+     */
+    public KeywordMatcher(Collection<String> keywords) {
+        List<String> unique = new ArrayList<>();
+        List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+        List<Integer> terminal = new ArrayList<>();
+        trie.add(new TreeMap<>());
+        terminal.add(-1);
+
+        for (String keyword : keywords) {
+            if (keyword == null || keyword.isEmpty()) {
+                continue;
+            }
+            int node = 0;
+            for (int i = 0; i < keyword.length(); i++) {
+                char c = fold(keyword.charAt(i));
+                Integer next = trie.get(node).get(c);
+                if (next == null) {
+                    next = trie.size();
+                    trie.add(new TreeMap<>());
+                    terminal.add(-1);
+                    trie.get(node).put(c, next);
+                }
+                node = next;
+            }
+            if (terminal.get(node) < 0) {
+                terminal.set(node, unique.size());
+                unique.add(keyword);
+            }
+        }
+
+        int size = trie.size();
+        this.keywords = unique.toArray(new String[0]);
+        this.edgeChars = new char[size][];
+        this.edgeTargets = new int[size][];
+        this.fail = new int[size];
+        this.keywordAt = new int[size];
+        this.outputLink = new int[size];
+
+        for (int node = 0; node < size; node++) {
+            TreeMap<Character, Integer> edges = trie.get(node);
+            edgeChars[node] = new char[edges.size()];
+            edgeTargets[node] = new int[edges.size()];
+            int i = 0;
+            for (Map.Entry<Character, Integer> edge : edges.entrySet()) {
+                edgeChars[node][i] = edge.getKey();
+                edgeTargets[node][i] = edge.getValue();
+                i++;
+            }
+            keywordAt[node] = terminal.get(node);
+        }
+        buildFailureLinks();
+    }
+
+    /**
+     * 너비 우선으로 실패 링크와 출력 링크 계산
+     */
+    private void buildFailureLinks() {
+        Deque<Integer> queue = new ArrayDeque<>();
+        outputLink[0] = -1;
+        for (int child : edgeTargets[0]) {
+            fail[child] = 0;
+            outputLink[child] = -1;
+            queue.add(child);
+        }
+
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            for (int i = 0; i < edgeChars[node].length; i++) {
+                char c = edgeChars[node][i];
+                int child = edgeTargets[node][i];
+
+                int state = fail[node];
+                int next = transition(state, c);
+                while (next < 0 && state != 0) {
+                    state = fail[state];
+                    next = transition(state, c);
+                }
+                fail[child] = next < 0 ? 0 : next;
+                outputLink[child] = keywordAt[fail[child]] >= 0 ? fail[child] : outputLink[fail[child]];
+                queue.add(child);
+            }
+        }
+    }
+
+    private int transition(int node, char c) {
+        int index = Arrays.binarySearch(edgeChars[node], c);
+        return index >= 0 ? edgeTargets[node][index] : -1;
+    }
+
+    /**
+     * 본문 1회 스캔
+     */
+    public Hits scan(CharSequence text) {
+        int[] counts = new int[keywords.length];
+        int[] firstEnd = new int[keywords.length];
+        if (text == null || keywords.length == 0) {
+            return new Hits(keywords, counts, firstEnd);
+        }
+
+        int node = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = fold(text.charAt(i));
+            int next = transition(node, c);
+            while (next < 0 && node != 0) {
+                node = fail[node];
+                next = transition(node, c);
+            }
+            node = next < 0 ? 0 : next;
+
+            for (int out = keywordAt[node] >= 0 ? node : outputLink[node]; out >= 0; out = outputLink[out]) {
+                int keyword = keywordAt[out];
+                if (counts[keyword]++ == 0) {
+                    firstEnd[keyword] = i;
+                }
+            }
+        }
+        return new Hits(keywords, counts, firstEnd);
+    }
+
+    /**
+     * 키워드가 하나라도 있는지
+     */
+    public boolean containsAny(CharSequence text) {
+        return !scan(text).isEmpty();
+    }
+
+    public int size() {
+        return keywords.length;
+    }
+
+    private static char fold(char c) {
+        return Character.toLowerCase(c);
+    }
+
+    /**
+     * 스캔 결과 (키워드별 출현 횟수)
+     */
+    public static final class Hits {
+        private final Map<String, Integer> counts;
+
+        private Hits(String[] keywords, int[] counts, int[] firstEnd) {
+            // 본문에서 처음 나온 순서대로 정렬 (시작 위치가 같으면 먼저 등록된 키워드)
+            List<Integer> found = new ArrayList<>();
+            for (int i = 0; i < keywords.length; i++) {
+                if (counts[i] > 0) {
+                    found.add(i);
+                }
+            }
+            found.sort((a, b) -> {
+                int startA = firstEnd[a] - keywords[a].length();
+                int startB = firstEnd[b] - keywords[b].length();
+                return startA != startB ? Integer.compare(startA, startB) : Integer.compare(a, b);
+            });
+
+            Map<String, Integer> matched = new LinkedHashMap<>();
+            for (int keyword : found) {
+                matched.put(keywords[keyword], counts[keyword]);
+            }
+            this.counts = Collections.unmodifiableMap(matched);
+        }
+
+        public int count(String keyword) {
+            Integer count = counts.get(keyword);
+            return count == null ? 0 : count;
+        }
+
+        public boolean contains(String keyword) {
+            return counts.containsKey(keyword);
+        }
+
+        /**
+         * 발견된 키워드 → 출현 횟수 (본문에서 처음 나온 순서)
+         */
+        public Map<String, Integer> getCounts() {
+            return counts;
+        }
+
+        public int distinctCount() {
+            return counts.size();
+        }
+
+        public int totalCount() {
+            int total = 0;
+            for (int count : counts.values()) {
+                total += count;
+            }
+            return total;
+        }
+
+        public boolean isEmpty() {
+            return counts.isEmpty();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.yourco.econyang.util;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 설정 파일에 선언된 정규식 기반 ID 추출 규칙
+ * 코드로 작성된 고속 규칙이 없는 소스를 위한 폴백
+ */
+public class PatternArticleIdRule implements ArticleIdRule {
+
+    private final String host;
+    private final Pattern pattern;
+    private final String prefix;
+
+    /**
+     * @param host 적용 호스트 (null이면 소스 코드 기준으로만 적용)
+     * @param pattern 첫 번째 캡처 그룹이 기사 ID인 정규식
+     * @param prefix 고유 ID 접두어 (예: "economist")
+     */
+    public PatternArticleIdRule(String host, String pattern, String prefix) {
+        if (pattern == null || pattern.trim().isEmpty()) {
+            throw new IllegalArgumentException("ID 추출 정규식이 비어 있습니다.");
+        }
+        if (prefix == null || prefix.trim().isEmpty()) {
+            throw new IllegalArgumentException("ID 접두어가 비어 있습니다.");
+        }
+
+        this.host = host == null || host.trim().isEmpty() ? null : host.trim().toLowerCase();
+        this.pattern = Pattern.compile(pattern);
+        this.prefix = prefix.trim();
+
+        if (this.pattern.matcher("").groupCount() < 1) {
+            throw new IllegalArgumentException("ID 추출 정규식에 캡처 그룹이 없습니다: " + pattern);
+        }
+    }
+
+    @Override
+    public String getHost() {
+        return host;
+    }
+
+    @Override
+    public String extractId(String url, int pathStart) {
+        Matcher matcher = pattern.matcher(url);
+        if (matcher.find(pathStart)) {
+            String id = matcher.group(1);
+            if (id != null && !id.isEmpty()) {
+                return prefix + "_" + id;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public String getRuleName() {
+        return "Pattern[" + prefix + "]";
+    }
+}
@@ -18,6 +18,8 @@ public class PerformanceMonitor {
     private final ConcurrentHashMap<String, AtomicInteger> counters = new ConcurrentHashMap<>();
     private final ConcurrentHashMap<String, AtomicInteger> successCounts = new ConcurrentHashMap<>();
     private final ConcurrentHashMap<String, AtomicInteger> failureCounts = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, AtomicLong> byteTotals = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, AtomicInteger> byteCounts = new ConcurrentHashMap<>();
     
     /**
      * 작업 시간 측정 시작
@@ -49,6 +51,14 @@ public class PerformanceMonitor {
         failureCounts.computeIfAbsent(operation, k -> new AtomicInteger(0)).incrementAndGet();
     }
     
+    /**
+     * 전송량 기록 (예: 본문 스캔 시 내려받은 바이트)
+     */
+    public void recordBytes(String operation, long bytes) {
+        byteTotals.computeIfAbsent(operation, k -> new AtomicLong(0)).addAndGet(bytes);
+        byteCounts.computeIfAbsent(operation, k -> new AtomicInteger(0)).incrementAndGet();
+    }
+    
     /**
      * 성능 통계 출력
      */
@@ -75,6 +85,18 @@ public class PerformanceMonitor {
             }
         }
         
+        // 작업별 평균 전송량
+        for (String operation : byteTotals.keySet()) {
+            long totalBytes = byteTotals.get(operation).get();
+            int count = byteCounts.get(operation).get();
+            if (count > 0) {
+                System.out.println(String.format(
+                    "[%s] 평균 전송량: %.1fKB, 총 전송량: %.1fKB, 총 횟수: %d",
+                    operation, totalBytes / 1024.0 / count, totalBytes / 1024.0, count
+                ));
+            }
+        }
+        
         System.out.println();
     }
     
@@ -86,6 +108,8 @@ public class PerformanceMonitor {
         counters.clear();
         successCounts.clear();
         failureCounts.clear();
+        byteTotals.clear();
+        byteCounts.clear();
         System.out.println("성능 통계가 초기화되었습니다.");
     }
     
@@ -0,0 +1,101 @@
+package com.yourco.econyang.util;
+
+import org.jsoup.nodes.Element;
+import org.jsoup.nodes.Node;
+import org.jsoup.nodes.TextNode;
+import org.jsoup.select.NodeFilter;
+import org.jsoup.select.NodeTraversor;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Readability 방식의 본문 추출기 (Jsoup DOM 입력)
+ *
+ * DOM을 한 번만 순회하면서 광고/댓글/내비게이션 서브트리는 건너뛰고, 블록 이벤트를 {@link BlockScorer}에 전달한다.
+ * DOM 없이 HTML 스트림을 바로 처리하려면 {@link StreamingContentExtractor}를 사용한다.
+ */
+public final class ReadabilityExtractor {
+
+    private ReadabilityExtractor() {
+    }
+
+    /**
+     * 기본 보일러플레이트 규칙으로 본문 추출
+     */
+    public static String extract(Element root) {
+        return extract(root, Collections.<String>emptySet());
+    }
+
+    /**
+     * 본문 추출
+     *
+     * @param root 탐색 시작 요소 (보통 body 또는 소스별 본문 선택자 결과)
+     * @param extraNoiseTokens 소스별로 추가로 건너뛸 class/id 토큰
+     * @return 문단을 빈 줄로 구분한 본문, 문단이 없으면 빈 문자열
+     */
+    public static String extract(Element root, Collection<String> extraNoiseTokens) {
+        if (root == null) {
+            return "";
+        }
+
+        BlockScorer scorer = new BlockScorer(extraNoiseTokens);
+        NodeTraversor.filter(new DomFilter(scorer), root);
+        return scorer.assemble();
+    }
+
+    /**
+     * DOM 노드를 블록 이벤트로 변환
+     */
+    private static final class DomFilter implements NodeFilter {
+        private final BlockScorer scorer;
+        private int linkDepth;
+
+        DomFilter(BlockScorer scorer) {
+            this.scorer = scorer;
+        }
+
+        @Override
+        public FilterResult head(Node node, int depth) {
+            if (node instanceof TextNode) {
+                scorer.text(((TextNode) node).getWholeText(), linkDepth > 0);
+                return FilterResult.CONTINUE;
+            }
+            if (!(node instanceof Element)) {
+                return FilterResult.SKIP_ENTIRELY;
+            }
+
+            Element element = (Element) node;
+            String tag = element.normalName();
+            if (depth > 0 && scorer.shouldSkip(tag, element.id(), element.classNames())) {
+                return FilterResult.SKIP_ENTIRELY;
+            }
+
+            if (tag.equals("a")) {
+                linkDepth++;
+            } else if (tag.equals("br")) {
+                scorer.lineBreak();
+            }
+            if (depth == 0 || BlockScorer.isBlock(tag)) {
+                scorer.openBlock(tag, element.className() + " " + element.id());
+            }
+            return FilterResult.CONTINUE;
+        }
+
+        @Override
+        public FilterResult tail(Node node, int depth) {
+            if (!(node instanceof Element)) {
+                return FilterResult.CONTINUE;
+            }
+
+            String tag = ((Element) node).normalName();
+            if (tag.equals("a")) {
+                linkDepth--;
+            }
+            if (depth == 0 || BlockScorer.isBlock(tag)) {
+                scorer.closeBlock();
+            }
+            return FilterResult.CONTINUE;
+        }
+    }
+}
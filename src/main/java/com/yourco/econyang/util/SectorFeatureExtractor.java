@@ -0,0 +1,167 @@
+package com.yourco.econyang.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 요약의 경제 섹터/키워드 가중치 산출 (중요도 랭킹 입력)
+ *
+ * 모든 섹터 키워드를 하나의 KeywordMatcher로 컴파일해 두고 본문을 한 번만 훑는다.
+ * 요약 저장 시 한 번 계산해 summaries.sector / keyword_weight에 저장하고, 랭킹은 저장된 값을 쓴다.
+ */
+public final class SectorFeatureExtractor {
+
+    public static final String GENERAL = "general";
+
+    /**
+     * 섹터 정의 (선언 순서 = 섹터 판정 우선순위)
+     */
+    public static final class Sector {
+        private final String code;
+        private final String name;
+        private final double weight;
+        private final List<String> keywords;
+
+        Sector(String code, String name, double weight, String... keywords) {
+            this.code = code;
+            this.name = name;
+            this.weight = weight;
+            this.keywords = Collections.unmodifiableList(Arrays.asList(keywords));
+        }
+
+        public String getCode() {
+            return code;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public double getWeight() {
+            return weight;
+        }
+
+        public List<String> getKeywords() {
+            return keywords;
+        }
+    }
+
+    /**
+     * 산출 결과
+     */
+    public static final class Features {
+        private final String sector;
+        private final double keywordWeight;
+
+        public Features(String sector, double keywordWeight) {
+            this.sector = sector;
+            this.keywordWeight = keywordWeight;
+        }
+
+        public String getSector() {
+            return sector;
+        }
+
+        public double getKeywordWeight() {
+            return keywordWeight;
+        }
+    }
+
+    private static final List<Sector> SECTORS = Collections.unmodifiableList(Arrays.asList(
+            new Sector("monetary_policy", "통화정책", 1.5, "금리", "central bank", "federal reserve", "통화", "monetary"),
+            new Sector("market_trend", "시장동향", 1.3, "market", "trading", "주식", "증시", "stock"),
+            new Sector("economic_indicator", "경제지표", 1.4, "GDP", "inflation", "employment", "인플레이션", "고용"),
+            new Sector("corporate_finance", "기업재무", 1.2, "earnings", "revenue", "profit", "기업", "실적"),
+            new Sector("international_trade", "국제무역", 1.3, "trade", "export", "import", "수출", "수입", "무역"),
+            new Sector("real_estate", "부동산", 1.1, "부동산", "real estate", "housing", "property"),
+            new Sector("commodities", "원자재", 1.2, "commodities", "oil", "gold", "원자재", "석유"),
+            new Sector("currency", "환율", 1.3, "currency", "exchange rate", "환율", "달러", "원화")
+    ));
+
+    private static final Map<String, Sector> BY_CODE = new LinkedHashMap<>();
+    private static final KeywordMatcher MATCHER;
+
+    static {
+        List<String> keywords = new ArrayList<>();
+        for (Sector sector : SECTORS) {
+            BY_CODE.put(sector.code, sector);
+            keywords.addAll(sector.keywords);
+        }
+        MATCHER = new KeywordMatcher(keywords);
+    }
+
+    private SectorFeatureExtractor() {
+    }
+
+    public static List<Sector> sectors() {
+        return SECTORS;
+    }
+
+    /**
+     * 섹터 코드 → 섹터 (general이나 모르는 코드면 null)
+     */
+    public static Sector sector(String code) {
+        return BY_CODE.get(code);
+    }
+
+    /**
+     * 섹터/키워드 가중치 산출
+     *
+     * 섹터는 제목+요약+핵심 포인트에서 키워드가 처음 나오는 섹터(선언 순서), 키워드 가중치는 여기에 '왜 중요한가'까지
+     * 포함해 섹터 가중치 + 일치 키워드 수 × 0.1 중 최댓값이다 (핵심 포인트가 없으면 1.0).
+     * 어느 섹터 키워드도 없으면 general.
+     */
+    public static Features extract(String title, String summaryText, String whyItMatters, List<String> bullets) {
+        if (bullets == null) {
+            bullets = Collections.emptyList();
+        }
+
+        StringBuilder text = new StringBuilder();
+        append(text, title);
+        append(text, summaryText);
+        for (String bullet : bullets) {
+            append(text, bullet);
+        }
+        KeywordMatcher.Hits hits = MATCHER.scan(text);
+        KeywordMatcher.Hits whyHits = MATCHER.scan(whyItMatters);
+
+        String sectorCode = GENERAL;
+        double keywordWeight = 1.0;
+        for (Sector sector : SECTORS) {
+            int matchCount = 0;
+            boolean inSectorText = false;
+            for (String keyword : sector.keywords) {
+                if (hits.contains(keyword)) {
+                    inSectorText = true;
+                    matchCount++;
+                } else if (whyHits.contains(keyword)) {
+                    matchCount++;
+                }
+            }
+            if (inSectorText && GENERAL.equals(sectorCode)) {
+                sectorCode = sector.code;
+            }
+            if (matchCount > 0) {
+                keywordWeight = Math.max(keywordWeight, sector.weight + matchCount * 0.1);
+            }
+        }
+
+        if (bullets.isEmpty()) {
+            keywordWeight = 1.0;
+        }
+        return new Features(sectorCode, keywordWeight);
+    }
+
+    private static void append(StringBuilder text, String part) {
+        if (text.length() > 0) {
+            text.append(' ');
+        }
+        if (part != null) {
+            text.append(part);
+        }
+    }
+}
@@ -0,0 +1,626 @@
+package com.yourco.econyang.util;
+
+import org.jsoup.parser.Parser;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * DOM 없이 HTML 스트림에서 바로 본문을 추출하는 SAX 방식 추출기
+ *
+ * 문자 단위 상태 머신으로 태그를 읽으면서 광고/댓글/스크립트 서브트리는 토큰화 단계에서 버리고,
+ * 블록 이벤트만 {@link BlockScorer}에 전달한다. 본문 영역이 끝났다고 판단되면(선택자 범위 종료,
+ * 충분한 본문 뒤의 {@code </article>}나 footer) 나머지 입력은 읽지 않는다.
+ *
+ * 트리 보정은 문단 추출에 필요한 만큼만 한다: 닫히지 않은 p/li/td는 다음 블록에서 닫고,
+ * 짝이 없는 닫는 태그는 무시한다. 채점 방식은 {@link ReadabilityExtractor}와 동일하다.
+ */
+public final class StreamingContentExtractor {
+
+    public static final int DEFAULT_MAX_CHARS = 2 * 1024 * 1024;
+
+    private static final int READ_CHUNK = 8 * 1024;
+    private static final int MAX_TAG_LENGTH = 4 * 1024;
+    private static final int MAX_PENDING_TEXT = 8 * 1024;
+    private static final int MIN_SCOPED_LENGTH = 100;
+    // 이만큼 본문을 모은 뒤 article이 닫히거나 footer가 시작되면 종료
+    private static final int EARLY_STOP_CHARS = 500;
+
+    private static final Set<String> VOID_TAGS = new HashSet<>(Arrays.asList(
+        "area", "base", "br", "col", "embed", "hr", "img", "input", "link", "meta", "param",
+        "source", "track", "wbr"
+    ));
+
+    // 닫는 태그까지 내용을 해석하지 않는 태그
+    private static final Set<String> RAW_TEXT_TAGS = new HashSet<>(Arrays.asList(
+        "script", "style", "textarea", "title", "xmp"
+    ));
+
+    private StreamingContentExtractor() {
+    }
+
+    /**
+     * 기본 규칙으로 본문 추출
+     */
+    public static String extract(String html) {
+        if (html == null) {
+            return "";
+        }
+        try {
+            return extract(new StringReader(html), null, Collections.<String>emptySet(), DEFAULT_MAX_CHARS);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 본문 추출 (Reader는 호출자가 닫는다)
+     *
+     * @param contentSelector 소스별 본문 선택자 (tag, .class, #id, tag.class, tag#id를 쉼표로 구분), 없으면 null
+     * @param extraNoiseTokens 소스별로 추가로 건너뛸 class/id 토큰
+     * @param maxChars 읽을 최대 문자 수
+     * @return 문단을 빈 줄로 구분한 본문, 문단이 없으면 빈 문자열
+     */
+    public static String extract(Reader reader, String contentSelector, Collection<String> extraNoiseTokens,
+                                 int maxChars) throws IOException {
+        Tokenizer tokenizer = new Tokenizer(SimpleSelector.parseAll(contentSelector), extraNoiseTokens);
+        char[] chunk = new char[READ_CHUNK];
+        int total = 0;
+        int read;
+        while (!tokenizer.stopped && total < maxChars && (read = reader.read(chunk)) != -1) {
+            int count = Math.min(read, maxChars - total);
+            tokenizer.feed(chunk, count);
+            total += count;
+        }
+        return tokenizer.finish();
+    }
+
+    private enum State {
+        TEXT, TAG, COMMENT, DECLARATION, RAW_TEXT
+    }
+
+    /**
+     * 열린 요소
+     */
+    private static final class OpenElement {
+        final String tag;
+        final boolean skipRoot;
+        final boolean block;
+        final boolean scopeRoot;
+        final int paragraphCharsAtOpen;
+
+        OpenElement(String tag, boolean skipRoot, boolean block, boolean scopeRoot, int paragraphCharsAtOpen) {
+            this.tag = tag;
+            this.skipRoot = skipRoot;
+            this.block = block;
+            this.scopeRoot = scopeRoot;
+            this.paragraphCharsAtOpen = paragraphCharsAtOpen;
+        }
+    }
+
+    /**
+     * 문자 청크를 받아 태그/텍스트 이벤트로 변환
+     */
+    private static final class Tokenizer {
+        private final List<SimpleSelector> selectors;
+        private final BlockScorer global;
+        private final Collection<String> extraNoiseTokens;
+        private BlockScorer scoped;
+        private String scopedResult;
+
+        private final List<OpenElement> stack = new ArrayList<>();
+        private int skipCount;
+        private int linkDepth;
+
+        private State state = State.TEXT;
+        private final StringBuilder text = new StringBuilder();
+        private final StringBuilder tag = new StringBuilder();
+        private char quote;
+        private char lastTagChar;
+        private int tagLength;
+        private int dashes;
+        private String rawTextEnd;
+        private int rawTextMatched;
+
+        private boolean stopped;
+
+        Tokenizer(List<SimpleSelector> selectors, Collection<String> extraNoiseTokens) {
+            this.selectors = selectors;
+            this.extraNoiseTokens = extraNoiseTokens;
+            this.global = new BlockScorer(extraNoiseTokens);
+            global.openBlock("body", "");
+        }
+
+        void feed(char[] chunk, int count) {
+            for (int i = 0; i < count && !stopped; i++) {
+                char c = chunk[i];
+                switch (state) {
+                    case TEXT:
+                        onText(c);
+                        break;
+                    case TAG:
+                        onTag(c);
+                        break;
+                    case COMMENT:
+                        // "-->" 검색
+                        if (c == '>' && dashes >= 2) {
+                            state = State.TEXT;
+                        }
+                        dashes = c == '-' ? dashes + 1 : 0;
+                        break;
+                    case DECLARATION:
+                        if (c == '>') {
+                            state = State.TEXT;
+                        }
+                        break;
+                    case RAW_TEXT:
+                        onRawText(c);
+                        break;
+                    default:
+                        break;
+                }
+            }
+        }
+
+        String finish() {
+            if (!stopped) {
+                flushText();
+            }
+            if (scopedResult == null && scoped != null) {
+                scopedResult = scoped.assemble();
+            }
+            if (scopedResult != null && scopedResult.length() >= MIN_SCOPED_LENGTH) {
+                return scopedResult;
+            }
+            return global.assemble();
+        }
+
+        private void onText(char c) {
+            if (c == '<') {
+                flushText();
+                state = State.TAG;
+                tag.setLength(0);
+                tagLength = 0;
+                quote = 0;
+                lastTagChar = 0;
+                return;
+            }
+            if (skipCount > 0) {
+                return;
+            }
+            text.append(c);
+            // 엔티티가 잘리지 않도록 공백에서만 중간 전달
+            if (text.length() >= MAX_PENDING_TEXT && Character.isWhitespace(c)) {
+                flushText();
+            }
+        }
+
+        private void onTag(char c) {
+            if (tagLength == 0) {
+                if (c == '!' || c == '?') {
+                    tag.append(c);
+                    tagLength++;
+                    return;
+                }
+                if (c != '/' && !Character.isLetter(c)) {
+                    // "a < b" 같은 일반 텍스트
+                    state = State.TEXT;
+                    if (skipCount == 0) {
+                        text.append('<');
+                    }
+                    onText(c);
+                    return;
+                }
+            } else if (tag.charAt(0) == '!' || tag.charAt(0) == '?') {
+                tag.append(c);
+                tagLength++;
+                if (tagLength == 3 && tag.toString().equals("!--")) {
+                    state = State.COMMENT;
+                    dashes = 0;
+                } else if (tagLength >= 3 || c == '>') {
+                    state = c == '>' ? State.TEXT : State.DECLARATION;
+                }
+                return;
+            }
+
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if ((c == '"' || c == '\'') && lastTagChar == '=') {
+                quote = c;
+            } else if (c == '>') {
+                state = State.TEXT;
+                onTagComplete(tag.toString());
+                return;
+            }
+            if (!Character.isWhitespace(c)) {
+                lastTagChar = c;
+            }
+            if (tagLength++ < MAX_TAG_LENGTH) {
+                tag.append(c);
+            }
+        }
+
+        private void onRawText(char c) {
+            char expected = rawTextEnd.charAt(rawTextMatched);
+            if (Character.toLowerCase(c) == expected) {
+                rawTextMatched++;
+                if (rawTextMatched == rawTextEnd.length()) {
+                    // "</script" 이후는 일반 닫는 태그로 처리
+                    state = State.TAG;
+                    tag.setLength(0);
+                    tag.append(rawTextEnd, 1, rawTextEnd.length());
+                    tagLength = tag.length();
+                    quote = 0;
+                    lastTagChar = 0;
+                }
+            } else {
+                rawTextMatched = c == '<' ? 1 : 0;
+            }
+        }
+
+        private void flushText() {
+            if (text.length() == 0) {
+                return;
+            }
+            if (skipCount == 0) {
+                String value = text.indexOf("&") >= 0
+                        ? Parser.unescapeEntities(text.toString(), false)
+                        : text.toString();
+                boolean inLink = linkDepth > 0;
+                global.text(value, inLink);
+                if (scoped != null) {
+                    scoped.text(value, inLink);
+                }
+            }
+            text.setLength(0);
+        }
+
+        private void onTagComplete(String raw) {
+            if (raw.startsWith("/")) {
+                onEndTag(tagName(raw, 1));
+                return;
+            }
+            String name = tagName(raw, 0);
+            if (name.isEmpty()) {
+                return;
+            }
+            boolean selfClosing = raw.endsWith("/");
+            Attributes attributes = Attributes.parse(raw, name.length());
+            onStartTag(name, attributes, selfClosing);
+        }
+
+        private void onStartTag(String name, Attributes attributes, boolean selfClosing) {
+            if (name.equals("html")) {
+                return;
+            }
+            if (name.equals("body")) {
+                // head가 닫히지 않은 채 body가 시작된 경우
+                while (!stack.isEmpty()) {
+                    pop();
+                }
+                return;
+            }
+
+            if (skipCount == 0) {
+                closeImplied(name);
+                if (isFooter(name, attributes) && global.getParagraphChars() >= EARLY_STOP_CHARS) {
+                    stopped = true;
+                    return;
+                }
+            }
+
+            if (name.equals("br")) {
+                if (skipCount == 0) {
+                    global.lineBreak();
+                    if (scoped != null) {
+                        scoped.lineBreak();
+                    }
+                }
+                return;
+            }
+            if (VOID_TAGS.contains(name)) {
+                return;
+            }
+
+            boolean skipRoot = false;
+            boolean block = false;
+            boolean scopeRoot = false;
+            if (skipCount == 0) {
+                skipRoot = name.equals("head") || global.shouldSkip(name, attributes.id, attributes.classNames());
+                if (!skipRoot) {
+                    String hints = attributes.className + " " + attributes.id;
+                    if (scoped == null && scopedResult == null && matchesSelector(name, attributes)) {
+                        scoped = new BlockScorer(extraNoiseTokens);
+                        scoped.openBlock(name, hints);
+                        scopeRoot = true;
+                    }
+                    block = BlockScorer.isBlock(name);
+                    if (block) {
+                        global.openBlock(name, hints);
+                        if (scoped != null && !scopeRoot) {
+                            scoped.openBlock(name, hints);
+                        }
+                    }
+                    if (name.equals("a")) {
+                        linkDepth++;
+                    }
+                }
+            }
+
+            if (skipRoot) {
+                skipCount++;
+            }
+            stack.add(new OpenElement(name, skipRoot, block, scopeRoot, global.getParagraphChars()));
+
+            if (selfClosing) {
+                onEndTag(name);
+            } else if (RAW_TEXT_TAGS.contains(name)) {
+                state = State.RAW_TEXT;
+                rawTextEnd = "</" + name;
+                rawTextMatched = 0;
+            }
+        }
+
+        private void onEndTag(String name) {
+            if (name.isEmpty() || name.equals("html") || name.equals("body")) {
+                return;
+            }
+            int index = stack.size() - 1;
+            while (index >= 0 && !stack.get(index).tag.equals(name)) {
+                index--;
+            }
+            if (index < 0) {
+                return;
+            }
+            while (stack.size() > index && !stopped) {
+                pop();
+            }
+        }
+
+        /**
+         * 닫히지 않은 p, li, td 등을 새 블록이 시작될 때 닫기
+         */
+        private void closeImplied(String name) {
+            while (!stack.isEmpty()) {
+                String top = stack.get(stack.size() - 1).tag;
+                boolean implied;
+                switch (top) {
+                    case "p":
+                        implied = BlockScorer.isBlock(name);
+                        break;
+                    case "li":
+                        implied = name.equals("li");
+                        break;
+                    case "dt":
+                    case "dd":
+                        implied = name.equals("dt") || name.equals("dd");
+                        break;
+                    case "td":
+                    case "th":
+                        implied = name.equals("td") || name.equals("th") || name.equals("tr");
+                        break;
+                    case "tr":
+                        implied = name.equals("tr");
+                        break;
+                    default:
+                        implied = false;
+                        break;
+                }
+                if (!implied) {
+                    return;
+                }
+                pop();
+            }
+        }
+
+        private void pop() {
+            OpenElement element = stack.remove(stack.size() - 1);
+            if (element.skipRoot) {
+                skipCount--;
+                return;
+            }
+            if (skipCount > 0) {
+                return;
+            }
+            if (element.tag.equals("a")) {
+                linkDepth = Math.max(0, linkDepth - 1);
+            }
+            if (element.block) {
+                global.closeBlock();
+            }
+
+            if (element.scopeRoot) {
+                while (scoped.depth() > 0) {
+                    scoped.closeBlock();
+                }
+                scopedResult = scoped.assemble();
+                scoped = null;
+                if (scopedResult.length() >= MIN_SCOPED_LENGTH) {
+                    stopped = true;
+                }
+            } else if (scoped != null && element.block) {
+                scoped.closeBlock();
+            }
+
+            if (element.tag.equals("article")
+                    && global.getParagraphChars() - element.paragraphCharsAtOpen >= EARLY_STOP_CHARS) {
+                stopped = true;
+            }
+        }
+
+        private boolean matchesSelector(String name, Attributes attributes) {
+            for (SimpleSelector selector : selectors) {
+                if (selector.matches(name, attributes)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static boolean isFooter(String name, Attributes attributes) {
+            if (name.equals("footer") || attributes.id.equalsIgnoreCase("footer")) {
+                return true;
+            }
+            for (String className : attributes.classNames()) {
+                if (className.equalsIgnoreCase("footer")) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static String tagName(String raw, int start) {
+            int end = start;
+            while (end < raw.length()) {
+                char c = raw.charAt(end);
+                if (Character.isWhitespace(c) || c == '/' || c == '>') {
+                    break;
+                }
+                end++;
+            }
+            return raw.substring(start, end).toLowerCase();
+        }
+    }
+
+    /**
+     * 태그의 id/class 속성 (그 외 속성은 버림)
+     */
+    private static final class Attributes {
+        String id = "";
+        String className = "";
+
+        List<String> classNames() {
+            if (className.isEmpty()) {
+                return Collections.emptyList();
+            }
+            List<String> names = new ArrayList<>();
+            for (String name : className.trim().split("\\s+")) {
+                if (!name.isEmpty()) {
+                    names.add(name);
+                }
+            }
+            return names;
+        }
+
+        static Attributes parse(String raw, int pos) {
+            Attributes attributes = new Attributes();
+            int length = raw.length();
+            while (pos < length) {
+                char c = raw.charAt(pos);
+                if (Character.isWhitespace(c) || c == '/') {
+                    pos++;
+                    continue;
+                }
+                int keyStart = pos;
+                while (pos < length && !Character.isWhitespace(raw.charAt(pos)) && raw.charAt(pos) != '='
+                        && raw.charAt(pos) != '/') {
+                    pos++;
+                }
+                String key = raw.substring(keyStart, pos).toLowerCase();
+                while (pos < length && Character.isWhitespace(raw.charAt(pos))) {
+                    pos++;
+                }
+                if (pos >= length || raw.charAt(pos) != '=') {
+                    continue;
+                }
+                pos++;
+                while (pos < length && Character.isWhitespace(raw.charAt(pos))) {
+                    pos++;
+                }
+                int valueStart;
+                int valueEnd;
+                if (pos < length && (raw.charAt(pos) == '"' || raw.charAt(pos) == '\'')) {
+                    char quote = raw.charAt(pos);
+                    valueStart = pos + 1;
+                    valueEnd = raw.indexOf(quote, valueStart);
+                    if (valueEnd < 0) {
+                        valueEnd = length;
+                    }
+                    pos = Math.min(length, valueEnd + 1);
+                } else {
+                    valueStart = pos;
+                    while (pos < length && !Character.isWhitespace(raw.charAt(pos))) {
+                        pos++;
+                    }
+                    valueEnd = pos;
+                }
+                if (key.equals("id")) {
+                    attributes.id = raw.substring(valueStart, valueEnd).trim();
+                } else if (key.equals("class")) {
+                    attributes.className = raw.substring(valueStart, valueEnd);
+                }
+            }
+            return attributes;
+        }
+    }
+
+    /**
+     * 단순 선택자 (tag, .class, #id, tag.class, tag#id)
+     * 자손/속성 선택자 등은 지원하지 않으며 해당 항목은 무시된다.
+     */
+    private static final class SimpleSelector {
+        private final String tag;
+        private final String className;
+        private final String id;
+
+        private SimpleSelector(String tag, String className, String id) {
+            this.tag = tag;
+            this.className = className;
+            this.id = id;
+        }
+
+        static List<SimpleSelector> parseAll(String selector) {
+            if (selector == null || selector.trim().isEmpty()) {
+                return Collections.emptyList();
+            }
+            List<SimpleSelector> selectors = new ArrayList<>();
+            for (String part : selector.split(",")) {
+                SimpleSelector parsed = parse(part.trim());
+                if (parsed != null) {
+                    selectors.add(parsed);
+                }
+            }
+            return selectors;
+        }
+
+        private static SimpleSelector parse(String part) {
+            if (part.isEmpty() || !part.matches("[A-Za-z0-9]*([.#][A-Za-z0-9_-]+)?")) {
+                return null;
+            }
+            int marker = Math.max(part.indexOf('.'), part.indexOf('#'));
+            String tag = marker < 0 ? part : part.substring(0, marker);
+            String className = null;
+            String id = null;
+            if (marker >= 0) {
+                String value = part.substring(marker + 1);
+                if (part.charAt(marker) == '.') {
+                    className = value;
+                } else {
+                    id = value;
+                }
+            }
+            return new SimpleSelector(tag.isEmpty() ? null : tag.toLowerCase(), className, id);
+        }
+
+        boolean matches(String name, Attributes attributes) {
+            if (tag != null && !tag.equals(name)) {
+                return false;
+            }
+            if (id != null && !id.equals(attributes.id)) {
+                return false;
+            }
+            return className == null || attributes.classNames().contains(className);
+        }
+    }
+}
@@ -0,0 +1,364 @@
+package com.yourco.econyang.util;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+
+/**
+ * 구조화 메타데이터(JSON-LD, 메타태그)에서 발행일을 추출하는 경량 토크나이저
+ *
+ * DOM을 만들지 않고 문서를 한 번 훑으며 {@code <meta>}와 {@code <script type="application/ld+json">}만 해석한다.
+ * 우선순위: JSON-LD datePublished → article:published_time → itemprop=datePublished
+ * → og:published_time, pubdate 등 → 수정일(og:updated_time, dateModified)
+ */
+public final class StructuredDateExtractor {
+
+    /**
+     * 추출 출처 (ArticleDateCache.extractionMethod에 기록되는 이름)
+     */
+    public enum Source {
+        JSON_LD("json_ld"),
+        META("meta");
+
+        private final String methodName;
+
+        Source(String methodName) {
+            this.methodName = methodName;
+        }
+
+        public String getMethodName() {
+            return methodName;
+        }
+    }
+
+    /**
+     * 추출 결과
+     */
+    public static final class StructuredDate {
+        private final LocalDateTime dateTime;
+        private final Source source;
+        private final String key;
+
+        StructuredDate(LocalDateTime dateTime, Source source, String key) {
+            this.dateTime = dateTime;
+            this.source = source;
+            this.key = key;
+        }
+
+        public LocalDateTime getDateTime() { return dateTime; }
+        public Source getSource() { return source; }
+        /** 날짜를 가져온 키 (예: "datePublished", "article:published_time") */
+        public String getKey() { return key; }
+
+        public String getExtractionMethod() {
+            return source.getMethodName();
+        }
+
+        @Override
+        public String toString() {
+            return source.getMethodName() + "[" + key + "]=" + dateTime;
+        }
+    }
+
+    // 우선순위 (작을수록 우선)
+    private static final int PRIORITY_JSON_LD_PUBLISHED = 0;
+    private static final int PRIORITY_ARTICLE_PUBLISHED = 1;
+    private static final int PRIORITY_ITEMPROP_PUBLISHED = 2;
+    private static final int PRIORITY_GENERIC_PUBLISHED = 3;
+    private static final int PRIORITY_MODIFIED = 4;
+    private static final int PRIORITY_NONE = Integer.MAX_VALUE;
+
+    private StructuredDateExtractor() {
+    }
+
+    /**
+     * HTML(또는 HeadSniffer로 읽은 앞부분)에서 구조화된 발행일 추출
+     */
+    public static Optional<StructuredDate> extract(String html) {
+        if (html == null || html.isEmpty()) {
+            return Optional.empty();
+        }
+
+        Scan scan = new Scan(html);
+        scan.run();
+        return Optional.ofNullable(scan.best);
+    }
+
+    /**
+     * 문서 1회 스캔 상태
+     */
+    private static final class Scan {
+        private final String html;
+        private final int length;
+        private int pos;
+
+        private StructuredDate best;
+        private int bestPriority = PRIORITY_NONE;
+
+        // 현재 태그의 관심 속성
+        private String name;
+        private String property;
+        private String itemprop;
+        private String content;
+        private String type;
+
+        Scan(String html) {
+            this.html = html;
+            this.length = html.length();
+        }
+
+        void run() {
+            while (bestPriority != PRIORITY_JSON_LD_PUBLISHED) {
+                int lt = html.indexOf('<', pos);
+                if (lt < 0 || lt + 1 >= length) {
+                    return;
+                }
+                pos = lt + 1;
+
+                if (html.startsWith("!--", pos)) {
+                    int end = html.indexOf("-->", pos + 3);
+                    pos = end < 0 ? length : end + 3;
+                    continue;
+                }
+
+                int nameEnd = pos;
+                while (nameEnd < length && isTagNameChar(html.charAt(nameEnd))) {
+                    nameEnd++;
+                }
+                if (nameEnd == pos) {
+                    continue;
+                }
+                String tag = html.substring(pos, nameEnd).toLowerCase();
+                pos = nameEnd;
+
+                if (tag.equals("meta")) {
+                    readAttributes();
+                    onMeta();
+                } else if (tag.equals("script")) {
+                    readAttributes();
+                    int end = indexOfIgnoreCase("</script", pos);
+                    int bodyEnd = end < 0 ? length : end;
+                    if (type != null && type.toLowerCase().contains("ld+json")) {
+                        onJsonLd(pos, bodyEnd);
+                    }
+                    pos = bodyEnd;
+                } else if (tag.equals("style")) {
+                    int end = indexOfIgnoreCase("</style", pos);
+                    pos = end < 0 ? length : end;
+                }
+            }
+        }
+
+        /**
+         * 태그 속성 파싱 (따옴표 안의 '>'는 무시), pos는 태그 끝 다음으로 이동
+         */
+        private void readAttributes() {
+            name = property = itemprop = content = type = null;
+
+            while (pos < length) {
+                char c = html.charAt(pos);
+                if (c == '>') {
+                    pos++;
+                    return;
+                }
+                if (Character.isWhitespace(c) || c == '/') {
+                    pos++;
+                    continue;
+                }
+
+                int keyStart = pos;
+                while (pos < length && !isAttributeDelimiter(html.charAt(pos))) {
+                    pos++;
+                }
+                String key = html.substring(keyStart, pos).toLowerCase();
+
+                while (pos < length && Character.isWhitespace(html.charAt(pos))) {
+                    pos++;
+                }
+                String value = null;
+                if (pos < length && html.charAt(pos) == '=') {
+                    pos++;
+                    while (pos < length && Character.isWhitespace(html.charAt(pos))) {
+                        pos++;
+                    }
+                    value = readAttributeValue();
+                }
+                assign(key, value);
+            }
+        }
+
+        private String readAttributeValue() {
+            if (pos >= length) {
+                return "";
+            }
+            char quote = html.charAt(pos);
+            if (quote == '"' || quote == '\'') {
+                int end = html.indexOf(quote, pos + 1);
+                if (end < 0) {
+                    end = length;
+                }
+                String value = html.substring(pos + 1, end);
+                pos = Math.min(length, end + 1);
+                return value;
+            }
+            int start = pos;
+            while (pos < length && !Character.isWhitespace(html.charAt(pos)) && html.charAt(pos) != '>') {
+                pos++;
+            }
+            return html.substring(start, pos);
+        }
+
+        private void assign(String key, String value) {
+            switch (key) {
+                case "name": name = value; break;
+                case "property": property = value; break;
+                case "itemprop": itemprop = value; break;
+                case "content": content = value; break;
+                case "type": type = value; break;
+                default: break;
+            }
+        }
+
+        private void onMeta() {
+            if (content == null) {
+                return;
+            }
+            String key = property != null ? property : name != null ? name : itemprop;
+            if (key == null) {
+                return;
+            }
+            int priority = metaPriority(key.trim().toLowerCase(), itemprop != null);
+            if (priority < bestPriority) {
+                offer(content, priority, Source.META, key.trim());
+            }
+        }
+
+        private int metaPriority(String key, boolean fromItemprop) {
+            switch (key) {
+                case "article:published_time":
+                    return PRIORITY_ARTICLE_PUBLISHED;
+                case "datepublished":
+                    return fromItemprop ? PRIORITY_ITEMPROP_PUBLISHED : PRIORITY_GENERIC_PUBLISHED;
+                case "og:published_time":
+                case "pubdate":
+                case "publishdate":
+                case "publish-date":
+                case "date":
+                case "dc.date":
+                case "dc.date.issued":
+                case "dcterms.created":
+                    return PRIORITY_GENERIC_PUBLISHED;
+                case "article:modified_time":
+                case "og:updated_time":
+                case "datemodified":
+                    return PRIORITY_MODIFIED;
+                default:
+                    return PRIORITY_NONE;
+            }
+        }
+
+        /**
+         * JSON-LD 본문에서 datePublished(없으면 dateModified) 문자열 값 검색
+         */
+        private void onJsonLd(int start, int end) {
+            String value = jsonStringValue("\"datePublished\"", start, end);
+            if (value != null) {
+                offer(value, PRIORITY_JSON_LD_PUBLISHED, Source.JSON_LD, "datePublished");
+                if (bestPriority == PRIORITY_JSON_LD_PUBLISHED) {
+                    return;
+                }
+            }
+            if (PRIORITY_MODIFIED < bestPriority) {
+                value = jsonStringValue("\"dateModified\"", start, end);
+                if (value != null) {
+                    offer(value, PRIORITY_MODIFIED, Source.JSON_LD, "dateModified");
+                }
+            }
+        }
+
+        private String jsonStringValue(String quotedKey, int start, int end) {
+            int keyAt = html.indexOf(quotedKey, start);
+            while (keyAt >= 0 && keyAt < end) {
+                int i = keyAt + quotedKey.length();
+                while (i < end && Character.isWhitespace(html.charAt(i))) {
+                    i++;
+                }
+                if (i < end && html.charAt(i) == ':') {
+                    i++;
+                    while (i < end && Character.isWhitespace(html.charAt(i))) {
+                        i++;
+                    }
+                    if (i < end && html.charAt(i) == '"') {
+                        int close = html.indexOf('"', i + 1);
+                        if (close > 0 && close < end) {
+                            return html.substring(i + 1, close);
+                        }
+                    }
+                }
+                keyAt = html.indexOf(quotedKey, keyAt + quotedKey.length());
+            }
+            return null;
+        }
+
+        private void offer(String value, int priority, Source source, String key) {
+            LocalDateTime dateTime = parse(value);
+            if (dateTime != null) {
+                best = new StructuredDate(dateTime, source, key);
+                bestPriority = priority;
+            }
+        }
+
+        private int indexOfIgnoreCase(String token, int from) {
+            int limit = length - token.length();
+            for (int i = from; i <= limit; i++) {
+                if (html.charAt(i) == '<' && html.regionMatches(true, i, token, 0, token.length())) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private static boolean isTagNameChar(char c) {
+            return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+        }
+
+        private static boolean isAttributeDelimiter(char c) {
+            return Character.isWhitespace(c) || c == '=' || c == '>' || c == '/';
+        }
+    }
+
+    /**
+     * ISO 8601 값 파싱, 오프셋이 있으면 시스템 시간대로 변환 (RSS pubDate와 동일한 기준)
+     */
+    static LocalDateTime parse(String value) {
+        String trimmed = value.trim();
+        if (trimmed.length() < 10) {
+            return null;
+        }
+
+        try {
+            return OffsetDateTime.parse(trimmed).atZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+        } catch (DateTimeParseException e) {
+            // 다음 형식 시도
+        }
+        try {
+            return LocalDateTime.parse(trimmed.replace(' ', 'T'));
+        } catch (DateTimeParseException e) {
+            // 다음 형식 시도
+        }
+        try {
+            return LocalDate.parse(trimmed).atStartOfDay();
+        } catch (DateTimeParseException e) {
+            // 다음 형식 시도
+        }
+
+        // "+0900" 오프셋 등 비표준 값은 날짜 스캐너로 처리
+        return DateScanner.scanText(trimmed)
+                .map(scanned -> scanned.toDateTime(LocalTime.MIDNIGHT))
+                .orElse(null);
+    }
+}
@@ -1,7 +1,9 @@
 package com.yourco.econyang.util;
 
+import java.time.DateTimeException;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -9,42 +11,62 @@ import java.util.regex.Pattern;
 /**
  * URL 경로에서 날짜 정보를 추출하는 유틸리티
  * 다양한 언론사의 URL 패턴 지원
+ *
+ * URL을 한 번만 호스트/경로/쿼리로 분해한 뒤 세그먼트 단위로 규칙을 적용한다.
+ * 모든 정규식은 클래스 로딩 시 한 번만 컴파일되며, 짧은 세그먼트에만 앵커 매칭하므로
+ * URL 전체에 대한 {@code .*} 백트래킹이 발생하지 않는다.
  */
 public class UrlDateExtractor {
-    
-    // URL 날짜 패턴들 (우선순위 순)
-    private static final Pattern[] URL_DATE_PATTERNS = {
-        // 1. 표준 형식: /2025/08/25/
-        Pattern.compile(".*/(?<year>\\d{4})/(?<month>\\d{1,2})/(?<day>\\d{1,2})/.*"),
-        
-        // 2. 하이픈 구분: /2025-08-25/
-        Pattern.compile(".*/(?<year>\\d{4})-(?<month>\\d{1,2})-(?<day>\\d{1,2})/.*"),
-        
-        // 3. 점 구분: /2025.08.25/  
-        Pattern.compile(".*/(?<year>\\d{4})\\.(?<month>\\d{1,2})\\.(?<day>\\d{1,2})/.*"),
-        
-        // 4. 연속 숫자: /20250825/
-        Pattern.compile(".*/(?<year>\\d{4})(?<month>\\d{2})(?<day>\\d{2})/.*"),
-        
-        // 5. 타임스탬프 포함: /2025/08/25/article-title-123456789/
-        Pattern.compile(".*/(?<year>\\d{4})/(?<month>\\d{1,2})/(?<day>\\d{1,2})/[^/]*(?<timestamp>\\d{6,})/.*"),
-        
-        // 6. 쿼리 파라미터: ?date=2025-08-25 또는 ?published=20250825
-        Pattern.compile(".*[?&](?:date|published|pubDate)=(?<year>\\d{4})[-.]?(?<month>\\d{1,2})[-.]?(?<day>\\d{1,2}).*"),
-        
-        // 7. Financial Times 패턴: /content/uuid-with-timestamp
-        Pattern.compile(".*/content/[a-f0-9-]+-(?<timestamp>\\d{10}).*"),
-        
-        // 8. Bloomberg 패턴: /news/articles/2025-08-25/
-        Pattern.compile(".*/articles/(?<year>\\d{4})-(?<month>\\d{1,2})-(?<day>\\d{1,2})/.*"),
-        
-        // 9. MarketWatch 패턴: /story/title-2025-08-25-uuid
-        Pattern.compile(".*/story/.*-(?<year>\\d{4})-(?<month>\\d{1,2})-(?<day>\\d{1,2})-.*"),
-        
-        // 10. 매일경제 패턴: /news/articleView.html?idxno=202508250001
-        Pattern.compile(".*idxno=(?<year>\\d{4})(?<month>\\d{2})(?<day>\\d{2})\\d+.*")
-    };
-    
+
+    /**
+     * 날짜 추출 규칙 (선언 순서 = 우선순위)
+     */
+    private enum Rule {
+        /** 표준 형식: /2025/08/25/ */
+        SLASH_PATH,
+        /** 하이픈 구분: /2025-08-25/ */
+        HYPHEN_SEGMENT,
+        /** 점 구분: /2025.08.25/ */
+        DOT_SEGMENT,
+        /** 연속 숫자: /20250825/ */
+        COMPACT_SEGMENT,
+        /** 쿼리 파라미터: ?date=2025-08-25 또는 ?published=20250825 */
+        QUERY_DATE,
+        /** Financial Times 패턴: /content/uuid-with-timestamp */
+        CONTENT_TIMESTAMP,
+        /** Bloomberg 패턴: /news/articles/2025-08-25/ */
+        ARTICLES_SEGMENT,
+        /** MarketWatch 패턴: /story/title-2025-08-25-uuid */
+        STORY_SLUG,
+        /** 매일경제 패턴: /news/articleView.html?idxno=202508250001 */
+        IDXNO_QUERY
+    }
+
+    private static final Rule[] RULES = Rule.values();
+
+    // 세그먼트 전체에 앵커 매칭 (matches)
+    private static final Pattern HYPHEN_DATE = Pattern.compile("(\\d{4})-(\\d{1,2})-(\\d{1,2})");
+    private static final Pattern DOT_DATE = Pattern.compile("(\\d{4})\\.(\\d{1,2})\\.(\\d{1,2})");
+    private static final Pattern COMPACT_DATE = Pattern.compile("(\\d{4})(\\d{2})(\\d{2})");
+
+    // 세그먼트/값의 앞부분에 앵커 매칭 (lookingAt)
+    private static final Pattern QUERY_DATE_VALUE = Pattern.compile("(\\d{4})[-.]?(\\d{1,2})[-.]?(\\d{1,2})");
+    private static final Pattern IDXNO_VALUE = Pattern.compile("(\\d{4})(\\d{2})(\\d{2})\\d+");
+    private static final Pattern CONTENT_ID_TIMESTAMP = Pattern.compile("[a-f0-9-]+-(\\d{10})");
+
+    // 슬러그 내부 검색 (find)
+    private static final Pattern STORY_SLUG_DATE = Pattern.compile("-(\\d{4})-(\\d{1,2})-(\\d{1,2})-");
+
+    // 호스트별 우선 적용 규칙 (서브도메인 포함 접미사 매칭)
+    private static final Map<String, Rule> HOST_RULES = new HashMap<>();
+
+    static {
+        HOST_RULES.put("bloomberg.com", Rule.ARTICLES_SEGMENT);
+        HOST_RULES.put("ft.com", Rule.CONTENT_TIMESTAMP);
+        HOST_RULES.put("marketwatch.com", Rule.STORY_SLUG);
+        HOST_RULES.put("mk.co.kr", Rule.IDXNO_QUERY);
+    }
+
     /**
      * URL에서 날짜 정보 추출
      */
@@ -52,97 +74,262 @@ public class UrlDateExtractor {
         if (url == null || url.trim().isEmpty()) {
             return Optional.empty();
         }
-        
-        String normalizedUrl = url.toLowerCase().trim();
-        
-        for (Pattern pattern : URL_DATE_PATTERNS) {
-            Matcher matcher = pattern.matcher(normalizedUrl);
-            if (matcher.matches()) {
-                try {
-                    return parseMatchedGroups(matcher, pattern);
-                } catch (Exception e) {
-                    // 현재 패턴 실패, 다음 패턴 시도
-                    continue;
-                }
+
+        return extract(url.toLowerCase().trim());
+    }
+
+    /**
+     * 분해된 URL에 규칙을 적용하여 날짜 추출
+     * 호스트 전용 규칙이 먼저 적용되고, 이후 우선순위 순으로 첫 번째로 매칭된 규칙이 결과를 결정한다.
+     */
+    private static Optional<LocalDateTime> extract(String normalizedUrl) {
+        int schemeEnd = normalizedUrl.indexOf("://");
+        int hostStart = schemeEnd < 0 ? 0 : schemeEnd + 3;
+        int pathStart = hostStart;
+        if (schemeEnd >= 0) {
+            while (pathStart < normalizedUrl.length() && "/?#".indexOf(normalizedUrl.charAt(pathStart)) < 0) {
+                pathStart++;
             }
         }
-        
+
+        int fragmentStart = normalizedUrl.indexOf('#', pathStart);
+        int end = fragmentStart < 0 ? normalizedUrl.length() : fragmentStart;
+        int queryStart = normalizedUrl.indexOf('?', pathStart);
+        if (queryStart > end) {
+            queryStart = -1;
+        }
+        int pathEnd = queryStart < 0 ? end : queryStart;
+
+        Match[] matches = new Match[RULES.length];
+        scanPath(normalizedUrl, pathStart, pathEnd, matches);
+        if (queryStart >= 0) {
+            scanQuery(normalizedUrl, queryStart + 1, end, matches);
+        }
+
+        Rule hostRule = schemeEnd < 0 ? null : findHostRule(normalizedUrl.substring(hostStart, pathStart));
+        if (hostRule != null && matches[hostRule.ordinal()] != null) {
+            Optional<LocalDateTime> hostResult = matches[hostRule.ordinal()].toDate();
+            if (hostResult.isPresent()) {
+                return hostResult;
+            }
+        }
+
+        for (Match match : matches) {
+            if (match != null) {
+                return match.toDate();
+            }
+        }
+
         return Optional.empty();
     }
-    
+
     /**
-     * 정규식 매칭 그룹에서 날짜 파싱
+     * 경로를 한 번 순회하며 세그먼트별 규칙 매칭 결과를 기록
      */
-    private static Optional<LocalDateTime> parseMatchedGroups(Matcher matcher, Pattern pattern) {
-        try {
-            String patternStr = pattern.pattern();
-            
-            // 타임스탬프 패턴 처리
-            if (patternStr.contains("timestamp")) {
-                String timestampStr = matcher.group("timestamp");
-                if (timestampStr != null) {
-                    return parseTimestamp(timestampStr);
+    private static void scanPath(String url, int start, int end, Match[] matches) {
+        String prev2 = null;
+        String prev = null;
+        boolean afterStory = false;
+        int segStart = start;
+
+        while (segStart < end) {
+            int slash = url.indexOf('/', segStart);
+            boolean closed = slash >= 0 && slash < end;
+            int segEnd = closed ? slash : end;
+
+            if (segEnd > segStart) {
+                String segment = url.substring(segStart, segEnd);
+                matchSegment(segment, prev, prev2, closed, afterStory, matches);
+                afterStory = afterStory || "story".equals(segment);
+                prev2 = prev;
+                prev = segment;
+            }
+
+            segStart = segEnd + 1;
+        }
+    }
+
+    private static void matchSegment(String segment, String prev, String prev2, boolean closed,
+                                     boolean afterStory, Match[] matches) {
+        boolean startsWithDigit = Character.isDigit(segment.charAt(0));
+
+        if (closed && startsWithDigit) {
+            if (prev != null && prev2 != null && isDigits(prev2, 4, 4)
+                    && isDigits(prev, 1, 2) && isDigits(segment, 1, 2)) {
+                matches[Rule.SLASH_PATH.ordinal()] = Match.ofDate(prev2, prev, segment);
+            }
+
+            Match hyphen = matchDate(HYPHEN_DATE.matcher(segment), false);
+            if (hyphen != null) {
+                matches[Rule.HYPHEN_SEGMENT.ordinal()] = hyphen;
+                if ("articles".equals(prev)) {
+                    matches[Rule.ARTICLES_SEGMENT.ordinal()] = hyphen;
                 }
             }
-            
-            // 년/월/일 패턴 처리
-            String yearStr = null, monthStr = null, dayStr = null;
-            
-            try {
-                yearStr = matcher.group("year");
-                monthStr = matcher.group("month");  
-                dayStr = matcher.group("day");
-            } catch (IllegalArgumentException e) {
-                // named group이 없는 경우 무시
-                return Optional.empty();
-            }
-            
-            if (yearStr != null && monthStr != null && dayStr != null) {
-                int year = Integer.parseInt(yearStr);
-                int month = Integer.parseInt(monthStr);
-                int day = Integer.parseInt(dayStr);
-                
-                // 날짜 유효성 검사
-                if (isValidDate(year, month, day)) {
-                    return Optional.of(LocalDateTime.of(year, month, day, 12, 0)); // 기본 시간 12:00
+
+            Match dot = matchDate(DOT_DATE.matcher(segment), false);
+            if (dot != null) {
+                matches[Rule.DOT_SEGMENT.ordinal()] = dot;
+            }
+
+            Match compact = matchDate(COMPACT_DATE.matcher(segment), false);
+            if (compact != null) {
+                matches[Rule.COMPACT_SEGMENT.ordinal()] = compact;
+            }
+        }
+
+        if ("content".equals(prev)) {
+            Matcher matcher = CONTENT_ID_TIMESTAMP.matcher(segment);
+            if (matcher.lookingAt()) {
+                matches[Rule.CONTENT_TIMESTAMP.ordinal()] = Match.ofTimestamp(matcher.group(1));
+            }
+        }
+
+        if (afterStory) {
+            Matcher matcher = STORY_SLUG_DATE.matcher(segment);
+            if (matcher.find()) {
+                matches[Rule.STORY_SLUG.ordinal()] = Match.ofDate(matcher.group(1), matcher.group(2), matcher.group(3));
+            }
+        }
+    }
+
+    /**
+     * 쿼리 문자열을 한 번 순회하며 날짜 관련 파라미터 매칭 결과를 기록
+     */
+    private static void scanQuery(String url, int start, int end, Match[] matches) {
+        int paramStart = start;
+
+        while (paramStart < end) {
+            int amp = url.indexOf('&', paramStart);
+            int paramEnd = amp < 0 || amp > end ? end : amp;
+            int eq = url.indexOf('=', paramStart);
+
+            if (eq > paramStart && eq < paramEnd) {
+                String key = url.substring(paramStart, eq);
+                String value = url.substring(eq + 1, paramEnd);
+
+                if ("date".equals(key) || "published".equals(key) || "pubdate".equals(key)) {
+                    Match match = matchDate(QUERY_DATE_VALUE.matcher(value), true);
+                    if (match != null) {
+                        matches[Rule.QUERY_DATE.ordinal()] = match;
+                    }
+                } else if ("idxno".equals(key)) {
+                    Match match = matchDate(IDXNO_VALUE.matcher(value), true);
+                    if (match != null) {
+                        matches[Rule.IDXNO_QUERY.ordinal()] = match;
+                    }
                 }
             }
-            
-        } catch (Exception e) {
-            // 파싱 실패
+
+            paramStart = paramEnd + 1;
+        }
+    }
+
+    private static Match matchDate(Matcher matcher, boolean prefixOnly) {
+        boolean matched = prefixOnly ? matcher.lookingAt() : matcher.matches();
+        return matched ? Match.ofDate(matcher.group(1), matcher.group(2), matcher.group(3)) : null;
+    }
+
+    private static Rule findHostRule(String host) {
+        int portStart = host.indexOf(':');
+        String candidate = portStart < 0 ? host : host.substring(0, portStart);
+
+        while (!candidate.isEmpty()) {
+            Rule rule = HOST_RULES.get(candidate);
+            if (rule != null) {
+                return rule;
+            }
+            int dot = candidate.indexOf('.');
+            if (dot < 0) {
+                break;
+            }
+            candidate = candidate.substring(dot + 1);
+        }
+
+        return null;
+    }
+
+    private static boolean isDigits(String value, int minLength, int maxLength) {
+        if (value.length() < minLength || value.length() > maxLength) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 규칙 매칭 결과 (년/월/일 또는 타임스탬프)
+     */
+    private static final class Match {
+        private final String year;
+        private final String month;
+        private final String day;
+        private final String timestamp;
+
+        private Match(String year, String month, String day, String timestamp) {
+            this.year = year;
+            this.month = month;
+            this.day = day;
+            this.timestamp = timestamp;
+        }
+
+        static Match ofDate(String year, String month, String day) {
+            return new Match(year, month, day, null);
+        }
+
+        static Match ofTimestamp(String timestamp) {
+            return new Match(null, null, null, timestamp);
+        }
+
+        Optional<LocalDateTime> toDate() {
+            if (timestamp != null) {
+                return parseTimestamp(timestamp);
+            }
+
+            int y = Integer.parseInt(year);
+            int m = Integer.parseInt(month);
+            int d = Integer.parseInt(day);
+
+            if (isValidDate(y, m, d)) {
+                return Optional.of(LocalDateTime.of(y, m, d, 12, 0)); // 기본 시간 12:00
+            }
+            return Optional.empty();
         }
-        
-        return Optional.empty();
     }
-    
+
     /**
      * Unix 타임스탬프 파싱
      */
     private static Optional<LocalDateTime> parseTimestamp(String timestampStr) {
         try {
             long timestamp = Long.parseLong(timestampStr);
-            
+
             // 10자리 Unix timestamp (초 단위)
             if (timestamp > 1000000000L && timestamp < 9999999999L) {
-                return Optional.of(LocalDateTime.ofEpochSecond(timestamp, 0, 
+                return Optional.of(LocalDateTime.ofEpochSecond(timestamp, 0,
                         java.time.ZoneOffset.systemDefault().getRules()
                             .getOffset(java.time.Instant.ofEpochSecond(timestamp))));
             }
-            
-            // 13자리 Unix timestamp (밀리초 단위)  
+
+            // 13자리 Unix timestamp (밀리초 단위)
             if (timestamp > 1000000000000L && timestamp < 9999999999999L) {
                 return Optional.of(LocalDateTime.ofEpochSecond(timestamp / 1000, 0,
                         java.time.ZoneOffset.systemDefault().getRules()
                             .getOffset(java.time.Instant.ofEpochMilli(timestamp))));
             }
-            
+
         } catch (NumberFormatException e) {
             // 타임스탬프 파싱 실패
         }
-        
+
         return Optional.empty();
     }
-    
+
     /**
      * 날짜 유효성 검사
      */
@@ -150,102 +337,24 @@ public class UrlDateExtractor {
         if (year < 2000 || year > 2030) return false; // 합리적인 범위
         if (month < 1 || month > 12) return false;
         if (day < 1 || day > 31) return false;
-        
+
         try {
             LocalDateTime.of(year, month, day, 12, 0);
             return true;
-        } catch (DateTimeParseException e) {
+        } catch (DateTimeException e) {
             return false;
         }
     }
-    
+
     /**
      * 특정 언론사에 특화된 URL 패턴 추출
+     * 언론사별 규칙은 URL 호스트로 선택되며, 소스명 인자는 기존 호출부 호환을 위해 유지한다.
      */
     public static Optional<LocalDateTime> extractDateFromUrlForSource(String url, String sourceName) {
         if (url == null || sourceName == null) {
             return Optional.empty();
         }
-        
-        // 언론사별 특화 처리
-        switch (sourceName.toLowerCase()) {
-            case "financial times":
-                return extractFinancialTimesDate(url);
-            case "bloomberg":
-            case "bloomberg economics":
-                return extractBloombergDate(url);
-            case "marketwatch":
-                return extractMarketWatchDate(url);
-            case "매일경제":
-                return extractMaeilDate(url);
-            default:
-                return extractDateFromUrl(url);
-        }
-    }
-    
-    /**
-     * Financial Times URL 날짜 추출
-     */
-    private static Optional<LocalDateTime> extractFinancialTimesDate(String url) {
-        // FT는 UUID 기반이므로 일반적인 방법 사용
-        return extractDateFromUrl(url);
-    }
-    
-    /**
-     * Bloomberg URL 날짜 추출
-     */
-    private static Optional<LocalDateTime> extractBloombergDate(String url) {
-        // Bloomberg 특화 패턴 먼저 시도
-        Pattern bloombergPattern = Pattern.compile(".*/articles/(?<year>\\d{4})-(?<month>\\d{1,2})-(?<day>\\d{1,2})/.*");
-        Matcher matcher = bloombergPattern.matcher(url.toLowerCase());
-        
-        if (matcher.matches()) {
-            try {
-                int year = Integer.parseInt(matcher.group("year"));
-                int month = Integer.parseInt(matcher.group("month"));
-                int day = Integer.parseInt(matcher.group("day"));
-                
-                if (isValidDate(year, month, day)) {
-                    return Optional.of(LocalDateTime.of(year, month, day, 12, 0));
-                }
-            } catch (Exception e) {
-                // 실패시 일반 방법으로 폴백
-            }
-        }
-        
-        return extractDateFromUrl(url);
-    }
-    
-    /**
-     * MarketWatch URL 날짜 추출
-     */
-    private static Optional<LocalDateTime> extractMarketWatchDate(String url) {
-        // MarketWatch는 종종 article ID에 날짜 포함
-        return extractDateFromUrl(url);
-    }
-    
-    /**
-     * 매일경제 URL 날짜 추출
-     */
-    private static Optional<LocalDateTime> extractMaeilDate(String url) {
-        // 매일경제 idxno 패턴: 202508250001 (YYYYMMDDXXXX)
-        Pattern maeilPattern = Pattern.compile(".*idxno=(?<year>\\d{4})(?<month>\\d{2})(?<day>\\d{2})\\d+.*");
-        Matcher matcher = maeilPattern.matcher(url.toLowerCase());
-        
-        if (matcher.matches()) {
-            try {
-                int year = Integer.parseInt(matcher.group("year"));
-                int month = Integer.parseInt(matcher.group("month"));
-                int day = Integer.parseInt(matcher.group("day"));
-                
-                if (isValidDate(year, month, day)) {
-                    return Optional.of(LocalDateTime.of(year, month, day, 12, 0));
-                }
-            } catch (Exception e) {
-                // 실패시 일반 방법으로 폴백
-            }
-        }
-        
+
         return extractDateFromUrl(url);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,92 @@
+package com.yourco.econyang.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * 정규화된 임베딩 벡터의 메모리 색인 (코사인 최근접 검색)
+ *
+ * 하루 수집량(수백 건) 기준으로는 전수 내적이 가장 단순하고 빠르므로 별도 근사 구조 없이 연속 배열에 보관한다.
+ * 스레드 안전하지 않다.
+ */
+public final class VectorIndex<T> {
+
+    private final int dimension;
+    private final List<T> payloads = new ArrayList<>();
+    private float[] vectors;
+
+    public VectorIndex(int dimension) {
+        this.dimension = dimension;
+        this.vectors = new float[dimension * 16];
+    }
+
+    public void add(float[] vector, T payload) {
+        if (vector.length != dimension) {
+            throw new IllegalArgumentException("벡터 차원 불일치: " + vector.length + " != " + dimension);
+        }
+        int offset = payloads.size() * dimension;
+        if (offset + dimension > vectors.length) {
+            float[] grown = new float[vectors.length * 2];
+            System.arraycopy(vectors, 0, grown, 0, offset);
+            vectors = grown;
+        }
+        System.arraycopy(vector, 0, vectors, offset, dimension);
+        payloads.add(payload);
+    }
+
+    /**
+     * 가장 유사한 항목 (색인이 비어 있으면 null)
+     */
+    public Match<T> nearest(float[] query) {
+        return nearest(query, null);
+    }
+
+    /**
+     * filter를 통과하는 항목 중 가장 유사한 항목 (없으면 null, filter가 null이면 전체)
+     */
+    public Match<T> nearest(float[] query, Predicate<? super T> filter) {
+        int best = -1;
+        double bestScore = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < payloads.size(); i++) {
+            if (filter != null && !filter.test(payloads.get(i))) {
+                continue;
+            }
+            int offset = i * dimension;
+            double dot = 0;
+            for (int d = 0; d < dimension; d++) {
+                dot += query[d] * vectors[offset + d];
+            }
+            if (dot > bestScore) {
+                bestScore = dot;
+                best = i;
+            }
+        }
+        return best < 0 ? null : new Match<>(payloads.get(best), bestScore);
+    }
+
+    public int size() {
+        return payloads.size();
+    }
+
+    /**
+     * 검색 결과
+     */
+    public static final class Match<T> {
+        private final T payload;
+        private final double similarity;
+
+        Match(T payload, double similarity) {
+            this.payload = payload;
+            this.similarity = similarity;
+        }
+
+        public T getPayload() {
+            return payload;
+        }
+
+        public double getSimilarity() {
+            return similarity;
+        }
+    }
+}
@@ -0,0 +1,214 @@
+-- articles, summaries, article_date_cache를 created_at 기준 월 단위 범위 파티션 테이블로 전환
+-- 보관 기간 정리는 행 단위 DELETE 대신 오래된 월 파티션을 통째로 DROP 한다 (DataRetentionService)
+--
+-- 파티션 테이블의 PK/UNIQUE는 파티션 키를 포함해야 하므로
+--   * PK는 (id, created_at)으로 바뀐다 (id는 계속 시퀀스로 발급되어 단독으로도 유일)
+--   * articles.url, article_date_cache.url_hash, summaries(article_id, model)의 전역 유일 제약은 일반 인덱스로 바뀐다
+--     (저장 시 ArticleService.saveOrUpdate / ArticleDateCacheService가 먼저 조회하므로 애플리케이션에서 중복을 막는다)
+--   * summaries.article_id → articles(id) FK는 참조 대상에 유일 제약이 없어 제거한다
+--     (기사 파티션을 지울 때 남는 요약은 DataRetentionService가 정리)
+
+-- ============================
+-- 월 파티션 생성 함수
+-- ============================
+
+-- parent_table_p{YYYYMM} 파티션 생성 (이미 있으면 그대로 두고 이름만 반환)
+CREATE OR REPLACE FUNCTION create_monthly_partition(parent_table TEXT, month_start DATE)
+RETURNS TEXT AS $$
+DECLARE
+    start_date DATE := date_trunc('month', month_start)::DATE;
+    partition_name TEXT := format('%s_p%s', parent_table, to_char(start_date, 'YYYYMM'));
+BEGIN
+    EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+                   partition_name, parent_table, start_date, (start_date + INTERVAL '1 month')::DATE);
+    RETURN partition_name;
+END;
+$$ LANGUAGE plpgsql;
+
+-- from_month부터 현재 월 + months_ahead까지의 파티션 생성
+CREATE OR REPLACE FUNCTION ensure_monthly_partitions(parent_table TEXT, from_month DATE, months_ahead INTEGER)
+RETURNS INTEGER AS $$
+DECLARE
+    month_cursor DATE := date_trunc('month', LEAST(from_month, CURRENT_DATE))::DATE;
+    last_month DATE := (date_trunc('month', CURRENT_DATE) + make_interval(months => months_ahead))::DATE;
+    created INTEGER := 0;
+BEGIN
+    WHILE month_cursor <= last_month LOOP
+        PERFORM create_monthly_partition(parent_table, month_cursor);
+        created := created + 1;
+        month_cursor := (month_cursor + INTERVAL '1 month')::DATE;
+    END LOOP;
+    RETURN created;
+END;
+$$ LANGUAGE plpgsql;
+
+-- ============================
+-- 기존 테이블 이름 변경 (데이터 이관 후 삭제)
+-- ============================
+
+ALTER TABLE summaries DROP CONSTRAINT IF EXISTS summaries_article_id_fkey;
+
+ALTER TABLE articles RENAME TO articles_legacy;
+ALTER TABLE summaries RENAME TO summaries_legacy;
+ALTER TABLE article_date_cache RENAME TO article_date_cache_legacy;
+
+-- 이름이 같은 인덱스/제약을 새 테이블에서 다시 만들 수 있도록 기존 것은 테이블과 함께 삭제될 때까지 이름을 비켜둔다
+DO $$
+DECLARE
+    idx RECORD;
+BEGIN
+    FOR idx IN
+        SELECT i.relname AS index_name
+        FROM pg_index x
+        JOIN pg_class i ON i.oid = x.indexrelid
+        JOIN pg_class t ON t.oid = x.indrelid
+        WHERE t.relname IN ('articles_legacy', 'summaries_legacy', 'article_date_cache_legacy')
+          AND NOT x.indisprimary
+          AND NOT EXISTS (SELECT 1 FROM pg_constraint c WHERE c.conindid = x.indexrelid)
+    LOOP
+        EXECUTE format('ALTER INDEX %I RENAME TO %I', idx.index_name, left(idx.index_name, 55) || '_legacy');
+    END LOOP;
+END $$;
+
+ALTER TABLE articles_legacy RENAME CONSTRAINT articles_pkey TO articles_legacy_pkey;
+ALTER TABLE summaries_legacy RENAME CONSTRAINT summaries_pkey TO summaries_legacy_pkey;
+ALTER TABLE summaries_legacy DROP CONSTRAINT IF EXISTS chk_summaries_score;
+ALTER TABLE article_date_cache_legacy RENAME CONSTRAINT article_date_cache_pkey TO article_date_cache_legacy_pkey;
+
+-- 시퀀스는 새 테이블이 이어서 사용 (기존 테이블을 지워도 시퀀스가 남도록 소유 해제)
+ALTER SEQUENCE articles_id_seq OWNED BY NONE;
+ALTER SEQUENCE summaries_id_seq OWNED BY NONE;
+ALTER SEQUENCE article_date_cache_id_seq OWNED BY NONE;
+
+-- 파티션 키는 NULL일 수 없음
+UPDATE articles_legacy SET created_at = now() WHERE created_at IS NULL;
+UPDATE summaries_legacy SET created_at = now() WHERE created_at IS NULL;
+
+-- ============================
+-- ARTICLES
+-- ============================
+CREATE TABLE articles (
+    id BIGINT NOT NULL DEFAULT nextval('articles_id_seq'),
+    source TEXT NOT NULL,
+    url TEXT NOT NULL,
+    title TEXT NOT NULL,
+    published_at TIMESTAMPTZ,
+    author TEXT,
+    raw_excerpt TEXT,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT now(),
+    content TEXT,
+    extracted_at TIMESTAMP,
+    extract_error VARCHAR(500),
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+ALTER SEQUENCE articles_id_seq OWNED BY articles.id;
+
+SELECT ensure_monthly_partitions('articles',
+        COALESCE((SELECT MIN(created_at) FROM articles_legacy)::DATE, CURRENT_DATE), 3);
+
+INSERT INTO articles (id, source, url, title, published_at, author, raw_excerpt, created_at,
+                      content, extracted_at, extract_error)
+SELECT id, source, url, title, published_at, author, raw_excerpt, created_at,
+       content, extracted_at, extract_error
+FROM articles_legacy;
+
+-- 파티션 테이블의 인덱스는 모든 파티션(이후 생성분 포함)에 자동으로 만들어진다
+CREATE INDEX idx_articles_id ON articles(id);
+CREATE INDEX idx_articles_url ON articles(url);
+CREATE INDEX idx_articles_source ON articles(source);
+CREATE INDEX idx_articles_source_published_at ON articles (source, published_at DESC);
+CREATE INDEX idx_articles_published_at_desc_inc_created_at ON articles (published_at DESC) INCLUDE (created_at);
+CREATE INDEX idx_articles_created_at_desc ON articles (created_at DESC);
+CREATE INDEX idx_articles_title_trgm ON articles USING gin (title gin_trgm_ops) WHERE title IS NOT NULL;
+CREATE INDEX idx_articles_content_extracted ON articles(id) WHERE content IS NOT NULL;
+CREATE INDEX idx_articles_extract_error ON articles(id) WHERE extract_error IS NOT NULL;
+
+COMMENT ON TABLE articles IS '경제뉴스 기사 정보 저장 (created_at 월 단위 파티션)';
+COMMENT ON COLUMN articles.url IS '기사 고유 URL (중복 방지는 저장 시 조회로 처리)';
+COMMENT ON COLUMN articles.created_at IS '시스템 저장 시간 (파티션 키)';
+
+-- ============================
+-- SUMMARIES
+-- ============================
+CREATE TABLE summaries (
+    id BIGINT NOT NULL DEFAULT nextval('summaries_id_seq'),
+    article_id BIGINT NOT NULL,
+    model TEXT NOT NULL,
+    summary_text TEXT NOT NULL,
+    why_it_matters TEXT NOT NULL,
+    bullets TEXT[] NOT NULL,
+    glossary JSONB,
+    evidence_idx INT[],
+    score NUMERIC(10,4),
+    created_at TIMESTAMPTZ NOT NULL DEFAULT now(),
+    PRIMARY KEY (id, created_at),
+    CONSTRAINT chk_summaries_score CHECK (score >= 0 AND score <= 100)
+) PARTITION BY RANGE (created_at);
+
+ALTER SEQUENCE summaries_id_seq OWNED BY summaries.id;
+
+SELECT ensure_monthly_partitions('summaries',
+        COALESCE((SELECT MIN(created_at) FROM summaries_legacy)::DATE, CURRENT_DATE), 3);
+
+INSERT INTO summaries (id, article_id, model, summary_text, why_it_matters, bullets, glossary,
+                       evidence_idx, score, created_at)
+SELECT id, article_id, model, summary_text, why_it_matters, bullets, glossary,
+       evidence_idx, score, created_at
+FROM summaries_legacy;
+
+CREATE INDEX idx_summaries_id ON summaries(id);
+CREATE INDEX idx_summaries_article_model ON summaries(article_id, model);
+CREATE INDEX idx_summaries_model ON summaries(model);
+CREATE INDEX idx_summaries_score_desc_inc_created_at ON summaries (score DESC) INCLUDE (created_at);
+CREATE INDEX idx_summaries_article_created_at_desc ON summaries (article_id, created_at DESC);
+CREATE INDEX idx_summaries_created_at_desc ON summaries (created_at DESC);
+
+COMMENT ON TABLE summaries IS 'AI 생성 기사 요약 및 해설 정보 (created_at 월 단위 파티션)';
+COMMENT ON COLUMN summaries.article_id IS '연관된 기사 ID (FK 없음, 보관 기간 정리 시 함께 삭제)';
+COMMENT ON COLUMN summaries.created_at IS '요약 생성 시간 (파티션 키)';
+
+-- ============================
+-- ARTICLE_DATE_CACHE
+-- ============================
+CREATE TABLE article_date_cache (
+    id BIGINT NOT NULL DEFAULT nextval('article_date_cache_id_seq'),
+    url_hash VARCHAR(64) NOT NULL,
+    source_name VARCHAR(100) NOT NULL,
+    extracted_date TIMESTAMP NOT NULL,
+    extraction_method VARCHAR(50) NOT NULL,
+    confidence_score DOUBLE PRECISION NOT NULL CHECK (confidence_score >= 0.0 AND confidence_score <= 1.0),
+    extraction_details TEXT,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    last_verified_at TIMESTAMP,
+    verification_count INTEGER NOT NULL DEFAULT 0,
+    is_valid BOOLEAN NOT NULL DEFAULT true,
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+ALTER SEQUENCE article_date_cache_id_seq OWNED BY article_date_cache.id;
+
+SELECT ensure_monthly_partitions('article_date_cache',
+        COALESCE((SELECT MIN(created_at) FROM article_date_cache_legacy)::DATE, CURRENT_DATE), 3);
+
+INSERT INTO article_date_cache (id, url_hash, source_name, extracted_date, extraction_method, confidence_score,
+                                extraction_details, created_at, last_verified_at, verification_count, is_valid)
+SELECT id, url_hash, source_name, extracted_date, extraction_method, confidence_score,
+       extraction_details, created_at, last_verified_at, verification_count, is_valid
+FROM article_date_cache_legacy;
+
+CREATE INDEX idx_url_hash ON article_date_cache(url_hash);
+CREATE INDEX idx_source_created ON article_date_cache(source_name, created_at);
+CREATE INDEX idx_extraction_method ON article_date_cache(extraction_method);
+CREATE INDEX idx_confidence_valid ON article_date_cache(confidence_score, is_valid);
+CREATE INDEX idx_created_at ON article_date_cache(created_at);
+
+COMMENT ON TABLE article_date_cache IS '기사 날짜 추출 결과 캐시 테이블 (created_at 월 단위 파티션)';
+COMMENT ON COLUMN article_date_cache.url_hash IS 'URL의 SHA-256 해시값 (중복 방지는 저장 시 조회로 처리)';
+
+-- ============================
+-- 기존 테이블 삭제
+-- ============================
+DROP TABLE summaries_legacy;
+DROP TABLE articles_legacy;
+DROP TABLE article_date_cache_legacy;
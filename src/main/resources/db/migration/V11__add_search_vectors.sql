@@ -0,0 +1,42 @@
+-- 기사/요약 검색용 tsvector 생성 컬럼 + GIN 인덱스, 요약 본문 트라이그램 인덱스
+--
+-- 한국어는 형태소 분석 사전이 없으므로 'simple' 설정(공백/구두점 기준 토큰, 소문자화)을 쓰고
+-- 검색어는 접두 일치(금리:* → 금리가, 금리인상)로 질의해 조사가 붙은 어절도 찾는다 (SearchRepository).
+-- 부분 문자열/오타 허용 검색은 pg_trgm 트라이그램 인덱스로 처리한다 (V5의 idx_articles_title_trgm 포함).
+
+-- array_to_string은 STABLE이라 생성 컬럼에 쓸 수 없으므로 text[] 전용 IMMUTABLE 래퍼 사용
+CREATE OR REPLACE FUNCTION immutable_array_to_string(arr TEXT[], sep TEXT)
+RETURNS TEXT AS $$
+    SELECT array_to_string(arr, sep);
+$$ LANGUAGE sql IMMUTABLE PARALLEL SAFE;
+
+-- ============================
+-- ARTICLES: 제목(A) + 발췌(B)
+-- ============================
+ALTER TABLE articles ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('simple', coalesce(raw_excerpt, '')), 'B')
+    ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_articles_search_vector ON articles USING gin (search_vector);
+
+COMMENT ON COLUMN articles.search_vector IS '검색용 tsvector (제목 A, 발췌 B 가중치, simple 설정)';
+
+-- ============================
+-- SUMMARIES: 요약(A) + 핵심 포인트(B) + 왜 중요한가(C)
+-- ============================
+ALTER TABLE summaries ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', coalesce(summary_text, '')), 'A') ||
+        setweight(to_tsvector('simple', coalesce(immutable_array_to_string(bullets, ' '), '')), 'B') ||
+        setweight(to_tsvector('simple', coalesce(why_it_matters, '')), 'C')
+    ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_summaries_search_vector ON summaries USING gin (search_vector);
+
+-- 요약 본문 부분 문자열 검색용
+CREATE INDEX IF NOT EXISTS idx_summaries_summary_text_trgm
+    ON summaries USING gin (summary_text gin_trgm_ops);
+
+COMMENT ON COLUMN summaries.search_vector IS '검색용 tsvector (요약 A, 핵심 포인트 B, 왜 중요한가 C 가중치, simple 설정)';
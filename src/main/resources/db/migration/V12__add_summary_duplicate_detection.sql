@@ -0,0 +1,20 @@
+-- 요약 유사 중복 탐지 (SUMMARY_DEDUP Job)
+--
+-- 새로 저장된 요약(dedup_checked = false)만 골라, 최근 N일 안의 이전 요약 중 트라이그램 거리(<->)가 가장 가까운
+-- 1건을 KNN 인덱스로 찾고 similarity()가 임계값 이상이면 duplicate_of_id에 기록한다.
+-- 전체 요약끼리 자기 조인하지 않으므로 비용은 새 요약 수 × 인덱스 탐색에 비례한다.
+
+ALTER TABLE summaries ADD COLUMN IF NOT EXISTS duplicate_of_id BIGINT;
+ALTER TABLE summaries ADD COLUMN IF NOT EXISTS duplicate_similarity REAL;
+ALTER TABLE summaries ADD COLUMN IF NOT EXISTS dedup_checked BOOLEAN NOT NULL DEFAULT false;
+
+-- 아직 검사하지 않은 요약만 담는 부분 인덱스 (검사 후에는 인덱스에서 빠짐)
+CREATE INDEX IF NOT EXISTS idx_summaries_dedup_pending ON summaries(id) WHERE NOT dedup_checked;
+
+-- KNN(<->) 정렬은 GIN이 아닌 GiST 트라이그램 인덱스만 지원
+CREATE INDEX IF NOT EXISTS idx_summaries_summary_text_trgm_gist
+    ON summaries USING gist (summary_text gist_trgm_ops);
+
+COMMENT ON COLUMN summaries.duplicate_of_id IS '내용이 거의 같은 이전 요약 ID (없으면 NULL)';
+COMMENT ON COLUMN summaries.duplicate_similarity IS 'duplicate_of_id 요약과의 트라이그램 유사도';
+COMMENT ON COLUMN summaries.dedup_checked IS '유사 중복 검사 완료 여부';
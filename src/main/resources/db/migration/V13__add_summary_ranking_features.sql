@@ -0,0 +1,7 @@
+-- 중요도 랭킹용 사전 계산 값 (요약 저장 시 애플리케이션에서 계산)
+-- 이전에 저장된 요약은 NULL로 두며, 랭킹 시 그 자리에서 계산한다
+ALTER TABLE summaries ADD COLUMN IF NOT EXISTS sector VARCHAR(40);
+ALTER TABLE summaries ADD COLUMN IF NOT EXISTS keyword_weight DOUBLE PRECISION;
+
+COMMENT ON COLUMN summaries.sector IS '경제 섹터 코드 (monetary_policy, market_trend 등, 해당 없으면 general)';
+COMMENT ON COLUMN summaries.keyword_weight IS '섹터 키워드 가중치 (섹터 가중치 + 일치 키워드 수 × 0.1)';
@@ -0,0 +1,16 @@
+-- 다이제스트 형식별 렌더링 결과 캐시
+--
+-- S4_RANK_COMPOSE가 랭킹/통계/템플릿 변수를 한 번 계산해 설정된 모든 형식(html, json, text ...)을 함께 렌더링하고
+-- 여기에 저장한다. 마크다운 본문은 기존 daily_digest.body_markdown에 그대로 둔다.
+-- 다른 채널로 다시 보내거나 조회할 때는 저장된 결과만 읽고 랭킹/렌더링을 다시 하지 않는다.
+
+CREATE TABLE IF NOT EXISTS daily_digest_renditions (
+    digest_id BIGINT NOT NULL REFERENCES daily_digest(id) ON DELETE CASCADE,
+    format VARCHAR(20) NOT NULL,
+    body TEXT NOT NULL,
+    PRIMARY KEY (digest_id, format)
+);
+
+COMMENT ON TABLE daily_digest_renditions IS '다이제스트 형식별 렌더링 결과 (마크다운 제외)';
+COMMENT ON COLUMN daily_digest_renditions.format IS '출력 형식 (digest.formats 키: html, json, text ...)';
+COMMENT ON COLUMN daily_digest_renditions.body IS '렌더링된 본문';
@@ -0,0 +1,138 @@
+-- 파티션 테이블의 자연 키 유일성을 DB에서 다시 보장
+--
+-- V10에서 articles.url, article_date_cache.url_hash, summaries(article_id, model)는 파티션 키(created_at)를
+-- 포함할 수 없어 일반 인덱스로 바뀌었고, 동시 저장(파이프라인 중복 제거 스레드, 예약/수동 실행 겹침, 여러 인스턴스)에서
+-- 조회 후 저장(check-then-insert)만으로는 같은 키가 두 번 들어갈 수 있다.
+-- 파티션이 아닌 키 테이블에 자연 키를 PK로 두고, 원본 테이블 트리거가 같은 트랜잭션에서 키 행을 함께 쓴다.
+-- 중복 키면 원본 INSERT가 unique_violation으로 실패한다 (파티션 전환 전 UNIQUE 제약과 같은 동작).
+-- 파티션 DROP은 행 트리거가 돌지 않으므로 DataRetentionService가 키 테이블의 만료 행을 함께 지운다.
+
+-- ============================
+-- 기존 중복 정리 (먼저 저장된 행만 남김)
+-- ============================
+
+-- 중복 기사의 요약은 남는 기사로 옮긴 뒤 중복 기사 삭제
+CREATE TEMPORARY TABLE article_url_duplicates ON COMMIT DROP AS
+SELECT a.id AS duplicate_id, k.keep_id
+FROM articles a
+JOIN (SELECT url, MIN(id) AS keep_id FROM articles GROUP BY url HAVING COUNT(*) > 1) k ON k.url = a.url
+WHERE a.id <> k.keep_id;
+
+UPDATE summaries s SET article_id = d.keep_id
+FROM article_url_duplicates d
+WHERE s.article_id = d.duplicate_id;
+
+DELETE FROM articles a USING article_url_duplicates d WHERE a.id = d.duplicate_id;
+
+DELETE FROM summaries s USING summaries k
+WHERE s.article_id = k.article_id AND s.model = k.model AND s.id > k.id;
+
+DELETE FROM article_date_cache c USING article_date_cache k
+WHERE c.url_hash = k.url_hash AND c.id > k.id;
+
+-- ============================
+-- 키 테이블
+-- ============================
+
+CREATE TABLE article_urls (
+    url TEXT PRIMARY KEY,
+    article_id BIGINT NOT NULL,
+    created_at TIMESTAMPTZ NOT NULL
+);
+
+CREATE INDEX idx_article_urls_created_at ON article_urls(created_at);
+
+INSERT INTO article_urls (url, article_id, created_at)
+SELECT url, id, created_at FROM articles;
+
+CREATE TABLE summary_keys (
+    article_id BIGINT NOT NULL,
+    model TEXT NOT NULL,
+    summary_id BIGINT NOT NULL,
+    created_at TIMESTAMPTZ NOT NULL,
+    PRIMARY KEY (article_id, model)
+);
+
+CREATE INDEX idx_summary_keys_created_at ON summary_keys(created_at);
+
+INSERT INTO summary_keys (article_id, model, summary_id, created_at)
+SELECT article_id, model, id, created_at FROM summaries;
+
+CREATE TABLE article_date_cache_keys (
+    url_hash VARCHAR(64) PRIMARY KEY,
+    cache_id BIGINT NOT NULL,
+    created_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_article_date_cache_keys_created_at ON article_date_cache_keys(created_at);
+
+INSERT INTO article_date_cache_keys (url_hash, cache_id, created_at)
+SELECT url_hash, id, created_at FROM article_date_cache;
+
+-- ============================
+-- 키 동기화 트리거
+-- ============================
+
+CREATE OR REPLACE FUNCTION sync_article_urls()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        INSERT INTO article_urls (url, article_id, created_at) VALUES (NEW.url, NEW.id, NEW.created_at);
+    ELSIF TG_OP = 'UPDATE' THEN
+        UPDATE article_urls SET url = NEW.url WHERE url = OLD.url AND article_id = OLD.id;
+    ELSE
+        DELETE FROM article_urls WHERE url = OLD.url AND article_id = OLD.id;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION sync_summary_keys()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        INSERT INTO summary_keys (article_id, model, summary_id, created_at)
+        VALUES (NEW.article_id, NEW.model, NEW.id, NEW.created_at);
+    ELSIF TG_OP = 'UPDATE' THEN
+        UPDATE summary_keys SET article_id = NEW.article_id, model = NEW.model
+        WHERE article_id = OLD.article_id AND model = OLD.model AND summary_id = OLD.id;
+    ELSE
+        DELETE FROM summary_keys WHERE article_id = OLD.article_id AND model = OLD.model AND summary_id = OLD.id;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION sync_article_date_cache_keys()
+RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        INSERT INTO article_date_cache_keys (url_hash, cache_id, created_at)
+        VALUES (NEW.url_hash, NEW.id, NEW.created_at);
+    ELSIF TG_OP = 'UPDATE' THEN
+        UPDATE article_date_cache_keys SET url_hash = NEW.url_hash WHERE url_hash = OLD.url_hash AND cache_id = OLD.id;
+    ELSE
+        DELETE FROM article_date_cache_keys WHERE url_hash = OLD.url_hash AND cache_id = OLD.id;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- 파티션 부모에 만든 행 트리거는 모든 파티션(이후 생성분 포함)에 적용된다
+CREATE TRIGGER trg_articles_url_key
+    AFTER INSERT OR DELETE OR UPDATE OF url ON articles
+    FOR EACH ROW EXECUTE FUNCTION sync_article_urls();
+
+CREATE TRIGGER trg_summaries_article_model_key
+    AFTER INSERT OR DELETE OR UPDATE OF article_id, model ON summaries
+    FOR EACH ROW EXECUTE FUNCTION sync_summary_keys();
+
+CREATE TRIGGER trg_article_date_cache_url_hash_key
+    AFTER INSERT OR DELETE OR UPDATE OF url_hash ON article_date_cache
+    FOR EACH ROW EXECUTE FUNCTION sync_article_date_cache_keys();
+
+COMMENT ON TABLE article_urls IS 'articles.url 유일 키 (파티션 테이블 대신 전역 유일성 보장, 트리거로 동기화)';
+COMMENT ON TABLE summary_keys IS 'summaries(article_id, model) 유일 키 (트리거로 동기화)';
+COMMENT ON TABLE article_date_cache_keys IS 'article_date_cache.url_hash 유일 키 (트리거로 동기화)';
+COMMENT ON COLUMN articles.url IS '기사 고유 URL (유일성은 article_urls)';
+COMMENT ON COLUMN article_date_cache.url_hash IS 'URL의 SHA-256 해시값 (유일성은 article_date_cache_keys)';
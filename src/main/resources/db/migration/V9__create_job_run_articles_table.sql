@@ -0,0 +1,23 @@
+-- Job 실행별 처리 대상 기사 작업 테이블
+-- (기사 ID 목록을 Spring Batch ExecutionContext 대신 여기에 저장, ExecutionContext에는 run_id만 남김)
+CREATE TABLE IF NOT EXISTS job_run_articles (
+    run_id BIGINT NOT NULL,
+    article_id BIGINT NOT NULL,
+    seq INTEGER NOT NULL,
+    stage VARCHAR(20) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (run_id, article_id)
+);
+
+-- 파티션 구간 조회용 (run_id + 순번)
+CREATE UNIQUE INDEX IF NOT EXISTS idx_job_run_articles_seq ON job_run_articles(run_id, seq);
+
+-- 보관 기간 정리용
+CREATE INDEX IF NOT EXISTS idx_job_run_articles_updated_at ON job_run_articles(updated_at);
+
+COMMENT ON TABLE job_run_articles IS 'Job 실행별 처리 대상 기사 (단계별 진행 상태)';
+COMMENT ON COLUMN job_run_articles.run_id IS '기사 목록을 만든 Job 실행 ID (재시작해도 유지)';
+COMMENT ON COLUMN job_run_articles.seq IS 'Job 실행 내 기사 순번 (0부터)';
+COMMENT ON COLUMN job_run_articles.stage IS '마지막으로 처리된 단계 (FETCH, EXTRACT, SUMMARIZE)';
+COMMENT ON COLUMN job_run_articles.status IS '해당 단계 처리 결과 (DONE, SKIPPED, FAILED)';
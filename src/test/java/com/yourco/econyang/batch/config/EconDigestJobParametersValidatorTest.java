@@ -105,6 +105,22 @@ class EconDigestJobParametersValidatorTest {
         assertTrue(exception.getMessage().contains("dryRun"));
     }
 
+    @Test
+    void testValidate_InvalidPipelineMode() {
+        // Given
+        JobParameters jobParameters = new JobParametersBuilder()
+                .addString("targetDate", LocalDate.now().toString())
+                .addString("pipelineMode", "yes")
+                .toJobParameters();
+
+        // When & Then
+        JobParametersInvalidException exception = assertThrows(
+                JobParametersInvalidException.class,
+                () -> validator.validate(jobParameters)
+        );
+        assertTrue(exception.getMessage().contains("pipelineMode"));
+    }
+
     @Test
     void testValidate_InvalidLogLevel() {
         // Given
@@ -0,0 +1,151 @@
+package com.yourco.econyang.batch.pipeline;
+
+import com.yourco.econyang.domain.Article;
+import com.yourco.econyang.domain.Summary;
+import com.yourco.econyang.dto.ArticleDto;
+import com.yourco.econyang.dto.ArticleHeader;
+import com.yourco.econyang.repository.SummaryRepository;
+import com.yourco.econyang.service.ArticleService;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * 파이프라인 모드 테스트 (단계 겹침, 최대 건수, 항목별 오류 처리)
+ */
+class ArticlePipelineTest {
+
+    private final ArticleService articleService = mock(ArticleService.class);
+    private final SummaryRepository summaryRepository = mock(SummaryRepository.class);
+    private final AtomicLong nextId = new AtomicLong(1);
+
+    ArticlePipelineTest() {
+        when(articleService.saveOrUpdate(any(ArticleDto.class))).thenAnswer(invocation -> {
+            ArticleDto dto = invocation.getArgument(0);
+            Article article = new Article(dto.getSource(), dto.getUrl(), dto.getTitle());
+            ReflectionTestUtils.setField(article, "id", nextId.getAndIncrement());
+            return article;
+        });
+    }
+
+    @Test
+    void should_extract_first_feed_while_slow_feed_is_still_fetching() throws Exception {
+        CountDownLatch firstExtracted = new CountDownLatch(1);
+        List<Callable<List<ArticleDto>>> fetchTasks = Arrays.asList(
+                () -> Arrays.asList(dto("fast", 1), dto("fast", 2)),
+                () -> {
+                    // 빠른 피드의 기사가 추출될 때까지 느린 피드는 끝나지 않음
+                    assertTrue(firstExtracted.await(5, TimeUnit.SECONDS), "수집 중에 추출이 시작되지 않음");
+                    return Collections.singletonList(dto("slow", 3));
+                });
+
+        ArticlePipeline pipeline = new ArticlePipeline(articleService, summaryRepository,
+                header -> {
+                    Article article = header.toArticle();
+                    article.setContent("본문 " + header.getTitle());
+                    firstExtracted.countDown();
+                    return article;
+                },
+                body -> new Summary(body.toArticle(), "test", "요약", "이유"))
+                .threads(2, 2, 1)
+                .queueCapacity(1);
+
+        ArticlePipeline.Result result = pipeline.run(fetchTasks, article -> true, 10);
+
+        assertEquals(3, result.getFetchedCount());
+        assertEquals(3, result.getArticleIds().size());
+        assertEquals(3, result.getExtractedCount());
+        assertEquals(3, result.getSummarizedCount());
+        assertEquals(0, result.getErrorCount());
+        verify(summaryRepository, times(3)).save(any(Summary.class));
+    }
+
+    @Test
+    void should_stop_saving_at_max_articles_and_skip_duplicates() throws Exception {
+        List<ArticleDto> articles = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            articles.add(dto("feed", i % 10)); // 같은 URL이 두 번씩
+        }
+        List<String> seen = new ArrayList<>();
+
+        ArticlePipeline pipeline = new ArticlePipeline(articleService, summaryRepository, ArticleHeader::toArticle, null)
+                .queueCapacity(2);
+        ArticlePipeline.Result result = pipeline.run(
+                Collections.<Callable<List<ArticleDto>>>singletonList(() -> articles),
+                article -> !seen.contains(article.getUrl()) && seen.add(article.getUrl()),
+                4);
+
+        assertEquals(20, result.getFetchedCount());
+        assertEquals(Arrays.asList(1L, 2L, 3L, 4L), result.getArticleIds());
+        assertEquals(0, result.getSummarizedCount());
+        verifyNoInteractions(summaryRepository);
+    }
+
+    @Test
+    void should_skip_failed_items_and_keep_going() throws Exception {
+        ArticlePipeline pipeline = new ArticlePipeline(articleService, summaryRepository,
+                header -> {
+                    if (header.getTitle().endsWith("2")) {
+                        throw new IllegalStateException("추출 실패");
+                    }
+                    Article article = header.toArticle();
+                    article.setContent("본문");
+                    return article;
+                }, null);
+
+        ArticlePipeline.Result result = pipeline.run(Arrays.<Callable<List<ArticleDto>>>asList(
+                () -> Arrays.asList(dto("a", 1), dto("a", 2), dto("a", 3)),
+                () -> { throw new IllegalStateException("피드 오류"); }),
+                article -> true, 10);
+
+        assertEquals(3, result.getArticleIds().size());
+        assertEquals(2, result.getExtractedCount());
+        assertEquals(2, result.getErrorCount());
+    }
+
+    @Test
+    void should_not_extract_articles_that_already_have_content() throws Exception {
+        when(articleService.saveOrUpdate(any(ArticleDto.class))).thenAnswer(invocation -> {
+            ArticleDto dto = invocation.getArgument(0);
+            Article article = new Article(dto.getSource(), dto.getUrl(), dto.getTitle());
+            ReflectionTestUtils.setField(article, "id", nextId.getAndIncrement());
+            article.setContent("기존 본문");
+            return article;
+        });
+
+        ArticlePipeline pipeline = new ArticlePipeline(articleService, summaryRepository,
+                header -> {
+                    throw new AssertionError("본문이 있는 기사는 추출하지 않아야 함");
+                },
+                body -> new Summary(body.toArticle(), "test", body.getContent(), "이유"));
+        ArticlePipeline.Result result = pipeline.run(
+                Collections.<Callable<List<ArticleDto>>>singletonList(() -> Arrays.asList(dto("a", 1), dto("a", 2))),
+                article -> true, 10);
+
+        assertEquals(2, result.getExtractedCount());
+        assertEquals(2, result.getSummarizedCount());
+        assertEquals(0, result.getErrorCount());
+        verify(articleService, never()).updateExtractionResults(anyList());
+    }
+
+    private static ArticleDto dto(String source, int index) {
+        ArticleDto dto = new ArticleDto();
+        dto.setSource(source);
+        dto.setUrl("https://example.com/" + index);
+        dto.setTitle("기사 " + index);
+        return dto;
+    }
+}
@@ -0,0 +1,36 @@
+package com.yourco.econyang.batch.step;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 기사 ID 구간 Partitioner 테스트
+ */
+class ArticleIdRangePartitionerTest {
+
+    @Test
+    void should_split_into_contiguous_ranges() {
+        Map<String, ExecutionContext> partitions = new ArticleIdRangePartitioner(10).partition(3);
+
+        assertEquals(3, partitions.size());
+        assertRange(partitions.get("partition0"), 0, 4);
+        assertRange(partitions.get("partition1"), 4, 7);
+        assertRange(partitions.get("partition2"), 7, 10);
+    }
+
+    @Test
+    void should_not_create_more_partitions_than_articles() {
+        assertEquals(2, new ArticleIdRangePartitioner(2).partition(8).size());
+        assertTrue(new ArticleIdRangePartitioner(0).partition(4).isEmpty());
+        assertEquals(1, new ArticleIdRangePartitioner(5).partition(0).size());
+    }
+
+    private static void assertRange(ExecutionContext context, int from, int to) {
+        assertEquals(from, context.getInt(ArticleIdRangePartitioner.FROM_INDEX));
+        assertEquals(to, context.getInt(ArticleIdRangePartitioner.TO_INDEX));
+    }
+}
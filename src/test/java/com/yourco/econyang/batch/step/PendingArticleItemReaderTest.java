@@ -0,0 +1,123 @@
+package com.yourco.econyang.batch.step;
+
+import com.yourco.econyang.dto.ArticleHeader;
+import com.yourco.econyang.service.ArticleService;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * 기사 ID 페이지 reader 테스트 (페이지 조회, 순서, 재시작 위치)
+ */
+class PendingArticleItemReaderTest {
+
+    private final ArticleService articleService = mock(ArticleService.class);
+
+    @Test
+    void should_read_in_id_order_one_page_at_a_time() throws Exception {
+        stubFindByIds(Arrays.asList(1L, 2L, 4L, 5L)); // 3번은 삭제됐거나 이미 본문이 있는 기사
+        PendingArticleItemReader<ArticleHeader> reader =
+                PendingArticleItemReader.unextractedHeaders(articleService, Arrays.asList(5L, 1L, 3L, 2L, 4L), 2);
+        reader.open(new ExecutionContext());
+
+        assertEquals(Arrays.asList(5L, 1L, 2L, 4L), readAllIds(reader));
+        verify(articleService, times(3)).findUnextractedHeadersByIds(anyList());
+    }
+
+    @Test
+    void should_resume_after_last_committed_item() throws Exception {
+        stubFindByIds(Arrays.asList(1L, 2L, 3L, 4L, 5L));
+        List<Long> ids = Arrays.asList(1L, 2L, 3L, 4L, 5L);
+
+        ExecutionContext context = new ExecutionContext();
+        PendingArticleItemReader<ArticleHeader> first = PendingArticleItemReader.unextractedHeaders(articleService, ids, 2);
+        first.open(context);
+        first.read();
+        first.read();
+        first.update(context);
+        first.close();
+
+        PendingArticleItemReader<ArticleHeader> restarted = PendingArticleItemReader.unextractedHeaders(articleService, ids, 2);
+        restarted.open(context);
+        assertEquals(Arrays.asList(3L, 4L, 5L), readAllIds(restarted));
+    }
+
+    @Test
+    void should_resume_after_last_committed_item_when_ids_were_skipped() throws Exception {
+        stubFindByIds(Arrays.asList(1L, 3L, 4L, 5L)); // 2번은 조회 조건에 맞지 않아 건너뜀
+        List<Long> ids = Arrays.asList(1L, 2L, 3L, 4L, 5L);
+
+        ExecutionContext context = new ExecutionContext();
+        PendingArticleItemReader<ArticleHeader> first = PendingArticleItemReader.unextractedHeaders(articleService, ids, 2);
+        first.open(context);
+        assertEquals(1L, first.read().getId());
+        assertEquals(3L, first.read().getId());
+        first.update(context);
+        first.close();
+
+        // 읽은 개수(2)가 아니라 목록 위치(3) 다음부터
+        PendingArticleItemReader<ArticleHeader> restarted = PendingArticleItemReader.unextractedHeaders(articleService, ids, 2);
+        restarted.open(context);
+        assertEquals(Arrays.asList(4L, 5L), readAllIds(restarted));
+    }
+
+    @Test
+    void should_replay_read_count_when_position_was_not_saved() throws Exception {
+        stubFindByIds(Arrays.asList(1L, 3L, 4L, 5L));
+        List<Long> ids = Arrays.asList(1L, 2L, 3L, 4L, 5L);
+
+        // 위치 저장 전 버전이 남긴 실행 컨텍스트 (읽은 개수만 있음)
+        ExecutionContext context = new ExecutionContext();
+        context.putInt("pendingArticleReader.read.count", 2);
+
+        PendingArticleItemReader<ArticleHeader> restarted = PendingArticleItemReader.unextractedHeaders(articleService, ids, 2);
+        restarted.open(context);
+        assertEquals(Arrays.asList(4L, 5L), readAllIds(restarted));
+    }
+
+    @Test
+    void should_return_null_for_empty_ids() throws Exception {
+        PendingArticleItemReader<ArticleHeader> reader = PendingArticleItemReader.unextractedHeaders(articleService, null, 10);
+        reader.open(new ExecutionContext());
+
+        assertNull(reader.read());
+        verifyNoInteractions(articleService);
+    }
+
+    private void stubFindByIds(List<Long> existing) {
+        when(articleService.findUnextractedHeadersByIds(anyList())).thenAnswer(invocation -> {
+            List<Long> requested = invocation.getArgument(0);
+            // 리포지토리처럼 순서를 보장하지 않음
+            List<ArticleHeader> found = new ArrayList<>();
+            for (Long id : requested) {
+                if (existing.contains(id)) {
+                    found.add(article(id));
+                }
+            }
+            Collections.reverse(found);
+            return found;
+        });
+    }
+
+    private static List<Long> readAllIds(PendingArticleItemReader<ArticleHeader> reader) throws Exception {
+        List<ArticleHeader> articles = new ArrayList<>();
+        ArticleHeader article;
+        while ((article = reader.read()) != null) {
+            articles.add(article);
+        }
+        return articles.stream().map(ArticleHeader::getId).collect(Collectors.toList());
+    }
+
+    private static ArticleHeader article(Long id) {
+        return new ArticleHeader(id, "테스트", "https://example.com/" + id, "기사 " + id, null, null, null);
+    }
+}
@@ -220,6 +220,31 @@ class ExecutionContextUtilTest {
         assertEquals(Boolean.TRUE, ExecutionContextUtil.getFromJobContext(stepExecution, "booleanValue", Boolean.class));
     }
 
+    @Test
+    void testAggregatePartitionCounts_Restart() {
+        // Given - 첫 실행: partition0 완료(3건), partition1 실패(1건까지 커밋)
+        JobExecution jobExecution = new JobExecution(new JobInstance(1L, "testJob"), new JobParameters());
+        StepExecution master = new StepExecution("S2_EXTRACT", jobExecution);
+        StepExecution partition0 = new StepExecution("S2_EXTRACT_WORKER:partition0", jobExecution);
+        StepExecution partition1 = new StepExecution("S2_EXTRACT_WORKER:partition1", jobExecution);
+        ExecutionContextUtil.incrementInStepContext(partition0, "count", 3);
+        ExecutionContextUtil.incrementInStepContext(partition1, "count", 1);
+
+        assertEquals(4, ExecutionContextUtil.aggregatePartitionCounts(master, java.util.Arrays.asList(partition0, partition1), "count"));
+
+        // When - 재시작: 실패한 partition1만 다시 실행되어 누적 카운터가 3이 됨
+        StepExecution restartedMaster = new StepExecution("S2_EXTRACT", jobExecution);
+        restartedMaster.setExecutionContext(master.getExecutionContext());
+        StepExecution restartedPartition1 = new StepExecution("S2_EXTRACT_WORKER:partition1", jobExecution);
+        restartedPartition1.setExecutionContext(partition1.getExecutionContext());
+        ExecutionContextUtil.incrementInStepContext(restartedPartition1, "count", 2);
+
+        // Then - 완료된 파티션 값은 유지, 재실행 파티션은 최신 값으로 교체
+        assertEquals(6, ExecutionContextUtil.aggregatePartitionCounts(
+                restartedMaster, java.util.Collections.singletonList(restartedPartition1), "count"));
+        assertEquals(Integer.valueOf(6), ExecutionContextUtil.getIntFromStepContext(restartedMaster, "count", 0));
+    }
+
     @Test
     void testUtilityClassInstantiation() throws Exception {
         // When & Then - Utility 클래스는 인스턴스화할 수 없어야 함
@@ -237,4 +262,32 @@ class ExecutionContextUtilTest {
             assertEquals("Utility class", e.getCause().getMessage());
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    void testPutToJobContext_RejectsLargeValues() {
+        // Given
+        JobInstance jobInstance = new JobInstance(1L, "testJob");
+        JobExecution jobExecution = new JobExecution(jobInstance, new JobParameters());
+        StepExecution stepExecution = new StepExecution("testStep", jobExecution);
+
+        java.util.List<Long> articleIds = new java.util.ArrayList<>();
+        for (long i = 0; i <= ExecutionContextUtil.MAX_COLLECTION_SIZE; i++) {
+            articleIds.add(i);
+        }
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i <= ExecutionContextUtil.MAX_STRING_LENGTH; i++) {
+            body.append('x');
+        }
+
+        // When & Then - 목록/본문은 거부, 카운터/포인터는 허용
+        assertThrows(IllegalArgumentException.class,
+                () -> ExecutionContextUtil.putToJobContext(stepExecution, "articleIds", articleIds));
+        assertThrows(IllegalArgumentException.class,
+                () -> ExecutionContextUtil.putToStepContext(stepExecution, "digestBody", body.toString()));
+        assertNull(jobExecution.getExecutionContext().get("articleIds"));
+
+        ExecutionContextUtil.putToJobContext(stepExecution, ExecutionContextUtil.ARTICLE_RUN_ID, 42L);
+        assertEquals(Long.valueOf(42L),
+                ExecutionContextUtil.getLongFromJobContext(stepExecution, ExecutionContextUtil.ARTICLE_RUN_ID, null));
+    }
+}
@@ -0,0 +1,139 @@
+package com.yourco.econyang.benchmark;
+
+import com.yourco.econyang.util.ReadabilityExtractor;
+import com.yourco.econyang.util.StreamingContentExtractor;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Elements;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 본문 추출 속도/품질 벤치마크 (기존 선택자 순차 시도 구현, DOM 기반, 스트리밍 비교)
+ *
+ * 실행: mvn -B test-compile 후
+ * java -cp "target/test-classes:target/classes:$(mvn -q dependency:build-classpath -Dmdep.outputFile=/dev/stdout)" \
+ *   com.yourco.econyang.benchmark.ContentExtractionBenchmark
+ * 품질(정답 대비 토큰 F1)은 측정 전에 콘솔에 출력된다.
+ * 입력은 손으로 작성한 합성 픽스처({@link ExtractionCorpus})라 F1은 엔진 간 상대 비교용이며 실제 매체 품질을 뜻하지 않는다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ContentExtractionBenchmark {
+
+    private List<ExtractionCorpus.Page> pages;
+
+    @Setup
+    public void setUp() {
+        pages = ExtractionCorpus.load();
+    }
+
+    @Benchmark
+    public void readability(Blackhole blackhole) {
+        for (ExtractionCorpus.Page page : pages) {
+            Document doc = Jsoup.parse(page.getHtml());
+            blackhole.consume(ReadabilityExtractor.extract(doc.body()));
+        }
+    }
+
+    @Benchmark
+    public void streaming(Blackhole blackhole) {
+        for (ExtractionCorpus.Page page : pages) {
+            blackhole.consume(StreamingContentExtractor.extract(page.getHtml()));
+        }
+    }
+
+    @Benchmark
+    public void legacySelectorCascade(Blackhole blackhole) {
+        for (ExtractionCorpus.Page page : pages) {
+            Document doc = Jsoup.parse(page.getHtml());
+            blackhole.consume(LegacySelectorExtractor.extract(doc));
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        System.out.println("=== 본문 추출 품질 (토큰 F1) ===");
+        for (ExtractionCorpus.Page page : ExtractionCorpus.load()) {
+            String readability = ReadabilityExtractor.extract(Jsoup.parse(page.getHtml()).body());
+            String streaming = StreamingContentExtractor.extract(page.getHtml());
+            String legacy = LegacySelectorExtractor.extract(Jsoup.parse(page.getHtml()));
+            System.out.println(String.format("%-18s readability=%.3f streaming=%.3f legacy=%.3f", page.getName(),
+                    ExtractionCorpus.tokenF1(readability, page.getExpected()),
+                    ExtractionCorpus.tokenF1(streaming, page.getExpected()),
+                    ExtractionCorpus.tokenF1(legacy, page.getExpected())));
+        }
+
+        Options options = new OptionsBuilder()
+                .include(ContentExtractionBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+
+    /**
+     * 비교 기준: 개선 전 ContentExtractionService의 제거 선택자 + 기본 선택자 순차 시도 + p 폴백
+     */
+    static final class LegacySelectorExtractor {
+
+        private static final String DEFAULT_SELECTORS = "article, div.content, div.article, div.entry-content, div.post-content, "
+                + "div.article-content, div.story-body, div.article-body, div#content, div#article, div.text, p";
+
+        private static final String[] REMOVE_SELECTORS = {
+            "script", "style", "nav", "header", "footer", "aside", ".advertisement",
+            ".ads", ".related", ".comment", ".social", ".share", ".tags",
+            ".author-info", ".article-footer", ".sidebar"
+        };
+
+        static String extract(Document doc) {
+            for (String selector : REMOVE_SELECTORS) {
+                doc.select(selector).remove();
+            }
+
+            for (String selector : DEFAULT_SELECTORS.split(",")) {
+                Elements elements = doc.select(selector.trim());
+                if (!elements.isEmpty()) {
+                    StringBuilder content = new StringBuilder();
+                    for (Element element : elements) {
+                        String text = element.text();
+                        if (text.length() > 50) {
+                            content.append(text).append("\n\n");
+                        }
+                    }
+                    String result = content.toString().trim();
+                    if (result.length() > 100) {
+                        return result;
+                    }
+                }
+            }
+
+            StringBuilder fallback = new StringBuilder();
+            for (Element p : doc.select("p")) {
+                String text = p.text();
+                if (text.length() > 20) {
+                    fallback.append(text).append("\n\n");
+                }
+            }
+            return fallback.toString().trim();
+        }
+    }
+}
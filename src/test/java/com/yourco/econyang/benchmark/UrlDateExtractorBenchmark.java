@@ -0,0 +1,116 @@
+package com.yourco.econyang.benchmark;
+
+import com.yourco.econyang.util.UrlDateExtractor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * UrlDateExtractor 처리량 벤치마크 (기존 순차 정규식 구현 대비)
+ *
+ * 실행: mvn -B test-compile 후
+ * java -cp "target/test-classes:target/classes:$(mvn -q dependency:build-classpath -Dmdep.outputFile=/dev/stdout)" \
+ *   com.yourco.econyang.benchmark.UrlDateExtractorBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UrlDateExtractorBenchmark {
+
+    private static final String[] URLS = {
+        "https://www.bloomberg.com/news/articles/2025-08-25/market-update-story",
+        "https://www.ft.com/content/2b4a1c3e-5d6f-4a7b-8c9d-0e1f2a3b4c5d",
+        "https://www.marketwatch.com/story/stocks-rally-as-fed-signals-pause-2025-08-25-9f8e7d6c",
+        "https://stock.mk.co.kr/news/articleView.html?idxno=202508250001",
+        "https://www.mk.co.kr/news/economy/11400481",
+        "https://www.investing.com/news/stock-market-news/israel-strikes-yemeni-capital-sanaa-4207948",
+        "https://dream.kotra.or.kr/kotra/view.do?dataIdx=233281&column=&search=&pageViewType=",
+        "https://example.com/2025/08/25/article-title-with-a-fairly-long-slug-for-backtracking",
+        "https://news.com/article?date=2025-08-25&id=123",
+        "https://feeds.bbci.co.uk/news/business-66123456?at_medium=RSS&at_campaign=KARANGA"
+    };
+
+    @Benchmark
+    public void automaton(Blackhole blackhole) {
+        for (String url : URLS) {
+            blackhole.consume(UrlDateExtractor.extractDateFromUrl(url));
+        }
+    }
+
+    @Benchmark
+    public void legacyRegexCascade(Blackhole blackhole) {
+        for (String url : URLS) {
+            blackhole.consume(LegacyUrlDateExtractor.extractDateFromUrl(url));
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(UrlDateExtractorBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+
+    /**
+     * 비교 기준: 개선 전 UrlDateExtractor의 순차 {@code .*} 정규식 구현
+     */
+    static final class LegacyUrlDateExtractor {
+
+        private static final Pattern[] URL_DATE_PATTERNS = {
+            Pattern.compile(".*/(?<year>\\d{4})/(?<month>\\d{1,2})/(?<day>\\d{1,2})/.*"),
+            Pattern.compile(".*/(?<year>\\d{4})-(?<month>\\d{1,2})-(?<day>\\d{1,2})/.*"),
+            Pattern.compile(".*/(?<year>\\d{4})\\.(?<month>\\d{1,2})\\.(?<day>\\d{1,2})/.*"),
+            Pattern.compile(".*/(?<year>\\d{4})(?<month>\\d{2})(?<day>\\d{2})/.*"),
+            Pattern.compile(".*/(?<year>\\d{4})/(?<month>\\d{1,2})/(?<day>\\d{1,2})/[^/]*(?<timestamp>\\d{6,})/.*"),
+            Pattern.compile(".*[?&](?:date|published|pubDate)=(?<year>\\d{4})[-.]?(?<month>\\d{1,2})[-.]?(?<day>\\d{1,2}).*"),
+            Pattern.compile(".*/content/[a-f0-9-]+-(?<timestamp>\\d{10}).*"),
+            Pattern.compile(".*/articles/(?<year>\\d{4})-(?<month>\\d{1,2})-(?<day>\\d{1,2})/.*"),
+            Pattern.compile(".*/story/.*-(?<year>\\d{4})-(?<month>\\d{1,2})-(?<day>\\d{1,2})-.*"),
+            Pattern.compile(".*idxno=(?<year>\\d{4})(?<month>\\d{2})(?<day>\\d{2})\\d+.*")
+        };
+
+        static Optional<LocalDateTime> extractDateFromUrl(String url) {
+            String normalizedUrl = url.toLowerCase().trim();
+
+            for (Pattern pattern : URL_DATE_PATTERNS) {
+                Matcher matcher = pattern.matcher(normalizedUrl);
+                if (matcher.matches()) {
+                    if (pattern.pattern().contains("timestamp")) {
+                        long timestamp = Long.parseLong(matcher.group("timestamp"));
+                        return Optional.of(LocalDateTime.ofEpochSecond(timestamp, 0, java.time.ZoneOffset.UTC));
+                    }
+                    try {
+                        return Optional.of(LocalDateTime.of(
+                                Integer.parseInt(matcher.group("year")),
+                                Integer.parseInt(matcher.group("month")),
+                                Integer.parseInt(matcher.group("day")), 12, 0));
+                    } catch (Exception e) {
+                        return Optional.empty();
+                    }
+                }
+            }
+
+            return Optional.empty();
+        }
+    }
+}
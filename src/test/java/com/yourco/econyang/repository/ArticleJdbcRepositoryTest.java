@@ -0,0 +1,87 @@
+package com.yourco.econyang.repository;
+
+import com.yourco.econyang.domain.Article;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ArticleJdbcRepository 일괄 갱신 테스트
+ */
+@JdbcTest
+@ActiveProfiles("test")
+@Import(ArticleJdbcRepository.class)
+class ArticleJdbcRepositoryTest {
+
+    @Autowired
+    private ArticleJdbcRepository articleJdbcRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void testUpdateExtractionResults() {
+        // Given
+        Article success = insertArticle(1L, "추출 성공");
+        Article failure = insertArticle(2L, "추출 실패");
+        insertArticle(3L, "대상 아님");
+
+        LocalDateTime extractedAt = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        success.setContent("추출된 본문");
+        success.setExtractedAt(extractedAt);
+        char[] longError = new char[ArticleJdbcRepository.MAX_EXTRACT_ERROR_LENGTH + 200];
+        Arrays.fill(longError, 'e');
+        failure.setExtractError(new String(longError));
+        failure.setExtractedAt(extractedAt);
+
+        // When
+        int updated = articleJdbcRepository.updateExtractionResults(Arrays.asList(success, failure));
+
+        // Then
+        assertEquals(2, updated);
+        Map<String, Object> savedSuccess = findRow(1L);
+        assertEquals("추출된 본문", savedSuccess.get("CONTENT"));
+        assertNotNull(savedSuccess.get("EXTRACTED_AT"));
+        assertNull(savedSuccess.get("EXTRACT_ERROR"));
+
+        Map<String, Object> savedFailure = findRow(2L);
+        assertNull(savedFailure.get("CONTENT"));
+        assertEquals(ArticleJdbcRepository.MAX_EXTRACT_ERROR_LENGTH, ((String) savedFailure.get("EXTRACT_ERROR")).length());
+
+        assertNull(findRow(3L).get("EXTRACTED_AT"));
+    }
+
+    @Test
+    void testUpdateExtractionResults_SkipsArticlesWithoutId() {
+        // Given
+        Article unsaved = new Article("한국경제", "https://test.com/unsaved", "저장 안 됨");
+        unsaved.setContent("본문");
+
+        // When & Then
+        assertEquals(0, articleJdbcRepository.updateExtractionResults(Collections.singletonList(unsaved)));
+    }
+
+    private Article insertArticle(Long id, String title) {
+        String url = "https://test.com/" + id;
+        jdbcTemplate.update("INSERT INTO articles (id, source, url, title) VALUES (?, ?, ?, ?)", id, "한국경제", url, title);
+        Article article = new Article("한국경제", url, title);
+        ReflectionTestUtils.setField(article, "id", id);
+        return article;
+    }
+
+    private Map<String, Object> findRow(Long id) {
+        return jdbcTemplate.queryForMap("SELECT content, extracted_at, extract_error FROM articles WHERE id = ?", id);
+    }
+}
@@ -0,0 +1,66 @@
+package com.yourco.econyang.repository;
+
+import com.yourco.econyang.domain.Article;
+import com.yourco.econyang.dto.ArticleBody;
+import com.yourco.econyang.dto.ArticleHeader;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ArticleRepository 헤더/본문 조회 모델 테스트
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.globally_quoted_identifiers=false")
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // JDBC로 넣은 데이터를 JPA 조회가 볼 수 있도록 커밋
+class ArticleProjectionQueryTest {
+
+    @Autowired
+    private ArticleRepository articleRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM articles");
+    }
+
+    @Test
+    void testHeadersAndBodies() {
+        // Given - 1번은 본문 없음, 2번은 본문 있음
+        jdbcTemplate.update("INSERT INTO articles (id, source, url, title, raw_excerpt) VALUES (1, '한국경제', 'https://test.com/1', '기사 1', '요약 1')");
+        jdbcTemplate.update("INSERT INTO articles (id, source, url, title, content) VALUES (2, '매일경제', 'https://test.com/2', '기사 2', '본문 2')");
+        List<Long> ids = Arrays.asList(1L, 2L, 3L);
+
+        // When
+        List<ArticleHeader> headers = articleRepository.findHeadersByIdIn(ids);
+        List<ArticleHeader> unextracted = articleRepository.findUnextractedHeadersByIdIn(ids);
+        List<ArticleBody> bodies = articleRepository.findBodiesWithContentByIdIn(ids);
+
+        // Then
+        assertEquals(Arrays.asList(1L, 2L), headers.stream().map(ArticleHeader::getId).sorted().collect(Collectors.toList()));
+        assertEquals(1, unextracted.size());
+        ArticleHeader header = unextracted.get(0);
+        assertEquals("https://test.com/1", header.getUrl());
+        assertEquals("요약 1", header.getRawExcerpt());
+        assertNull(header.toArticle().getContent());
+
+        assertEquals(1, bodies.size());
+        Article article = bodies.get(0).toArticle();
+        assertEquals(Long.valueOf(2L), article.getId());
+        assertEquals("본문 2", article.getContent());
+        assertEquals("매일경제", article.getSource());
+    }
+}
@@ -0,0 +1,112 @@
+package com.yourco.econyang.repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JobRunArticleRepository JDBC 테스트
+ */
+@JdbcTest
+@ActiveProfiles("test")
+@Import(JobRunArticleRepository.class)
+class JobRunArticleRepositoryTest {
+
+    @Autowired
+    private JobRunArticleRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void testRegisterAndFindByRange() {
+        // Given
+        repository.register(1L, Arrays.asList(30L, 10L, 20L, 40L));
+
+        // When & Then - 등록 순서 유지, 구간은 [from, to)
+        assertEquals(Arrays.asList(30L, 10L, 20L, 40L), repository.findArticleIds(1L));
+        assertEquals(Arrays.asList(10L, 20L), repository.findArticleIds(1L, 1, 3));
+        assertEquals(4, repository.count(1L));
+        assertEquals(0, repository.count(2L));
+    }
+
+    @Test
+    void testRegisterAgainReplacesRun() {
+        // Given
+        repository.register(1L, Arrays.asList(1L, 2L, 3L));
+
+        // When
+        repository.register(1L, Collections.singletonList(5L));
+
+        // Then
+        assertEquals(Collections.singletonList(5L), repository.findArticleIds(1L));
+    }
+
+    @Test
+    void testRegisterSkipsDuplicateIds() {
+        // When - 같은 기사 ID가 여러 번 들어온 목록
+        int registered = repository.register(1L, Arrays.asList(30L, 10L, 30L, 20L, 10L));
+
+        // Then - 처음 나온 순서대로 한 번씩만 등록, 순번은 빈틈 없이
+        assertEquals(3, registered);
+        assertEquals(Arrays.asList(30L, 10L, 20L), repository.findArticleIds(1L));
+        assertEquals(Collections.singletonList(20L), repository.findArticleIds(1L, 2, 3));
+    }
+
+    @Test
+    void testMarkStage() {
+        // Given
+        repository.register(1L, Arrays.asList(1L, 2L, 3L));
+
+        // When
+        repository.markStage(1L, Arrays.asList(1L, 3L),
+                JobRunArticleRepository.Stage.EXTRACT, JobRunArticleRepository.Status.DONE);
+        repository.markStage(1L, Collections.singletonList(2L),
+                JobRunArticleRepository.Stage.EXTRACT, JobRunArticleRepository.Status.SKIPPED);
+
+        // Then
+        assertEquals(2, repository.countByStage(1L,
+                JobRunArticleRepository.Stage.EXTRACT, JobRunArticleRepository.Status.DONE));
+        assertEquals(1, repository.countByStage(1L,
+                JobRunArticleRepository.Stage.EXTRACT, JobRunArticleRepository.Status.SKIPPED));
+        assertEquals(0, repository.countByStage(1L,
+                JobRunArticleRepository.Stage.FETCH, JobRunArticleRepository.Status.DONE));
+    }
+
+    @Test
+    void testDeleteRunsBefore() {
+        // Given - 1번 실행은 10일 전 기록
+        repository.register(1L, Arrays.asList(1L, 2L));
+        repository.register(2L, Arrays.asList(1L, 2L));
+        jdbcTemplate.update("UPDATE job_run_articles SET updated_at = ? WHERE run_id = 1",
+                java.sql.Timestamp.valueOf(LocalDateTime.now().minusDays(10)));
+
+        // When
+        int deleted = repository.deleteRunsBefore(LocalDateTime.now().minusDays(7));
+
+        // Then
+        assertEquals(2, deleted);
+        assertEquals(0, repository.count(1L));
+        assertEquals(2, repository.count(2L));
+    }
+
+    @Test
+    void testCountWithContent() {
+        // Given - 2번만 본문 있음
+        jdbcTemplate.update("INSERT INTO articles (id, source, url, title) VALUES (1, 'a', 'https://test.com/1', '기사 1')");
+        jdbcTemplate.update("INSERT INTO articles (id, source, url, title, content) VALUES (2, 'a', 'https://test.com/2', '기사 2', '본문')");
+        repository.register(1L, Arrays.asList(1L, 2L));
+
+        // When & Then
+        assertEquals(1, repository.countWithContent(1L));
+    }
+}
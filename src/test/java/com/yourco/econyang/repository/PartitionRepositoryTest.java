@@ -0,0 +1,38 @@
+package com.yourco.econyang.repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.YearMonth;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * PartitionRepository 테스트 (H2는 파티션 테이블을 지원하지 않으므로 판별과 이름 규칙만 확인)
+ */
+@JdbcTest
+@ActiveProfiles("test")
+@Import(PartitionRepository.class)
+class PartitionRepositoryTest {
+
+    @Autowired
+    private PartitionRepository repository;
+
+    @Test
+    void testIsPartitioned_FalseOnH2() {
+        assertFalse(repository.isPartitioned("articles"));
+    }
+
+    @Test
+    void testParseMonth() {
+        assertEquals(YearMonth.of(2025, 1), PartitionRepository.parseMonth("articles", "articles_p202501"));
+        assertEquals(YearMonth.of(2024, 12),
+                PartitionRepository.parseMonth("article_date_cache", "article_date_cache_p202412"));
+        assertNull(PartitionRepository.parseMonth("articles", "articles_default"));
+        assertNull(PartitionRepository.parseMonth("articles", "article_date_cache_p202501"));
+        assertNull(PartitionRepository.parseMonth("articles", "articles_p202513"));
+    }
+}
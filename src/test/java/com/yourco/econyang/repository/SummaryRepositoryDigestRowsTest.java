@@ -0,0 +1,81 @@
+package com.yourco.econyang.repository;
+
+import com.yourco.econyang.domain.Summary;
+import com.yourco.econyang.dto.DigestSummaryRow;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SummaryRepository 다이제스트 조회 모델 테스트
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.globally_quoted_identifiers=false")
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // JDBC로 넣은 데이터를 JPA 조회가 볼 수 있도록 커밋
+class SummaryRepositoryDigestRowsTest {
+
+    @Autowired
+    private SummaryRepository summaryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM summaries");
+        jdbcTemplate.update("DELETE FROM articles");
+    }
+
+    @Test
+    void testFindDigestRows() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        insertArticle(1L, "한국경제", "금리 동결");
+        insertArticle(2L, "매일경제", "환율 급등");
+        insertSummary(10L, 1L, "7.5", now);
+        insertSummary(11L, 2L, "9.0", now);
+        insertSummary(12L, 2L, "0.5", now);
+
+        // When
+        List<DigestSummaryRow> rows = summaryRepository.findDigestRows(
+                BigDecimal.ONE, now.minusHours(1), now.plusHours(1));
+
+        // Then - 점수 기준 필터/정렬, 기사 헤더 포함
+        assertEquals(2, rows.size());
+        assertEquals(Long.valueOf(11L), rows.get(0).getSummaryId());
+        assertEquals("환율 급등", rows.get(0).getTitle());
+        assertEquals("매일경제", rows.get(0).getSource());
+        assertEquals("https://test.com/1", rows.get(1).getUrl());
+
+        Summary summary = rows.get(1).toSummary();
+        assertEquals(Long.valueOf(10L), summary.getId());
+        assertEquals("금리 동결", summary.getArticle().getTitle());
+        assertEquals(Long.valueOf(1L), summary.getArticle().getId());
+        assertNull(summary.getArticle().getContent());
+        assertEquals(0, new BigDecimal("7.5").compareTo(summary.getScore()));
+    }
+
+    private void insertArticle(Long id, String source, String title) {
+        jdbcTemplate.update("INSERT INTO articles (id, source, url, title, content) VALUES (?, ?, ?, ?, ?)",
+                id, source, "https://test.com/" + id, title, "본문 " + title);
+    }
+
+    private void insertSummary(Long id, Long articleId, String score, LocalDateTime createdAt) {
+        jdbcTemplate.update("INSERT INTO summaries (id, article_id, model, summary_text, why_it_matters, score, created_at) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, ?)",
+                id, articleId, "gpt-4o-mini-" + id, "요약 " + id, "이유 " + id, new BigDecimal(score),
+                Timestamp.valueOf(createdAt));
+    }
+}
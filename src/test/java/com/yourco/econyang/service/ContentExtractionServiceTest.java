@@ -1,11 +1,17 @@
 package com.yourco.econyang.service;
 
 import com.yourco.econyang.dto.ArticleDto;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okio.Buffer;
+import org.jsoup.Jsoup;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -323,6 +329,50 @@ class ContentExtractionServiceTest {
         }
     }
     
+    @Test
+    void testStreamContent_SniffsMetaCharset() throws Exception {
+        // Given - Content-Type에 charset 없이 EUC-KR로 인코딩된 페이지
+        String paragraph = "코스피가 외국인 순매수에 힘입어 1.2% 상승 마감했다. 반도체와 2차전지 업종이 지수 상승을 이끌었다.";
+        String html = "<html><head><meta http-equiv=\"Content-Type\" content=\"text/html; charset=euc-kr\"></head>"
+                + "<body><div class='article'><p>" + paragraph + "</p><p>" + paragraph + "</p></div></body></html>";
+        
+        try (MockWebServer server = new MockWebServer()) {
+            server.enqueue(new MockResponse()
+                    .setHeader("Content-Type", "text/html")
+                    .setBody(new Buffer().write(html.getBytes(Charset.forName("EUC-KR")))));
+            server.start();
+            
+            // When
+            String content = contentExtractionService.streamContentBySource(
+                    Jsoup.connect(server.url("/article").toString()).execute(), "테스트소스");
+            
+            // Then
+            assertEquals(paragraph + "\n\n" + paragraph, content);
+        }
+    }
+    
+    @Test
+    void testStreamContent_FallsBackOnUnsupportedHeaderCharset() throws Exception {
+        // Given - Content-Type의 charset 이름이 잘못된 페이지
+        String paragraph = "코스피가 외국인 순매수에 힘입어 1.2% 상승 마감했다. 반도체와 2차전지 업종이 지수 상승을 이끌었다.";
+        String html = "<html><head><meta charset=\"utf-8\"></head>"
+                + "<body><div class='article'><p>" + paragraph + "</p><p>" + paragraph + "</p></div></body></html>";
+        
+        try (MockWebServer server = new MockWebServer()) {
+            server.enqueue(new MockResponse()
+                    .setHeader("Content-Type", "text/html; charset=no-such-charset")
+                    .setBody(new Buffer().write(html.getBytes(StandardCharsets.UTF_8))));
+            server.start();
+            
+            // When
+            String content = contentExtractionService.streamContentBySource(
+                    Jsoup.connect(server.url("/article").toString()).execute(), "테스트소스");
+            
+            // Then
+            assertEquals(paragraph + "\n\n" + paragraph, content);
+        }
+    }
+    
     /**
      * 테스트용 ArticleDto 생성
      */
@@ -87,6 +87,58 @@ public class ContentQualityFilterServiceTest {
         assertTrue(result.isQualified());
     }
 
+    @Test
+    void should_allow_non_news_keyword_mentioned_in_title() {
+        String title = "게임 업계 실적 발표";
+        String content = "국내 게임 업계의 3분기 실적이 발표되었습니다. 주요 게임사들의 영업이익이 전년 대비 크게 늘어 " +
+                        "업계 실적 개선 기대감이 커지고 있다고 증권가는 분석했습니다.";
+
+        ContentQualityFilterService.ContentQualityResult result = 
+            filterService.checkContentQuality(title, content);
+
+        assertTrue(result.isQualified(), result.getReason());
+    }
+
+    @Test
+    void should_detect_keywords_and_patterns_regardless_of_case() {
+        String title = "Markets rally";
+        String content = "Markets rallied on Friday as investors cheered the rate decision. " +
+                        "Please SUBSCRIBE to our daily briefing for more market analysis.";
+
+        ContentQualityFilterService.ContentQualityResult result = 
+            filterService.checkContentQuality(title, content);
+
+        assertFalse(result.isQualified());
+        assertEquals("홍보성 키워드 감지: subscribe", result.getReason());
+    }
+
+    @Test
+    void should_apply_promotional_patterns_to_single_line_content() {
+        String title = "유통업계 3분기 실적 발표";
+        String content = "유통업계 3분기 실적이 발표됐다. 대형마트들은 특가 행사 효과로 매출이 늘었다고 밝혔으며 " +
+                        "백화점 실적도 시장 예상을 웃돌았다.";
+
+        ContentQualityFilterService.ContentQualityResult result = 
+            filterService.checkContentQuality(title, content);
+
+        assertFalse(result.isQualified());
+        assertTrue(result.getReason().startsWith("광고성 패턴 감지"));
+    }
+
+    @Test
+    void should_not_apply_patterns_to_multi_line_content() {
+        // 기존 ".*a.*b.*" + matches() 판정 유지: 줄바꿈이 있는 본문은 패턴 검사 대상이 아님
+        String title = "유통업계 3분기 실적 발표";
+        String content = "유통업계 3분기 실적이 발표됐다.\n" +
+                        "대형마트들은 특가 행사 효과로 매출이 늘었다고 밝혔다.\r\n" +
+                        "백화점 실적도 시장 예상을 웃돌았고, 업계는 4분기에도 join 행사를 today 이어갈 계획이다.";
+
+        ContentQualityFilterService.ContentQualityResult result = 
+            filterService.checkContentQuality(title, content);
+
+        assertTrue(result.isQualified(), result.getReason());
+    }
+
     @Test
     void should_handle_null_or_empty_inputs() {
         ContentQualityFilterService.ContentQualityResult result1 = 
@@ -0,0 +1,109 @@
+package com.yourco.econyang.service;
+
+import com.yourco.econyang.domain.DailyDigest;
+import com.yourco.econyang.repository.DailyDigestRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * DailyDigestService 형식별 렌더링 결과 조회 테스트
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.globally_quoted_identifiers=false")
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // JDBC로 넣은 데이터를 JPA 조회가 볼 수 있도록 커밋
+class DailyDigestServiceTest {
+
+    @Autowired
+    private DailyDigestRepository dailyDigestRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private DailyDigestService dailyDigestService;
+
+    @BeforeEach
+    void setUp() {
+        dailyDigestService = new DailyDigestService(dailyDigestRepository);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM daily_digest_renditions");
+        jdbcTemplate.update("DELETE FROM daily_digest");
+    }
+
+    @Test
+    void testFindRendition() {
+        // Given
+        LocalDate date = LocalDate.of(2024, 5, 1);
+        insertDigest(1L, date, "# 다이제스트");
+        insertRendition(1L, "html", "<h1>다이제스트</h1>");
+        insertRendition(1L, "json", "{\"articles\":[]}");
+
+        // When & Then - markdown은 body_markdown, 나머지는 형식별 행
+        assertEquals(Optional.of("# 다이제스트"), dailyDigestService.findRendition(1L, "markdown"));
+        assertEquals(Optional.of("<h1>다이제스트</h1>"), dailyDigestService.findRendition(1L, "html"));
+        assertEquals(Optional.of("{\"articles\":[]}"), dailyDigestService.findRendition(date, "json"));
+        assertEquals(Optional.of("# 다이제스트"), dailyDigestService.findRendition(date, "markdown"));
+    }
+
+    @Test
+    void testFindRendition_Missing() {
+        // Given
+        LocalDate date = LocalDate.of(2024, 5, 2);
+        insertDigest(2L, date, "# 다이제스트");
+
+        // When & Then
+        assertFalse(dailyDigestService.findRendition(2L, "text").isPresent());
+        assertFalse(dailyDigestService.findRendition(date.plusDays(1), "markdown").isPresent());
+        assertFalse(dailyDigestService.findRendition((Long) null, "markdown").isPresent());
+    }
+
+    @Test
+    void testUpdateRenditions() {
+        // Given
+        DailyDigest digest = new DailyDigest(LocalDate.of(2024, 5, 3), "경제뉴스", "v1");
+        Map<String, String> first = new LinkedHashMap<>();
+        first.put("markdown", "v1");
+        first.put("html", "<p>v1</p>");
+        first.put("text", "v1");
+        digest.updateRenditions(first);
+
+        Map<String, String> second = new LinkedHashMap<>();
+        second.put("markdown", "v2");
+        second.put("html", "<p>v2</p>");
+
+        // When
+        digest.updateRenditions(second);
+
+        // Then - markdown은 본문 컬럼으로, 이전 형식은 교체
+        assertEquals("v2", digest.getBodyMarkdown());
+        assertEquals(1, digest.getRenditions().size());
+        assertEquals("<p>v2</p>", digest.getRenditions().get("html"));
+    }
+
+    private void insertDigest(Long id, LocalDate date, String markdown) {
+        jdbcTemplate.update("INSERT INTO daily_digest (id, digest_date, title, body_markdown) VALUES (?, ?, ?, ?)",
+                id, Date.valueOf(date), "경제뉴스 " + date, markdown);
+    }
+
+    private void insertRendition(Long digestId, String format, String body) {
+        jdbcTemplate.update("INSERT INTO daily_digest_renditions (digest_id, format, body) VALUES (?, ?, ?)",
+                digestId, format, body);
+    }
+}
@@ -0,0 +1,119 @@
+package com.yourco.econyang.service;
+
+import com.yourco.econyang.repository.ArticleDateCacheRepository;
+import com.yourco.econyang.repository.PartitionRepository;
+import com.yourco.econyang.repository.PartitionRepository.MonthlyPartition;
+import com.yourco.econyang.repository.SummaryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * DataRetentionService 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class DataRetentionServiceTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 3, 15);
+
+    @Mock
+    private PartitionRepository partitionRepository;
+
+    @Mock
+    private ArticleService articleService;
+
+    @Mock
+    private SummaryRepository summaryRepository;
+
+    @Mock
+    private ArticleDateCacheRepository articleDateCacheRepository;
+
+    private DataRetentionService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new DataRetentionService(partitionRepository, articleService, summaryRepository,
+                articleDateCacheRepository);
+    }
+
+    @Test
+    void testPurgeExpired_DropsOldPartitions() {
+        // Given - 보관 12개월: 2024-03 이전 월 파티션 삭제 대상
+        when(partitionRepository.isPartitioned(anyString())).thenReturn(true);
+        MonthlyPartition old = new MonthlyPartition("articles_p202402", YearMonth.of(2024, 2));
+        MonthlyPartition kept = new MonthlyPartition("articles_p202403", YearMonth.of(2024, 3));
+        when(partitionRepository.findMonthlyPartitions("articles")).thenReturn(Arrays.asList(old, kept));
+        when(partitionRepository.findMonthlyPartitions("summaries")).thenReturn(Collections.emptyList());
+        when(partitionRepository.findMonthlyPartitions("article_date_cache")).thenReturn(Collections.emptyList());
+        when(summaryRepository.deleteOrphansCreatedBefore(any())).thenReturn(2);
+
+        // When
+        DataRetentionService.Result result = service.purgeExpired(TODAY);
+
+        // Then
+        assertEquals(1, result.getDroppedPartitions());
+        assertEquals(2, result.getDeletedRows());
+        verify(partitionRepository).dropPartition("articles", old);
+        verify(partitionRepository, never()).dropPartition("articles", kept);
+        verify(partitionRepository).deleteKeysCreatedBefore("article_urls", LocalDateTime.of(2024, 3, 1, 0, 0));
+        verify(partitionRepository, never()).deleteKeysCreatedBefore(eq("summary_keys"), any());
+        verify(partitionRepository).ensureMonthlyPartitions(eq("articles"), anyInt());
+        verify(summaryRepository).deleteOrphansCreatedBefore(LocalDateTime.of(2024, 4, 1, 0, 0));
+        verify(articleService, never()).cleanupOldArticles(any());
+        verify(summaryRepository, never()).deleteOlderThan(any());
+    }
+
+    @Test
+    void testPurgeExpired_OrphanCleanupCoversLongerSummaryRetention() {
+        // Given - 요약 보관(24개월)이 기사 보관(6개월)보다 김: 기사 기준 월까지의 모든 요약에서 고아 정리
+        ReflectionTestUtils.setField(service, "articleMonths", 6);
+        ReflectionTestUtils.setField(service, "summaryMonths", 24);
+        when(partitionRepository.isPartitioned(anyString())).thenReturn(true);
+        MonthlyPartition old = new MonthlyPartition("articles_p202406", YearMonth.of(2024, 6));
+        when(partitionRepository.findMonthlyPartitions("articles")).thenReturn(Collections.singletonList(old));
+        when(partitionRepository.findMonthlyPartitions("summaries")).thenReturn(Collections.emptyList());
+        when(partitionRepository.findMonthlyPartitions("article_date_cache")).thenReturn(Collections.emptyList());
+
+        // When
+        service.purgeExpired(TODAY);
+
+        // Then
+        verify(partitionRepository).dropPartition("articles", old);
+        verify(summaryRepository).deleteOrphansCreatedBefore(LocalDateTime.of(2024, 10, 1, 0, 0));
+    }
+
+    @Test
+    void testPurgeExpired_FallsBackToRowDeletes() {
+        // Given - 파티션 테이블이 아님 (H2 등)
+        when(partitionRepository.isPartitioned(anyString())).thenReturn(false);
+        when(summaryRepository.deleteOlderThan(any())).thenReturn(3);
+        when(articleService.cleanupOldArticles(any())).thenReturn(4);
+        when(articleDateCacheRepository.deleteOldCacheEntries(any())).thenReturn(5);
+
+        // When
+        DataRetentionService.Result result = service.purgeExpired(TODAY);
+
+        // Then
+        assertEquals(0, result.getDroppedPartitions());
+        assertEquals(12, result.getDeletedRows());
+        verify(articleService).cleanupOldArticles(LocalDateTime.of(2024, 3, 1, 0, 0));
+        verify(articleDateCacheRepository).deleteOldCacheEntries(LocalDateTime.of(2025, 2, 1, 0, 0));
+        verify(partitionRepository, never()).ensureMonthlyPartitions(anyString(), anyInt());
+        verify(partitionRepository, never()).dropPartition(anyString(), any());
+    }
+}
@@ -11,6 +11,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
 
@@ -309,6 +310,61 @@ class DigestTemplateServiceTest {
         assertTrue(digest.contains("중요도: 0/10")); // null은 0으로 표시
     }
 
+    @Test
+    void testRenderAll_AllConfiguredFormatsFromOneContext() {
+        // Given - 설정된 형식: markdown, html, json, text, 지원하지 않는 pdf
+        Map<String, DigestTemplateConfig.Format> formats = new LinkedHashMap<>();
+        for (String name : Arrays.asList("markdown", "html", "json", "text", "pdf")) {
+            formats.put(name, new DigestTemplateConfig.Format());
+        }
+        formats.get("html").setWrapperTemplate("<title>{{title}}</title><body>{{content}}</body>");
+        when(templateConfig.getFormats()).thenReturn(formats);
+
+        // When
+        DigestTemplateService.RenderContext context =
+                digestTemplateService.prepare(testSummaries, "default", LocalDate.now());
+        Map<String, String> rendered = digestTemplateService.renderAll(context, "경제 <다이제스트>");
+
+        // Then
+        assertEquals(Arrays.asList("markdown", "html", "json", "text"), new ArrayList<>(rendered.keySet()));
+        String markdown = rendered.get("markdown");
+        assertEquals(digestTemplateService.generateDigest(testSummaries, "default", "markdown"), markdown);
+
+        String html = rendered.get("html");
+        assertTrue(html.startsWith("<title>경제 &lt;다이제스트&gt;</title><body><h1>경제 &lt;다이제스트&gt;</h1>"));
+        assertTrue(html.contains("<div class=\"article importance-high\">"));
+        assertTrue(html.contains("<a href=\"https://example.com/article1\">경제 성장률 전망 상향 조정</a>"));
+        assertTrue(html.contains("<div class=\"summary\">올해 경제 성장률이 예상보다 높을 것으로 전망됩니다.</div>"));
+        assertTrue(html.contains("<li>반도체</li>"));
+        assertFalse(html.contains("## "));
+        assertFalse(html.contains("[링크]"));
+
+        assertTrue(rendered.get("json").contains("\"title\":\"경제 <다이제스트>\""));
+        assertTrue(rendered.get("json").indexOf("경제 성장률 전망 상향 조정") < rendered.get("json").indexOf("소비자 물가 안정세"));
+
+        String text = rendered.get("text");
+        assertTrue(text.contains("링크 (https://example.com/article1)"));
+        assertFalse(text.contains("## "));
+        assertTrue(markdown.contains("## "));
+    }
+
+    @Test
+    void testRenderAll_UsesDigestDate() {
+        // Given
+        when(templateConfig.getFormats()).thenReturn(Collections.singletonMap("json", new DigestTemplateConfig.Format()));
+
+        // When
+        Map<String, String> rendered = digestTemplateService.renderAll(
+                digestTemplateService.prepare(testSummaries, "default", LocalDate.of(2024, 5, 1)), "다이제스트");
+        Map<String, String> empty = digestTemplateService.renderAll(
+                digestTemplateService.prepare(Collections.emptyList(), "default", LocalDate.of(2024, 5, 1)), "다이제스트");
+
+        // Then - 생성 시각이 아니라 다이제스트 날짜로 표기
+        assertTrue(rendered.get("markdown").startsWith("# 2024년 5월 1일 경제뉴스 다이제스트"));
+        assertTrue(rendered.get("json").contains("\"date\":\"2024-05-01\""));
+        assertTrue(empty.get("markdown").contains("2024년 5월 1일"));
+    }
+
     /**
      * 테스트용 Article 생성 헬퍼 메소드
      */
@@ -1,14 +1,22 @@
 package com.yourco.econyang.service;
 
 import com.yourco.econyang.dto.ArticleDto;
+import com.yourco.econyang.openai.service.OpenAiClient;
 import com.yourco.econyang.service.EconomicNewsClassifier.NewsQualityScore;
 import com.yourco.econyang.service.EconomicNewsClassifier.NewsCategory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 /**
  * 경제 뉴스 분류기 테스트
@@ -187,6 +195,47 @@ public class EconomicNewsClassifierTest {
         assertTrue(shouldIncludeHigh, "High quality article should be included");
     }
 
+    @Test
+    void should_count_english_keywords_on_word_boundaries() {
+        // Given - "restock"은 stock으로 세지 않고, 대소문자는 구분하지 않음
+        ArticleDto words = createArticle("Stock STOCK stocks", "Retailers restock shelves");
+        ArticleDto phrase = createArticle("M&A talks", "Retailers restock shelves");
+
+        // When
+        NewsQualityScore wordScore = classifier.evaluateNewsQuality(words);
+        NewsQualityScore phraseScore = classifier.evaluateNewsQuality(phrase);
+
+        // Then
+        assertEquals(9, wordScore.getScore());
+        assertEquals("키워드: 핵심경제:9 (총점:9)", wordScore.getReason());
+        assertEquals(1, phraseScore.getScore());
+        assertEquals("키워드: 기업:1 (총점:1)", phraseScore.getReason());
+    }
+
+    @Test
+    void should_parse_batched_ai_scores_by_article_number() {
+        // Given - 순서가 바뀌고 일부가 빠진 응답
+        OpenAiClient openAiClient = mock(OpenAiClient.class);
+        when(openAiClient.generateCompletion(anyString(), anyString(), anyInt()))
+            .thenReturn("3|2|경제 관련성 낮음\n[1] | 9 | 기준금리 결정\n잡음 줄");
+        ReflectionTestUtils.setField(classifier, "openAiClient", openAiClient);
+        List<ArticleDto> articles = Arrays.asList(
+            createArticle("Fed holds rates", "Rate decision"),
+            createArticle("Oil prices rise", "Crude up"),
+            createArticle("Local festival", "Parade"));
+
+        // When
+        List<NewsQualityScore> scores = classifier.evaluateWithAIBatch(articles);
+
+        // Then
+        assertEquals(3, scores.size());
+        assertEquals(9, scores.get(0).getScore());
+        assertEquals(NewsCategory.HIGH_PRIORITY, scores.get(0).getCategory());
+        assertEquals("AI분석: 기준금리 결정", scores.get(0).getReason());
+        assertNull(scores.get(1));
+        assertEquals(NewsCategory.LOW_PRIORITY, scores.get(2).getCategory());
+    }
+
     private ArticleDto createArticle(String title, String description) {
         ArticleDto article = new ArticleDto();
         article.setTitle(title);
@@ -12,6 +12,7 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -194,6 +195,73 @@ class ImportanceRankingServiceTest {
         assertTrue(hasGdpNews || rankedSummaries.size() < 4); // GDP 뉴스 포함되거나 전체가 적어야 함
     }
 
+    @Test
+    void testCalculateImportanceRanking_UsesStoredFeaturesAndSectorQuota() {
+        // Given - 저장된 섹터/가중치가 있으면 본문 대신 그 값을 사용 (maxArticles 5, 섹터 2개 → 섹터당 2건)
+        List<Summary> summaries = Arrays.asList(
+                createSummaryWithFeatures("Stored A1", 9.0, "market_trend", 1.0),
+                createSummaryWithFeatures("Stored A2", 8.0, "market_trend", 1.0),
+                createSummaryWithFeatures("Stored A3", 7.0, "market_trend", 1.0),
+                createSummaryWithFeatures("Stored B1", 4.0, "currency", 2.5),
+                createSummaryWithFeatures("Stored B2", 3.0, "currency", 1.0)
+        );
+
+        // When
+        List<Summary> rankedSummaries = rankingService.calculateImportanceRanking(summaries);
+
+        // Then - A3는 섹터 쿼터로 제외, B1은 저장된 가중치(2.5)로 최상위
+        assertEquals(Arrays.asList("Stored B1", "Stored A1", "Stored A2", "Stored B2"),
+                rankedSummaries.stream().map(summary -> summary.getArticle().getTitle()).collect(Collectors.toList()));
+    }
+
+    @Test
+    void testCalculateImportanceRanking_SourceCapAndDuplicateCluster() {
+        // Given - 소스당 1건, 같은 사건(duplicate_of_id)은 하나만
+        ReflectionTestUtils.setField(rankingService, "maxPerSource", 1);
+        ReflectionTestUtils.setField(rankingService, "clusterPenalty", 1.0);
+        Summary original = createSummaryWithFeatures("Original", 9.0, "market_trend", 1.0);
+        ReflectionTestUtils.setField(original, "id", 1L);
+        Summary duplicate = createSummary("other_wire", "Duplicate", 8.5, Arrays.asList("weather"), LocalDateTime.now());
+        ReflectionTestUtils.setField(duplicate, "id", 2L);
+        ReflectionTestUtils.setField(duplicate, "duplicateOfId", 1L);
+        List<Summary> summaries = Arrays.asList(
+                original,
+                duplicate,
+                createSummaryWithFeatures("Same Source", 8.0, "currency", 1.0),
+                createSummary("economist", "Other Source", 3.0, Arrays.asList("weather"), LocalDateTime.now())
+        );
+
+        // When
+        List<Summary> rankedSummaries = rankingService.calculateImportanceRanking(summaries);
+
+        // Then
+        assertEquals(Arrays.asList("Original", "Other Source"),
+                rankedSummaries.stream().map(summary -> summary.getArticle().getTitle()).collect(Collectors.toList()));
+    }
+
+    @Test
+    void testCalculateImportanceRanking_DuplicateChainIsOneCluster() {
+        // Given - C → B → A로 이어진 중복 기록도 같은 사건 하나로 묶음
+        ReflectionTestUtils.setField(rankingService, "clusterPenalty", 1.0);
+        Summary a = createSummaryWithFeatures("A", 9.0, "market_trend", 1.0);
+        ReflectionTestUtils.setField(a, "id", 1L);
+        Summary b = createSummaryWithFeatures("B", 8.5, "market_trend", 1.0);
+        ReflectionTestUtils.setField(b, "id", 2L);
+        ReflectionTestUtils.setField(b, "duplicateOfId", 1L);
+        Summary c = createSummaryWithFeatures("C", 8.0, "currency", 1.0);
+        ReflectionTestUtils.setField(c, "id", 3L);
+        ReflectionTestUtils.setField(c, "duplicateOfId", 2L);
+        Summary d = createSummaryWithFeatures("D", 5.0, "currency", 1.0);
+        ReflectionTestUtils.setField(d, "id", 4L);
+
+        // When
+        List<Summary> rankedSummaries = rankingService.calculateImportanceRanking(Arrays.asList(c, b, a, d));
+
+        // Then
+        assertEquals(Arrays.asList("A", "D"),
+                rankedSummaries.stream().map(summary -> summary.getArticle().getTitle()).collect(Collectors.toList()));
+    }
+
     // === Helper Methods ===
 
     private List<Summary> createTestSummaries() {
@@ -223,4 +291,12 @@ class ImportanceRankingServiceTest {
         
         return summary;
     }
+
+    private Summary createSummaryWithFeatures(String title, double score, String sector, double keywordWeight) {
+        Summary summary = createSummary("test_source", title, 
+                score, Arrays.asList("weather"), LocalDateTime.now());
+        ReflectionTestUtils.setField(summary, "sector", sector);
+        ReflectionTestUtils.setField(summary, "keywordWeight", keywordWeight);
+        return summary;
+    }
 }
\ No newline at end of file
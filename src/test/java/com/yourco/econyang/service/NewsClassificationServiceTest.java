@@ -0,0 +1,150 @@
+package com.yourco.econyang.service;
+
+import com.yourco.econyang.dto.ArticleDto;
+import com.yourco.econyang.service.EconomicNewsClassifier.NewsCategory;
+import com.yourco.econyang.service.EconomicNewsClassifier.NewsQualityScore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+/**
+ * 분류 단계 테스트 (캐시, 배치 AI, 폴백)
+ */
+@ExtendWith(MockitoExtension.class)
+class NewsClassificationServiceTest {
+
+    @Mock
+    private EconomicNewsClassifier economicNewsClassifier;
+
+    @InjectMocks
+    private NewsClassificationService classificationService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(classificationService, "aiBatchSize", 2);
+        lenient().when(economicNewsClassifier.evaluateWithKeywords(any(ArticleDto.class))).thenAnswer(invocation -> {
+            ArticleDto article = invocation.getArgument(0);
+            return article.getTitle().contains("스포츠")
+                    ? new NewsQualityScore(0, "강력 제외 키워드 포함", NewsCategory.EXCLUDED)
+                    : new NewsQualityScore(3, "키워드", NewsCategory.MEDIUM_PRIORITY);
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        classificationService.shutdown();
+    }
+
+    @Test
+    void should_batch_ai_scoring_and_skip_excluded_articles() {
+        // Given
+        when(economicNewsClassifier.evaluateWithAIBatch(anyList())).thenAnswer(invocation -> {
+            List<ArticleDto> batch = invocation.getArgument(0);
+            List<NewsQualityScore> scores = new ArrayList<>();
+            for (ArticleDto article : batch) {
+                scores.add(new NewsQualityScore(8, "AI분석: " + article.getTitle(), NewsCategory.HIGH_PRIORITY));
+            }
+            return scores;
+        });
+        List<ArticleDto> articles = Arrays.asList(
+                article("a", "금리 인상"), article("b", "스포츠 결과"), article("c", "환율 급등"), article("d", "코스피 마감"));
+
+        // When
+        List<NewsQualityScore> scores = classificationService.classifyAll(articles);
+
+        // Then - 제외된 기사는 AI로 보내지 않고, 나머지 3건은 2건 + 1건으로 묶어 호출
+        assertEquals(Arrays.asList(8, 0, 8, 8), scoresOf(scores));
+        assertEquals(NewsCategory.EXCLUDED, scores.get(1).getCategory());
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ArticleDto>> batches = ArgumentCaptor.forClass(List.class);
+        verify(economicNewsClassifier, times(2)).evaluateWithAIBatch(batches.capture());
+        assertEquals(2, batches.getAllValues().get(0).size());
+        assertEquals(1, batches.getAllValues().get(1).size());
+    }
+
+    @Test
+    void should_fall_back_to_keyword_score_when_ai_fails_or_omits() {
+        // Given
+        when(economicNewsClassifier.evaluateWithAIBatch(anyList()))
+                .thenReturn(Arrays.asList(null, new NewsQualityScore(9, "AI분석", NewsCategory.HIGH_PRIORITY)))
+                .thenThrow(new RuntimeException("timeout"));
+        List<ArticleDto> articles = Arrays.asList(article("a", "금리 인상"), article("b", "환율 급등"), article("c", "코스피 마감"));
+
+        // When
+        List<NewsQualityScore> scores = classificationService.classifyAll(articles);
+
+        // Then
+        assertEquals(Arrays.asList(3, 9, 3), scoresOf(scores));
+    }
+
+    @Test
+    void should_retry_ai_for_keyword_fallbacks_instead_of_caching_them() {
+        // Given - 첫 수집은 AI 실패(키워드 점수 대체), 다음 수집은 AI 성공
+        when(economicNewsClassifier.evaluateWithAIBatch(anyList()))
+                .thenThrow(new RuntimeException("timeout"))
+                .thenReturn(Collections.singletonList(new NewsQualityScore(9, "AI분석", NewsCategory.HIGH_PRIORITY)));
+        List<ArticleDto> articles = Arrays.asList(article("a", "금리 인상"), article("b", "스포츠 결과"));
+
+        // When
+        List<NewsQualityScore> first = classificationService.classifyAll(articles);
+        List<NewsQualityScore> second = classificationService.classifyAll(articles);
+
+        // Then - 제외 기사만 캐시되고, 대체 점수였던 기사는 다시 AI 채점
+        assertEquals(Arrays.asList(3, 0), scoresOf(first));
+        assertEquals(Arrays.asList(9, 0), scoresOf(second));
+        verify(economicNewsClassifier, times(2)).evaluateWithAIBatch(anyList());
+        verify(economicNewsClassifier, times(3)).evaluateWithKeywords(any(ArticleDto.class));
+        assertEquals(2, classificationService.getCacheSize());
+    }
+
+    @Test
+    void should_not_classify_same_unique_id_twice() {
+        // Given
+        ReflectionTestUtils.setField(classificationService, "aiEnabled", false);
+        ArticleDto first = article("mk_123", "금리 인상");
+        ArticleDto refetched = article("mk_123", "금리 인상");
+
+        // When
+        classificationService.classifyAll(Collections.singletonList(first));
+        List<NewsQualityScore> scores = classificationService.classifyAll(Arrays.asList(refetched, article("mk_456", "환율")));
+
+        // Then
+        assertEquals(2, scores.size());
+        assertEquals(2, classificationService.getCacheSize());
+        verify(economicNewsClassifier, times(2)).evaluateWithKeywords(any(ArticleDto.class));
+        verify(economicNewsClassifier, never()).evaluateWithAIBatch(anyList());
+    }
+
+    private static List<Integer> scoresOf(List<NewsQualityScore> scores) {
+        List<Integer> values = new ArrayList<>();
+        for (NewsQualityScore score : scores) {
+            values.add(score.getScore());
+        }
+        return values;
+    }
+
+    private static ArticleDto article(String uniqueId, String title) {
+        ArticleDto article = new ArticleDto();
+        article.setUniqueId(uniqueId);
+        article.setTitle(title);
+        article.setUrl("https://example.com/" + uniqueId);
+        article.setSource("테스트소스");
+        return article;
+    }
+}
@@ -8,13 +8,17 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
 
 /**
  * RssFeedService 단위 테스트
@@ -25,6 +29,9 @@ class RssFeedServiceTest {
     @Mock
     private RssSourcesConfig rssSourcesConfig;
 
+    @Mock
+    private NewsClassificationService newsClassificationService;
+
     @InjectMocks
     private RssFeedService rssFeedService;
 
@@ -67,7 +74,19 @@ class RssFeedServiceTest {
         collectionConfig.setDeduplication(deduplicationConfig);
 
         // Mock setup
-        when(rssSourcesConfig.getCollection()).thenReturn(collectionConfig);
+        lenient().when(rssSourcesConfig.getCollection()).thenReturn(collectionConfig);
+
+        // 분류 단계: 기본은 모든 기사를 경제 뉴스로 채점 (제목 길이/키워드 필터만 검증)
+        lenient().when(newsClassificationService.classifyAll(anyList())).thenAnswer(invocation -> {
+            List<ArticleDto> articles = invocation.getArgument(0);
+            return articles.stream()
+                    .map(article -> new EconomicNewsClassifier.NewsQualityScore(
+                            5, "테스트", EconomicNewsClassifier.NewsCategory.HIGH_PRIORITY))
+                    .collect(Collectors.toList());
+        });
+        // 생성자 주입으로 만들어지므로 필드 주입 대상은 직접 설정
+        ReflectionTestUtils.setField(rssFeedService, "economicNewsClassifier", new EconomicNewsClassifier());
+        ReflectionTestUtils.setField(rssFeedService, "newsClassificationService", newsClassificationService);
     }
 
     @Test
@@ -154,6 +173,7 @@ class RssFeedServiceTest {
         RssSourcesConfig.FilterConfig emptyFilters = new RssSourcesConfig.FilterConfig();
         emptyFilters.setIncludeKeywords(new ArrayList<>());
         emptyFilters.setExcludeKeywords(new ArrayList<>());
+        emptyFilters.setMinTitleLength(1); // 예시 제목은 기본 최소 길이(10자)보다 짧음
 
         // When
         List<ArticleDto> result = rssFeedService.applyFilters(articles, emptyFilters);
@@ -252,6 +272,46 @@ class RssFeedServiceTest {
         assertEquals("적절한 길이의 경제뉴스 제목입니다", result.get(0).getTitle());
     }
 
+    @Test
+    void testApplyFilters_FollowsBatchClassification() {
+        // Given - 키워드로는 모두 통과하는 기사지만 분류 단계(AI 배치) 결과가 달리 판단
+        List<ArticleDto> articles = new ArrayList<>();
+        ArticleDto kept = new ArticleDto();
+        kept.setTitle("한국 경제 성장률 발표");
+        kept.setDescription("올해 경제성장률이 발표되었습니다.");
+        kept.setUrl("https://example.com/kept");
+        articles.add(kept);
+
+        ArticleDto lowScore = new ArticleDto();
+        lowScore.setTitle("기준금리 인상 관련 칼럼");
+        lowScore.setDescription("금리 관련 개인 의견");
+        lowScore.setUrl("https://example.com/low");
+        articles.add(lowScore);
+
+        ArticleDto excluded = new ArticleDto();
+        excluded.setTitle("경제 예능 프로그램 투자 특집");
+        excluded.setDescription("투자 관련 예능");
+        excluded.setUrl("https://example.com/excluded");
+        articles.add(excluded);
+
+        ArticleDto shortTitle = new ArticleDto();
+        shortTitle.setTitle("경제");
+        shortTitle.setUrl("https://example.com/short");
+        articles.add(shortTitle);
+
+        when(newsClassificationService.classifyAll(anyList())).thenReturn(Arrays.asList(
+                new EconomicNewsClassifier.NewsQualityScore(8, "AI: 핵심 경제", EconomicNewsClassifier.NewsCategory.HIGH_PRIORITY),
+                new EconomicNewsClassifier.NewsQualityScore(1, "AI: 관련성 낮음", EconomicNewsClassifier.NewsCategory.LOW_PRIORITY),
+                new EconomicNewsClassifier.NewsQualityScore(9, "AI: 예능", EconomicNewsClassifier.NewsCategory.EXCLUDED)));
+
+        // When
+        List<ArticleDto> result = rssFeedService.applyFilters(articles, testFilters);
+
+        // Then - 분류 점수/카테고리대로 걸러지고, 제목 길이를 통과한 기사만 한 번에 분류
+        assertEquals(Collections.singletonList(kept), result);
+        verify(newsClassificationService, times(1)).classifyAll(Arrays.asList(kept, lowScore, excluded));
+    }
+
     @Test 
     void testApplyFilters_CombinedFilters() {
         // Given
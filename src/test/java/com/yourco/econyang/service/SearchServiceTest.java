@@ -0,0 +1,111 @@
+package com.yourco.econyang.service;
+
+import com.yourco.econyang.dto.SearchHit;
+import com.yourco.econyang.dto.SearchPage;
+import com.yourco.econyang.repository.SearchRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * SearchService 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class SearchServiceTest {
+
+    @Mock
+    private SearchRepository searchRepository;
+
+    private SearchService searchService;
+
+    @BeforeEach
+    void setUp() {
+        searchService = new SearchService(searchRepository);
+    }
+
+    @Test
+    void testToTsQuery() {
+        assertEquals("금리:* & 인상:*", SearchService.toTsQuery("금리 인상"));
+        // tsquery 연산자/구두점은 구분자로 취급, 중복 단어 제거
+        assertEquals("fed:* & rate:* & 금리:*", SearchService.toTsQuery("Fed rate & (금리) | FED!"));
+        assertNull(SearchService.toTsQuery("  &|!:*() "));
+        assertNull(SearchService.toTsQuery(null));
+    }
+
+    @Test
+    void testSearchArticles_PagesWithLookahead() {
+        // Given - size+1건이 오면 다음 페이지 있음
+        when(searchRepository.searchArticles(eq("환율:*"), eq(LocalDateTime.of(2024, 1, 1, 0, 0)),
+                eq(LocalDateTime.of(2024, 2, 1, 0, 0)), eq(3), eq(2))).thenReturn(hits(3));
+
+        // When
+        SearchPage<SearchHit> page = searchService.searchArticles("환율",
+                LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 31), 1, 2);
+
+        // Then
+        assertEquals(2, page.getItems().size());
+        assertTrue(page.isHasNext());
+        assertEquals(1, page.getPage());
+    }
+
+    @Test
+    void testSearchSummaries_LastPageAndClampedSize() {
+        // Given
+        when(searchRepository.searchSummaries(eq("반도체:*"), isNull(), isNull(),
+                eq(SearchService.MAX_PAGE_SIZE + 1), eq(0))).thenReturn(hits(2));
+
+        // When
+        SearchPage<SearchHit> page = searchService.searchSummaries("반도체", null, null, -1, 1000);
+
+        // Then
+        assertEquals(2, page.getItems().size());
+        assertFalse(page.isHasNext());
+        assertEquals(SearchService.MAX_PAGE_SIZE, page.getSize());
+    }
+
+    @Test
+    void testBlankQueriesSkipRepository() {
+        assertTrue(searchService.searchArticles("   ", null, null, 0, 20).getItems().isEmpty());
+        assertTrue(searchService.findSimilarTitles("ab", 10).isEmpty());
+        verify(searchRepository, never()).searchArticles(anyString(), any(), any(), anyInt(), anyInt());
+        verify(searchRepository, never()).findSimilarTitles(anyString(), anyInt());
+    }
+
+    @Test
+    void testDeepPagesSkipRepository() {
+        // Given - page * size가 int 범위를 넘는 페이지
+        SearchPage<SearchHit> articles = searchService.searchArticles("환율", null, null, Integer.MAX_VALUE, 50);
+        SearchPage<SearchHit> summaries = searchService.searchSummaries("환율", null, null,
+                SearchService.MAX_PAGE_INDEX + 1, 20);
+
+        // Then - 빈 페이지, 음수 OFFSET 조회 없음
+        assertTrue(articles.getItems().isEmpty());
+        assertFalse(articles.isHasNext());
+        assertEquals(Integer.MAX_VALUE, articles.getPage());
+        assertTrue(summaries.getItems().isEmpty());
+        verify(searchRepository, never()).searchArticles(anyString(), any(), any(), anyInt(), anyInt());
+        verify(searchRepository, never()).searchSummaries(anyString(), any(), any(), anyInt(), anyInt());
+    }
+
+    private static List<SearchHit> hits(int count) {
+        List<SearchHit> hits = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            hits.add(new SearchHit((long) i, null, "테스트", "https://test.com/" + i, "기사 " + i,
+                    null, null, null, 1.0 - i * 0.1));
+        }
+        return hits;
+    }
+}
@@ -0,0 +1,90 @@
+package com.yourco.econyang.service;
+
+import com.yourco.econyang.config.RssSourcesConfig;
+import com.yourco.econyang.dto.ArticleDto;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 의미 중복 제거 테스트
+ */
+class SemanticDedupServiceTest {
+
+    private final SemanticDedupService service = new SemanticDedupService();
+
+    @Test
+    void should_keep_one_representative_per_story() {
+        List<ArticleDto> articles = Arrays.asList(
+                article("Bloomberg", "Fed holds interest rates steady, signals two cuts later this year",
+                        "<p>The Federal Reserve kept its benchmark rate unchanged on Wednesday</p>"),
+                article("Financial Times", "Federal Reserve keeps rates unchanged, still sees two rate cuts in 2025",
+                        "US central bank held its policy rate steady"),
+                article("Investing.com", "Apple reports record iPhone sales in quarterly earnings", null),
+                article("Investing.com", "Fed leaves rates on hold as it projects two cuts this year", null));
+
+        List<ArticleDto> result = service.clusterAndSelect(articles, new RssSourcesConfig.DeduplicationConfig());
+
+        assertEquals(2, result.size());
+        assertEquals("Bloomberg", result.get(0).getSource());
+        assertTrue(result.get(1).getTitle().startsWith("Apple"));
+    }
+
+    @Test
+    void should_prefer_member_with_published_date() {
+        ArticleDto undated = article("A", "Fed holds interest rates steady, signals two cuts later this year", null);
+        ArticleDto dated = article("B", "Fed leaves rates on hold as it projects two cuts this year", null);
+        dated.setPublishedAt(LocalDateTime.now());
+
+        List<ArticleDto> result = service.clusterAndSelect(Arrays.asList(undated, dated),
+                new RssSourcesConfig.DeduplicationConfig());
+
+        assertEquals(1, result.size());
+        assertSame(dated, result.get(0));
+    }
+
+    @Test
+    void should_respect_threshold_and_source_scope() {
+        List<ArticleDto> articles = Arrays.asList(
+                article("A", "Fed holds interest rates steady, signals two cuts later this year", null),
+                article("B", "Fed leaves rates on hold as it projects two cuts this year", null));
+
+        RssSourcesConfig.DeduplicationConfig strict = new RssSourcesConfig.DeduplicationConfig();
+        strict.setSemanticSimilarityThreshold(0.95);
+        assertEquals(2, service.clusterAndSelect(articles, strict).size());
+
+        RssSourcesConfig.DeduplicationConfig withinSource = new RssSourcesConfig.DeduplicationConfig();
+        withinSource.setDedupWithinSourceOnly(true);
+        assertEquals(2, service.clusterAndSelect(articles, withinSource).size());
+    }
+
+    @Test
+    void should_find_same_source_duplicate_behind_closer_cross_source_match() {
+        // C는 다른 소스 B와 제목이 같아 가장 가깝지만, 같은 소스만 묶을 때는 같은 소스 A와 비교해야 함
+        List<ArticleDto> articles = Arrays.asList(
+                article("A", "Fed holds interest rates steady, signals two cuts later this year", null),
+                article("B", "Fed leaves rates on hold as it projects two cuts this year", null),
+                article("A", "Fed leaves rates on hold as it projects two cuts this year", null));
+
+        RssSourcesConfig.DeduplicationConfig withinSource = new RssSourcesConfig.DeduplicationConfig();
+        withinSource.setDedupWithinSourceOnly(true);
+        List<ArticleDto> result = service.clusterAndSelect(articles, withinSource);
+
+        assertEquals(2, result.size());
+        assertEquals("A", result.get(0).getSource());
+        assertEquals("B", result.get(1).getSource());
+    }
+
+    private static ArticleDto article(String source, String title, String description) {
+        ArticleDto article = new ArticleDto();
+        article.setSource(source);
+        article.setTitle(title);
+        article.setUrl("https://example.com/" + Math.abs(title.hashCode()));
+        article.setDescription(description);
+        return article;
+    }
+}
@@ -0,0 +1,59 @@
+package com.yourco.econyang.service;
+
+import com.yourco.econyang.repository.SummaryDuplicateRepository;
+import com.yourco.econyang.repository.SummaryDuplicateRepository.BatchResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * SummaryDuplicateService 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class SummaryDuplicateServiceTest {
+
+    @Mock
+    private SummaryDuplicateRepository summaryDuplicateRepository;
+
+    @InjectMocks
+    private SummaryDuplicateService service;
+
+    @Test
+    void testDetectNewDuplicates_StopsAtPartialBatch() {
+        // Given - 200, 200, 35건 (마지막 묶음이 덜 차면 종료)
+        when(summaryDuplicateRepository.detectNextBatch(eq(200), eq(7), eq(0.6)))
+                .thenReturn(new BatchResult(200, 3), new BatchResult(200, 1), new BatchResult(35, 0));
+
+        // When
+        BatchResult result = service.detectNewDuplicates();
+
+        // Then
+        assertEquals(435, result.getChecked());
+        assertEquals(4, result.getDuplicates());
+        verify(summaryDuplicateRepository, times(3)).detectNextBatch(anyInt(), anyInt(), anyDouble());
+    }
+
+    @Test
+    void testDetectNewDuplicates_LimitsBatchesPerRun() {
+        // Given - 밀린 요약이 계속 꽉 찬 묶음으로 나와도 maxBatches에서 멈춤
+        ReflectionTestUtils.setField(service, "maxBatches", 2);
+        when(summaryDuplicateRepository.detectNextBatch(anyInt(), anyInt(), anyDouble()))
+                .thenReturn(new BatchResult(200, 0));
+
+        // When
+        BatchResult result = service.detectNewDuplicates();
+
+        // Then
+        assertEquals(400, result.getChecked());
+        verify(summaryDuplicateRepository, times(2)).detectNextBatch(anyInt(), anyInt(), anyDouble());
+    }
+}
@@ -230,4 +230,55 @@ class ArticleIdExtractorTest {
         System.out.println("  No ID: " + noIdResult);
         System.out.println("  Invalid: " + invalidResult);
     }
-}
\ No newline at end of file
+    
+    @Test
+    void should_dispatch_by_host_regardless_of_source_code() {
+        // given - 설정 파일의 실제 Investing.com 소스 코드 (investing_stock 등)
+        String url = "https://kr.investing.com/news/stock-market-news/article-1234567";
+        
+        // when
+        String id = ArticleIdExtractor.extractUniqueId("investing_stock", url);
+        
+        // then
+        assertEquals("investing_1234567", id);
+    }
+    
+    @Test
+    void should_apply_config_declared_rule_for_source() {
+        // given - 호스트 없이 소스 코드로만 선언된 규칙
+        ArticleIdExtractor.registerRule("config_rule_test",
+                new PatternArticleIdRule(null, "/articles/([a-z0-9]+)", "cfg"));
+        String url = "https://config-test.example.com/news/articles/c0l2xyz9";
+        
+        // when
+        String id = ArticleIdExtractor.extractUniqueId("config_rule_test", url);
+        String otherSourceId = ArticleIdExtractor.extractUniqueId("other_source", url);
+        
+        // then
+        assertEquals("cfg_c0l2xyz9", id);
+        assertTrue(otherSourceId.startsWith("hash_"));
+    }
+    
+    @Test
+    void should_apply_registered_host_rule_to_subdomains() {
+        // given
+        ArticleIdExtractor.registerRule(null,
+                new PatternArticleIdRule("host-rule-test.example.org", "-(\\d{6,})(?:[/?#]|$)", "hosttest"));
+        
+        // when
+        String id = ArticleIdExtractor.extractUniqueId("any_source",
+                "https://www.host-rule-test.example.org/news/business-66123456");
+        String lookalikeId = ArticleIdExtractor.extractUniqueId("any_source",
+                "https://nothost-rule-test.example.org/news/business-66123456");
+        
+        // then
+        assertEquals("hosttest_66123456", id);
+        assertTrue(lookalikeId.startsWith("hash_"));
+    }
+    
+    @Test
+    void should_reject_pattern_rule_without_capture_group() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new PatternArticleIdRule("example.com", "\\d+", "bad"));
+    }
+}
@@ -0,0 +1,74 @@
+package com.yourco.econyang.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompiledTemplateTest {
+
+    @Test
+    void should_render_variables_loops_and_conditionals() {
+        CompiledTemplate template = CompiledTemplate.compile(
+                "# {{date}}\n{{#headlines}}• {{this}}\n{{/headlines}}"
+                        + "{{#links}}- {{index}}. {{title}} ({{date}})\n{{/links}}"
+                        + "{{#if hasCritical}}긴급!{{/if}}{{#if glossary}}용어{{/if}}");
+
+        Map<String, Object> vars = new HashMap<>();
+        vars.put("date", "5월 1일");
+        vars.put("headlines", Arrays.asList("1. 금리", "2. 환율"));
+        vars.put("links", Collections.singletonList(link("1", "금리 동결")));
+        vars.put("hasCritical", true);
+        vars.put("glossary", Collections.emptyList());
+
+        assertEquals("# 5월 1일\n• 1. 금리\n• 2. 환율\n- 1. 금리 동결 (5월 1일)\n긴급!", template.render(vars));
+    }
+
+    @Test
+    void should_keep_unknown_and_unmatched_tags_verbatim() {
+        CompiledTemplate template = CompiledTemplate.compile(
+                "{{missing}}|{{#each items}}{{name}} {{date}}{{/each}}|{{#keywords}}#{{this}}{{/keywords}}|{{#if open}}x");
+
+        Map<String, Object> vars = new HashMap<>();
+        vars.put("date", "오늘");
+        vars.put("keywords", "금리, 환율"); // 리스트가 아니면 반복하지 않음
+        vars.put("open", true);
+
+        assertEquals("{{missing}}|{{#each items}}{{name}} 오늘{{/each}}|{{#keywords}}#{{this}}{{/keywords}}|{{#if open}}x",
+                template.render(vars));
+    }
+
+    @Test
+    void should_nest_conditionals_and_loops() {
+        CompiledTemplate template = CompiledTemplate.compile(
+                "{{#if glossary}}용어:{{#glossary}} {{term}}={{definition}}{{/glossary}}{{/if}}{{nullable}}.");
+
+        Map<String, Object> vars = new HashMap<>();
+        vars.put("glossary", Arrays.asList(term("GDP", "국내총생산"), term("CPI", "소비자물가지수")));
+        vars.put("nullable", null);
+
+        StringBuilder out = new StringBuilder("> ");
+        template.renderTo(out, vars);
+        assertEquals("> 용어: GDP=국내총생산 CPI=소비자물가지수.", out.toString());
+        assertTrue(template.getSizeHint() > 0);
+        assertEquals("", CompiledTemplate.compile(null).render(vars));
+    }
+
+    private static Map<String, String> link(String index, String title) {
+        Map<String, String> link = new HashMap<>();
+        link.put("index", index);
+        link.put("title", title);
+        return link;
+    }
+
+    private static Map<String, String> term(String term, String definition) {
+        Map<String, String> item = new HashMap<>();
+        item.put("term", term);
+        item.put("definition", definition);
+        return item;
+    }
+}
@@ -0,0 +1,115 @@
+package com.yourco.econyang.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DateScannerTest {
+
+    @Test
+    void should_scan_iso_datetime_with_high_confidence() {
+        Optional<DateScanner.ScannedDate> result = DateScanner.scanText("Last edit 2025-08-25T14:30:00Z by desk");
+
+        assertTrue(result.isPresent());
+        assertEquals(DateScanner.Confidence.HIGH, result.get().getConfidence());
+        assertEquals(LocalDateTime.of(2025, 8, 25, 14, 30), result.get().toDateTime(LocalTime.NOON));
+    }
+
+    @Test
+    void should_scan_korean_date() {
+        Optional<DateScanner.ScannedDate> result = DateScanner.scanText("오늘의 뉴스 2025년 8월 25일 월요일");
+
+        assertTrue(result.isPresent());
+        assertEquals("ko", result.get().getGrammar());
+        assertEquals(LocalDateTime.of(2025, 8, 25, 12, 0), result.get().toDateTime(LocalTime.NOON));
+    }
+
+    @Test
+    void should_scan_dotted_and_slash_dates() {
+        assertEquals(LocalDateTime.of(2025, 8, 25, 0, 0),
+                DateScanner.scanText("2025.08.25").get().toDateTime(LocalTime.MIDNIGHT));
+        assertEquals(LocalDateTime.of(2025, 8, 25, 0, 0),
+                DateScanner.scanText("on 2025/8/25").get().toDateTime(LocalTime.MIDNIGHT));
+    }
+
+    @Test
+    void should_scan_english_month_names() {
+        assertEquals(LocalDateTime.of(2025, 8, 25, 0, 0),
+                DateScanner.scanText("August 25, 2025").get().toDateTime(LocalTime.MIDNIGHT));
+        assertEquals(LocalDateTime.of(2025, 8, 25, 0, 0),
+                DateScanner.scanText("25 Aug 2025").get().toDateTime(LocalTime.MIDNIGHT));
+        assertEquals(LocalDateTime.of(2025, 9, 3, 0, 0),
+                DateScanner.scanText("Sept. 3 2025").get().toDateTime(LocalTime.MIDNIGHT));
+    }
+
+    @Test
+    void should_scan_relative_time() {
+        LocalDateTime before = LocalDateTime.now().minusHours(3).minusMinutes(1);
+
+        Optional<DateScanner.ScannedDate> english = DateScanner.scanText("Updated 3 hours ago");
+        Optional<DateScanner.ScannedDate> korean = DateScanner.scanText("3시간 전");
+
+        assertTrue(english.isPresent());
+        assertEquals(DateScanner.Confidence.LOW, english.get().getConfidence());
+        assertTrue(english.get().toDateTime(LocalTime.NOON).isAfter(before));
+        assertTrue(korean.isPresent());
+        assertEquals("relative", korean.get().getGrammar());
+    }
+
+    @Test
+    void should_prefer_labeled_date_over_earlier_unlabeled_date() {
+        String text = "Today 2025년 8월 30일 | Related: August 1, 2025 | 발행일: 2025.08.25 | 2025.08.20";
+
+        Optional<DateScanner.ScannedDate> result = DateScanner.scanText(text);
+
+        assertTrue(result.isPresent());
+        assertEquals(DateScanner.Confidence.HIGH, result.get().getConfidence());
+        assertEquals(25, result.get().toDateTime(LocalTime.NOON).getDayOfMonth());
+    }
+
+    @Test
+    void should_ignore_unlabeled_dates_when_labeled_only() {
+        Optional<DateScanner.ScannedDate> unlabeled = DateScanner.scanHtml(
+                "<div>2025년 8월 25일</div>", DateScanner.DEFAULT_SCAN_LIMIT, true);
+        Optional<DateScanner.ScannedDate> labeled = DateScanner.scanHtml(
+                "<div>Published on: <span>Aug 25, 2025</span></div>", DateScanner.DEFAULT_SCAN_LIMIT, true);
+
+        assertFalse(unlabeled.isPresent());
+        assertTrue(labeled.isPresent());
+    }
+
+    @Test
+    void should_skip_tags_scripts_and_styles() {
+        String html = "<html><head><style>.a{}</style><script>var d='2025-08-01T00:00:00';</script></head>"
+                + "<body><a href=\"/2025/08/02/x\">link</a><p>작성일 : 2025-08-25</p></body></html>";
+
+        Optional<DateScanner.ScannedDate> result = DateScanner.scanHtml(html);
+
+        assertTrue(result.isPresent());
+        assertEquals(25, result.get().toDateTime(LocalTime.NOON).getDayOfMonth());
+    }
+
+    @Test
+    void should_only_scan_document_head() {
+        StringBuilder html = new StringBuilder("<p>");
+        for (int i = 0; i < 2000; i++) {
+            html.append("lorem ipsum ");
+        }
+        html.append("Published 2025-08-25T10:00:00</p>");
+
+        assertFalse(DateScanner.scanHtml(html.toString(), 1024, false).isPresent());
+        assertTrue(DateScanner.scanHtml(html.toString()).isPresent());
+    }
+
+    @Test
+    void should_reject_invalid_and_future_dates() {
+        assertFalse(DateScanner.scanText("2025-02-31").isPresent());
+        assertFalse(DateScanner.scanText("1999.12.31").isPresent());
+        assertFalse(DateScanner.scanText(LocalDateTime.now().plusYears(1).toLocalDate().toString()).isPresent());
+        assertFalse(DateScanner.scanText("version 12345678").isPresent());
+    }
+}
@@ -0,0 +1,208 @@
+package com.yourco.econyang.util;
+
+import org.junit.jupiter.api.Test;
+import org.yaml.snakeyaml.Yaml;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * digest-template.yml의 템플릿을 고정 변수로 렌더링해 저장된 기대 결과(src/test/resources/digest-golden)와 비교
+ *
+ * 기대 결과는 CompiledTemplate 도입 전 문자열 치환 방식 렌더러의 출력이다.
+ * 변수 구성은 DigestTemplateService.prepare와 같은 형태(헤더/푸터 공통 변수 + 기사별 변수)를 따른다.
+ */
+class DigestTemplateGoldenTest {
+
+    private static final String TEMPLATE_CONFIG = "/config/digest-template.yml";
+    private static final String GOLDEN_DIR = "/digest-golden/";
+
+    @Test
+    void should_render_shipped_templates_as_before() {
+        Map<String, Map<String, Object>> templates = loadTemplates();
+        assertEquals(Arrays.asList("default", "clean", "mobile", "friendly", "simple", "detailed"),
+                new ArrayList<>(templates.keySet()));
+
+        for (Map.Entry<String, Map<String, Object>> entry : templates.entrySet()) {
+            String expected = read(GOLDEN_DIR + entry.getKey() + ".md");
+
+            assertEquals(expected, render(entry.getValue()), entry.getKey());
+        }
+    }
+
+    /**
+     * DigestTemplateService.renderMarkdown과 같은 순서로 헤더, 기사 항목, 푸터를 이어 붙임
+     */
+    private static String render(Map<String, Object> template) {
+        StringBuilder digest = new StringBuilder();
+        CompiledTemplate.compile((String) template.get("header")).renderTo(digest, digestVariables());
+        digest.append("\n");
+        for (Map<String, Object> articleVars : articleVariables()) {
+            CompiledTemplate.compile((String) template.get("articleItem")).renderTo(digest, articleVars);
+            digest.append("\n");
+        }
+        CompiledTemplate.compile((String) template.get("footer")).renderTo(digest, digestVariables());
+        return digest.toString();
+    }
+
+    /**
+     * dev/prod 프로필 문서(첫 번째 문서)의 digest.templates
+     */
+    @SuppressWarnings("unchecked")
+    static Map<String, Map<String, Object>> loadTemplates() {
+        try (InputStream in = DigestTemplateGoldenTest.class.getResourceAsStream(TEMPLATE_CONFIG)) {
+            assertNotNull(in, TEMPLATE_CONFIG);
+            Map<String, Object> document = (Map<String, Object>) new Yaml().loadAll(in).iterator().next();
+            Map<String, Object> digest = (Map<String, Object>) document.get("digest");
+            return new LinkedHashMap<>((Map<String, Map<String, Object>>) digest.get("templates"));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static Map<String, Object> digestVariables() {
+        Map<String, Object> vars = new HashMap<>();
+        vars.put("date", "2024년 5월 1일");
+        vars.put("time", "07:00");
+        vars.put("currentDateTime", "2024-05-01 07:00:00");
+        vars.put("nextDigestTime", "내일 아침 7시");
+
+        vars.put("totalArticles", 2);
+        vars.put("totalSummaries", 2);
+        vars.put("totalCollected", 2);
+        vars.put("totalAnalyzed", 2);
+        vars.put("minImportance", 5);
+        vars.put("avgImportance", new BigDecimal("7.0"));
+        vars.put("avgConfidence", new BigDecimal("8.0"));
+
+        vars.put("positiveNews", 1);
+        vars.put("negativeNews", 0);
+        vars.put("neutralNews", 1);
+        vars.put("criticalCount", 1);
+        vars.put("veryHighCount", 0);
+        vars.put("highCount", 0);
+        vars.put("mediumCount", 1);
+        vars.put("lowCount", 0);
+        vars.put("positivePercent", "50.0");
+        vars.put("negativePercent", "0.0");
+        vars.put("neutralPercent", "50.0");
+        vars.put("criticalPercent", "50.0");
+        vars.put("veryHighPercent", "0.0");
+        vars.put("highPercent", "0.0");
+        vars.put("mediumPercent", "50.0");
+        vars.put("lowPercent", "0.0");
+
+        vars.put("extractSuccessRate", "95.0");
+        vars.put("analysisSuccessRate", "98.0");
+        vars.put("selectionRate", "80.0");
+        vars.put("hasHighImportanceNews", true);
+        vars.put("hasCriticalNews", true);
+        vars.put("highImportanceCount", 1);
+        vars.put("overallAssessment", "전반적으로 안정적인 경제 상황이 유지되고 있으나, 일부 정책 변화에 주목할 필요가 있습니다.");
+
+        vars.put("headlines", Arrays.asList("1. 한은 기준금리 3.5% 동결", "2. 코스피 외국인 순매수에 상승"));
+        vars.put("links", Arrays.asList(
+                link("1", "한은 기준금리 3.5% 동결", "https://test.com/rate"),
+                link("2", "코스피 외국인 순매수에 상승", "https://test.com/kospi")));
+        return vars;
+    }
+
+    /**
+     * 중요도 9(배경 설명, 용어 사전 있음)와 중요도 5(용어 없음) 기사
+     */
+    static List<Map<String, Object>> articleVariables() {
+        Map<String, Object> first = article(1, "한은 기준금리 3.5% 동결", "https://test.com/rate", "연합뉴스", "09:30",
+                "한국은행이 기준금리를 3.5%로 동결했다. 물가 상승률이 여전히 목표를 웃돈다는 판단이다.",
+                "대출 금리 하락이 늦어질 수 있다. 환율 변동성에도 영향을 준다.",
+                9, "높음", "매우 높음", "기준금리, 물가, 환율");
+        first.put("context", "특별히 주목할 만한 중요 뉴스입니다.");
+        first.put("glossary", Arrays.asList(
+                term("기준금리", "중앙은행이 시중 금리의 기준으로 정하는 정책 금리"),
+                term("환율", "서로 다른 두 나라 화폐의 교환 비율")));
+
+        Map<String, Object> second = article(2, "코스피 외국인 순매수에 상승", "https://test.com/kospi", "매일경제", "15:40",
+                "코스피가 외국인 순매수에 힘입어 1.2% 상승 마감했다.",
+                "반도체 업종 수급 개선 신호로 볼 수 있다.",
+                5, "보통", "보통", "경제, 뉴스");
+        second.put("glossary", Collections.emptyList());
+
+        return Arrays.asList(first, second);
+    }
+
+    private static Map<String, Object> article(int rank, String title, String url, String source, String time,
+                                               String summary, String analysis, int score,
+                                               String marketImpact, String investorInterest, String keywords) {
+        Map<String, Object> vars = new HashMap<>();
+        vars.put("title", title);
+        vars.put("url", url);
+        vars.put("source", source);
+        vars.put("author", "기자명 미상");
+        vars.put("publishedTime", time);
+        vars.put("aiSummary", summary);
+        vars.put("aiAnalysis", analysis);
+        vars.put("aiSummaryFormatted", sentences(summary));
+        vars.put("aiAnalysisFormatted", sentences(analysis));
+        vars.put("contextFormatted", sentences("관련 배경: " + analysis));
+        vars.put("importanceScore", score);
+        vars.put("confidenceScore", 8);
+        vars.put("importance", rank);
+        vars.put("marketImpact", marketImpact);
+        vars.put("investorInterest", investorInterest);
+        vars.put("economicSectors", "금융, 증권");
+        vars.put("marketImpact_high", "높음".equals(marketImpact));
+        vars.put("marketImpact_medium", "보통".equals(marketImpact));
+        vars.put("marketImpact_low", "낮음".equals(marketImpact));
+        vars.put("keywords", keywords);
+        return vars;
+    }
+
+    private static List<String> sentences(String text) {
+        List<String> sentences = new ArrayList<>();
+        for (String sentence : text.split("(?<=\\.) ")) {
+            sentences.add(sentence.trim());
+        }
+        return sentences;
+    }
+
+    private static Map<String, String> link(String index, String title, String url) {
+        Map<String, String> link = new HashMap<>();
+        link.put("index", index);
+        link.put("title", title);
+        link.put("url", url);
+        return link;
+    }
+
+    private static Map<String, String> term(String term, String definition) {
+        Map<String, String> entry = new HashMap<>();
+        entry.put("term", term);
+        entry.put("definition", definition);
+        return entry;
+    }
+
+    private static String read(String resource) {
+        try (InputStream in = DigestTemplateGoldenTest.class.getResourceAsStream(resource)) {
+            assertNotNull(in, resource);
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return new String(out.toByteArray(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
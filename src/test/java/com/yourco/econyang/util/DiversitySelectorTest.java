@@ -0,0 +1,81 @@
+package com.yourco.econyang.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DiversitySelectorTest {
+
+    @Test
+    void should_select_by_score_with_input_order_for_ties() {
+        DiversitySelector selector = new DiversitySelector(0, 0, 0.0);
+
+        List<String> selected = items(selector.select(Arrays.asList(
+                candidate("a", 5.0, "s1", "src1", null, 0),
+                candidate("b", 9.0, "s1", "src1", null, 1),
+                candidate("c", 5.0, "s2", "src2", null, 2),
+                candidate("d", 7.0, "s2", "src2", null, 3)), 3));
+
+        assertEquals(Arrays.asList("b", "d", "a"), selected);
+    }
+
+    @Test
+    void should_respect_sector_and_source_caps() {
+        DiversitySelector selector = new DiversitySelector(2, 1, 0.0);
+
+        List<String> selected = items(selector.select(Arrays.asList(
+                candidate("m1", 10.0, "market", "bbc", null, 0),
+                candidate("m2", 9.0, "market", "bbc", null, 1),      // 소스 제한
+                candidate("m3", 8.0, "market", "ft", null, 2),
+                candidate("m4", 7.0, "market", "economist", null, 3), // 섹터 제한
+                candidate("g1", 1.0, "gdp", "kotra", null, 4)), 5));
+
+        assertEquals(Arrays.asList("m1", "m3", "g1"), selected);
+    }
+
+    @Test
+    void should_penalize_same_cluster_lazily() {
+        DiversitySelector selector = new DiversitySelector(0, 0, 0.5);
+
+        List<DiversitySelector.Selected<String>> selected = selector.select(Arrays.asList(
+                candidate("story1-a", 10.0, "s", "src1", 1L, 0),
+                candidate("story1-b", 9.0, "s", "src2", 1L, 1),  // 감점 후 4.5
+                candidate("story2", 6.0, "s", "src3", 2L, 2),
+                candidate("story1-c", 8.0, "s", "src4", 1L, 3)), 3);
+
+        assertEquals(Arrays.asList("story1-a", "story2", "story1-b"), items(selected));
+        assertEquals(4.5, selected.get(2).getAdjustedScore(), 1e-9);
+    }
+
+    @Test
+    void should_keep_one_per_cluster_with_full_penalty() {
+        DiversitySelector selector = new DiversitySelector(0, 0, 1.0);
+
+        List<String> selected = items(selector.select(Arrays.asList(
+                candidate("a1", 10.0, "s", "src", 1L, 0),
+                candidate("a2", 9.0, "s", "src", 1L, 1),
+                candidate("b1", 1.0, "s", "src", 2L, 2)), 3));
+
+        assertEquals(Arrays.asList("a1", "b1"), selected);
+    }
+
+    @Test
+    void should_reject_invalid_penalty() {
+        assertThrows(IllegalArgumentException.class, () -> new DiversitySelector(0, 0, 1.5));
+        assertTrue(new DiversitySelector(0, 0, 0.0).select(new ArrayList<DiversitySelector.Candidate<String>>(), 3).isEmpty());
+    }
+
+    private static DiversitySelector.Candidate<String> candidate(String item, double score, String sector,
+                                                                 String source, Object cluster, int order) {
+        return new DiversitySelector.Candidate<>(item, score, sector, source, cluster, order);
+    }
+
+    private static List<String> items(List<DiversitySelector.Selected<String>> selected) {
+        return selected.stream().map(DiversitySelector.Selected::getItem).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,75 @@
+package com.yourco.econyang.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HashingTextEmbedderTest {
+
+    private final HashingTextEmbedder embedder = new HashingTextEmbedder();
+
+    @Test
+    void should_place_same_story_closer_than_unrelated_story() {
+        float[] fed = embedder.embed("Fed holds interest rates steady, signals two cuts later this year");
+        float[] fedOther = embedder.embed("Fed leaves rates on hold as it projects two cuts this year");
+        float[] apple = embedder.embed("Apple reports record iPhone sales in quarterly earnings");
+
+        assertTrue(HashingTextEmbedder.cosine(fed, fedOther) > 0.5);
+        assertTrue(HashingTextEmbedder.cosine(fed, apple) < 0.2);
+    }
+
+    @Test
+    void should_match_korean_inflections() {
+        float[] a = embedder.embed("한국은행, 기준금리 연 3.50%로 동결");
+        float[] b = embedder.embed("한은 기준금리 3.5% 동결…물가 불확실성 고려");
+        float[] c = embedder.embed("코스피, 외국인 매수에 2,600선 회복");
+
+        assertTrue(HashingTextEmbedder.cosine(a, b) > HashingTextEmbedder.cosine(a, c) + 0.2);
+    }
+
+    @Test
+    void should_return_normalized_or_zero_vectors() {
+        float[] vector = embedder.embed("Oil prices jump");
+        assertEquals(1.0, HashingTextEmbedder.cosine(vector, vector), 1e-4);
+
+        float[] empty = embedder.embed("the of and");
+        assertEquals(0.0, HashingTextEmbedder.cosine(empty, empty), 0.0);
+        assertEquals(HashingTextEmbedder.DEFAULT_DIMENSION, embedder.embed(null).length);
+    }
+
+    @Test
+    void should_load_token_weights_from_file(@TempDir Path dir) throws Exception {
+        Path weights = dir.resolve("weights.tsv");
+        Files.write(weights, Arrays.asList("# 토큰 가중치", "stocks\t0", "broken line"), StandardCharsets.UTF_8);
+
+        HashingTextEmbedder loaded = HashingTextEmbedder.load(weights, 256);
+
+        assertEquals(256, loaded.getDimension());
+        float[] a = loaded.embed("Stocks oil");
+        float[] b = loaded.embed("Stocks gold");
+        assertEquals(0.0, HashingTextEmbedder.cosine(a, b), 0.2);
+    }
+
+    @Test
+    void should_find_nearest_vector_in_index() {
+        VectorIndex<String> index = new VectorIndex<>(embedder.getDimension());
+        assertNull(index.nearest(embedder.embed("anything")));
+
+        // 초기 용량(16)을 넘겨 배열 확장까지 확인
+        for (int i = 0; i < 20; i++) {
+            index.add(embedder.embed("unrelated filler headline number " + i + " zz" + i), "filler" + i);
+        }
+        index.add(embedder.embed("Crude oil rises on Middle East supply fears"), "oil");
+
+        VectorIndex.Match<String> match = index.nearest(embedder.embed("Oil prices jump as Middle East tensions escalate"));
+        assertEquals(21, index.size());
+        assertEquals("oil", match.getPayload());
+        assertThrows(IllegalArgumentException.class, () -> index.add(new float[3], "bad"));
+    }
+}
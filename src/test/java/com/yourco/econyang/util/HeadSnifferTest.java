@@ -0,0 +1,150 @@
+package com.yourco.econyang.util;
+
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okio.Buffer;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HeadSnifferTest {
+
+    private static final String HEAD = "<html><head><title>t</title>"
+            + "<meta property=\"article:published_time\" content=\"2025-08-25T09:00:00+09:00\"></head>";
+
+    private static String page(int bodyBytes) {
+        StringBuilder html = new StringBuilder(HEAD).append("<body>");
+        while (html.length() < bodyBytes) {
+            html.append("<p>본문 내용 문단입니다.</p>");
+        }
+        return html.append("</body></html>").toString();
+    }
+
+    @Test
+    void should_stop_at_head_close() throws Exception {
+        byte[] bytes = page(200 * 1024).getBytes(StandardCharsets.UTF_8);
+
+        HeadSniffer sniffer = new HeadSniffer(HeadSniffer.DEFAULT_HEAD_MAX_BYTES)
+                .readFrom(new ByteArrayInputStream(bytes));
+
+        assertTrue(sniffer.isHeadComplete());
+        assertFalse(sniffer.isBodyRead());
+        assertTrue(sniffer.getBytesRead() < 16 * 1024);
+        assertTrue(sniffer.toHtml().contains("article:published_time"));
+    }
+
+    @Test
+    void should_stop_at_byte_cap_without_head_close() throws Exception {
+        byte[] bytes = new byte[100 * 1024];
+        Arrays.fill(bytes, (byte) 'a');
+
+        HeadSniffer sniffer = new HeadSniffer(4096).readFrom(new ByteArrayInputStream(bytes));
+
+        assertFalse(sniffer.isHeadComplete());
+        assertEquals(4096, sniffer.getBytesRead());
+    }
+
+    @Test
+    void should_continue_into_body_when_head_is_not_enough() throws Exception {
+        byte[] bytes = page(200 * 1024).getBytes(StandardCharsets.UTF_8);
+
+        HeadSniffer sniffer = new HeadSniffer(4096, 64 * 1024, head -> false)
+                .readFrom(new ByteArrayInputStream(bytes));
+
+        assertTrue(sniffer.isBodyRead());
+        assertEquals(64 * 1024, sniffer.getBytesRead());
+    }
+
+    @Test
+    void should_keep_chunk_remainder_when_head_cap_is_hit_mid_chunk() {
+        // head가 상한(4096)보다 커서 청크 중간에서 상한에 걸린 뒤 본문 읽기로 넘어가는 경우
+        StringBuilder html = new StringBuilder("<html><head><title>t</title>");
+        for (int i = 0; html.length() < 6000; i++) {
+            html.append("<meta name=\"k").append(i).append("\" content=\"v").append(i).append("\">");
+        }
+        html.append("<meta property=\"article:published_time\" content=\"2025-08-25T09:00:00+09:00\"></head><body>");
+        while (html.length() < 20 * 1024) {
+            html.append("<p>body paragraph</p>");
+        }
+        byte[] bytes = html.toString().getBytes(StandardCharsets.US_ASCII);
+
+        HeadSniffer sniffer = new HeadSniffer(4096, 16 * 1024, head -> false);
+        int[] chunkSizes = {1000, 3000, 7, 2500, 1, 4999, 3333};
+        int offset = 0;
+        for (int i = 0; offset < bytes.length; i++) {
+            int count = Math.min(chunkSizes[i % chunkSizes.length], bytes.length - offset);
+            boolean done = sniffer.append(bytes, offset, count);
+            offset += count;
+            if (done) {
+                break;
+            }
+        }
+
+        assertTrue(sniffer.isBodyRead());
+        assertEquals(16 * 1024, sniffer.getBytesRead());
+        assertEquals(html.substring(0, 16 * 1024), sniffer.toHtml());
+        assertTrue(sniffer.toHtml().contains("article:published_time"));
+    }
+
+    @Test
+    void should_detect_charset_from_header_then_meta() {
+        byte[] euckr = "<html><head><meta charset=\"euc-kr\"><title>매일경제</title></head>".getBytes(Charset.forName("EUC-KR"));
+
+        HeadSniffer sniffer = new HeadSniffer(1024);
+        sniffer.append(euckr, 0, euckr.length);
+
+        assertTrue(sniffer.toHtml().contains("매일경제"));
+        assertEquals(StandardCharsets.UTF_8, HeadSniffer.charsetOf("text/html; charset=UTF-8"));
+        assertNull(HeadSniffer.charsetOf("text/html"));
+    }
+
+    @Test
+    void should_decode_gzip_body() throws Exception {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(page(10 * 1024).getBytes(StandardCharsets.UTF_8));
+        }
+
+        InputStream body = HeadSniffer.decode(new ByteArrayInputStream(compressed.toByteArray()), "gzip");
+        HeadSniffer sniffer = new HeadSniffer(HeadSniffer.DEFAULT_HEAD_MAX_BYTES).readFrom(body);
+
+        assertTrue(sniffer.isHeadComplete());
+        assertTrue(sniffer.toHtml().startsWith("<html><head>"));
+    }
+
+    @Test
+    void should_read_only_head_of_large_page_over_http() throws Exception {
+        String html = page(1024 * 1024);
+        try (MockWebServer server = new MockWebServer()) {
+            server.enqueue(new MockResponse()
+                    .setHeader("Content-Type", "text/html; charset=UTF-8")
+                    .setBody(new Buffer().writeUtf8(html)));
+            server.start();
+
+            HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+            HttpRequest request = HttpRequest.newBuilder(URI.create(server.url("/article").toString())).GET().build();
+            HttpResponse<InputStream> response = client.send(request, HttpResponse.BodyHandlers.ofInputStream());
+
+            HeadSniffer sniffer = new HeadSniffer(HeadSniffer.DEFAULT_HEAD_MAX_BYTES);
+            sniffer.setCharset(HeadSniffer.charsetOf(response.headers().firstValue("Content-Type").orElse(null)));
+            try (InputStream body = response.body()) {
+                sniffer.readFrom(body);
+            }
+
+            assertTrue(sniffer.isHeadComplete());
+            assertTrue(sniffer.getBytesRead() < html.length() / 10);
+        }
+    }
+}
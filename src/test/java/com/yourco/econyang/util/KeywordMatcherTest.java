@@ -0,0 +1,85 @@
+package com.yourco.econyang.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeywordMatcherTest {
+
+    @Test
+    void should_count_all_keywords_in_one_pass() {
+        KeywordMatcher matcher = new KeywordMatcher(Arrays.asList("구독", "무료 구독", "share", "newsletter"));
+
+        KeywordMatcher.Hits hits = matcher.scan("무료 구독 이벤트! Share this, SHARE that. 구독하세요");
+
+        assertEquals(2, hits.count("구독"));
+        assertEquals(1, hits.count("무료 구독"));
+        assertEquals(2, hits.count("share"));
+        assertEquals(0, hits.count("newsletter"));
+        assertEquals(3, hits.distinctCount());
+        assertEquals(5, hits.totalCount());
+    }
+
+    @Test
+    void should_order_hits_by_first_occurrence() {
+        KeywordMatcher matcher = new KeywordMatcher(Arrays.asList("game", "recipe", "he", "she", "hers"));
+
+        KeywordMatcher.Hits hits = matcher.scan("New RECIPE: ushers play a game");
+
+        assertEquals(Arrays.asList("recipe", "she", "he", "hers", "game"), new ArrayList<>(hits.getCounts().keySet()));
+    }
+
+    @Test
+    void should_match_overlapping_and_nested_keywords() {
+        KeywordMatcher matcher = new KeywordMatcher(Arrays.asList("aa", "aaa", "a"));
+
+        KeywordMatcher.Hits hits = matcher.scan("aaaa");
+
+        assertEquals(4, hits.count("a"));
+        assertEquals(3, hits.count("aa"));
+        assertEquals(2, hits.count("aaa"));
+    }
+
+    @Test
+    void should_agree_with_naive_contains() {
+        List<String> keywords = Arrays.asList("ab", "bab", "bc", "bca", "c", "caa", "가나", "나다라");
+        KeywordMatcher matcher = new KeywordMatcher(keywords);
+        Random random = new Random(42);
+        String alphabet = "abcABC가나다라 ";
+
+        for (int round = 0; round < 200; round++) {
+            StringBuilder text = new StringBuilder();
+            for (int i = 0; i < 40; i++) {
+                text.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            String lower = text.toString().toLowerCase();
+            KeywordMatcher.Hits hits = matcher.scan(text);
+
+            for (String keyword : keywords) {
+                assertEquals(countOccurrences(lower, keyword), hits.count(keyword), keyword + " in " + text);
+            }
+        }
+    }
+
+    @Test
+    void should_handle_empty_inputs() {
+        assertTrue(new KeywordMatcher(Collections.<String>emptyList()).scan("anything").isEmpty());
+        assertTrue(new KeywordMatcher(Arrays.asList("a", "")).scan(null).isEmpty());
+        assertEquals(1, new KeywordMatcher(Arrays.asList("a", "a", "", null)).size());
+        assertFalse(new KeywordMatcher(Collections.singleton("광고")).containsAny("경제 기사"));
+    }
+
+    private static int countOccurrences(String text, String keyword) {
+        int count = 0;
+        for (int i = text.indexOf(keyword); i >= 0; i = text.indexOf(keyword, i + 1)) {
+            count++;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,87 @@
+package com.yourco.econyang.util;
+
+import com.yourco.econyang.benchmark.ExtractionCorpus;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReadabilityExtractorTest {
+
+    private static final String PARAGRAPH =
+            "The central bank kept rates unchanged, saying inflation was still too high, while markets priced later cuts.";
+
+    /**
+     * 합성 픽스처(알려진 매체 레이아웃 패턴)에 대한 회귀 확인 — 실제 페이지 품질 측정이 아님
+     */
+    @Test
+    void should_extract_corpus_pages_with_high_quality() {
+        for (ExtractionCorpus.Page page : ExtractionCorpus.load()) {
+            Document doc = Jsoup.parse(page.getHtml());
+
+            String content = ReadabilityExtractor.extract(doc.body());
+            double f1 = ExtractionCorpus.tokenF1(content, page.getExpected());
+
+            assertTrue(f1 >= 0.9, page.getName() + " F1=" + f1 + "\n" + content);
+        }
+    }
+
+    @Test
+    void should_skip_boilerplate_subtrees() {
+        String html = "<body><nav><p>" + PARAGRAPH + " nav</p></nav>"
+                + "<div class='article'><p>" + PARAGRAPH + "</p><p>" + PARAGRAPH + "</p>"
+                + "<div class='ad-banner'><p>Buy now and save big on every single trade you make this month.</p></div></div>"
+                + "<div id='comments'><p>Totally agree with this article, the bank is doing the right thing.</p></div>"
+                + "<footer><p>" + PARAGRAPH + " footer</p></footer></body>";
+
+        String content = ReadabilityExtractor.extract(Jsoup.parse(html).body());
+
+        assertEquals(PARAGRAPH + "\n\n" + PARAGRAPH, content);
+    }
+
+    @Test
+    void should_drop_link_heavy_blocks() {
+        StringBuilder links = new StringBuilder("<div class='list'>");
+        for (int i = 0; i < 10; i++) {
+            links.append("<p><a href='/n/").append(i).append("'>Another headline about markets and rates number ")
+                    .append(i).append("</a></p>");
+        }
+        links.append("</div>");
+        String html = "<body><div class='story'><p>" + PARAGRAPH + "</p><p>" + PARAGRAPH + "</p></div>" + links + "</body>";
+
+        String content = ReadabilityExtractor.extract(Jsoup.parse(html).body());
+
+        assertFalse(content.contains("Another headline"));
+        assertTrue(content.contains(PARAGRAPH));
+    }
+
+    @Test
+    void should_read_text_separated_by_br_inside_div() {
+        String html = "<body><div class='news_cnt_detail'>첫 번째 문단입니다. 코스피가 외국인 매수에 힘입어 반등했다.<br><br>"
+                + "두 번째 문단입니다. 반도체와 2차전지 업종이 지수 상승을 이끌었다.</div></body>";
+
+        String content = ReadabilityExtractor.extract(Jsoup.parse(html).body());
+
+        assertTrue(content.startsWith("첫 번째 문단입니다."));
+        assertTrue(content.contains("두 번째 문단입니다."));
+    }
+
+    @Test
+    void should_apply_extra_skip_classes() {
+        String html = "<body><div class='story'><p>" + PARAGRAPH + "</p>"
+                + "<p class='photo-caption'>Photo caption that is long enough to be a paragraph on its own.</p></div></body>";
+
+        String content = ReadabilityExtractor.extract(Jsoup.parse(html).body(), Collections.singleton("photo-caption"));
+
+        assertEquals(PARAGRAPH, content);
+    }
+
+    @Test
+    void should_return_empty_without_paragraphs() {
+        assertEquals("", ReadabilityExtractor.extract(Jsoup.parse("<body><a href='/'>home</a></body>").body()));
+        assertEquals("", ReadabilityExtractor.extract(null));
+    }
+}
@@ -0,0 +1,45 @@
+package com.yourco.econyang.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SectorFeatureExtractorTest {
+
+    @Test
+    void should_pick_first_declared_sector_and_highest_weight() {
+        // 시장동향(1.3 + 2 × 0.1)과 통화정책(1.5 + 1 × 0.1)이 함께 나오면 섹터는 선언 순서, 가중치는 최댓값
+        SectorFeatureExtractor.Features features = SectorFeatureExtractor.extract(
+                "Stock market rally", "증시 상승", null, Arrays.asList("금리 동결"));
+
+        assertEquals("monetary_policy", features.getSector());
+        assertEquals(1.6, features.getKeywordWeight(), 1e-9);
+    }
+
+    @Test
+    void should_count_why_it_matters_for_weight_but_not_sector() {
+        SectorFeatureExtractor.Features features = SectorFeatureExtractor.extract(
+                "Quarterly earnings beat", "Revenue up", "GDP와 inflation 지표에도 영향", Arrays.asList("profit"));
+
+        // 기업재무 1.2 + 3 × 0.1 = 1.5, 경제지표 1.4 + 2 × 0.1 = 1.6 (why_it_matters에서만 일치)
+        assertEquals("corporate_finance", features.getSector());
+        assertEquals(1.6, features.getKeywordWeight(), 1e-9);
+    }
+
+    @Test
+    void should_fall_back_to_general_and_neutral_weight() {
+        SectorFeatureExtractor.Features general = SectorFeatureExtractor.extract(
+                "Weather update", "맑음", null, Arrays.asList("sunny"));
+        assertEquals(SectorFeatureExtractor.GENERAL, general.getSector());
+        assertEquals(1.0, general.getKeywordWeight(), 1e-9);
+
+        // 핵심 포인트가 없으면 섹터는 판정하되 키워드 가중치는 1.0
+        SectorFeatureExtractor.Features noBullets = SectorFeatureExtractor.extract(
+                "환율 급등", "달러 강세", null, Collections.emptyList());
+        assertEquals("currency", noBullets.getSector());
+        assertEquals(1.0, noBullets.getKeywordWeight(), 1e-9);
+    }
+}
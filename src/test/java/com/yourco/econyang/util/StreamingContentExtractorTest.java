@@ -0,0 +1,124 @@
+package com.yourco.econyang.util;
+
+import com.yourco.econyang.benchmark.ExtractionCorpus;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StreamingContentExtractorTest {
+
+    private static final String PARAGRAPH =
+            "The central bank kept rates unchanged, saying inflation was still too high, while markets priced later cuts.";
+
+    /**
+     * 합성 픽스처(알려진 매체 레이아웃 패턴)에 대한 회귀 확인 — 실제 페이지 품질 측정이 아님
+     */
+    @Test
+    void should_extract_corpus_pages_with_high_quality() {
+        for (ExtractionCorpus.Page page : ExtractionCorpus.load()) {
+            String content = StreamingContentExtractor.extract(page.getHtml());
+            double f1 = ExtractionCorpus.tokenF1(content, page.getExpected());
+
+            assertTrue(f1 >= 0.9, page.getName() + " F1=" + f1 + "\n" + content);
+        }
+    }
+
+    @Test
+    void should_skip_head_scripts_comments_and_boilerplate() {
+        String html = "<!DOCTYPE html><html><head><title>Title <p>not text</p></title>"
+                + "<style>p { color: red; }</style></head><body>"
+                + "<script>var s = '<div>" + PARAGRAPH + "</div>';</script>"
+                + "<!-- <p>" + PARAGRAPH + " commented</p> -->"
+                + "<nav><p>" + PARAGRAPH + " nav</p></nav>"
+                + "<div class=\"article\"><p>" + PARAGRAPH + "</p><p>" + PARAGRAPH + "</p>"
+                + "<div class='ad-banner'><p>Buy now and save big on every single trade you make this month.</p></div></div>"
+                + "<div id=comments><p>Totally agree with this article, the bank is doing the right thing.</p></div>"
+                + "</body></html>";
+
+        assertEquals(PARAGRAPH + "\n\n" + PARAGRAPH, StreamingContentExtractor.extract(html));
+    }
+
+    @Test
+    void should_close_unclosed_paragraphs_and_decode_entities() {
+        String html = "<div class='story'><p>First paragraph about the KOSPI &amp; KOSDAQ, which rose 1.2% on foreign buying."
+                + "<p>Second paragraph says chipmakers led gains, while batteries &lt;lagged&gt; behind peers.</div>";
+
+        String content = StreamingContentExtractor.extract(html);
+
+        assertEquals("First paragraph about the KOSPI & KOSDAQ, which rose 1.2% on foreign buying.\n\n"
+                + "Second paragraph says chipmakers led gains, while batteries <lagged> behind peers.", content);
+    }
+
+    @Test
+    void should_limit_to_content_selector_and_stop_reading() throws IOException {
+        String html = "<div class='promo-box'><p>" + PARAGRAPH + " promo</p><p>" + PARAGRAPH + " promo</p></div>"
+                + "<div class='news_cnt_detail'>" + PARAGRAPH + "<br><br>" + PARAGRAPH + "</div>"
+                + "<div class='more'><p>";
+        CountingReader reader = new CountingReader(html + repeat("<p>" + PARAGRAPH + "</p>", 200));
+
+        String content = StreamingContentExtractor.extract(reader, "article.body, div.news_cnt_detail",
+                Collections.<String>emptySet(), StreamingContentExtractor.DEFAULT_MAX_CHARS);
+
+        assertEquals(PARAGRAPH + " " + PARAGRAPH, content);
+        assertTrue(reader.read < html.length() + 16 * 1024, "읽은 문자 수: " + reader.read);
+    }
+
+    @Test
+    void should_stop_at_footer_after_article_body() throws IOException {
+        String body = "<article><p>" + PARAGRAPH + "</p><p>" + PARAGRAPH + "</p><p>" + PARAGRAPH + "</p>"
+                + "<p>" + PARAGRAPH + "</p><p>" + PARAGRAPH + "</p></article>";
+        CountingReader reader = new CountingReader(body + "<footer>" + repeat("<p>" + PARAGRAPH + "</p>", 500)
+                + "</footer>");
+
+        String content = StreamingContentExtractor.extract(reader, null, Collections.<String>emptySet(),
+                StreamingContentExtractor.DEFAULT_MAX_CHARS);
+
+        assertEquals(5, content.split("\n\n").length);
+        assertTrue(reader.read < body.length() + 16 * 1024, "읽은 문자 수: " + reader.read);
+    }
+
+    @Test
+    void should_return_empty_without_paragraphs() {
+        assertEquals("", StreamingContentExtractor.extract("<body><a href='/'>home</a> 1 < 2</body>"));
+        assertEquals("", StreamingContentExtractor.extract((String) null));
+    }
+
+    private static String repeat(String value, int times) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < times; i++) {
+            builder.append(value);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 실제로 읽힌 문자 수를 세는 Reader
+     */
+    private static final class CountingReader extends Reader {
+        private final Reader delegate;
+        int read;
+
+        CountingReader(String value) {
+            this.delegate = new StringReader(value);
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) throws IOException {
+            int count = delegate.read(buffer, offset, length);
+            if (count > 0) {
+                read += count;
+            }
+            return count;
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+    }
+}
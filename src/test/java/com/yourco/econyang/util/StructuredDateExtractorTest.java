@@ -0,0 +1,84 @@
+package com.yourco.econyang.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StructuredDateExtractorTest {
+
+    private static LocalDateTime local(String isoOffset) {
+        return OffsetDateTime.parse(isoOffset).atZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+    }
+
+    @Test
+    void should_prefer_json_ld_date_published() {
+        String html = "<html><head>"
+                + "<meta property=\"og:updated_time\" content=\"2025-08-26T10:00:00Z\">"
+                + "<meta property=\"article:published_time\" content=\"2025-08-25T09:00:00Z\">"
+                + "<script type=\"application/ld+json\">{\"@type\":\"NewsArticle\",\"headline\":\"a > b\","
+                + "\"datePublished\" : \"2025-08-25T08:30:00+09:00\",\"dateModified\":\"2025-08-25T12:00:00+09:00\"}</script>"
+                + "</head><body></body></html>";
+
+        Optional<StructuredDateExtractor.StructuredDate> result = StructuredDateExtractor.extract(html);
+
+        assertTrue(result.isPresent());
+        assertEquals("json_ld", result.get().getExtractionMethod());
+        assertEquals("datePublished", result.get().getKey());
+        assertEquals(local("2025-08-25T08:30:00+09:00"), result.get().getDateTime());
+    }
+
+    @Test
+    void should_rank_article_published_time_over_og_updated_time() {
+        String html = "<head><META PROPERTY='og:updated_time' CONTENT='2025-08-26T10:00:00Z'/>"
+                + "<meta name=description content=\"price > 100\">"
+                + "<meta content=\"2025-08-25T09:00:00Z\" property=\"article:published_time\"></head>";
+
+        StructuredDateExtractor.StructuredDate result = StructuredDateExtractor.extract(html).get();
+
+        assertEquals("meta", result.getExtractionMethod());
+        assertEquals("article:published_time", result.getKey());
+        assertEquals(local("2025-08-25T09:00:00Z"), result.getDateTime());
+    }
+
+    @Test
+    void should_read_itemprop_and_plain_dates() {
+        String itemprop = "<meta itemprop=\"datePublished\" content=\"2025-08-25\">";
+        String pubdate = "<meta name=\"pubdate\" content=\"2025-08-25 14:30:00\">";
+
+        assertEquals(LocalDateTime.of(2025, 8, 25, 0, 0),
+                StructuredDateExtractor.extract(itemprop).get().getDateTime());
+        assertEquals(LocalDateTime.of(2025, 8, 25, 14, 30),
+                StructuredDateExtractor.extract(pubdate).get().getDateTime());
+    }
+
+    @Test
+    void should_fall_back_to_date_modified() {
+        String html = "<script type=\"application/ld+json\">{\"dateModified\":\"2025-08-25T12:00:00\"}</script>";
+
+        StructuredDateExtractor.StructuredDate result = StructuredDateExtractor.extract(html).get();
+
+        assertEquals("dateModified", result.getKey());
+        assertEquals(LocalDateTime.of(2025, 8, 25, 12, 0), result.getDateTime());
+    }
+
+    @Test
+    void should_ignore_comments_and_non_json_ld_scripts() {
+        String html = "<!-- <meta property=\"article:published_time\" content=\"2020-01-01T00:00:00Z\"> -->"
+                + "<script>var x = {\"datePublished\":\"2021-01-01T00:00:00Z\"};</script>"
+                + "<style>.a{}</style><p>2025-08-25</p>";
+
+        assertFalse(StructuredDateExtractor.extract(html).isPresent());
+    }
+
+    @Test
+    void should_return_empty_for_unparseable_values() {
+        assertFalse(StructuredDateExtractor.extract("<meta property=\"article:published_time\" content=\"soon\">").isPresent());
+        assertFalse(StructuredDateExtractor.extract(null).isPresent());
+        assertFalse(StructuredDateExtractor.extract("").isPresent());
+    }
+}
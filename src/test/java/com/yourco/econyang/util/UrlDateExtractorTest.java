@@ -126,4 +126,68 @@ public class UrlDateExtractorTest {
         assertEquals(8, result.get().getMonthValue());
         assertEquals(25, result.get().getDayOfMonth());
     }
-}
\ No newline at end of file
+
+    @Test
+    void should_extract_date_from_marketwatch_story_slug() {
+        String url = "https://www.marketwatch.com/story/stocks-rally-2025-08-25-9f8e7d6c";
+        
+        Optional<LocalDateTime> result = UrlDateExtractor.extractDateFromUrlForSource(url, "MarketWatch");
+        
+        assertTrue(result.isPresent());
+        assertEquals(2025, result.get().getYear());
+        assertEquals(8, result.get().getMonthValue());
+        assertEquals(25, result.get().getDayOfMonth());
+    }
+
+    @Test
+    void should_extract_date_from_content_timestamp() {
+        String url = "https://www.ft.com/content/ab12-cd34-1756080000";
+        
+        Optional<LocalDateTime> result = UrlDateExtractor.extractDateFromUrl(url);
+        
+        assertTrue(result.isPresent());
+        assertEquals(2025, result.get().getYear());
+        assertEquals(8, result.get().getMonthValue());
+    }
+
+    @Test
+    void should_prefer_host_rule_over_generic_patterns() {
+        // 매일경제 호스트는 경로 날짜보다 idxno 규칙을 우선 적용
+        String url = "https://www.mk.co.kr/2024/01/02/articleView.html?idxno=202508250001";
+        
+        Optional<LocalDateTime> result = UrlDateExtractor.extractDateFromUrl(url);
+        
+        assertTrue(result.isPresent());
+        assertEquals(2025, result.get().getYear());
+        assertEquals(8, result.get().getMonthValue());
+        assertEquals(25, result.get().getDayOfMonth());
+    }
+
+    @Test
+    void should_extract_date_from_case_insensitive_query_key() {
+        String url = "https://news.com/article?id=1&pubDate=20250825";
+        
+        Optional<LocalDateTime> result = UrlDateExtractor.extractDateFromUrl(url);
+        
+        assertTrue(result.isPresent());
+        assertEquals(25, result.get().getDayOfMonth());
+    }
+
+    @Test
+    void should_reject_nonexistent_calendar_day() {
+        String url = "https://example.com/2025/02/31/no-such-day"; // 2월 31일
+        
+        Optional<LocalDateTime> result = UrlDateExtractor.extractDateFromUrl(url);
+        
+        assertFalse(result.isPresent());
+    }
+
+    @Test
+    void should_ignore_date_in_last_segment_without_trailing_slash() {
+        String url = "https://news.com/archive/20250825";
+        
+        Optional<LocalDateTime> result = UrlDateExtractor.extractDateFromUrl(url);
+        
+        assertFalse(result.isPresent());
+    }
+}
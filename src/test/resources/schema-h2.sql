@@ -6,7 +6,7 @@ CREATE TABLE articles (
     author varchar(255),
     content clob,
     created_at timestamp,
-    extract_error varchar(255),
+    extract_error varchar(500),
     extracted_at timestamp,
     published_at timestamp,
     raw_excerpt varchar(255),
@@ -28,6 +28,13 @@ CREATE TABLE daily_digest (
     primary key (id)
 );
 
+CREATE TABLE daily_digest_renditions (
+    digest_id bigint not null,
+    format varchar(20) not null,
+    body clob not null,
+    primary key (digest_id, format)
+);
+
 CREATE TABLE dispatch_log (
     id bigint generated by default as identity,
     attempt_count integer,
@@ -51,14 +58,31 @@ CREATE TABLE summaries (
     score decimal(10,4),
     summary_text varchar(255) not null,
     why_it_matters varchar(255) not null,
+    sector varchar(40),
+    keyword_weight double,
+    duplicate_of_id bigint,
     article_id bigint not null,
     primary key (id)
 );
 
 -- Add foreign keys
 ALTER TABLE dispatch_log ADD CONSTRAINT fk_dispatch_log_digest_id FOREIGN KEY (digest_id) REFERENCES daily_digest (id);
+ALTER TABLE daily_digest_renditions ADD CONSTRAINT fk_daily_digest_renditions_digest_id FOREIGN KEY (digest_id) REFERENCES daily_digest (id);
 ALTER TABLE summaries ADD CONSTRAINT fk_summaries_article_id FOREIGN KEY (article_id) REFERENCES articles (id);
 
 -- Add unique constraints for business logic
 ALTER TABLE articles ADD CONSTRAINT uk_articles_url UNIQUE (url);
-ALTER TABLE summaries ADD CONSTRAINT uk_summaries_article_model UNIQUE (article_id, model);
\ No newline at end of file
+ALTER TABLE summaries ADD CONSTRAINT uk_summaries_article_model UNIQUE (article_id, model);
+
+-- Job 실행별 처리 대상 기사 작업 테이블
+CREATE TABLE job_run_articles (
+    run_id bigint not null,
+    article_id bigint not null,
+    seq integer not null,
+    stage varchar(20) not null,
+    status varchar(20) not null,
+    updated_at timestamp not null default current_timestamp,
+    primary key (run_id, article_id)
+);
+
+CREATE UNIQUE INDEX idx_job_run_articles_seq ON job_run_articles (run_id, seq);